@@ -564,6 +564,11 @@ public final class CodedInputStream {
   /** See setSizeLimit() */
   private int sizeLimit = DEFAULT_SIZE_LIMIT;
 
+  // osmand change : raw file I/O counters
+  private long rawBytesRead;
+  private long rawSeeks;
+  private long bufferRefills;
+
   private static final int DEFAULT_RECURSION_LIMIT = 64;
   private static final int DEFAULT_SIZE_LIMIT = 64 << 20;  // 64MB
   private static final int BUFFER_SIZE = 5 * 1024;
@@ -726,6 +731,23 @@ public final class CodedInputStream {
       return totalBytesRetired + bufferPos;
   }
 
+  // osmand change
+  /** Bytes physically read from file (or input stream) */
+  public long getRawBytesRead() {
+    return rawBytesRead;
+  }
+
+  // osmand change
+  /** Number of repositionings of underlying file */
+  public long getRawSeeks() {
+    return rawSeeks;
+  }
+
+  // osmand change
+  public long getBufferRefills() {
+    return bufferRefills;
+  }
+
   /**
    * Called with {@code this.buffer} is empty to read more bytes from the
    * input.  If {@code mustSucceed} is true, refillBuffer() guarantees that
@@ -758,11 +780,17 @@ public final class CodedInputStream {
     	bufferSize = (int) Math.min(remain, buffer.length);
     	if(bufferSize > 0) {
     		raf.readFully(buffer, 0, bufferSize);
+    		rawBytesRead += bufferSize;
+    		bufferRefills++;
     	} else {
     		bufferSize = -1;
     	}
     } else {
     	bufferSize = (input == null) ? -1 : input.read(buffer);
+    	if (bufferSize > 0) {
+    		rawBytesRead += bufferSize;
+    		bufferRefills++;
+    	}
     }
     if (bufferSize == 0 || bufferSize < -1) {
       throw new IllegalStateException(
@@ -890,6 +918,7 @@ public final class CodedInputStream {
             throw InvalidProtocolBufferException.truncatedMessage();
           }
           totalBytesRetired += n;
+          rawBytesRead += n;
           pos += n;
         }
         sizeLeft -= chunk.length;
@@ -946,6 +975,7 @@ public final class CodedInputStream {
          bufferSize = 0;
       	 int n = raf.skipBytes(size - pos);
         totalBytesRetired = (int) raf.getFilePointer();
+        rawSeeks++;
       	 if (n <= 0) {
              throw InvalidProtocolBufferException.truncatedMessage();
          }
@@ -976,6 +1006,7 @@ public final class CodedInputStream {
 		  totalBytesRetired = (int) pointer;
 		  bufferSizeAfterLimit = 0;
 		  raf.seek(pointer);
+		  rawSeeks++;
 		  bufferPos = 0;
 		  bufferSize = 0;
 	  }
@@ -0,0 +1,229 @@
+package net.osmand;
+
+import java.text.Normalizer;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+
+/**
+ * Fast replacement of {@link CollatorStringMatcher} for matching names.
+ * Query is folded once (lower case, accents removed, some letters expanded) and every name is folded
+ * in one pass, so matching is linear in name length instead of comparing substrings with collator.
+ * As for primary strength collator letters without decomposition (ø, ł, ı, đ) are separate letters
+ * and spaces and hyphens are ignored when parts of name are compared.
+ * Known differences from collator:
+ * <ul>
+ * <li>ß, æ, œ match ss, ae, oe also when name and query have different length</li>
+ * <li>dotted İ matches i in every mode, collator misses it where name is lower cased before comparison</li>
+ * <li>case of letters without collator rules (Ø, Ł, Đ) is ignored also in {@link StringMatcherMode#CHECK_CONTAINS},
+ * where collator compares name without lower casing it</li>
+ * </ul>
+ * Matcher keeps folded form of last name, so it shouldn't be shared between threads.
+ */
+public class FoldedStringMatcher implements StringMatcher {
+
+	private final StringMatcherMode mode;
+	private final String part;
+	// folded part without ignored characters
+	private final char[] partChars;
+	// KMP failure function for CHECK_CONTAINS
+	private final int[] failure;
+	// name is often checked several times (e.g. for each word of query)
+	private String lastName;
+	private String lastFolded;
+
+	public FoldedStringMatcher(String part, StringMatcherMode mode) {
+		this.part = fold(part);
+		this.partChars = removeIgnored(this.part);
+		this.mode = mode;
+		this.failure = mode == StringMatcherMode.CHECK_CONTAINS ? buildFailure(partChars) : null;
+	}
+
+	public String getFoldedPart() {
+		return part;
+	}
+
+	@Override
+	public boolean matches(String name) {
+		if (name == null) {
+			return false;
+		}
+		if (name != lastName) {
+			lastFolded = fold(name);
+			lastName = name;
+		}
+		return matchesFolded(lastFolded);
+	}
+
+	/**
+	 * @param foldedName name already folded with {@link #fold(String)}
+	 */
+	public boolean matchesFolded(String foldedName) {
+		switch (mode) {
+		case CHECK_CONTAINS:
+			return contains(foldedName);
+		case CHECK_EQUALS_FROM_SPACE:
+			return startsWith(foldedName, true, true, true);
+		case CHECK_STARTS_FROM_SPACE:
+			return startsWith(foldedName, true, true, false);
+		case CHECK_STARTS_FROM_SPACE_NOT_BEGINNING:
+			return startsWith(foldedName, false, true, false);
+		case CHECK_ONLY_STARTS_WITH:
+			return startsWith(foldedName, true, false, false);
+		}
+		return false;
+	}
+
+	private boolean contains(String s) {
+		int m = partChars.length;
+		if (m == 0) {
+			return true;
+		}
+		int q = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (isIgnored(c)) {
+				continue;
+			}
+			while (q > 0 && partChars[q] != c) {
+				q = failure[q - 1];
+			}
+			if (partChars[q] == c) {
+				q++;
+			}
+			if (q == m) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int[] buildFailure(char[] p) {
+		int[] f = new int[p.length];
+		int k = 0;
+		for (int i = 1; i < p.length; i++) {
+			while (k > 0 && p[k] != p[i]) {
+				k = f[k - 1];
+			}
+			if (p[k] == p[i]) {
+				k++;
+			}
+			f[i] = k;
+		}
+		return f;
+	}
+
+	private boolean startsWith(String s, boolean checkBeginning, boolean checkSpaces, boolean equals) {
+		// as collator compares part of name with same length as query
+		int startLength = part.length();
+		int length = s.length();
+		if (startLength == 0) {
+			return true;
+		}
+		if (startLength > length) {
+			return false;
+		}
+		if (checkBeginning && matchesAt(s, 0, equals)) {
+			return true;
+		}
+		if (checkSpaces) {
+			for (int i = 1; i <= length - startLength; i++) {
+				if (isSpace(s.charAt(i - 1)) && !isSpace(s.charAt(i)) && matchesAt(s, i, equals)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesAt(String s, int pos, boolean equals) {
+		int startLength = part.length();
+		int j = 0;
+		for (int i = pos; i < pos + startLength; i++) {
+			char c = s.charAt(i);
+			if (isIgnored(c)) {
+				continue;
+			}
+			if (j == partChars.length || partChars[j] != c) {
+				return false;
+			}
+			j++;
+		}
+		if (j != partChars.length) {
+			return false;
+		}
+		return !equals || pos + startLength == s.length() || isSpace(s.charAt(pos + startLength));
+	}
+
+	private static boolean isSpace(char c) {
+		return !Character.isLetter(c) && !Character.isDigit(c);
+	}
+
+	// characters ignored by primary strength collator
+	private static boolean isIgnored(char c) {
+		return c == ' ' || c == '-' || c == '\u00ad';
+	}
+
+	private static char[] removeIgnored(String s) {
+		StringBuilder b = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (!isIgnored(c)) {
+				b.append(c);
+			}
+		}
+		return b.toString().toCharArray();
+	}
+
+	/**
+	 * Folds string to compare it on primary strength level: lower case, without accents.
+	 * Ignored characters are kept, so positions of words don't change
+	 */
+	public static String fold(String s) {
+		int len = s.length();
+		boolean ascii = true;
+		boolean lower = true;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c >= 0x80) {
+				ascii = false;
+				break;
+			} else if (c >= 'A' && c <= 'Z') {
+				lower = false;
+			}
+		}
+		if (ascii) {
+			if (lower) {
+				return s;
+			}
+			char[] cs = new char[len];
+			for (int i = 0; i < len; i++) {
+				char c = s.charAt(i);
+				cs[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+			}
+			return new String(cs);
+		}
+		String n = Normalizer.normalize(s, Normalizer.Form.NFD);
+		StringBuilder b = new StringBuilder(n.length());
+		for (int i = 0; i < n.length(); i++) {
+			char c = n.charAt(i);
+			if (Character.getType(c) == Character.NON_SPACING_MARK) {
+				continue;
+			}
+			c = Character.toLowerCase(c);
+			switch (c) {
+			case '\u00df': // sharp s
+				b.append("ss");
+				break;
+			case '\u00e6':
+				b.append("ae");
+				break;
+			case '\u0153':
+				b.append("oe");
+				break;
+			default:
+				b.append(c);
+			}
+		}
+		return b.toString();
+	}
+}
@@ -0,0 +1,155 @@
+package net.osmand;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+
+/**
+ * Typo tolerant matcher: name matches if it has part (according to mode) which differs from query
+ * by not more than maxEdits inserted, deleted or replaced characters. Query and names are compared
+ * in form folded by {@link FoldedStringMatcher#fold(String)}.
+ * Levenshtein automaton is simulated with rows of edit distances bounded by maxEdits + 1: when all values
+ * of row exceed maxEdits state is dead, so scanning of name stops early and prefix tables could be pruned.
+ */
+public class FuzzyStringMatcher implements StringMatcher {
+
+	public static final int NO_MATCH = Integer.MAX_VALUE;
+	// state after query is matched by prefix of text, every continuation matches as well
+	private static final int[] ACCEPTED = new int[0];
+
+	private final StringMatcherMode mode;
+	private final char[] partChars;
+	private final int maxEdits;
+
+	public FuzzyStringMatcher(String part, int maxEdits, StringMatcherMode mode) {
+		this.partChars = FoldedStringMatcher.fold(part).toCharArray();
+		this.maxEdits = maxEdits;
+		this.mode = mode;
+	}
+
+	/**
+	 * @return number of typos tolerated for query of given length
+	 */
+	public static int getMaxEdits(int queryLength) {
+		if (queryLength < 4) {
+			return 0;
+		} else if (queryLength < 8) {
+			return 1;
+		}
+		return 2;
+	}
+
+	public int getMaxEdits() {
+		return maxEdits;
+	}
+
+	public int[] start() {
+		int[] row = new int[partChars.length + 1];
+		for (int i = 0; i < row.length; i++) {
+			row[i] = Math.min(i, maxEdits + 1);
+		}
+		return row;
+	}
+
+	/**
+	 * @return next state or null if text can't match anymore
+	 */
+	public int[] step(int[] state, char c) {
+		if (state == ACCEPTED) {
+			return ACCEPTED;
+		}
+		int m = partChars.length;
+		int[] next = new int[m + 1];
+		next[0] = Math.min(state[0] + 1, maxEdits + 1);
+		int min = next[0];
+		for (int i = 1; i <= m; i++) {
+			int v = state[i - 1] + (partChars[i - 1] == c ? 0 : 1);
+			v = Math.min(v, state[i] + 1);
+			v = Math.min(v, next[i - 1] + 1);
+			next[i] = Math.min(v, maxEdits + 1);
+			min = Math.min(min, next[i]);
+		}
+		return min > maxEdits ? null : next;
+	}
+
+	/**
+	 * Steps over folded text which is beginning of names (for example key of prefix table).
+	 * @return next state or null if no name starting with text could match
+	 */
+	public int[] stepPrefix(int[] state, String folded) {
+		for (int i = 0; i < folded.length() && state != null; i++) {
+			if (isAccepted(state)) {
+				return ACCEPTED;
+			}
+			state = step(state, folded.charAt(i));
+		}
+		return state != null && isAccepted(state) ? ACCEPTED : state;
+	}
+
+	public boolean isAccepted(int[] state) {
+		return state == ACCEPTED || state[partChars.length] <= maxEdits;
+	}
+
+	@Override
+	public boolean matches(String name) {
+		return getDistance(name) <= maxEdits;
+	}
+
+	/**
+	 * @return minimal number of edits to match name or {@link #NO_MATCH}
+	 */
+	public int getDistance(String name) {
+		if (name == null) {
+			return NO_MATCH;
+		}
+		String s = FoldedStringMatcher.fold(name);
+		int best = NO_MATCH;
+		for (int start = 0; start < s.length() || start == 0; start++) {
+			boolean wordStart = start == 0 || (isSpace(s.charAt(start - 1)) && !isSpace(s.charAt(start)));
+			boolean check;
+			switch (mode) {
+			case CHECK_CONTAINS:
+				check = true;
+				break;
+			case CHECK_ONLY_STARTS_WITH:
+				check = start == 0;
+				break;
+			case CHECK_STARTS_FROM_SPACE_NOT_BEGINNING:
+				check = start > 0 && wordStart;
+				break;
+			default:
+				check = wordStart;
+				break;
+			}
+			if (check) {
+				best = Math.min(best, getDistance(s, start));
+				if (best == 0) {
+					break;
+				}
+			}
+		}
+		return best;
+	}
+
+	private int getDistance(String s, int start) {
+		boolean equals = mode == StringMatcherMode.CHECK_EQUALS_FROM_SPACE;
+		int m = partChars.length;
+		int best = NO_MATCH;
+		int[] state = start();
+		if (!equals || start == s.length() || isSpace(s.charAt(start))) {
+			best = state[m] <= maxEdits ? state[m] : best;
+		}
+		for (int i = start; i < s.length(); i++) {
+			state = step(state, s.charAt(i));
+			if (state == null) {
+				break;
+			}
+			if (state[m] <= maxEdits && (!equals || i + 1 == s.length() || isSpace(s.charAt(i + 1)))) {
+				best = Math.min(best, state[m]);
+			}
+		}
+		return best;
+	}
+
+	private static boolean isSpace(char c) {
+		return !Character.isLetter(c) && !Character.isDigit(c);
+	}
+}
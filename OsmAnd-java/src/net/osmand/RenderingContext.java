@@ -52,6 +52,8 @@ public class RenderingContext {
 	public int shadowRenderingMode = ShadowRenderingMode.SOLID_SHADOW.value;
 	public int shadowRenderingColor = 0xff969696;
 	public String renderingDebugInfo;
+	// timers and counters of rendering phases
+	public final RenderingStats stats = new RenderingStats();
 	public double polygonMinSizeToDisplay;
 	public long renderingContextHandle;
 	
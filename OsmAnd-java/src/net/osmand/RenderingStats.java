@@ -0,0 +1,117 @@
+package net.osmand;
+
+/**
+ * Timers and counters of rendering pipeline phases, kept in {@link RenderingContext#stats}. Phases are measured
+ * on the rendering thread with {@link #start(Phase)} and {@link #end(Phase)}, finished frames are reported to
+ * {@link StatsSink} if it is set.
+ */
+public class RenderingStats {
+
+	public enum Phase {
+		READ, COASTLINES, SORT, POLYGONS, LINES, POINTS, ICONS, TEXT
+	}
+
+	public interface StatsSink {
+
+		/**
+		 * Called on the rendering thread when frame is rendered
+		 */
+		public void renderingFinished(RenderingContext rc, RenderingStats stats);
+	}
+
+	private static volatile StatsSink globalSink;
+
+	private final long[] phaseNanos = new long[Phase.values().length];
+	private final long[] phaseStart = new long[Phase.values().length];
+
+	public int objectsRead;
+	public long bytesRead;
+	public int polygonsDrawn;
+	public int linesDrawn;
+	public int pointsDrawn;
+	public int ruleSearches;
+	public int textPlaced;
+	public int textRejected;
+	public int iconsPlaced;
+	public int iconsRejected;
+
+	public static void setGlobalSink(StatsSink sink) {
+		globalSink = sink;
+	}
+
+	public void start(Phase phase) {
+		phaseStart[phase.ordinal()] = System.nanoTime();
+	}
+
+	public void end(Phase phase) {
+		phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+	}
+
+	public long getPhaseNanos(Phase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+
+	public long getTotalNanos() {
+		long total = 0;
+		for (long n : phaseNanos) {
+			total += n;
+		}
+		return total;
+	}
+
+	public void add(RenderingStats s) {
+		for (int i = 0; i < phaseNanos.length; i++) {
+			phaseNanos[i] += s.phaseNanos[i];
+		}
+		objectsRead += s.objectsRead;
+		bytesRead += s.bytesRead;
+		polygonsDrawn += s.polygonsDrawn;
+		linesDrawn += s.linesDrawn;
+		pointsDrawn += s.pointsDrawn;
+		ruleSearches += s.ruleSearches;
+		textPlaced += s.textPlaced;
+		textRejected += s.textRejected;
+		iconsPlaced += s.iconsPlaced;
+		iconsRejected += s.iconsRejected;
+	}
+
+	public void clear() {
+		for (int i = 0; i < phaseNanos.length; i++) {
+			phaseNanos[i] = 0;
+		}
+		objectsRead = 0;
+		bytesRead = 0;
+		polygonsDrawn = 0;
+		linesDrawn = 0;
+		pointsDrawn = 0;
+		ruleSearches = 0;
+		textPlaced = 0;
+		textRejected = 0;
+		iconsPlaced = 0;
+		iconsRejected = 0;
+	}
+
+	/**
+	 * Reports finished frame to global sink
+	 */
+	public void finish(RenderingContext rc) {
+		StatsSink sink = globalSink;
+		if (sink != null) {
+			sink.renderingFinished(rc, this);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder();
+		for (Phase p : Phase.values()) {
+			b.append(p.name().toLowerCase()).append(' ').append(phaseNanos[p.ordinal()] / 1000000).append(" ms, ");
+		}
+		b.append("read ").append(objectsRead).append(" objects (").append(bytesRead).append(" bytes), drawn ")
+				.append(polygonsDrawn).append(" polygons ").append(linesDrawn).append(" lines ").append(pointsDrawn)
+				.append(" points, ").append(ruleSearches).append(" rule searches, text ").append(textPlaced)
+				.append(" placed ").append(textRejected).append(" rejected, icons ").append(iconsPlaced)
+				.append(" placed ").append(iconsRejected).append(" rejected");
+		return b.toString();
+	}
+}
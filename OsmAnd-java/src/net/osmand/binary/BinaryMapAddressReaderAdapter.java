@@ -12,6 +12,8 @@ import java.util.LinkedList;
 import java.util.List;
 
 import net.osmand.CollatorStringMatcher;
+import net.osmand.FoldedStringMatcher;
+import net.osmand.FuzzyStringMatcher;
 import net.osmand.PlatformUtil;
 import net.osmand.StringMatcher;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
@@ -595,15 +597,6 @@ public class BinaryMapAddressReaderAdapter {
 	public void searchAddressDataByName(AddressRegion reg, SearchRequest<MapObject> req, List<Integer> typeFilter) throws IOException {
 		TIntArrayList loffsets = new TIntArrayList();
 		CollatorStringMatcher stringMatcher = new CollatorStringMatcher(req.nameQuery, req.matcherMode);
-		String postcode = Postcode.normalize(req.nameQuery, map.getCountryName());
-		final CityMatcher postcodeMatcher = new DefaultCityMatcher(new CollatorStringMatcher(postcode, req.matcherMode));
-		final CityMatcher cityMatcher = new DefaultCityMatcher(stringMatcher);
-		final CityMatcher cityPostcodeMatcher = new CityMatcher() {
-			@Override
-			public boolean matches(City city) {
-				return city.isPostcode() ? postcodeMatcher.matches(city) : cityMatcher.matches(city);
-			}
-		};
 		long time = System.currentTimeMillis();
 		int indexOffset = 0;
 		while (true) {
@@ -620,127 +613,184 @@ public class BinaryMapAddressReaderAdapter {
 				indexOffset = codedIS.getTotalBytesRead();
 				int oldLimit = codedIS.pushLimit(length);
 				// here offsets are sorted by distance
-				map.readIndexedStringTable(stringMatcher.getCollator(), req.nameQuery, "", loffsets, 0);
+				if (req.maxEdits > 0) {
+					FuzzyStringMatcher fuzzy = new FuzzyStringMatcher(req.nameQuery, req.maxEdits, req.matcherMode);
+					map.readIndexedStringTable(fuzzy, fuzzy.start(), loffsets);
+				} else {
+					map.readIndexedStringTable(stringMatcher.getCollator(), req.nameQuery, "", loffsets, 0);
+				}
 				codedIS.popLimit(oldLimit);
 				break;
 			case OsmAndAddressNameIndexData.ATOM_FIELD_NUMBER:
-				// also offsets can be randomly skipped by limit
-				loffsets.sort();
-				
-				TIntArrayList[] refs = new TIntArrayList[5];
-				TIntArrayList[] refsContainer = new TIntArrayList[5];
-				for (int i = 0; i < refs.length; i++) {
-					refs[i] = new TIntArrayList();
-					refsContainer[i] = new TIntArrayList();
-				}
-
 				LOG.info("Searched address structure in " + (System.currentTimeMillis() - time) + "ms. Found " + loffsets.size()
 						+ " subtress");
 				for (int j = 0; j < loffsets.size(); j++) {
-					int fp = indexOffset + loffsets.get(j);
-					codedIS.seek(fp);
-					int len = codedIS.readRawVarint32();
-					int oldLim = codedIS.pushLimit(len);
-					int stag = 0;
-					do {
-						int st = codedIS.readTag();
-						stag = WireFormat.getTagFieldNumber(st);
-						if (stag == AddressNameIndexData.ATOM_FIELD_NUMBER) {
-							int slen = codedIS.readRawVarint32();
-							int soldLim = codedIS.pushLimit(slen);
-							readAddressNameData(req, refs, refsContainer, fp);
-							codedIS.popLimit(soldLim);
-						} else if (stag != 0) {
-							skipUnknownField(st);
-						}
-					} while (stag != 0);
+					loffsets.set(j, indexOffset + loffsets.get(j));
+				}
+				searchAddressDataByName(reg, req, typeFilter, loffsets);
+				return;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Reads all keys of address name index table with absolute offsets of their data
+	 */
+	void readAddressNameIndexKeys(List<String> keys, TIntArrayList offsets) throws IOException {
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return;
+			case OsmAndAddressNameIndexData.TABLE_FIELD_NUMBER:
+				int length = readInt();
+				int indexOffset = codedIS.getTotalBytesRead();
+				int oldLimit = codedIS.pushLimit(length);
+				map.readIndexedStringTableKeys("", indexOffset, keys, offsets);
+				codedIS.popLimit(oldLimit);
+				// atoms are not needed
+				codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				return;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
 
-					codedIS.popLimit(oldLim);
-					if (req.isCancelled()) {
-						return;
+	/**
+	 * Searches address objects by name index data located at given absolute file offsets 
+	 * (name index table lookup is already done, for example by {@link GlobalNameIndex})
+	 */
+	public void searchAddressDataByName(AddressRegion reg, SearchRequest<MapObject> req, List<Integer> typeFilter,
+			TIntArrayList nameDataOffsets) throws IOException {
+		StringMatcher stringMatcher = req.getNameMatcher(req.nameQuery, req.matcherMode);
+		String postcode = Postcode.normalize(req.nameQuery, map.getCountryName());
+		final CityMatcher postcodeMatcher = new DefaultCityMatcher(new FoldedStringMatcher(postcode, req.matcherMode));
+		final CityMatcher cityMatcher = new DefaultCityMatcher(stringMatcher);
+		final CityMatcher cityPostcodeMatcher = new CityMatcher() {
+			@Override
+			public boolean matches(City city) {
+				return city.isPostcode() ? postcodeMatcher.matches(city) : cityMatcher.matches(city);
+			}
+		};
+		long time = System.currentTimeMillis();
+		// also offsets can be randomly skipped by limit
+		TIntArrayList loffsets = new TIntArrayList(nameDataOffsets);
+		loffsets.sort();
+
+		TIntArrayList[] refs = new TIntArrayList[5];
+		TIntArrayList[] refsContainer = new TIntArrayList[5];
+		for (int i = 0; i < refs.length; i++) {
+			refs[i] = new TIntArrayList();
+			refsContainer[i] = new TIntArrayList();
+		}
+		for (int j = 0; j < loffsets.size(); j++) {
+			if (j > 0 && loffsets.get(j) == loffsets.get(j - 1)) {
+				continue;
+			}
+			int fp = loffsets.get(j);
+			codedIS.seek(fp);
+			int len = codedIS.readRawVarint32();
+			int oldLim = codedIS.pushLimit(len);
+			req.stats.blocksDecoded++;
+			int stag = 0;
+			do {
+				int st = codedIS.readTag();
+				stag = WireFormat.getTagFieldNumber(st);
+				if (stag == AddressNameIndexData.ATOM_FIELD_NUMBER) {
+					int slen = codedIS.readRawVarint32();
+					int soldLim = codedIS.pushLimit(slen);
+					readAddressNameData(req, refs, refsContainer, fp);
+					codedIS.popLimit(soldLim);
+				} else if (stag != 0) {
+					skipUnknownField(st);
+				}
+			} while (stag != 0);
+
+			codedIS.popLimit(oldLim);
+			if (req.isCancelled()) {
+				return;
+			}
+		}
+		if (typeFilter == null) {
+			typeFilter = TYPES;
+		}
+		for (int i = 0; i < typeFilter.size() && !req.isCancelled(); i++) {
+			TIntArrayList list = refs[typeFilter.get(i)];
+			TIntArrayList listContainer = refsContainer[typeFilter.get(i)];
+			
+			if (typeFilter.get(i) == STREET_TYPE) {
+				TIntLongHashMap mp = new TIntLongHashMap();
+				for (int j = 0; j < list.size(); j++) {
+					mp.put(list.get(j), listContainer.get(j));
+				}
+				list.sort();
+				for (int j = 0; j < list.size() && !req.isCancelled(); j ++) {
+					int offset = list.get(j);
+					if (j > 0 &&  offset == list.get(j - 1)) {
+						continue;
 					}
-				}
-				if (typeFilter == null) {
-					typeFilter = TYPES;
-				}
-				for (int i = 0; i < typeFilter.size() && !req.isCancelled(); i++) {
-					TIntArrayList list = refs[typeFilter.get(i)];
-					TIntArrayList listContainer = refsContainer[typeFilter.get(i)];
-					
-					if (typeFilter.get(i) == STREET_TYPE) {
-						TIntLongHashMap mp = new TIntLongHashMap();
-						for (int j = 0; j < list.size(); j++) {
-							mp.put(list.get(j), listContainer.get(j));
-						}
-						list.sort();
-						for (int j = 0; j < list.size() && !req.isCancelled(); j ++) {
-							int offset = list.get(j);
-							if (j > 0 &&  offset == list.get(j - 1)) {
-								continue;
-							}
-							City obj;
-							{
-								int contOffset = (int) mp.get(offset);
-								codedIS.seek(contOffset);
-								int len = codedIS.readRawVarint32();
-								int old = codedIS.pushLimit(len);
-								obj = readCityHeader(null, contOffset, reg.attributeTagsTable);
-								codedIS.popLimit(old);
-							}
-							if (obj != null) {
-								codedIS.seek(offset);
-								int len = codedIS.readRawVarint32();
-								int old = codedIS.pushLimit(len);
-								LatLon l = obj.getLocation();
-								Street s = new Street(obj);
-								s.setFileOffset(offset);
-								readStreet(s, null, false, MapUtils.get31TileNumberX(l.getLongitude()) >> 7,
-										MapUtils.get31TileNumberY(l.getLatitude()) >> 7, obj.isPostcode() ? obj.getName() : null,
-										reg.attributeTagsTable);
-								boolean matches = stringMatcher.matches(s.getName());
-								if (!matches) {
-									for (String n : s.getAllNames()) {
-										matches = stringMatcher.matches(n);
-										if (matches) {
-											break;
-										}
-									}
-								}
+					City obj;
+					{
+						int contOffset = (int) mp.get(offset);
+						codedIS.seek(contOffset);
+						int len = codedIS.readRawVarint32();
+						int old = codedIS.pushLimit(len);
+						obj = readCityHeader(null, contOffset, reg.attributeTagsTable);
+						codedIS.popLimit(old);
+					}
+					if (obj != null) {
+						codedIS.seek(offset);
+						int len = codedIS.readRawVarint32();
+						int old = codedIS.pushLimit(len);
+						LatLon l = obj.getLocation();
+						Street s = new Street(obj);
+						s.setFileOffset(offset);
+						readStreet(s, null, false, MapUtils.get31TileNumberX(l.getLongitude()) >> 7,
+								MapUtils.get31TileNumberY(l.getLatitude()) >> 7, obj.isPostcode() ? obj.getName() : null,
+								reg.attributeTagsTable);
+						boolean matches = stringMatcher.matches(s.getName());
+						if (!matches) {
+							for (String n : s.getAllNames()) {
+								matches = stringMatcher.matches(n);
 								if (matches) {
-									req.publish(s);
+									break;
 								}
-								codedIS.popLimit(old);
 							}
 						}
-					} else {
-						list.sort();
-						TIntSet published = new TIntHashSet();
-						for (int j = 0; j < list.size() && !req.isCancelled(); j++) {
-							int offset = list.get(j);
-							if (j > 0 && offset == list.get(j - 1)) {
-								continue;
-							}
-							codedIS.seek(offset);
-							int len = codedIS.readRawVarint32();
-							int old = codedIS.pushLimit(len);
-							City obj = readCityHeader(cityPostcodeMatcher, list.get(j), reg.attributeTagsTable);
-							if (obj != null && !published.contains(offset)) {
-								req.publish(obj);
-								published.add(offset);
-							}
-							codedIS.popLimit(old);
+						if (matches) {
+							req.publish(s);
 						}
+						codedIS.popLimit(old);
 					}
 				}
-				LOG.info("Whole address search by name is done in " + (System.currentTimeMillis() - time) + "ms. Found "
-						+ req.getSearchResults().size());
-				return;
-			default:
-				skipUnknownField(t);
-				break;
+			} else {
+				list.sort();
+				TIntSet published = new TIntHashSet();
+				for (int j = 0; j < list.size() && !req.isCancelled(); j++) {
+					int offset = list.get(j);
+					if (j > 0 && offset == list.get(j - 1)) {
+						continue;
+					}
+					codedIS.seek(offset);
+					int len = codedIS.readRawVarint32();
+					int old = codedIS.pushLimit(len);
+					City obj = readCityHeader(cityPostcodeMatcher, list.get(j), reg.attributeTagsTable);
+					if (obj != null && !published.contains(offset)) {
+						req.publish(obj);
+						published.add(offset);
+					}
+					codedIS.popLimit(old);
+				}
 			}
 		}
-
+		LOG.info("Whole address search by name is done in " + (System.currentTimeMillis() - time) + "ms. Found "
+				+ req.getSearchResults().size());
 	}
 
 	private void readAddressNameData(SearchRequest<MapObject> req, TIntArrayList[] refs,
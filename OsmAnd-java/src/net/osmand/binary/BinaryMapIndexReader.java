@@ -3,9 +3,10 @@ package net.osmand.binary;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntLongHashMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
-import gnu.trove.map.hash.TLongObjectHashMap;
 import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.set.hash.TLongHashSet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
@@ -17,6 +18,7 @@ import java.io.InputStreamReader;
 import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -36,6 +38,8 @@ import javax.xml.parsers.ParserConfigurationException;
 import net.osmand.Collator;
 import net.osmand.CollatorStringMatcher;
 import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.FoldedStringMatcher;
+import net.osmand.FuzzyStringMatcher;
 import net.osmand.Location;
 import net.osmand.OsmAndCollator;
 import net.osmand.PlatformUtil;
@@ -47,6 +51,8 @@ import net.osmand.binary.BinaryMapPoiReaderAdapter.PoiRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteSubregion;
 import net.osmand.binary.BinaryMapTransportReaderAdapter.TransportIndex;
+import net.osmand.binary.BinaryReadStats.BinaryIndexSection;
+import net.osmand.binary.BinaryReadStats.MetricsSink;
 import net.osmand.binary.OsmandOdb.MapDataBlock;
 import net.osmand.binary.OsmandOdb.OsmAndMapIndex.MapDataBox;
 import net.osmand.binary.OsmandOdb.OsmAndMapIndex.MapEncodingRule;
@@ -63,6 +69,7 @@ import net.osmand.osm.MapPoiTypes;
 import net.osmand.osm.PoiCategory;
 import net.osmand.osm.edit.Way;
 import net.osmand.util.Algorithms;
+import net.osmand.util.MapAlgorithms;
 import net.osmand.util.MapUtils;
 
 import org.apache.commons.logging.Log;
@@ -117,6 +124,16 @@ public class BinaryMapIndexReader {
 
 	private static String BASEMAP_NAME = "basemap";
 
+	// I/O statistics
+	private static volatile MetricsSink globalMetricsSink;
+	private MetricsSink metricsSink;
+	private final BinaryReadStats[] sectionStats = new BinaryReadStats[BinaryIndexSection.values().length];
+	{
+		for (int i = 0; i < sectionStats.length; i++) {
+			sectionStats[i] = new BinaryReadStats();
+		}
+	}
+
 
 	public BinaryMapIndexReader(final RandomAccessFile raf, File file) throws IOException {
 		this.raf = raf;
@@ -170,6 +187,76 @@ public class BinaryMapIndexReader {
 		return dateCreated;
 	}
 
+	/**
+	 * Sink receiving statistics of all readers which don't have own sink
+	 */
+	public static void setGlobalMetricsSink(MetricsSink sink) {
+		globalMetricsSink = sink;
+	}
+
+	public void setMetricsSink(MetricsSink metricsSink) {
+		this.metricsSink = metricsSink;
+	}
+
+	/**
+	 * @return copy of cumulative statistics of searches in section of this reader
+	 */
+	public BinaryReadStats getReadStats(BinaryIndexSection section) {
+		BinaryReadStats s = sectionStats[section.ordinal()];
+		synchronized (s) {
+			return new BinaryReadStats(s);
+		}
+	}
+
+	public void clearReadStats() {
+		for (BinaryReadStats s : sectionStats) {
+			synchronized (s) {
+				s.clear();
+			}
+		}
+	}
+
+	private BinaryReadStats.Snapshot startReadStats(BinaryReadStats counters) {
+		BinaryReadStats.Snapshot st = new BinaryReadStats.Snapshot();
+		st.bytesRead = codedIS.getRawBytesRead();
+		st.seeks = codedIS.getRawSeeks();
+		st.bufferRefills = codedIS.getBufferRefills();
+		st.blocksDecoded = counters.blocksDecoded;
+		st.objectsAccepted = counters.objectsAccepted;
+		st.objectsRejected = counters.objectsRejected;
+		st.startNanos = System.nanoTime();
+		return st;
+	}
+
+	/**
+	 * Accounts I/O done since snapshot into counters (usually counters of search request),
+	 * statistics of reader section and reports search to metrics sink
+	 */
+	private void finishReadStats(BinaryReadStats.Snapshot st, BinaryIndexSection section, BinaryReadStats counters) {
+		BinaryReadStats delta = new BinaryReadStats();
+		delta.decodeTimeNanos = System.nanoTime() - st.startNanos;
+		delta.searches = 1;
+		delta.bytesRead = codedIS.getRawBytesRead() - st.bytesRead;
+		delta.seeks = codedIS.getRawSeeks() - st.seeks;
+		delta.bufferRefills = codedIS.getBufferRefills() - st.bufferRefills;
+		delta.blocksDecoded = counters.blocksDecoded - st.blocksDecoded;
+		delta.objectsAccepted = counters.objectsAccepted - st.objectsAccepted;
+		delta.objectsRejected = counters.objectsRejected - st.objectsRejected;
+		counters.searches++;
+		counters.bytesRead += delta.bytesRead;
+		counters.seeks += delta.seeks;
+		counters.bufferRefills += delta.bufferRefills;
+		counters.decodeTimeNanos += delta.decodeTimeNanos;
+		BinaryReadStats s = sectionStats[section.ordinal()];
+		synchronized (s) {
+			s.add(delta);
+		}
+		MetricsSink sink = metricsSink != null ? metricsSink : globalMetricsSink;
+		if (sink != null) {
+			sink.searchFinished(this, section, delta);
+		}
+	}
+
 	private void init() throws IOException {
 		boolean initCorrectly = false;
 		while (true) {
@@ -549,24 +636,11 @@ public class BinaryMapIndexReader {
 	}
 
 	public List<TransportStop> searchTransportIndex(SearchRequest<TransportStop> req) throws IOException {
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 		for (TransportIndex index : transportIndexes) {
-			if (index.stopsFileLength == 0 || index.right < req.left || index.left > req.right || index.top > req.bottom
-					|| index.bottom < req.top) {
-				continue;
-			}
-			codedIS.seek(index.stopsFileOffset);
-			int oldLimit = codedIS.pushLimit(index.stopsFileLength);
-			int offset = req.searchResults.size();
-			transportAdapter.searchTransportTreeBounds(0, 0, 0, 0, req);
-			codedIS.popLimit(oldLimit);
-			if (req.stringTable != null) {
-				transportAdapter.initializeStringTable(index, req.stringTable);
-				for (int i = offset; i < req.searchResults.size(); i++) {
-					TransportStop st = req.searchResults.get(i);
-					transportAdapter.initializeNames(req.stringTable, st);
-				}
-			}
+			searchTransportIndex(index, req);
 		}
+		finishReadStats(st, BinaryIndexSection.TRANSPORT, req.stats);
 		if (req.numberOfVisitedObjects > 0) {
 			log.debug("Search is done. Visit " + req.numberOfVisitedObjects + " objects. Read " + req.numberOfAcceptedObjects + " objects."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			log.debug("Read " + req.numberOfReadSubtrees + " subtrees. Go through " + req.numberOfAcceptedSubtrees + " subtrees.");   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
@@ -574,6 +648,26 @@ public class BinaryMapIndexReader {
 		return req.getSearchResults();
 	}
 
+	private boolean searchTransportIndex(TransportIndex index, SearchRequest<TransportStop> req) throws IOException {
+		if (index.stopsFileLength == 0 || index.right < req.left || index.left > req.right || index.top > req.bottom
+				|| index.bottom < req.top) {
+			return false;
+		}
+		codedIS.seek(index.stopsFileOffset);
+		int oldLimit = codedIS.pushLimit(index.stopsFileLength);
+		int offset = req.searchResults.size();
+		transportAdapter.searchTransportTreeBounds(0, 0, 0, 0, req);
+		codedIS.popLimit(oldLimit);
+		if (req.stringTable != null) {
+			transportAdapter.initializeStringTable(index, req.stringTable);
+			for (int i = offset; i < req.searchResults.size(); i++) {
+				TransportStop st = req.searchResults.get(i);
+				transportAdapter.initializeNames(req.stringTable, st);
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Address public methods
 	 */
@@ -850,56 +944,18 @@ public class BinaryMapIndexReader {
 		req.numberOfAcceptedObjects = 0;
 		req.numberOfAcceptedSubtrees = 0;
 		req.numberOfReadSubtrees = 0;
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 		List<MapTree> foundSubtrees = new ArrayList<MapTree>();
 		for (MapIndex mapIndex : mapIndexes) {
 			if(filterMapIndex != null && mapIndex != filterMapIndex) {
 				continue;
 			}
-			// lazy initializing rules
-			if (mapIndex.encodingRules.isEmpty()) {
-				codedIS.seek(mapIndex.filePointer);
-				int oldLimit = codedIS.pushLimit(mapIndex.length);
-				readMapIndex(mapIndex, true);
-				codedIS.popLimit(oldLimit);
-			}
+			initMapEncodingRules(mapIndex);
 			for (MapRoot index : mapIndex.getRoots()) {
-				if (index.minZoom <= req.zoom && index.maxZoom >= req.zoom) {
-					if (index.right < req.left || index.left > req.right || index.top > req.bottom || index.bottom < req.top) {
-						continue;
-					}
-
-					// lazy initializing trees
-					if (index.trees == null) {
-						index.trees = new ArrayList<MapTree>();
-						codedIS.seek(index.filePointer);
-						int oldLimit = codedIS.pushLimit(index.length);
-						readMapLevel(index);
-						codedIS.popLimit(oldLimit);
-					}
-
-					for (MapTree tree : index.trees) {
-						if (tree.right < req.left || tree.left > req.right || tree.top > req.bottom || tree.bottom < req.top) {
-							continue;
-						}
-						codedIS.seek(tree.filePointer);
-						int oldLimit = codedIS.pushLimit(tree.length);
-						searchMapTreeBounds(tree, index, req, foundSubtrees);
-						codedIS.popLimit(oldLimit);
-					}
-
-					Collections.sort(foundSubtrees, new Comparator<MapTree>() {
-						@Override
-						public int compare(MapTree o1, MapTree o2) {
-							return o1.mapDataBlock < o2.mapDataBlock ? -1 : (o1.mapDataBlock == o2.mapDataBlock ? 0 : 1);
-						}
-					});
+				if (searchMapRootSubtrees(index, req, foundSubtrees)) {
 					for (MapTree tree : foundSubtrees) {
 						if (!req.isCancelled()) {
-							codedIS.seek(tree.mapDataBlock);
-							int length = codedIS.readRawVarint32();
-							int oldLimit = codedIS.pushLimit(length);
-							readMapDataBlocks(req, tree, mapIndex);
-							codedIS.popLimit(oldLimit);
+							readMapDataBlock(req, tree, mapIndex);
 						}
 					}
 					foundSubtrees.clear();
@@ -907,6 +963,7 @@ public class BinaryMapIndexReader {
 
 			}
 		}
+		finishReadStats(st, BinaryIndexSection.MAP, req.stats);
 		if (req.numberOfVisitedObjects > 0 && req.log) {
 			log.info("Search is done. Visit " + req.numberOfVisitedObjects + " objects. Read " + req.numberOfAcceptedObjects + " objects."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			log.info("Read " + req.numberOfReadSubtrees + " subtrees. Go through " + req.numberOfAcceptedSubtrees + " subtrees.");   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
@@ -915,6 +972,68 @@ public class BinaryMapIndexReader {
 	}
 
 	
+	void initMapEncodingRules(MapIndex mapIndex) throws IOException {
+		// lazy initializing rules
+		if (mapIndex.encodingRules.isEmpty()) {
+			codedIS.seek(mapIndex.filePointer);
+			int oldLimit = codedIS.pushLimit(mapIndex.length);
+			readMapIndex(mapIndex, true);
+			codedIS.popLimit(oldLimit);
+		}
+	}
+
+	void initMapRootTrees(MapRoot index) throws IOException {
+		// lazy initializing trees
+		if (index.trees == null) {
+			index.trees = new ArrayList<MapTree>();
+			codedIS.seek(index.filePointer);
+			int oldLimit = codedIS.pushLimit(index.length);
+			readMapLevel(index);
+			codedIS.popLimit(oldLimit);
+		}
+	}
+
+	/**
+	 * Collects subtrees of root level intersecting request sorted by position of data blocks
+	 * @return false if level doesn't match request
+	 */
+	private boolean searchMapRootSubtrees(MapRoot index, SearchRequest<BinaryMapDataObject> req,
+			List<MapTree> foundSubtrees) throws IOException {
+		if (index.minZoom > req.zoom || index.maxZoom < req.zoom) {
+			return false;
+		}
+		if (index.right < req.left || index.left > req.right || index.top > req.bottom || index.bottom < req.top) {
+			return false;
+		}
+
+		initMapRootTrees(index);
+		for (MapTree tree : index.trees) {
+			if (tree.right < req.left || tree.left > req.right || tree.top > req.bottom || tree.bottom < req.top) {
+				continue;
+			}
+			codedIS.seek(tree.filePointer);
+			int oldLimit = codedIS.pushLimit(tree.length);
+			searchMapTreeBounds(tree, index, req, foundSubtrees);
+			codedIS.popLimit(oldLimit);
+		}
+
+		Collections.sort(foundSubtrees, new Comparator<MapTree>() {
+			@Override
+			public int compare(MapTree o1, MapTree o2) {
+				return o1.mapDataBlock < o2.mapDataBlock ? -1 : (o1.mapDataBlock == o2.mapDataBlock ? 0 : 1);
+			}
+		});
+		return true;
+	}
+
+	private void readMapDataBlock(SearchRequest<BinaryMapDataObject> req, MapTree tree, MapIndex mapIndex) throws IOException {
+		codedIS.seek(tree.mapDataBlock);
+		int length = codedIS.readRawVarint32();
+		int oldLimit = codedIS.pushLimit(length);
+		req.stats.blocksDecoded++;
+		readMapDataBlocks(req, tree, mapIndex);
+		codedIS.popLimit(oldLimit);
+	}
 
 	protected void readMapDataBlocks(SearchRequest<BinaryMapDataObject> req, MapTree tree, MapIndex root) throws IOException {
 		List<BinaryMapDataObject> tempResults = null;
@@ -956,6 +1075,8 @@ public class BinaryMapIndexReader {
 						tempResults = new ArrayList<BinaryMapDataObject>();
 					}
 					tempResults.add(mapObject);
+				} else {
+					req.stats.objectsRejected++;
 				}
 				codedIS.popLimit(oldLimit);
 				break;
@@ -1222,17 +1343,29 @@ public class BinaryMapIndexReader {
 				break;
 			}
 		}
+		if (area && stringNames == null && req.minPolygonArea > 0
+				&& MapAlgorithms.polygonArea(req.cacheCoordinates) < req.minPolygonArea) {
+			return null;
+		}
 		BinaryMapDataObject dataObject = new BinaryMapDataObject();
 		dataObject.area = area;
-		dataObject.coordinates = req.cacheCoordinates.toArray();
+		dataObject.coordinates = simplifyCoordinates(req, req.cacheCoordinates);
 		dataObject.objectNames = stringNames;
 		dataObject.namesOrder = stringOrder;
+		if (innercoordinates != null && req.minPolygonArea > 0) {
+			Iterator<TIntArrayList> it = innercoordinates.iterator();
+			while (it.hasNext()) {
+				if (MapAlgorithms.polygonArea(it.next()) < req.minPolygonArea) {
+					it.remove();
+				}
+			}
+		}
 		if (innercoordinates == null) {
 			dataObject.polygonInnerCoordinates = new int[0][0];
 		} else {
 			dataObject.polygonInnerCoordinates = new int[innercoordinates.size()][];
 			for (int i = 0; i < innercoordinates.size(); i++) {
-				dataObject.polygonInnerCoordinates[i] = innercoordinates.get(i).toArray();
+				dataObject.polygonInnerCoordinates[i] = simplifyCoordinates(req, innercoordinates.get(i));
 			}
 		}
 		dataObject.types = req.cacheTypes.toArray();
@@ -1247,7 +1380,16 @@ public class BinaryMapIndexReader {
 		return dataObject;
 	}
 
+	private int[] simplifyCoordinates(SearchRequest<BinaryMapDataObject> req, TIntArrayList coordinates) {
+		if (req.simplifyTolerance > 0 && coordinates.size() > 4) {
+			MapAlgorithms.simplifyDouglasPeucker(coordinates, req.simplifyTolerance, req.cacheSimplifiedCoordinates);
+			return req.cacheSimplifiedCoordinates.toArray();
+		}
+		return coordinates.toArray();
+	}
+
 	public List<MapObject> searchAddressDataByName(SearchRequest<MapObject> req, List<Integer> typeFilter) throws IOException {
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 		for (AddressRegion reg : addressIndexes) {
 			if (reg.indexNameOffset != -1) {
 				codedIS.seek(reg.indexNameOffset);
@@ -1257,6 +1399,7 @@ public class BinaryMapIndexReader {
 				codedIS.popLimit(old);
 			}
 		}
+		finishReadStats(st, BinaryIndexSection.ADDRESS, req.stats);
 		return req.getSearchResults();
 	}
 
@@ -1272,6 +1415,7 @@ public class BinaryMapIndexReader {
 		if (req.nameQuery == null || req.nameQuery.length() == 0) {
 			throw new IllegalArgumentException();
 		}
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 		for (PoiRegion poiIndex : poiIndexes) {
 			poiAdapter.initCategories(poiIndex);
 			codedIS.seek(poiIndex.filePointer);
@@ -1279,9 +1423,68 @@ public class BinaryMapIndexReader {
 			poiAdapter.searchPoiByName(poiIndex, req);
 			codedIS.popLimit(old);
 		}
+		finishReadStats(st, BinaryIndexSection.POI, req.stats);
+		return req.getSearchResults();
+	}
+
+	/**
+	 * Searches address data by name using precomputed name index lookup,
+	 * address regions without matched keys are not read at all
+	 */
+	public List<MapObject> searchAddressDataByName(SearchRequest<MapObject> req, List<Integer> typeFilter,
+			GlobalNameIndex.NameIndexLookup lookup) throws IOException {
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
+		for (int i = 0; i < addressIndexes.size() && !req.isCancelled(); i++) {
+			TIntArrayList offsets = lookup.getOffsets(this, GlobalNameIndex.ADDRESS_SECTION, i);
+			if (offsets != null && !offsets.isEmpty()) {
+				addressAdapter.searchAddressDataByName(addressIndexes.get(i), req, typeFilter, offsets);
+			}
+		}
+		finishReadStats(st, BinaryIndexSection.ADDRESS, req.stats);
+		return req.getSearchResults();
+	}
+
+	/**
+	 * Searches pois by name using precomputed name index lookup,
+	 * poi regions without matched keys are not read at all
+	 */
+	public List<Amenity> searchPoiByName(SearchRequest<Amenity> req, GlobalNameIndex.NameIndexLookup lookup) throws IOException {
+		if (req.nameQuery == null || req.nameQuery.length() == 0) {
+			throw new IllegalArgumentException();
+		}
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
+		for (int i = 0; i < poiIndexes.size() && !req.isCancelled(); i++) {
+			TIntArrayList offsets = lookup.getOffsets(this, GlobalNameIndex.POI_SECTION, i);
+			if (offsets != null && !offsets.isEmpty()) {
+				PoiRegion poiIndex = poiIndexes.get(i);
+				poiAdapter.initCategories(poiIndex);
+				codedIS.seek(poiIndex.filePointer);
+				int old = codedIS.pushLimit(poiIndex.length);
+				poiAdapter.searchPoiByName(poiIndex, req, offsets);
+				codedIS.popLimit(old);
+			}
+		}
+		finishReadStats(st, BinaryIndexSection.POI, req.stats);
 		return req.getSearchResults();
 	}
 
+	void readAddressNameIndexKeys(AddressRegion reg, List<String> keys, TIntArrayList offsets) throws IOException {
+		if (reg.indexNameOffset != -1) {
+			codedIS.seek(reg.indexNameOffset);
+			int len = readInt();
+			int old = codedIS.pushLimit(len);
+			addressAdapter.readAddressNameIndexKeys(keys, offsets);
+			codedIS.popLimit(old);
+		}
+	}
+
+	void readPoiNameIndexKeys(PoiRegion poiIndex, List<String> keys, TIntArrayList offsets) throws IOException {
+		codedIS.seek(poiIndex.filePointer);
+		int old = codedIS.pushLimit(poiIndex.length);
+		poiAdapter.readPoiNameIndexKeys(keys, offsets);
+		codedIS.popLimit(old);
+	}
+
 	public Map<PoiCategory, List<String>> searchPoiCategoriesByName(String query, Map<PoiCategory, List<String>> map) throws IOException {
 		if (query == null || query.length() == 0) {
 			throw new IllegalArgumentException();
@@ -1319,6 +1522,7 @@ public class BinaryMapIndexReader {
 		req.numberOfAcceptedObjects = 0;
 		req.numberOfAcceptedSubtrees = 0;
 		req.numberOfReadSubtrees = 0;
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 		for (PoiRegion poiIndex : poiIndexes) {
 			poiAdapter.initCategories(poiIndex);
 			codedIS.seek(poiIndex.filePointer);
@@ -1326,6 +1530,7 @@ public class BinaryMapIndexReader {
 			poiAdapter.searchPoiIndex(req.left, req.right, req.top, req.bottom, req, poiIndex);
 			codedIS.popLimit(old);
 		}
+		finishReadStats(st, BinaryIndexSection.POI, req.stats);
 		log.info("Read " + req.numberOfReadSubtrees + " subtrees. Go through " + req.numberOfAcceptedSubtrees + " subtrees.");   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 		log.info("Search poi is done. Visit " + req.numberOfVisitedObjects + " objects. Read " + req.numberOfAcceptedObjects + " objects."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
@@ -1337,12 +1542,14 @@ public class BinaryMapIndexReader {
 		req.numberOfAcceptedObjects = 0;
 		req.numberOfAcceptedSubtrees = 0;
 		req.numberOfReadSubtrees = 0;
+		BinaryReadStats.Snapshot st = startReadStats(req.stats);
 
 		poiAdapter.initCategories(poiIndex);
 		codedIS.seek(poiIndex.filePointer);
 		int old = codedIS.pushLimit(poiIndex.length);
 		poiAdapter.searchPoiIndex(req.left, req.right, req.top, req.bottom, req, poiIndex);
 		codedIS.popLimit(old);
+		finishReadStats(st, BinaryIndexSection.POI, req.stats);
 
 		log.info("Search poi is done. Visit " + req.numberOfVisitedObjects + " objects. Read " + req.numberOfAcceptedObjects + " objects."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		log.info("Read " + req.numberOfReadSubtrees + " subtrees. Go through " + req.numberOfAcceptedSubtrees + " subtrees.");   //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
@@ -1350,6 +1557,110 @@ public class BinaryMapIndexReader {
 		return req.getSearchResults();
 	}
 
+	/**
+	 * Streaming search public methods
+	 */
+	public BinaryMapSearchIterator<BinaryMapDataObject> iterateMapIndex(SearchRequest<BinaryMapDataObject> req) {
+		return new MapDataIterator(req);
+	}
+
+	public BinaryMapSearchIterator<Amenity> iteratePoi(SearchRequest<Amenity> req) {
+		return new PoiDataIterator(req);
+	}
+
+	/**
+	 * Accounts read statistics of iterator like one search of section
+	 */
+	private abstract class SectionSearchIterator<T> extends BinaryMapSearchIterator<T> {
+		private final BinaryIndexSection section;
+		private BinaryReadStats.Snapshot st;
+
+		public SectionSearchIterator(SearchRequest<T> req, BinaryIndexSection section) {
+			super(req);
+			this.section = section;
+		}
+
+		@Override
+		protected void searchStarted() {
+			st = startReadStats(req.stats);
+		}
+
+		@Override
+		protected void searchFinished() {
+			finishReadStats(st, section, req.stats);
+		}
+	}
+
+	private class MapDataIterator extends SectionSearchIterator<BinaryMapDataObject> {
+		private final Iterator<MapIndex> mapIndexIt = new ArrayList<MapIndex>(mapIndexes).iterator();
+		private MapIndex mapIndex;
+		private Iterator<MapRoot> rootIt = Collections.<MapRoot>emptyList().iterator();
+		private final LinkedList<MapTree> subtrees = new LinkedList<MapTree>();
+
+		public MapDataIterator(SearchRequest<BinaryMapDataObject> req) {
+			super(req, BinaryIndexSection.MAP);
+		}
+
+		@Override
+		protected boolean readNextBlock() throws IOException {
+			while (subtrees.isEmpty()) {
+				if (rootIt.hasNext()) {
+					searchMapRootSubtrees(rootIt.next(), req, subtrees);
+				} else if (mapIndexIt.hasNext()) {
+					mapIndex = mapIndexIt.next();
+					initMapEncodingRules(mapIndex);
+					rootIt = mapIndex.getRoots().iterator();
+				} else {
+					return false;
+				}
+			}
+			readMapDataBlock(req, subtrees.poll(), mapIndex);
+			return true;
+		}
+	}
+
+	private class PoiDataIterator extends SectionSearchIterator<Amenity> {
+		private final Iterator<PoiRegion> regionIt = new ArrayList<PoiRegion>(poiIndexes).iterator();
+		private PoiRegion region;
+		private TLongHashSet skipTiles;
+		private TIntLongHashMap offsetsMap;
+		private int[] offsets = new int[0];
+		private int offsetPosition = 0;
+
+		public PoiDataIterator(SearchRequest<Amenity> req) {
+			super(req, BinaryIndexSection.POI);
+		}
+
+		@Override
+		protected boolean readNextBlock() throws IOException {
+			while (offsetPosition >= offsets.length) {
+				if (!regionIt.hasNext()) {
+					return false;
+				}
+				region = regionIt.next();
+				poiAdapter.initCategories(region);
+				skipTiles = poiAdapter.createSkipTiles(req);
+				codedIS.seek(region.filePointer);
+				int old = codedIS.pushLimit(region.length);
+				offsetsMap = poiAdapter.searchPoiBoxes(req.left, req.right, req.top, req.bottom, req, region, skipTiles);
+				codedIS.popLimit(old);
+				offsets = offsetsMap == null ? new int[0] : offsetsMap.keys();
+				Arrays.sort(offsets);
+				offsetPosition = 0;
+				if (skipTiles != null) {
+					skipTiles.clear();
+				}
+			}
+			int offset = offsets[offsetPosition++];
+			codedIS.seek(region.filePointer);
+			int old = codedIS.pushLimit(region.length);
+			poiAdapter.readPoiDataBox(req.left, req.right, req.top, req.bottom, region.filePointer, offset,
+					offsetsMap.get(offset), req, region, skipTiles);
+			codedIS.popLimit(old);
+			return true;
+		}
+	}
+
 	protected List<String> readStringTable() throws IOException {
 		List<String> list = new ArrayList<String>();
 		while (true) {
@@ -1415,49 +1726,21 @@ public class BinaryMapIndexReader {
 
 	public static SearchRequest<Amenity> buildSearchPoiRequest(List<Location> route, double radius,
 			SearchPoiTypeFilter poiTypeFilter, ResultMatcher<Amenity> resultMatcher) {
-		SearchRequest<Amenity> request = new SearchRequest<Amenity>();
-		float coeff = (float) (radius / MapUtils.getTileDistanceWidth(SearchRequest.ZOOM_TO_SEARCH_POI));
-		TLongObjectHashMap<List<Location>> zooms = new TLongObjectHashMap<List<Location>>();
-		for (int i = 1; i < route.size(); i++) {
-			Location cr = route.get(i);
-			Location pr = route.get(i - 1);
-			double tx = MapUtils.getTileNumberX(SearchRequest.ZOOM_TO_SEARCH_POI, cr.getLongitude());
-			double ty = MapUtils.getTileNumberY(SearchRequest.ZOOM_TO_SEARCH_POI, cr.getLatitude());
-			double px = MapUtils.getTileNumberX(SearchRequest.ZOOM_TO_SEARCH_POI, pr.getLongitude());
-			double py = MapUtils.getTileNumberY(SearchRequest.ZOOM_TO_SEARCH_POI, pr.getLatitude());
-			double topLeftX = Math.min(tx, px) - coeff;
-			double topLeftY = Math.min(ty, py) - coeff;
-			double bottomRightX = Math.max(tx, px) + coeff;
-			double bottomRightY = Math.max(ty, py) + coeff;
-			for (int x = (int) topLeftX; x <= bottomRightX; x++) {
-				for (int y = (int) topLeftY; y <= bottomRightY; y++) {
-					long hash = (((long) x) << SearchRequest.ZOOM_TO_SEARCH_POI) + y;
-					if (!zooms.containsKey(hash)) {
-						zooms.put(hash, new LinkedList<Location>());
-					}
-					List<Location> ll = zooms.get(hash);
-					ll.add(pr);
-					ll.add(cr);
-				}
-			}
+		return buildSearchPoiRequest(new RouteCorridor(route, radius), poiTypeFilter, resultMatcher);
+	}
 
-		}
-		int sleft = Integer.MAX_VALUE, sright = 0, stop = Integer.MAX_VALUE, sbottom = 0;
-		for (long vl : zooms.keys()) {
-			long x = (vl >> SearchRequest.ZOOM_TO_SEARCH_POI) << (31 - SearchRequest.ZOOM_TO_SEARCH_POI);
-			long y = (vl & ((1 << SearchRequest.ZOOM_TO_SEARCH_POI) - 1)) << (31 - SearchRequest.ZOOM_TO_SEARCH_POI);
-			sleft = (int) Math.min(x, sleft);
-			stop = (int) Math.min(y, stop);
-			sbottom = (int) Math.max(y, sbottom);
-			sright = (int) Math.max(x, sright);
-		}
-		request.radius = radius;
-		request.left = sleft;
+	/**
+	 * Builds request to search pois along the route, corridor could be shared by requests of different types
+	 */
+	public static SearchRequest<Amenity> buildSearchPoiRequest(RouteCorridor corridor,
+			SearchPoiTypeFilter poiTypeFilter, ResultMatcher<Amenity> resultMatcher) {
+		SearchRequest<Amenity> request = new SearchRequest<Amenity>();
+		request.left = corridor.getLeft31();
 		request.zoom = -1;
-		request.right = sright;
-		request.top = stop;
-		request.bottom = sbottom;
-		request.tiles = zooms;
+		request.right = corridor.getRight31();
+		request.top = corridor.getTop31();
+		request.bottom = corridor.getBottom31();
+		request.corridor = corridor;
 		request.poiTypeFilter = poiTypeFilter;
 		request.resultMatcher = resultMatcher;
 		return request;
@@ -1596,13 +1879,13 @@ public class BinaryMapIndexReader {
 		int limit = -1;
 
 		// search on the path
-		// stores tile of 16 index and pairs (even length always) of points intersecting tile
-		TLongObjectHashMap<List<Location>> tiles = null;
-		double radius = -1;
+		RouteCorridor corridor = null;
 
 
 		String nameQuery = null;
 		StringMatcherMode matcherMode = StringMatcherMode.CHECK_STARTS_FROM_SPACE;
+		// typos tolerated by name search
+		int maxEdits = 0;
 		SearchFilter searchFilter = null;
 
 		SearchPoiTypeFilter poiTypeFilter = null;
@@ -1612,9 +1895,15 @@ public class BinaryMapIndexReader {
 
 		// cache information
 		TIntArrayList cacheCoordinates = new TIntArrayList();
+		TIntArrayList cacheSimplifiedCoordinates = new TIntArrayList();
 		TIntArrayList cacheTypes = new TIntArrayList();
 
+		// geometry simplification (31 coordinates), 0 - disabled
+		double simplifyTolerance = 0;
+		double minPolygonArea = 0;
+
 		MapObjectStat stat = new MapObjectStat();
+		BinaryReadStats stats = new BinaryReadStats();
 
 
 		// TRACE INFO
@@ -1652,11 +1941,47 @@ public class BinaryMapIndexReader {
 		public boolean publish(T obj) {
 			if (resultMatcher == null || resultMatcher.publish(obj)) {
 				searchResults.add(obj);
+				stats.objectsAccepted++;
 				return true;
 			}
+			stats.objectsRejected++;
 			return false;
 		}
 
+		ResultMatcher<T> getResultMatcher() {
+			return resultMatcher;
+		}
+
+		/**
+		 * Makes search by name typo tolerant
+		 * @param maxEdits max number of wrong, missing or extra characters in name query
+		 */
+		public void setMaxEdits(int maxEdits) {
+			this.maxEdits = maxEdits;
+		}
+
+		public int getMaxEdits() {
+			return maxEdits;
+		}
+
+		StringMatcher getNameMatcher(String query, StringMatcherMode mode) {
+			if (maxEdits > 0) {
+				return new FuzzyStringMatcher(query, maxEdits, mode);
+			}
+			return new FoldedStringMatcher(query, mode);
+		}
+
+		void setResultMatcher(ResultMatcher<T> resultMatcher) {
+			this.resultMatcher = resultMatcher;
+		}
+
+		/**
+		 * @return cumulative I/O statistics of all searches done with this request
+		 */
+		public BinaryReadStats getStats() {
+			return stats;
+		}
+
 		protected void publishOceanTile(boolean ocean) {
 			if (ocean) {
 				this.ocean = true;
@@ -1669,10 +1994,26 @@ public class BinaryMapIndexReader {
 			return searchResults;
 		}
 
+		List<T> pollSearchResults() {
+			List<T> res = searchResults;
+			searchResults = new ArrayList<T>();
+			return res;
+		}
+
 		public void setInterrupted(boolean interrupted) {
 			this.interrupted = interrupted;
 		}
 
+		/**
+		 * Simplifies geometry of map objects while reading and skips unnamed polygons smaller than given area
+		 * (sizes are in pixels of 256 pixel tile at request zoom)
+		 */
+		public void setGeometrySimplification(double pixelTolerance, double minPolygonPixels) {
+			double pixel = 1 << Math.max(0, 31 - zoom - 8);
+			this.simplifyTolerance = pixelTolerance * pixel;
+			this.minPolygonArea = minPolygonPixels * pixel * pixel;
+		}
+
 		public boolean limitExceeded() {
 			return limit != -1 && searchResults.size() > limit;
 		}
@@ -2004,7 +2345,7 @@ public class BinaryMapIndexReader {
 			return maxZoom;
 		}
 
-		private List<MapTree> trees = null;
+		List<MapTree> trees = null;
 
 
 		public MapZooms.MapZoomPair getMapZoom() {
@@ -2012,7 +2353,7 @@ public class BinaryMapIndexReader {
 		}
 	}
 
-	private static class MapTree {
+	static class MapTree {
 		int filePointer = 0;
 		int length = 0;
 
@@ -2344,6 +2685,82 @@ public class BinaryMapIndexReader {
 		}
 	}
 
+	/**
+	 * Typo tolerant lookup in indexed string table: values of all keys which could be beginning of names
+	 * matching query are collected, subtables of not matching keys are skipped
+	 */
+	void readIndexedStringTable(FuzzyStringMatcher matcher, int[] state, TIntArrayList list) throws IOException {
+		int[] keyState = null;
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return;
+			case OsmandOdb.IndexedStringTable.KEY_FIELD_NUMBER :
+				keyState = matcher.stepPrefix(state, FoldedStringMatcher.fold(codedIS.readString()));
+				break;
+			case OsmandOdb.IndexedStringTable.VAL_FIELD_NUMBER :
+				int val = readInt();
+				if (keyState != null) {
+					list.add(val);
+				}
+				break;
+			case OsmandOdb.IndexedStringTable.SUBTABLES_FIELD_NUMBER :
+				int len = codedIS.readRawVarint32();
+				int oldLim = codedIS.pushLimit(len);
+				if (keyState != null) {
+					readIndexedStringTable(matcher, keyState, list);
+				} else {
+					codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				}
+				codedIS.popLimit(oldLim);
+				break;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Reads all keys of indexed string table (including subtables) with absolute offsets of their values
+	 */
+	void readIndexedStringTableKeys(String prefix, int baseOffset, List<String> keys, TIntArrayList offsets) throws IOException {
+		String key = null;
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return;
+			case OsmandOdb.IndexedStringTable.KEY_FIELD_NUMBER :
+				key = prefix + codedIS.readString();
+				break;
+			case OsmandOdb.IndexedStringTable.VAL_FIELD_NUMBER :
+				int val = readInt();
+				if (key != null) {
+					keys.add(key);
+					offsets.add(baseOffset + val);
+				}
+				break;
+			case OsmandOdb.IndexedStringTable.SUBTABLES_FIELD_NUMBER :
+				int len = codedIS.readRawVarint32();
+				int oldLim = codedIS.pushLimit(len);
+				if (key != null) {
+					readIndexedStringTableKeys(key, baseOffset, keys, offsets);
+				} else {
+					codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				}
+				codedIS.popLimit(oldLim);
+				break;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
 	private static void testAddressSearchByName(BinaryMapIndexReader reader) throws IOException {
 		SearchRequest<MapObject> req = buildAddressByNameRequest(new ResultMatcher<MapObject>() {
 			@Override
@@ -2555,22 +2972,36 @@ public class BinaryMapIndexReader {
 		req.numberOfAcceptedSubtrees = 0;
 		req.numberOfReadSubtrees = 0;
 		if (routeAdapter != null) {
+			BinaryReadStats.Snapshot st = startReadStats(req.stats);
 			routeAdapter.initRouteTypesIfNeeded(req, list);
-			return routeAdapter.searchRouteRegionTree(req, list,
+			List<RouteSubregion> res = routeAdapter.searchRouteRegionTree(req, list,
 					new ArrayList<BinaryMapRouteReaderAdapter.RouteSubregion>());
+			finishReadStats(st, BinaryIndexSection.ROUTING, req.stats);
+			return res;
 		}
 		return Collections.emptyList();
 	}
 
 	public void loadRouteIndexData(List<RouteSubregion> toLoad, ResultMatcher<RouteDataObject> matcher) throws IOException {
 		if (routeAdapter != null) {
-			routeAdapter.loadRouteRegionData(toLoad, matcher);
+			BinaryReadStats counters = new BinaryReadStats();
+			BinaryReadStats.Snapshot st = startReadStats(counters);
+			routeAdapter.loadRouteRegionData(toLoad, matcher, counters);
+			finishReadStats(st, BinaryIndexSection.ROUTING, counters);
 		}
 	}
 
 	public List<RouteDataObject> loadRouteIndexData(RouteSubregion rs) throws IOException {
 		if (routeAdapter != null) {
-			return routeAdapter.loadRouteRegionData(rs);
+			BinaryReadStats counters = new BinaryReadStats();
+			BinaryReadStats.Snapshot st = startReadStats(counters);
+			List<RouteDataObject> res = routeAdapter.loadRouteRegionData(rs);
+			counters.blocksDecoded++;
+			if (res != null) {
+				counters.objectsAccepted += res.size();
+			}
+			finishReadStats(st, BinaryIndexSection.ROUTING, counters);
+			return res;
 		}
 		return Collections.emptyList();
 	}
@@ -17,13 +17,13 @@ import java.util.Map.Entry;
 import net.osmand.Collator;
 import net.osmand.CollatorStringMatcher;
 import net.osmand.CollatorStringMatcher.StringMatcherMode;
-import net.osmand.Location;
+import net.osmand.FuzzyStringMatcher;
 import net.osmand.PlatformUtil;
+import net.osmand.StringMatcher;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
 import net.osmand.binary.OsmandOdb.OsmAndPoiNameIndex.OsmAndPoiNameIndexData;
 import net.osmand.data.Amenity;
 import net.osmand.data.Amenity.AmenityRoutePoint;
-import net.osmand.data.LatLon;
 import net.osmand.osm.MapPoiTypes;
 import net.osmand.osm.PoiCategory;
 import net.osmand.util.MapUtils;
@@ -54,12 +54,30 @@ public class BinaryMapPoiReaderAdapter {
 		List<PoiCategory> categoriesType = new ArrayList<PoiCategory>();
 		List<List<String>> subcategories = new ArrayList<List<String>>();
 		List<PoiSubType> subTypes = new ArrayList<PoiSubType>();
+		// built on first search by type
+		PoiTypeBoxIndex typeBoxIndex;
 
 		int left31;
 		int right31;
 		int top31;
 		int bottom31;
 
+		public int getLeft31() {
+			return left31;
+		}
+
+		public int getRight31() {
+			return right31;
+		}
+
+		public int getTop31() {
+			return top31;
+		}
+
+		public int getBottom31() {
+			return bottom31;
+		}
+
 		public String getPartName() {
 			return "POI";
 		}
@@ -289,49 +307,131 @@ public class BinaryMapPoiReaderAdapter {
 				codedIS.popLimit(oldLimit);
 				break;
 			case OsmandOdb.OsmAndPoiIndex.POIDATA_FIELD_NUMBER:
-				// also offsets can be randomly skipped by limit
-				Integer[] offKeys = new Integer[offsets.size()];
-				if (offsets.size() > 0) {
-					int[] keys = offsets.keys();
-					for (int i = 0; i < keys.length; i++) {
-						offKeys[i] = keys[i];
-					}
-					final TIntLongHashMap foffsets = offsets;
-					Arrays.sort(offKeys, new Comparator<Integer>() {
-						@Override
-						public int compare(Integer object1, Integer object2) {
-							return Double.compare(foffsets.get(object1), foffsets.get(object2));
-						}
-					});
-					int p = BUCKET_SEARCH_BY_NAME * 3;
-					if (p < offKeys.length) {
-						for (int i = p + BUCKET_SEARCH_BY_NAME; ; i += BUCKET_SEARCH_BY_NAME) {
-							if (i > offKeys.length) {
-								Arrays.sort(offKeys, p, offKeys.length);
-								break;
-							} else {
-								Arrays.sort(offKeys, p, i);
-							}
-							p = i;
-						}
-					}
-				}
+				readPoiByNameData(region, req, req.getNameMatcher(query, StringMatcherMode.CHECK_STARTS_FROM_SPACE),
+						offsets, indexOffset, time);
+				codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				return;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
 
+	/**
+	 * Searches pois by name index data located at given absolute file offsets
+	 * (name index table lookup is already done, for example by {@link GlobalNameIndex}).
+	 * Stream should be positioned at the beginning of poi region.
+	 */
+	protected void searchPoiByName(PoiRegion region, SearchRequest<Amenity> req, TIntArrayList nameDataOffsets) throws IOException {
+		TIntLongHashMap offsets = new TIntLongHashMap();
+		String query = normalizeSearchPoiByNameQuery(req.nameQuery);
+		StringMatcher matcher = req.getNameMatcher(query, StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		long time = System.currentTimeMillis();
+		int indexOffset = codedIS.getTotalBytesRead();
+		TIntArrayList dataOffsets = new TIntArrayList(nameDataOffsets);
+		dataOffsets.sort();
+		for (int i = 0; i < dataOffsets.size(); i++) {
+			if (i > 0 && dataOffsets.get(i) == dataOffsets.get(i - 1)) {
+				continue;
+			}
+			codedIS.seek(dataOffsets.get(i));
+			int len = codedIS.readRawVarint32();
+			int oldLim = codedIS.pushLimit(len);
+			readPoiNameIndexData(offsets, req);
+			codedIS.popLimit(oldLim);
+			if (req.isCancelled()) {
+				return;
+			}
+		}
+		readPoiByNameData(region, req, matcher, offsets, indexOffset, time);
+	}
 
-				LOG.info("Searched poi structure in " + (System.currentTimeMillis() - time) +
-						"ms. Found " + offKeys.length + " subtrees");
-				for (int j = 0; j < offKeys.length; j++) {
-					codedIS.seek(offKeys[j] + indexOffset);
-					int len = readInt();
-					int oldLim = codedIS.pushLimit(len);
-					readPoiData(matcher, req, region);
-					codedIS.popLimit(oldLim);
-					if (req.isCancelled() || req.limitExceeded()) {
-						return;
+	private void readPoiByNameData(PoiRegion region, SearchRequest<Amenity> req, StringMatcher matcher,
+			TIntLongHashMap offsets, int indexOffset, long time) throws IOException {
+		Integer[] offKeys = new Integer[offsets.size()];
+		if (offsets.size() > 0) {
+			int[] keys = offsets.keys();
+			for (int i = 0; i < keys.length; i++) {
+				offKeys[i] = keys[i];
+			}
+			final TIntLongHashMap foffsets = offsets;
+			Arrays.sort(offKeys, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer object1, Integer object2) {
+					return Double.compare(foffsets.get(object1), foffsets.get(object2));
+				}
+			});
+			int p = BUCKET_SEARCH_BY_NAME * 3;
+			if (p < offKeys.length) {
+				for (int i = p + BUCKET_SEARCH_BY_NAME; ; i += BUCKET_SEARCH_BY_NAME) {
+					if (i > offKeys.length) {
+						Arrays.sort(offKeys, p, offKeys.length);
+						break;
+					} else {
+						Arrays.sort(offKeys, p, i);
 					}
+					p = i;
 				}
-				LOG.info("Whole poi by name search is done in " + (System.currentTimeMillis() - time) +
-						"ms. Found " + req.getSearchResults().size());
+			}
+		}
+
+
+		LOG.info("Searched poi structure in " + (System.currentTimeMillis() - time) +
+				"ms. Found " + offKeys.length + " subtrees");
+		for (int j = 0; j < offKeys.length; j++) {
+			codedIS.seek(offKeys[j] + indexOffset);
+			int len = readInt();
+			int oldLim = codedIS.pushLimit(len);
+			req.stats.blocksDecoded++;
+			readPoiData(matcher, req, region);
+			codedIS.popLimit(oldLim);
+			if (req.isCancelled() || req.limitExceeded()) {
+				return;
+			}
+		}
+		LOG.info("Whole poi by name search is done in " + (System.currentTimeMillis() - time) +
+				"ms. Found " + req.getSearchResults().size());
+	}
+
+	/**
+	 * Reads all keys of poi name index table with absolute offsets of their data.
+	 * Stream should be positioned at the beginning of poi region.
+	 */
+	void readPoiNameIndexKeys(List<String> keys, TIntArrayList offsets) throws IOException {
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return;
+			case OsmandOdb.OsmAndPoiIndex.NAMEINDEX_FIELD_NUMBER:
+				int length = readInt();
+				int oldLimit = codedIS.pushLimit(length);
+				readPoiNameIndexTableKeys(keys, offsets);
+				codedIS.popLimit(oldLimit);
+				codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				return;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	private void readPoiNameIndexTableKeys(List<String> keys, TIntArrayList offsets) throws IOException {
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return;
+			case OsmandOdb.OsmAndPoiNameIndex.TABLE_FIELD_NUMBER:
+				int length = readInt();
+				int oldLimit = codedIS.pushLimit(length);
+				int offset = codedIS.getTotalBytesRead();
+				map.readIndexedStringTableKeys("", offset, keys, offsets);
+				codedIS.popLimit(oldLimit);
 				codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
 				return;
 			default:
@@ -356,7 +456,13 @@ public class BinaryMapPoiReaderAdapter {
 				int oldLimit = codedIS.pushLimit(length);
 				dataOffsets = new TIntArrayList();
 				offset = codedIS.getTotalBytesRead();
-				map.readIndexedStringTable(instance, query, "", dataOffsets, 0);
+				if (req.maxEdits > 0) {
+					FuzzyStringMatcher fuzzy = new FuzzyStringMatcher(query, req.maxEdits,
+							StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+					map.readIndexedStringTable(fuzzy, fuzzy.start(), dataOffsets);
+				} else {
+					map.readIndexedStringTable(instance, query, "", dataOffsets, 0);
+				}
 				codedIS.popLimit(oldLimit);
 				break;
 			}
@@ -445,22 +551,57 @@ public class BinaryMapPoiReaderAdapter {
 			SearchRequest<Amenity> req, PoiRegion region) throws IOException {
 		int indexOffset = codedIS.getTotalBytesRead();
 		long time = System.currentTimeMillis();
-		TLongHashSet skipTiles = null;
+		TLongHashSet skipTiles = createSkipTiles(req);
+		TIntLongHashMap offsetsMap = searchPoiBoxes(left31, right31, top31, bottom31, req, region, skipTiles);
+		if (offsetsMap == null) {
+			return;
+		}
+		int[] offsets = offsetsMap.keys();
+		// also offsets can be randomly skipped by limit
+		Arrays.sort(offsets);
+		if (skipTiles != null) {
+			skipTiles.clear();
+		}
+		LOG.info("Searched poi structure in " + (System.currentTimeMillis() - time) + " ms. Found "
+				+ offsets.length + " subtrees");
+		for (int j = 0; j < offsets.length; j++) {
+			readPoiDataBox(left31, right31, top31, bottom31, indexOffset, offsets[j], offsetsMap.get(offsets[j]),
+					req, region, skipTiles);
+			if (req.isCancelled()) {
+				return;
+			}
+		}
+		codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+	}
+
+	protected TLongHashSet createSkipTiles(SearchRequest<Amenity> req) {
 		if (req.zoom >= 0 && req.zoom < 16) {
-			skipTiles = new TLongHashSet();
+			return new TLongHashSet();
+		}
+		return null;
+	}
+
+	/**
+	 * Reads boxes tree of poi region till data section
+	 * @return offsets of data boxes (relative to region start) mapped to skip tile or null if nothing to read
+	 */
+	protected TIntLongHashMap searchPoiBoxes(int left31, int right31, int top31, int bottom31,
+			SearchRequest<Amenity> req, PoiRegion region, TLongHashSet skipTiles) throws IOException {
+		if (req.poiTypeFilter != null) {
+			return searchPoiBoxesByType(left31, right31, top31, bottom31, req, region, skipTiles);
 		}
 		int length;
 		int oldLimit;
 		TIntLongHashMap offsetsMap = new TIntLongHashMap();
 		while (true) {
 			if (req.isCancelled()) {
-				return;
+				return null;
 			}
 			int t = codedIS.readTag();
 			int tag = WireFormat.getTagFieldNumber(t);
 			switch (tag) {
 			case 0:
-				return;
+				return null;
 			case OsmandOdb.OsmAndPoiIndex.BOXES_FIELD_NUMBER:
 				length = readInt();
 				oldLimit = codedIS.pushLimit(length);
@@ -468,40 +609,134 @@ public class BinaryMapPoiReaderAdapter {
 				codedIS.popLimit(oldLimit);
 				break;
 			case OsmandOdb.OsmAndPoiIndex.POIDATA_FIELD_NUMBER:
-				int[] offsets = offsetsMap.keys();
-				// also offsets can be randomly skipped by limit
-				Arrays.sort(offsets);
-				if (skipTiles != null) {
-					skipTiles.clear();
+				return offsetsMap;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Selects data boxes by category bitmaps of {@link PoiTypeBoxIndex} instead of reading boxes tree
+	 */
+	private TIntLongHashMap searchPoiBoxesByType(int left31, int right31, int top31, int bottom31,
+			SearchRequest<Amenity> req, PoiRegion region, TLongHashSet skipTiles) throws IOException {
+		if (region.typeBoxIndex == null) {
+			long time = System.currentTimeMillis();
+			region.typeBoxIndex = readPoiTypeBoxIndex();
+			LOG.info("Poi type box index of " + region.getName() + " is built in " + (System.currentTimeMillis() - time)
+					+ " ms. Boxes " + region.typeBoxIndex.size());
+		}
+		PoiTypeBoxIndex index = region.typeBoxIndex;
+		TIntArrayList accepted = new TIntArrayList();
+		for (int cat : index.getCategories()) {
+			if (acceptCategory(req, region, cat)) {
+				accepted.add(cat);
+			}
+		}
+		int[] boxes = index.selectBoxes(accepted);
+		int zoomToSkip = req.zoom == -1 ? 31 : req.zoom + ZOOM_TO_SKIP_FILTER_READ;
+		TIntLongHashMap offsetsMap = new TIntLongHashMap();
+		for (int r = 0; r < boxes.length; r += 2) {
+			for (int box = boxes[r]; box <= boxes[r + 1]; box++) {
+				if (req.isCancelled()) {
+					return null;
 				}
-				LOG.info("Searched poi structure in " + (System.currentTimeMillis() - time) + " ms. Found "
-						+ offsets.length + " subtrees");
-				for (int j = 0; j < offsets.length; j++) {
-					long skipVal = offsetsMap.get(offsets[j]);
-					if (skipTiles != null && skipVal != -1) {
-						int dzoom = ZOOM_TO_SKIP_FILTER_READ - ZOOM_TO_SKIP_FILTER;
-						long dx = (skipVal >> ZOOM_TO_SKIP_FILTER_READ);
-						long dy = skipVal - (dx << ZOOM_TO_SKIP_FILTER_READ);
-						skipVal = ((dx >> dzoom) << ZOOM_TO_SKIP_FILTER) | (dy >> dzoom);
-						if (skipVal != -1 && skipTiles.contains(skipVal)) {
-							continue;
-						}
-					}
-					codedIS.seek(offsets[j] + indexOffset);
-					int len = readInt();
-					int oldLim = codedIS.pushLimit(len);
-					boolean read = readPoiData(left31, right31, top31, bottom31, req, region, skipTiles,
-							req.zoom == -1 ? 31 : req.zoom + ZOOM_TO_SKIP_FILTER);
-					if (read && skipVal != -1 && skipTiles != null) {
-						skipTiles.add(skipVal);
-					}
-					codedIS.popLimit(oldLim);
-					if (req.isCancelled()) {
-						return;
-					}
+				req.numberOfReadSubtrees++;
+				int x = index.getX(box);
+				int y = index.getY(box);
+				int zoom = index.getZoom(box);
+				int xL = x << (31 - zoom);
+				int xR = ((x + 1) << (31 - zoom)) - 1;
+				int yT = y << (31 - zoom);
+				int yB = ((y + 1) << (31 - zoom)) - 1;
+				if (left31 > xR || xL > right31 || bottom31 < yT || yB < top31) {
+					continue;
 				}
-				codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
+				if (req.corridor != null && !req.corridor.intersectsBox(x, y, zoom)) {
+					continue;
+				}
+				req.numberOfAcceptedSubtrees++;
+				if (skipTiles != null && zoom >= zoomToSkip) {
+					long valSkip = ((((long) x) >> (zoom - zoomToSkip)) << zoomToSkip)
+							| (((long) y) >> (zoom - zoomToSkip));
+					offsetsMap.put(index.getOffset(box), valSkip);
+					skipTiles.add(valSkip);
+				} else {
+					offsetsMap.put(index.getOffset(box), -1);
+				}
+			}
+		}
+		return offsetsMap;
+	}
+
+	private PoiTypeBoxIndex readPoiTypeBoxIndex() throws IOException {
+		PoiTypeBoxIndex index = new PoiTypeBoxIndex();
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return index;
+			case OsmandOdb.OsmAndPoiIndex.BOXES_FIELD_NUMBER:
+				int length = readInt();
+				int oldLimit = codedIS.pushLimit(length);
+				readPoiTypeBoxes(index, 0, 0, 0, null);
+				codedIS.popLimit(oldLimit);
+				break;
+			case OsmandOdb.OsmAndPoiIndex.POIDATA_FIELD_NUMBER:
+				return index;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	private void readPoiTypeBoxes(PoiTypeBoxIndex index, int px, int py, int pzoom, TIntArrayList parentCategories)
+			throws IOException {
+		TIntArrayList categories = parentCategories;
+		int zoom = pzoom;
+		int dy = py;
+		int dx = px;
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
 				return;
+			case OsmandOdb.OsmAndPoiBox.ZOOM_FIELD_NUMBER:
+				zoom = codedIS.readUInt32() + pzoom;
+				break;
+			case OsmandOdb.OsmAndPoiBox.LEFT_FIELD_NUMBER:
+				dx = codedIS.readSInt32();
+				break;
+			case OsmandOdb.OsmAndPoiBox.TOP_FIELD_NUMBER:
+				dy = codedIS.readSInt32();
+				break;
+			case OsmandOdb.OsmAndPoiBox.CATEGORIES_FIELD_NUMBER: {
+				int length = codedIS.readRawVarint32();
+				int oldLimit = codedIS.pushLimit(length);
+				categories = readCategoryValues();
+				codedIS.popLimit(oldLimit);
+			}
+			break;
+			case OsmandOdb.OsmAndPoiBox.SUBBOXES_FIELD_NUMBER: {
+				int x = dx + (px << (zoom - pzoom));
+				int y = dy + (py << (zoom - pzoom));
+				int length = readInt();
+				int oldLimit = codedIS.pushLimit(length);
+				readPoiTypeBoxes(index, x, y, zoom, categories);
+				codedIS.popLimit(oldLimit);
+			}
+			break;
+			case OsmandOdb.OsmAndPoiBox.SHIFTTODATA_FIELD_NUMBER: {
+				int x = dx + (px << (zoom - pzoom));
+				int y = dy + (py << (zoom - pzoom));
+				index.addBox(x, y, zoom, readInt(), categories);
+			}
+			break;
 			default:
 				skipUnknownField(t);
 				break;
@@ -509,7 +744,48 @@ public class BinaryMapPoiReaderAdapter {
 		}
 	}
 
-	private void readPoiData(CollatorStringMatcher matcher, SearchRequest<Amenity> req, PoiRegion region) throws IOException {
+	private TIntArrayList readCategoryValues() throws IOException {
+		TIntArrayList values = new TIntArrayList();
+		while (true) {
+			int t = codedIS.readTag();
+			int tag = WireFormat.getTagFieldNumber(t);
+			switch (tag) {
+			case 0:
+				return values;
+			case OsmandOdb.OsmAndPoiCategories.CATEGORIES_FIELD_NUMBER:
+				values.add(codedIS.readUInt32());
+				break;
+			default:
+				skipUnknownField(t);
+				break;
+			}
+		}
+	}
+
+	protected void readPoiDataBox(int left31, int right31, int top31, int bottom31, int indexOffset, int offset,
+			long skipVal, SearchRequest<Amenity> req, PoiRegion region, TLongHashSet skipTiles) throws IOException {
+		if (skipTiles != null && skipVal != -1) {
+			int dzoom = ZOOM_TO_SKIP_FILTER_READ - ZOOM_TO_SKIP_FILTER;
+			long dx = (skipVal >> ZOOM_TO_SKIP_FILTER_READ);
+			long dy = skipVal - (dx << ZOOM_TO_SKIP_FILTER_READ);
+			skipVal = ((dx >> dzoom) << ZOOM_TO_SKIP_FILTER) | (dy >> dzoom);
+			if (skipVal != -1 && skipTiles.contains(skipVal)) {
+				return;
+			}
+		}
+		codedIS.seek(offset + indexOffset);
+		int len = readInt();
+		int oldLim = codedIS.pushLimit(len);
+		req.stats.blocksDecoded++;
+		boolean read = readPoiData(left31, right31, top31, bottom31, req, region, skipTiles,
+				req.zoom == -1 ? 31 : req.zoom + ZOOM_TO_SKIP_FILTER);
+		if (read && skipVal != -1 && skipTiles != null) {
+			skipTiles.add(skipVal);
+		}
+		codedIS.popLimit(oldLim);
+	}
+
+	private void readPoiData(StringMatcher matcher, SearchRequest<Amenity> req, PoiRegion region) throws IOException {
 		int x = 0;
 		int y = 0;
 		int zoom = 0;
@@ -630,30 +906,6 @@ public class BinaryMapPoiReaderAdapter {
 		}
 	}
 
-	private AmenityRoutePoint dist(LatLon l, List<Location> locations, double radius) {
-		float dist = (float) (radius + 0.1);
-		AmenityRoutePoint arp = null;
-		// Special iterations because points stored by pairs!
-		for (int i = 1; i < locations.size(); i += 2) {
-			float d = (float) MapUtils.getOrthogonalDistance(l.getLatitude(), l.getLongitude(), locations.get(i - 1)
-					.getLatitude(), locations.get(i - 1).getLongitude(), locations.get(i).getLatitude(),
-					locations.get(i).getLongitude());
-			if (d < dist) {
-				arp = new Amenity.AmenityRoutePoint();
-				dist = d;
-				arp.deviateDistance = dist;
-				arp.pointA = locations.get(i - 1);
-				arp.pointB = locations.get(i);
-			}
-		}
-		if (arp != null && arp.deviateDistance != 0 && arp.pointA != null && arp.pointB != null) {
-			arp.deviationDirectionRight = MapUtils.rightSide(l.getLatitude(), l.getLongitude(),
-					arp.pointA.getLatitude(), arp.pointA.getLongitude(),
-					arp.pointB.getLatitude(), arp.pointB.getLongitude());
-		}
-		return arp;
-	}
-
 	private Amenity readPoiPoint(int left31, int right31, int top31, int bottom31,
 			int px, int py, int zoom, SearchRequest<Amenity> req, PoiRegion region, boolean checkBounds) throws IOException {
 		Amenity am = null;
@@ -672,13 +924,8 @@ public class BinaryMapPoiReaderAdapter {
 			switch (tag) {
 			case 0:
 				req.numberOfAcceptedObjects++;
-				if (req.radius > 0) {
-					LatLon loc = am.getLocation();
-					List<Location> locs = req.tiles.get(req.getTileHashOnPath(loc.getLatitude(), loc.getLongitude()));
-					if (locs == null) {
-						return null;
-					}
-					AmenityRoutePoint arp = dist(am.getLocation(), locs, req.radius);
+				if (req.corridor != null) {
+					AmenityRoutePoint arp = req.corridor.getRoutePoint(am.getLocation());
 					if (arp == null) {
 						return null;
 					} else {
@@ -798,20 +1045,7 @@ public class BinaryMapPoiReaderAdapter {
 //				}
 //				break;
 			case OsmandOdb.OsmAndPoiCategories.CATEGORIES_FIELD_NUMBER:
-				PoiCategory type = poiTypes.getOtherPoiCategory();
-				String subtype = "";
-				int cat = codedIS.readUInt32();
-				int subcatId = cat >> SHIFT_BITS_CATEGORY;
-				int catId = cat & CATEGORY_MASK;
-				if (catId < region.categoriesType.size()) {
-					type = region.categoriesType.get(catId);
-					List<String> subcats = region.subcategories.get(catId);
-					if (subcatId < subcats.size()) {
-						subtype = subcats.get(subcatId);
-					}
-				}
-				subtype = poiTypes.replaceDeprecatedSubtype(type, subtype);
-				if (req.poiTypeFilter.accept(type, subtype)) {
+				if (acceptCategory(req, region, codedIS.readUInt32())) {
 					codedIS.skipRawBytes(codedIS.getBytesUntilLimit());
 					return true;
 				}
@@ -823,6 +1057,22 @@ public class BinaryMapPoiReaderAdapter {
 		}
 	}
 
+	private boolean acceptCategory(SearchRequest<Amenity> req, PoiRegion region, int cat) {
+		PoiCategory type = poiTypes.getOtherPoiCategory();
+		String subtype = "";
+		int subcatId = cat >> SHIFT_BITS_CATEGORY;
+		int catId = cat & CATEGORY_MASK;
+		if (catId < region.categoriesType.size()) {
+			type = region.categoriesType.get(catId);
+			List<String> subcats = region.subcategories.get(catId);
+			if (subcatId < subcats.size()) {
+				subtype = subcats.get(subcatId);
+			}
+		}
+		subtype = poiTypes.replaceDeprecatedSubtype(type, subtype);
+		return req.poiTypeFilter.accept(type, subtype);
+	}
+
 	private boolean readBoxField(int left31, int right31, int top31, int bottom31,
 			int px, int py, int pzoom, TIntLongHashMap offsetsMap, TLongHashSet skipTiles,
 			SearchRequest<Amenity> req, PoiRegion region) throws IOException {
@@ -901,10 +1151,8 @@ public class BinaryMapPoiReaderAdapter {
 				int x = dx + (px << (zoom - pzoom));
 				int y = dy + (py << (zoom - pzoom));
 				boolean read = true;
-				if (req.tiles != null) {
-					long zx = x << (SearchRequest.ZOOM_TO_SEARCH_POI - zoom);
-					long zy = y << (SearchRequest.ZOOM_TO_SEARCH_POI - zoom);
-					read = req.tiles.contains((zx << SearchRequest.ZOOM_TO_SEARCH_POI) + zy);
+				if (req.corridor != null) {
+					read = req.corridor.intersectsBox(x, y, zoom);
 				}
 				int offset = readInt();
 				if (read) {
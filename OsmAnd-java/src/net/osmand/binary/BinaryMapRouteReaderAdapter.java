@@ -900,6 +900,11 @@ public class BinaryMapRouteReaderAdapter {
 	}
 	
 	public void loadRouteRegionData(List<RouteSubregion> toLoad, ResultMatcher<RouteDataObject> matcher) throws IOException {
+		loadRouteRegionData(toLoad, matcher, new BinaryReadStats());
+	}
+
+	void loadRouteRegionData(List<RouteSubregion> toLoad, ResultMatcher<RouteDataObject> matcher,
+			BinaryReadStats stats) throws IOException {
 		Collections.sort(toLoad, new Comparator<RouteSubregion>() {
 			@Override
 			public int compare(RouteSubregion o1, RouteSubregion o2) {
@@ -917,10 +922,15 @@ public class BinaryMapRouteReaderAdapter {
 				int oldLimit = codedIS.pushLimit(limit);
 				readRouteTreeData(rs, idMap, restrictionMap);
 				codedIS.popLimit(oldLimit);
+				stats.blocksDecoded++;
 			}
 			for (RouteDataObject ro : rs.dataObjects) {
 				if (ro != null) {
-					matcher.publish(ro);
+					if (matcher.publish(ro)) {
+						stats.objectsAccepted++;
+					} else {
+						stats.objectsRejected++;
+					}
 				}
 			}
 			// free objects
@@ -0,0 +1,132 @@
+package net.osmand.binary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+
+/**
+ * Pull based search over binary index: data is decoded lazily block by block,
+ * so only one block of results is kept in memory at a time.
+ * Iterator shares stream with reader, so reader should not be used by other searches
+ * until iterator is exhausted or closed.
+ */
+public abstract class BinaryMapSearchIterator<T> implements Iterator<T>, Closeable {
+
+	/**
+	 * Thrown by {@link #hasNext()} and {@link #next()} when index couldn't be read
+	 */
+	public static class SearchIOException extends RuntimeException {
+		private static final long serialVersionUID = 2957350183921553807L;
+
+		public SearchIOException(IOException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized IOException getCause() {
+			return (IOException) super.getCause();
+		}
+	}
+
+	protected final SearchRequest<T> req;
+	private List<T> block = Collections.emptyList();
+	private int blockPosition = 0;
+	private int blocksRead = 0;
+	private boolean started = false;
+	private boolean finished = false;
+
+	protected BinaryMapSearchIterator(SearchRequest<T> req) {
+		this.req = req;
+	}
+
+	/**
+	 * Reads next data block publishing accepted objects into request
+	 * @return false if there are no more blocks to read
+	 */
+	protected abstract boolean readNextBlock() throws IOException;
+
+	/**
+	 * Called before first block is read
+	 */
+	protected void searchStarted() {
+	}
+
+	/**
+	 * Called once when search is exhausted, closed or failed, only if it was started
+	 */
+	protected void searchFinished() {
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (blockPosition >= block.size()) {
+			if (finished || req.isCancelled()) {
+				finish();
+				return false;
+			}
+			if (!started) {
+				started = true;
+				searchStarted();
+			}
+			try {
+				if (!readNextBlock()) {
+					finish();
+				} else {
+					blocksRead++;
+				}
+			} catch (IOException e) {
+				finish();
+				throw new SearchIOException(e);
+			}
+			block = req.pollSearchResults();
+			blockPosition = 0;
+		}
+		return true;
+	}
+
+	private void finish() {
+		if (started && !finished) {
+			searchFinished();
+		}
+		finished = true;
+		block = Collections.emptyList();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T obj = block.get(blockPosition);
+		// release reference as soon as object is given away
+		block.set(blockPosition++, null);
+		return obj;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	public int getBlocksRead() {
+		return blocksRead;
+	}
+
+	public SearchRequest<T> getSearchRequest() {
+		return req;
+	}
+
+	/**
+	 * Stops reading, remaining blocks are not decoded
+	 */
+	@Override
+	public void close() {
+		finish();
+		req.setInterrupted(true);
+	}
+}
@@ -164,6 +164,7 @@ public class BinaryMapTransportReaderAdapter {
 					return;
 				} else {
 					req.numberOfAcceptedSubtrees++;
+					req.stats.blocksDecoded++;
 				}
 			}
 			switch (tag) {
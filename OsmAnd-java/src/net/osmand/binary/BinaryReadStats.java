@@ -0,0 +1,79 @@
+package net.osmand.binary;
+
+/**
+ * I/O counters of binary index reads. Counters are collected per {@link BinaryMapIndexReader.SearchRequest}
+ * and per reader section, finished searches are reported to {@link MetricsSink} if it is set.
+ */
+public class BinaryReadStats {
+
+	public enum BinaryIndexSection {
+		MAP, POI, ADDRESS, TRANSPORT, ROUTING
+	}
+
+	public interface MetricsSink {
+
+		/**
+		 * Called on the reading thread, so implementation should be fast
+		 * @param stats counters of this search only (not cumulative)
+		 */
+		public void searchFinished(BinaryMapIndexReader reader, BinaryIndexSection section, BinaryReadStats stats);
+	}
+
+	public long searches;
+	public long bytesRead;
+	public long seeks;
+	public long bufferRefills;
+	public long blocksDecoded;
+	public long objectsAccepted;
+	public long objectsRejected;
+	public long decodeTimeNanos;
+
+	public BinaryReadStats() {
+	}
+
+	public BinaryReadStats(BinaryReadStats s) {
+		add(s);
+	}
+
+	public void add(BinaryReadStats s) {
+		searches += s.searches;
+		bytesRead += s.bytesRead;
+		seeks += s.seeks;
+		bufferRefills += s.bufferRefills;
+		blocksDecoded += s.blocksDecoded;
+		objectsAccepted += s.objectsAccepted;
+		objectsRejected += s.objectsRejected;
+		decodeTimeNanos += s.decodeTimeNanos;
+	}
+
+	public void clear() {
+		searches = 0;
+		bytesRead = 0;
+		seeks = 0;
+		bufferRefills = 0;
+		blocksDecoded = 0;
+		objectsAccepted = 0;
+		objectsRejected = 0;
+		decodeTimeNanos = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "Searches " + searches + ", read " + bytesRead + " bytes (" + seeks + " seeks, " + bufferRefills
+				+ " refills), decoded " + blocksDecoded + " blocks, accepted " + objectsAccepted + " rejected "
+				+ objectsRejected + " objects in " + (decodeTimeNanos / 1000000) + " ms";
+	}
+
+	/**
+	 * Counters state at the beginning of search
+	 */
+	static class Snapshot {
+		long bytesRead;
+		long seeks;
+		long bufferRefills;
+		long blocksDecoded;
+		long objectsAccepted;
+		long objectsRejected;
+		long startNanos;
+	}
+}
@@ -5,12 +5,16 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import net.osmand.PlatformUtil;
 import net.osmand.binary.BinaryMapAddressReaderAdapter.AddressRegion;
 import net.osmand.binary.BinaryMapAddressReaderAdapter.CitiesBlock;
 import net.osmand.binary.BinaryMapIndexReader.MapIndex;
 import net.osmand.binary.BinaryMapIndexReader.MapRoot;
+import net.osmand.binary.BinaryMapIndexReader.MapTree;
+import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
 import net.osmand.binary.BinaryMapPoiReaderAdapter.PoiRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteSubregion;
@@ -21,6 +25,7 @@ import net.osmand.binary.OsmandIndex.CityBlock;
 import net.osmand.binary.OsmandIndex.FileIndex;
 import net.osmand.binary.OsmandIndex.MapLevel;
 import net.osmand.binary.OsmandIndex.MapPart;
+import net.osmand.binary.OsmandIndex.MapTreeBox;
 import net.osmand.binary.OsmandIndex.OsmAndStoredIndex;
 import net.osmand.binary.OsmandIndex.PoiPart;
 import net.osmand.binary.OsmandIndex.RoutingPart;
@@ -37,7 +42,7 @@ public class CachedOsmandIndexes {
 	private Log log = PlatformUtil.getLog(CachedOsmandIndexes.class);
 	private boolean hasChanged = true;
 	
-	public static final int VERSION = 2;
+	public static final int VERSION = 3;
 
 	public void addToCache(BinaryMapIndexReader reader, File f) {
 		hasChanged = true;
@@ -65,6 +70,10 @@ public class CachedOsmandIndexes {
 			if(index.getName() != null) {
 				map.setName(index.getName());
 			}
+			boolean structureLoaded = loadMapIndexStructure(reader, index);
+			if (structureLoaded) {
+				addMapEncodingRules(map, index);
+			}
 			for(MapRoot mr : index.getRoots() ) {
 				MapLevel.Builder lev = OsmandIndex.MapLevel.newBuilder();
 				lev.setSize(mr.length);
@@ -75,6 +84,11 @@ public class CachedOsmandIndexes {
 				lev.setBottom(mr.bottom);
 				lev.setMinzoom(mr.minZoom);
 				lev.setMaxzoom(mr.maxZoom);
+				if (structureLoaded) {
+					for (MapTree tree : mr.trees) {
+						addMapTreeBox(lev, tree);
+					}
+				}
 				map.addLevels(lev);
 			}
 			fileIndex.addMapIndex(map);
@@ -156,6 +170,55 @@ public class CachedOsmandIndexes {
 		
 	}
 
+	private boolean loadMapIndexStructure(BinaryMapIndexReader reader, MapIndex index) {
+		// read once top level boxes and encoding rules, so first search doesn't need to read them
+		try {
+			reader.initMapEncodingRules(index);
+			for (MapRoot mr : index.getRoots()) {
+				reader.initMapRootTrees(mr);
+			}
+			return true;
+		} catch (IOException e) {
+			log.error("Failed to read map index structure " + index.getName(), e);
+			return false;
+		}
+	}
+
+	private void addMapEncodingRules(MapPart.Builder map, MapIndex index) {
+		int[] ids = index.decodingRules.keys();
+		Arrays.sort(ids);
+		for (int id : ids) {
+			TagValuePair tv = index.decodingRules.get(id);
+			OsmandIndex.MapEncodingRule.Builder rule = OsmandIndex.MapEncodingRule.newBuilder();
+			rule.setId(id);
+			rule.setTag(tv.tag);
+			if (tv.value != null) {
+				rule.setValue(tv.value);
+			}
+			rule.setType(tv.additionalAttribute);
+			map.addRules(rule);
+		}
+		map.setCoastlineBrokenType(index.coastlineBrokenEncodingType);
+		map.setLandType(index.landEncodingType);
+	}
+
+	private void addMapTreeBox(MapLevel.Builder lev, MapTree tree) {
+		MapTreeBox.Builder box = OsmandIndex.MapTreeBox.newBuilder();
+		box.setSize(tree.length);
+		box.setOffset(tree.filePointer);
+		box.setLeft(tree.left);
+		box.setRight(tree.right);
+		box.setTop(tree.top);
+		box.setBottom(tree.bottom);
+		if (tree.mapDataBlock != 0) {
+			box.setMapDataBlock(tree.mapDataBlock);
+		}
+		if (tree.ocean != null) {
+			box.setOcean(tree.ocean.booleanValue());
+		}
+		lev.addBoxes(box);
+	}
+
 	private void addRouteSubregion(RoutingPart.Builder routing, RouteSubregion sub, boolean base) {
 		OsmandIndex.RoutingSubregion.Builder rpart = OsmandIndex.RoutingSubregion.newBuilder();
 		rpart.setSize(sub.length);
@@ -217,8 +280,34 @@ public class CachedOsmandIndexes {
 				root.bottom = mr.getBottom();
 				root.minZoom = mr.getMinzoom();
 				root.maxZoom = mr.getMaxzoom();
+				if (mr.getBoxesCount() > 0) {
+					root.trees = new ArrayList<MapTree>(mr.getBoxesCount());
+					for (MapTreeBox box : mr.getBoxesList()) {
+						MapTree tree = new MapTree();
+						tree.length = (int) box.getSize();
+						tree.filePointer = (int) box.getOffset();
+						tree.left = box.getLeft();
+						tree.right = box.getRight();
+						tree.top = box.getTop();
+						tree.bottom = box.getBottom();
+						tree.mapDataBlock = box.getMapDataBlock();
+						if (box.hasOcean()) {
+							tree.ocean = box.getOcean();
+						}
+						root.trees.add(tree);
+					}
+				}
 				mi.roots.add(root);
 			}
+			if (index.getRulesCount() > 0) {
+				for (OsmandIndex.MapEncodingRule rule : index.getRulesList()) {
+					mi.initMapEncodingRule(rule.getType(), rule.getId(), rule.getTag().intern(),
+							rule.hasValue() ? rule.getValue().intern() : null);
+				}
+				mi.coastlineBrokenEncodingType = index.getCoastlineBrokenType();
+				mi.initMapEncodingRule(0, mi.coastlineBrokenEncodingType, "natural", "coastline_broken");
+				mi.landEncodingType = index.getLandType();
+			}
 			reader.mapIndexes.add(mi);
 			reader.indexes.add(mi);
 			reader.basemap = reader.basemap || mi.isBaseMap();
@@ -4,6 +4,7 @@ import net.osmand.PlatformUtil;
 import net.osmand.ResultMatcher;
 import net.osmand.CollatorStringMatcher.StringMatcherMode;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
 import net.osmand.data.Building;
 import net.osmand.data.Building.BuildingInterpolation;
 import net.osmand.data.City;
@@ -13,6 +14,7 @@ import net.osmand.data.Street;
 import net.osmand.router.BinaryRoutePlanner;
 import net.osmand.router.BinaryRoutePlanner.RouteSegmentPoint;
 import net.osmand.router.RoutePlannerFrontEnd;
+import net.osmand.router.RoutingConfiguration;
 import net.osmand.router.RoutingContext;
 import net.osmand.util.Algorithms;
 import net.osmand.util.MapUtils;
@@ -20,16 +22,24 @@ import net.osmand.util.MapUtils;
 import org.apache.commons.logging.Log;
 
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import gnu.trove.set.hash.TLongHashSet;
 
@@ -49,6 +59,18 @@ public class GeocodingUtilities {
 	public static final float THRESHOLD_MULTIPLIER_SKIP_BUILDINGS_AFTER = 1.5f;
 	public static final float DISTANCE_BUILDING_PROXIMITY = 100;
 
+	// smaller parts of batch don't pay off opening files and loading tiles by worker
+	private static final int MIN_BATCH_POINTS_PER_WORKER = 32;
+
+	// streets found by name in batch mode, key is file name + word
+	private Map<String, List<StreetsByName>> streetsCache;
+	private Set<Street> streetsWithBuildings;
+
+	private static class StreetsByName {
+		LatLon center;
+		List<Street> streets = new ArrayList<Street>();
+	}
+
 
 	public static final Comparator<GeocodingResult> DISTANCE_COMPARATOR = new Comparator<GeocodingResult>() {
 
@@ -241,36 +263,21 @@ public class GeocodingUtilities {
 					mainWord = s;
 				}
 			}
-			SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(
-					new ResultMatcher<MapObject>() {
-						@Override
-						public boolean publish(MapObject object) {
-							if (object instanceof Street
-									&& prepareStreetName(object.getName(), addCommonWordsFinal).equals(streetNamesUsedFinal)) {
-								double d = MapUtils.getDistance(object.getLocation(), road.searchPoint.getLatitude(),
-										road.searchPoint.getLongitude());
-								// double check to suport old format
-								if (d < DISTANCE_STREET_NAME_PROXIMITY_BY_NAME) {
-									GeocodingResult rs = new GeocodingResult(road);
-									rs.street = (Street) object;
-									// set connection point to sort
-									rs.connectionPoint = rs.street.getLocation();
-									rs.city = rs.street.getCity();
-									streetsList.add(rs);
-									return true;
-								}
-								return false;
-							}
-							return false;
-						}
-
-						@Override
-						public boolean isCancelled() {
-							return result != null && result.isCancelled();
-						}
-					}, mainWord, StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
-			req.setBBoxRadius(road.getLocation().getLatitude(), road.getLocation().getLongitude(), DISTANCE_STREET_NAME_PROXIMITY_BY_NAME);
-			reader.searchAddressDataByName(req);
+			for (Street object : searchStreets(reader, mainWord, road.getLocation(), result)) {
+				if (prepareStreetName(object.getName(), addCommonWordsFinal).equals(streetNamesUsedFinal)) {
+					double d = MapUtils.getDistance(object.getLocation(), road.searchPoint.getLatitude(),
+							road.searchPoint.getLongitude());
+					// double check to suport old format
+					if (d < DISTANCE_STREET_NAME_PROXIMITY_BY_NAME) {
+						GeocodingResult rs = new GeocodingResult(road);
+						rs.street = object;
+						// set connection point to sort
+						rs.connectionPoint = rs.street.getLocation();
+						rs.city = rs.street.getCity();
+						streetsList.add(rs);
+					}
+				}
+			}
 		}
 
 		final List<GeocodingResult> res = new ArrayList<GeocodingResult>();
@@ -311,11 +318,57 @@ public class GeocodingUtilities {
 		return res;
 	}
 
+	private List<Street> searchStreets(BinaryMapIndexReader reader, String mainWord, LatLon location,
+			final ResultMatcher<GeocodingResult> result) throws IOException {
+		List<StreetsByName> cached = null;
+		int radius = DISTANCE_STREET_NAME_PROXIMITY_BY_NAME;
+		if (streetsCache != null) {
+			String key = reader.getFile().getName() + " " + mainWord;
+			cached = streetsCache.get(key);
+			if (cached == null) {
+				cached = new ArrayList<StreetsByName>();
+				streetsCache.put(key, cached);
+			}
+			for (StreetsByName c : cached) {
+				if (MapUtils.getDistance(c.center, location) <= DISTANCE_STREET_NAME_PROXIMITY_BY_NAME) {
+					return c.streets;
+				}
+			}
+			// search twice bigger area, so streets could be reused for points in radius
+			radius = 2 * DISTANCE_STREET_NAME_PROXIMITY_BY_NAME;
+		}
+		final StreetsByName found = new StreetsByName();
+		found.center = location;
+		SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(
+				new ResultMatcher<MapObject>() {
+					@Override
+					public boolean publish(MapObject object) {
+						if (object instanceof Street) {
+							found.streets.add((Street) object);
+						}
+						return false;
+					}
+
+					@Override
+					public boolean isCancelled() {
+						return result != null && result.isCancelled();
+					}
+				}, mainWord, StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		req.setBBoxRadius(location.getLatitude(), location.getLongitude(), radius);
+		reader.searchAddressDataByName(req);
+		if (cached != null && (result == null || !result.isCancelled())) {
+			cached.add(found);
+		}
+		return found.streets;
+	}
+
 	private List<GeocodingResult> loadStreetBuildings(final GeocodingResult road, BinaryMapIndexReader reader,
 			GeocodingResult street) throws IOException {
 		final List<GeocodingResult> streetBuildings = new ArrayList<GeocodingResult>();
-		reader.preloadBuildings(street.street, null);
-		log.info("Preload buildings " + street.street.getName() + " " + street.city.getName() + " " + street.street.getId());
+		if (streetsWithBuildings == null || streetsWithBuildings.add(street.street)) {
+			reader.preloadBuildings(street.street, null);
+			log.info("Preload buildings " + street.street.getName() + " " + street.city.getName() + " " + street.street.getId());
+		}
 		for (Building b : street.street.getBuildings()) {
 			if (b.getLatLon2() != null) {
 				double slat = b.getLocation().getLatitude();
@@ -347,4 +400,157 @@ public class GeocodingUtilities {
 		}
 		return streetBuildings;
 	}
+
+	/**
+	 * Reverse geocodes many points, result of every point is the closest justified result
+	 * (as for single point) or result with only search point if nothing is found.
+	 * Points are grouped by file with routing data and sorted spatially inside group, so loaded road tiles,
+	 * streets and buildings are reused by neighbouring points. Big groups are split into parts of neighbouring
+	 * points, every part is processed by separate worker with own file handles and routing context.
+	 * @return results in order of points
+	 */
+	public List<GeocodingResult> reverseGeocodingBatch(final RoutingConfiguration config,
+			final List<BinaryMapIndexReader> readers, List<LatLon> points, int threads) throws IOException {
+		final GeocodingResult[] results = new GeocodingResult[points.size()];
+		Map<BinaryMapIndexReader, List<Integer>> groups = new LinkedHashMap<BinaryMapIndexReader, List<Integer>>();
+		final long[] codes = new long[points.size()];
+		for (int i = 0; i < points.size(); i++) {
+			LatLon p = points.get(i);
+			int x31 = MapUtils.get31TileNumberX(p.getLongitude());
+			int y31 = MapUtils.get31TileNumberY(p.getLatitude());
+			BinaryMapIndexReader region = null;
+			for (BinaryMapIndexReader r : readers) {
+				if (r.containsRouteData(x31, y31, x31, y31, 15)) {
+					region = r;
+					break;
+				}
+			}
+			// points outside of route data boxes are grouped together, roads nearby could be still found
+			List<Integer> l = groups.get(region);
+			if (l == null) {
+				l = new ArrayList<Integer>();
+				groups.put(region, l);
+			}
+			l.add(i);
+			codes[i] = interleave(x31, y31);
+		}
+		int partSize = Math.max(MIN_BATCH_POINTS_PER_WORKER, (points.size() + threads - 1) / Math.max(1, threads));
+		List<List<Integer>> parts = new ArrayList<List<Integer>>();
+		for (List<Integer> group : groups.values()) {
+			Collections.sort(group, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer o1, Integer o2) {
+					return Long.compare(codes[o1], codes[o2]);
+				}
+			});
+			for (int i = 0; i < group.size(); i += partSize) {
+				parts.add(group.subList(i, Math.min(group.size(), i + partSize)));
+			}
+		}
+		final List<LatLon> pnts = points;
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, parts.size())));
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (final List<Integer> part : parts) {
+				futures.add(executor.submit(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							new GeocodingUtilities().reverseGeocodingPart(config, readers, pnts, part, results);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}
+				}));
+			}
+			for (Future<?> f : futures) {
+				f.get();
+			}
+		} catch (InterruptedException e) {
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause().getCause() instanceof IOException) {
+				throw (IOException) e.getCause().getCause();
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		return Arrays.asList(results);
+	}
+
+	private void reverseGeocodingPart(RoutingConfiguration config, List<BinaryMapIndexReader> readers,
+			final List<LatLon> points, List<Integer> part, GeocodingResult[] results) throws IOException {
+		streetsCache = new HashMap<String, List<StreetsByName>>();
+		streetsWithBuildings = new HashSet<Street>();
+		// readers are not thread safe, so every worker reads files with own handles
+		BinaryMapIndexReader[] files = new BinaryMapIndexReader[readers.size()];
+		try {
+			for (int i = 0; i < files.length; i++) {
+				BinaryMapIndexReader r = readers.get(i);
+				RandomAccessFile raf = new RandomAccessFile(r.getFile(), "r");
+				try {
+					files[i] = new BinaryMapIndexReader(raf, r);
+				} finally {
+					if (files[i] == null) {
+						raf.close();
+					}
+				}
+			}
+			RoutingContext ctx = new RoutePlannerFrontEnd(false).buildRoutingContext(config, null, files);
+			for (int i : part) {
+				LatLon p = points.get(i);
+				List<GeocodingResult> roads = reverseGeocodingSearch(ctx, p.getLatitude(), p.getLongitude(), false);
+				List<GeocodingResult> complete = new ArrayList<GeocodingResult>();
+				double minBuildingDistance = 0;
+				for (GeocodingResult road : roads) {
+					BinaryMapIndexReader reader = getRegionReader(files, road);
+					if (reader == null) {
+						complete.add(road);
+						continue;
+					}
+					List<GeocodingResult> justified = justifyReverseGeocodingSearch(road, reader, minBuildingDistance, null);
+					if (!justified.isEmpty()) {
+						double md = justified.get(0).getDistance();
+						minBuildingDistance = minBuildingDistance == 0 ? md : Math.min(md, minBuildingDistance);
+						complete.addAll(justified);
+					}
+				}
+				Collections.sort(complete, DISTANCE_COMPARATOR);
+				results[i] = complete.isEmpty() ? emptyResult(p) : complete.get(0);
+			}
+		} finally {
+			for (BinaryMapIndexReader f : files) {
+				if (f != null) {
+					f.close();
+				}
+			}
+		}
+	}
+
+	private static BinaryMapIndexReader getRegionReader(BinaryMapIndexReader[] files, GeocodingResult road) {
+		for (BinaryMapIndexReader r : files) {
+			for (RouteRegion rb : r.getRoutingIndexes()) {
+				if (road.regionFP == rb.getFilePointer() && road.regionLen == rb.getLength()) {
+					return r;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static GeocodingResult emptyResult(LatLon p) {
+		GeocodingResult r = new GeocodingResult();
+		r.searchPoint = p;
+		return r;
+	}
+
+	// Z-order curve code, close points have close codes
+	private static long interleave(int x, int y) {
+		long code = 0;
+		for (int i = 0; i < 31; i++) {
+			code |= ((long) ((x >> i) & 1) << (2 * i)) | ((long) ((y >> i) & 1) << (2 * i + 1));
+		}
+		return code;
+	}
 }
@@ -0,0 +1,494 @@
+package net.osmand.binary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import net.osmand.FoldedStringMatcher;
+import net.osmand.PlatformUtil;
+import net.osmand.binary.BinaryMapAddressReaderAdapter.AddressRegion;
+import net.osmand.binary.BinaryMapPoiReaderAdapter.PoiRegion;
+import net.sf.junidecode.Junidecode;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Name index over all binary map files: keys of address and poi name tables of every file
+ * are normalized (lower case, no accents, transliterated) and stored in one sorted key table
+ * with postings (file, section, region, offset of name data).
+ * Index is persisted in a memory mapped file and updated incrementally when files are added,
+ * so search by name prefix is one binary search instead of scanning name table of every file.
+ * Folding differs from collator used by file search for few letters (see {@link FoldedStringMatcher}),
+ * so lookup is exact only if neither query nor keys of file contain them, otherwise file should be scanned.
+ */
+public class GlobalNameIndex {
+
+	public static final int ADDRESS_SECTION = 1;
+	public static final int POI_SECTION = 2;
+
+	private static final Log log = PlatformUtil.getLog(GlobalNameIndex.class);
+	private static final int MAGIC = 0x4f4e4958;
+	private static final int VERSION = 3;
+	private static final int POSTING_SIZE = 12;
+
+	private final File file;
+
+	// mapped index data
+	private MappedByteBuffer buffer;
+	private List<FileInfo> files = Collections.emptyList();
+	private Map<String, Integer> filesByName = Collections.emptyMap();
+	private int keysCount;
+	private int keyOffsetsStart;
+	private int postingIndexStart;
+	private int postingsStart;
+	private int charsStart;
+
+	private static class FileInfo {
+		String name;
+		long size;
+		long dateModified;
+		// all keys are folded same way as collator compares them
+		boolean exact;
+
+		boolean matches(File f) {
+			return f.length() == size && f.lastModified() == dateModified;
+		}
+	}
+
+	public GlobalNameIndex(File file) {
+		this.file = file;
+		if (file.exists()) {
+			try {
+				load();
+			} catch (IOException e) {
+				log.error("Failed to read name index " + file.getName(), e);
+				clear();
+			} catch (RuntimeException e) {
+				// truncated file
+				log.error("Name index " + file.getName() + " is corrupted and will be rebuilt", e);
+				clear();
+			}
+		}
+	}
+
+	private void clear() {
+		buffer = null;
+		files = Collections.emptyList();
+		filesByName = Collections.emptyMap();
+		keysCount = 0;
+	}
+
+	private void load() throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			MappedByteBuffer b = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+			if (b.getInt() != MAGIC || b.getInt() != VERSION) {
+				log.info("Name index " + file.getName() + " has old version and will be rebuilt");
+				clear();
+				return;
+			}
+			int filesCount = b.getInt();
+			List<FileInfo> fs = new ArrayList<FileInfo>(filesCount);
+			Map<String, Integer> byName = new HashMap<String, Integer>();
+			for (int i = 0; i < filesCount; i++) {
+				FileInfo fi = new FileInfo();
+				fi.name = readString(b, b.getShort());
+				fi.size = b.getLong();
+				fi.dateModified = b.getLong();
+				fi.exact = b.get() != 0;
+				fs.add(fi);
+				byName.put(fi.name, i);
+			}
+			keysCount = b.getInt();
+			int postingsCount = b.getInt();
+			keyOffsetsStart = b.position();
+			postingIndexStart = keyOffsetsStart + (keysCount + 1) * 4;
+			postingsStart = postingIndexStart + (keysCount + 1) * 4;
+			charsStart = postingsStart + postingsCount * POSTING_SIZE;
+			files = fs;
+			filesByName = byName;
+			buffer = b;
+		} finally {
+			raf.close();
+		}
+	}
+
+	private static String readString(MappedByteBuffer b, int len) {
+		char[] cs = new char[len];
+		for (int i = 0; i < len; i++) {
+			cs[i] = b.getChar();
+		}
+		return new String(cs);
+	}
+
+	public static String normalize(String s) {
+		return FoldedStringMatcher.fold(s);
+	}
+
+	/**
+	 * @return false if string contains letters which are folded to other letters while collator
+	 *         treats them as separate letters (ø, ł, ß...)
+	 */
+	public static boolean isFoldedExactly(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			switch (Character.toLowerCase(s.charAt(i))) {
+			case '\u00df':
+			case '\u00e6':
+			case '\u0153':
+			case '\u00f8':
+			case '\u0111':
+			case '\u0142':
+			case '\u0131':
+			case '\u0130':
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public synchronized boolean isIndexed(BinaryMapIndexReader reader) {
+		Integer id = filesByName.get(reader.getFile().getName());
+		return id != null && files.get(id).matches(reader.getFile());
+	}
+
+	public synchronized int getKeysCount() {
+		return keysCount;
+	}
+
+	/**
+	 * Adds to index files which are not indexed yet (or were changed) and removes files which are not present anymore
+	 * @param readers all currently used files
+	 */
+	public synchronized void updateIndex(Collection<BinaryMapIndexReader> readers) throws IOException {
+		long time = System.currentTimeMillis();
+		Map<String, BinaryMapIndexReader> newFiles = new HashMap<String, BinaryMapIndexReader>();
+		Map<String, BinaryMapIndexReader> active = new HashMap<String, BinaryMapIndexReader>();
+		for (BinaryMapIndexReader r : readers) {
+			active.put(r.getFile().getName(), r);
+			if (!isIndexed(r)) {
+				newFiles.put(r.getFile().getName(), r);
+			}
+		}
+		boolean removed = false;
+		for (FileInfo fi : files) {
+			if (!active.containsKey(fi.name)) {
+				removed = true;
+				break;
+			}
+		}
+		if (newFiles.isEmpty() && !removed) {
+			return;
+		}
+		// key -> postings (file, section << 24 | region, offset)
+		TreeMap<String, TIntArrayList> entries = new TreeMap<String, TIntArrayList>();
+		List<FileInfo> fs = new ArrayList<FileInfo>();
+		int[] fileIds = new int[files.size()];
+		for (int i = 0; i < files.size(); i++) {
+			FileInfo fi = files.get(i);
+			if (active.containsKey(fi.name) && !newFiles.containsKey(fi.name)) {
+				fileIds[i] = fs.size();
+				fs.add(fi);
+			} else {
+				fileIds[i] = -1;
+			}
+		}
+		copyEntries(fileIds, entries);
+		for (BinaryMapIndexReader r : newFiles.values()) {
+			FileInfo fi = new FileInfo();
+			fi.name = r.getFile().getName();
+			fi.size = r.getFile().length();
+			fi.dateModified = r.getFile().lastModified();
+			fi.exact = readFileEntries(r, fs.size(), entries);
+			fs.add(fi);
+		}
+		write(fs, entries);
+		clear();
+		load();
+		log.info("Name index is updated in " + (System.currentTimeMillis() - time) + "ms (" + newFiles.size()
+				+ " new files, " + keysCount + " keys)");
+	}
+
+	private void copyEntries(int[] fileIds, TreeMap<String, TIntArrayList> entries) {
+		for (int k = 0; k < keysCount; k++) {
+			String key = null;
+			int end = getPostingIndex(k + 1);
+			for (int p = getPostingIndex(k); p < end; p++) {
+				int pos = postingsStart + p * POSTING_SIZE;
+				int fileId = fileIds[buffer.getInt(pos)];
+				if (fileId != -1) {
+					if (key == null) {
+						key = getKey(k);
+					}
+					addPosting(entries, key, fileId, buffer.getInt(pos + 4), buffer.getInt(pos + 8));
+				}
+			}
+		}
+	}
+
+	// returns true if all keys are folded exactly
+	private boolean readFileEntries(BinaryMapIndexReader r, int fileId, TreeMap<String, TIntArrayList> entries) throws IOException {
+		boolean exact = true;
+		// readers are shared with search threads
+		synchronized (r) {
+			List<AddressRegion> addressIndexes = r.getAddressIndexes();
+			for (int i = 0; i < addressIndexes.size(); i++) {
+				List<String> keys = new ArrayList<String>();
+				TIntArrayList offsets = new TIntArrayList();
+				r.readAddressNameIndexKeys(addressIndexes.get(i), keys, offsets);
+				exact &= addKeys(entries, fileId, (ADDRESS_SECTION << 24) | i, keys, offsets);
+			}
+			List<PoiRegion> poiIndexes = r.getPoiIndexes();
+			for (int i = 0; i < poiIndexes.size(); i++) {
+				List<String> keys = new ArrayList<String>();
+				TIntArrayList offsets = new TIntArrayList();
+				r.readPoiNameIndexKeys(poiIndexes.get(i), keys, offsets);
+				exact &= addKeys(entries, fileId, (POI_SECTION << 24) | i, keys, offsets);
+			}
+		}
+		return exact;
+	}
+
+	private boolean addKeys(TreeMap<String, TIntArrayList> entries, int fileId, int sectionRegion, List<String> keys,
+			TIntArrayList offsets) {
+		boolean exact = true;
+		for (int i = 0; i < keys.size(); i++) {
+			exact &= isFoldedExactly(keys.get(i));
+			String key = normalize(keys.get(i));
+			addPosting(entries, key, fileId, sectionRegion, offsets.get(i));
+			String tr = Junidecode.unidecode(key);
+			if (!tr.equals(key)) {
+				addPosting(entries, tr.toLowerCase(), fileId, sectionRegion, offsets.get(i));
+			}
+		}
+		return exact;
+	}
+
+	private static void addPosting(TreeMap<String, TIntArrayList> entries, String key, int fileId, int sectionRegion, int offset) {
+		TIntArrayList l = entries.get(key);
+		if (l == null) {
+			l = new TIntArrayList();
+			entries.put(key, l);
+		}
+		l.add(fileId);
+		l.add(sectionRegion);
+		l.add(offset);
+	}
+
+	private void write(List<FileInfo> fs, TreeMap<String, TIntArrayList> entries) throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(fs.size());
+			for (FileInfo fi : fs) {
+				out.writeShort(fi.name.length());
+				out.writeChars(fi.name);
+				out.writeLong(fi.size);
+				out.writeLong(fi.dateModified);
+				out.writeByte(fi.exact ? 1 : 0);
+			}
+			int postingsCount = 0;
+			for (TIntArrayList l : entries.values()) {
+				postingsCount += l.size() / 3;
+			}
+			out.writeInt(entries.size());
+			out.writeInt(postingsCount);
+			int chars = 0;
+			for (String key : entries.keySet()) {
+				out.writeInt(chars);
+				chars += key.length();
+			}
+			out.writeInt(chars);
+			int postings = 0;
+			for (TIntArrayList l : entries.values()) {
+				out.writeInt(postings);
+				postings += l.size() / 3;
+			}
+			out.writeInt(postings);
+			for (TIntArrayList l : entries.values()) {
+				for (int i = 0; i < l.size(); i++) {
+					out.writeInt(l.get(i));
+				}
+			}
+			for (String key : entries.keySet()) {
+				out.writeChars(key);
+			}
+		} finally {
+			out.close();
+		}
+		if (file.exists() && !file.delete()) {
+			throw new IOException("Can't replace name index " + file.getName());
+		}
+		if (!tmp.renameTo(file)) {
+			throw new IOException("Can't replace name index " + file.getName());
+		}
+	}
+
+	private int getPostingIndex(int key) {
+		return buffer.getInt(postingIndexStart + key * 4);
+	}
+
+	private String getKey(int key) {
+		int st = buffer.getInt(keyOffsetsStart + key * 4);
+		int end = buffer.getInt(keyOffsetsStart + key * 4 + 4);
+		char[] cs = new char[end - st];
+		for (int i = 0; i < cs.length; i++) {
+			cs[i] = buffer.getChar(charsStart + (st + i) * 2);
+		}
+		return new String(cs);
+	}
+
+	// compares key with first len chars of query, returns 0 if key starts with that query prefix
+	private int compareKeyPrefix(int key, String query, int len) {
+		int st = buffer.getInt(keyOffsetsStart + key * 4);
+		int end = buffer.getInt(keyOffsetsStart + key * 4 + 4);
+		for (int i = 0; i < len; i++) {
+			if (st + i >= end) {
+				return -1;
+			}
+			char c = buffer.getChar(charsStart + (st + i) * 2);
+			if (c != query.charAt(i)) {
+				return c < query.charAt(i) ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+
+	private int getKeyLength(int key) {
+		return buffer.getInt(keyOffsetsStart + key * 4 + 4) - buffer.getInt(keyOffsetsStart + key * 4);
+	}
+
+	// first key which is not less than query prefix
+	private int lowerBound(String query, int len) {
+		int lo = 0;
+		int hi = keysCount;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compareKeyPrefix(mid, query, len) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Finds name data offsets for query. Same as name table search in file the best matching keys
+	 * are selected in every region: keys starting with query or keys which are the longest prefix of query.
+	 */
+	public synchronized NameIndexLookup lookup(String query) {
+		NameIndexLookup lookup = new NameIndexLookup(files, filesByName, query != null && isFoldedExactly(query));
+		if (buffer == null || query == null) {
+			return lookup;
+		}
+		String q = normalize(query);
+		if (q.length() == 0) {
+			return lookup;
+		}
+		// keys starting with query
+		for (int k = lowerBound(q, q.length()); k < keysCount && compareKeyPrefix(k, q, q.length()) == 0; k++) {
+			addPostings(lookup, k, q.length());
+		}
+		// keys which are part of query
+		for (int len = 1; len < q.length(); len++) {
+			int k = lowerBound(q, len);
+			if (k < keysCount && getKeyLength(k) == len && compareKeyPrefix(k, q, len) == 0) {
+				addPostings(lookup, k, len);
+			}
+		}
+		return lookup;
+	}
+
+	private void addPostings(NameIndexLookup lookup, int key, int charMatches) {
+		int end = getPostingIndex(key + 1);
+		for (int p = getPostingIndex(key); p < end; p++) {
+			int pos = postingsStart + p * POSTING_SIZE;
+			lookup.add(buffer.getInt(pos), buffer.getInt(pos + 4), buffer.getInt(pos + 8), charMatches);
+		}
+	}
+
+	public static class NameIndexLookup {
+		private final List<FileInfo> files;
+		private final Map<String, Integer> filesByName;
+		private final TLongObjectHashMap<RegionHits> hits = new TLongObjectHashMap<RegionHits>();
+		private final boolean[] filesWithHits;
+		private final boolean exact;
+
+		NameIndexLookup(List<FileInfo> files, Map<String, Integer> filesByName, boolean exact) {
+			this.files = files;
+			this.filesByName = filesByName;
+			this.filesWithHits = new boolean[files.size()];
+			this.exact = exact;
+		}
+
+		void add(int fileId, int sectionRegion, int offset, int matches) {
+			long k = (((long) fileId) << 32) | sectionRegion;
+			RegionHits h = hits.get(k);
+			if (h == null) {
+				h = new RegionHits();
+				hits.put(k, h);
+			}
+			if (matches < h.charMatches) {
+				return;
+			} else if (matches > h.charMatches) {
+				h.charMatches = matches;
+				h.offsets.clear();
+			}
+			h.offsets.add(offset);
+			filesWithHits[fileId] = true;
+		}
+
+		private int getFileId(BinaryMapIndexReader reader) {
+			Integer id = filesByName.get(reader.getFile().getName());
+			if (id == null || !files.get(id).matches(reader.getFile())) {
+				return -1;
+			}
+			return id;
+		}
+
+		/**
+		 * @return true if file is covered by index and lookup gives same name data as scan of file,
+		 *         so file could be skipped when there are no hits. Otherwise file should be scanned.
+		 */
+		public boolean isIndexed(BinaryMapIndexReader reader) {
+			int id = getFileId(reader);
+			return exact && id != -1 && files.get(id).exact;
+		}
+
+		public boolean hasHits(BinaryMapIndexReader reader) {
+			int id = getFileId(reader);
+			return id != -1 && filesWithHits[id];
+		}
+
+		public TIntArrayList getOffsets(BinaryMapIndexReader reader, int section, int region) {
+			int id = getFileId(reader);
+			if (id == -1) {
+				return null;
+			}
+			RegionHits h = hits.get((((long) id) << 32) | (section << 24) | region);
+			return h == null ? null : h.offsets;
+		}
+	}
+
+	private static class RegionHits {
+		int charMatches;
+		TIntArrayList offsets = new TIntArrayList();
+	}
+}
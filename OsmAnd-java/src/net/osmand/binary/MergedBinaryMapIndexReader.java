@@ -0,0 +1,423 @@
+package net.osmand.binary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.hash.TLongHashSet;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.PlatformUtil;
+import net.osmand.ResultMatcher;
+import net.osmand.StringMatcher;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+import net.osmand.binary.BinaryMapIndexReader.MapRoot;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+import net.osmand.data.Amenity;
+import net.osmand.data.Amenity.AmenityRoutePoint;
+import net.osmand.data.City;
+import net.osmand.data.MapObject;
+import net.osmand.data.Street;
+import net.osmand.util.MapUtils;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * One logical view over base map file and its live update files (daily and monthly diffs).
+ * When section is searched first time all objects of update files are read once and id override index
+ * is built: for every object id only version from the newest update is kept, deleted objects are dropped.
+ * Afterwards every search reads only base file, base objects overridden by updates are skipped
+ * and matching objects of updates are taken from memory, so cost doesn't grow with number of updates.
+ * Update files are expected to be small comparing to base file.
+ * Address data is searched by name in every file: cities and streets of newer file replace ones with same id
+ * of base file and older updates (address data has no deleted objects).
+ */
+public class MergedBinaryMapIndexReader {
+
+	private static final Log log = PlatformUtil.getLog(MergedBinaryMapIndexReader.class);
+	private static final String DELETE_TAG = Amenity.OSM_DELETE_TAG;
+	private static final String DELETE_VALUE = Amenity.OSM_DELETE_VALUE;
+
+	private final BinaryMapIndexReader base;
+	private final List<BinaryMapIndexReader> updates;
+
+	private MapOverride mapOverride;
+	private PoiOverride poiOverride;
+	// keys of cities and streets of every update in same order as updates
+	private List<Set<String>> addressOverride;
+
+	// objects of one update file at one map zoom level
+	private static class MapLevel {
+		int minZoom;
+		int maxZoom;
+		List<BinaryMapDataObject> objects = new ArrayList<BinaryMapDataObject>();
+	}
+
+	private static class MapOverride {
+		// id -> levels of the newest update containing object
+		TLongObjectHashMap<MapLevel[]> newest = new TLongObjectHashMap<MapLevel[]>();
+		List<MapLevel> levels = new ArrayList<MapLevel>();
+	}
+
+	private static class PoiOverride {
+		TLongHashSet ids = new TLongHashSet();
+		List<Amenity> amenities = new ArrayList<Amenity>();
+	}
+
+	/**
+	 * @param updates update files of base file in any order, they are ordered by creation date
+	 */
+	public MergedBinaryMapIndexReader(BinaryMapIndexReader base, List<BinaryMapIndexReader> updates) {
+		this.base = base;
+		this.updates = new ArrayList<BinaryMapIndexReader>(updates);
+		Collections.sort(this.updates, new Comparator<BinaryMapIndexReader>() {
+			@Override
+			public int compare(BinaryMapIndexReader o1, BinaryMapIndexReader o2) {
+				return o1.getDateCreated() < o2.getDateCreated() ? -1 : (o1.getDateCreated() == o2.getDateCreated() ? 0 : 1);
+			}
+		});
+	}
+
+	public BinaryMapIndexReader getBaseReader() {
+		return base;
+	}
+
+	public List<BinaryMapIndexReader> getUpdates() {
+		return Collections.unmodifiableList(updates);
+	}
+
+	public List<BinaryMapDataObject> searchMapIndex(SearchRequest<BinaryMapDataObject> req) throws IOException {
+		final MapOverride ov = getMapOverride();
+		ResultMatcher<BinaryMapDataObject> matcher = req.getResultMatcher();
+		req.setResultMatcher(new OverrideResultMatcher<BinaryMapDataObject>(matcher) {
+			@Override
+			protected boolean isOverridden(BinaryMapDataObject object) {
+				return ov.newest.containsKey(object.getId());
+			}
+		});
+		try {
+			base.searchMapIndex(req);
+		} finally {
+			req.setResultMatcher(matcher);
+		}
+		for (MapLevel level : ov.levels) {
+			if (req.zoom < level.minZoom || req.zoom > level.maxZoom) {
+				continue;
+			}
+			for (BinaryMapDataObject o : level.objects) {
+				if (req.isCancelled()) {
+					return req.getSearchResults();
+				}
+				if (intersects(req, o) && accept(req, o)) {
+					req.publish(o);
+				}
+			}
+		}
+		return req.getSearchResults();
+	}
+
+	public List<Amenity> searchPoi(SearchRequest<Amenity> req) throws IOException {
+		return searchPoi(req, false);
+	}
+
+	public List<Amenity> searchPoiByName(SearchRequest<Amenity> req) throws IOException {
+		return searchPoi(req, true);
+	}
+
+	private List<Amenity> searchPoi(SearchRequest<Amenity> req, boolean byName) throws IOException {
+		final PoiOverride ov = getPoiOverride();
+		ResultMatcher<Amenity> matcher = req.getResultMatcher();
+		req.setResultMatcher(new OverrideResultMatcher<Amenity>(matcher) {
+			@Override
+			protected boolean isOverridden(Amenity object) {
+				return ov.ids.contains(object.getId());
+			}
+		});
+		try {
+			if (byName) {
+				base.searchPoiByName(req);
+			} else {
+				base.searchPoi(req);
+			}
+		} finally {
+			req.setResultMatcher(matcher);
+		}
+		// same as base file search by name query
+		StringMatcher nameMatcher = byName ? req.getNameMatcher(req.nameQuery.replace("\"", "").toLowerCase(),
+				StringMatcherMode.CHECK_STARTS_FROM_SPACE) : null;
+		for (Amenity a : ov.amenities) {
+			if (req.isCancelled()) {
+				break;
+			}
+			int x31 = MapUtils.get31TileNumberX(a.getLocation().getLongitude());
+			int y31 = MapUtils.get31TileNumberY(a.getLocation().getLatitude());
+			if (!req.contains(x31, y31, x31, y31)) {
+				continue;
+			}
+			if (nameMatcher != null && !matchesName(nameMatcher, a)) {
+				continue;
+			}
+			if (req.poiTypeFilter != null && !req.poiTypeFilter.accept(a.getType(), a.getSubType())) {
+				continue;
+			}
+			if (req.corridor != null) {
+				AmenityRoutePoint arp = req.corridor.getRoutePoint(a.getLocation());
+				if (arp == null) {
+					continue;
+				}
+				a.setRoutePoint(arp);
+			}
+			req.publish(a);
+		}
+		return req.getSearchResults();
+	}
+
+	public List<MapObject> searchAddressDataByName(SearchRequest<MapObject> req) throws IOException {
+		return searchAddressDataByName(req, null);
+	}
+
+	public List<MapObject> searchAddressDataByName(SearchRequest<MapObject> req, List<Integer> typeFilter)
+			throws IOException {
+		final List<Set<String>> ov = getAddressOverride();
+		ResultMatcher<MapObject> matcher = req.getResultMatcher();
+		try {
+			for (int i = -1; i < updates.size(); i++) {
+				final int newer = i + 1;
+				req.setResultMatcher(new OverrideResultMatcher<MapObject>(matcher) {
+					@Override
+					protected boolean isOverridden(MapObject object) {
+						String key = getAddressKey(object);
+						for (int j = newer; j < ov.size(); j++) {
+							if (ov.get(j).contains(key)) {
+								return true;
+							}
+						}
+						return false;
+					}
+				});
+				BinaryMapIndexReader r = i == -1 ? base : updates.get(i);
+				r.searchAddressDataByName(req, typeFilter);
+				if (req.isCancelled()) {
+					break;
+				}
+			}
+		} finally {
+			req.setResultMatcher(matcher);
+		}
+		return req.getSearchResults();
+	}
+
+	private static String getAddressKey(MapObject o) {
+		return (o instanceof Street ? "s" : "c") + o.getId();
+	}
+
+	private synchronized List<Set<String>> getAddressOverride() throws IOException {
+		if (addressOverride == null) {
+			List<Set<String>> ov = new ArrayList<Set<String>>();
+			for (BinaryMapIndexReader update : updates) {
+				Set<String> keys = new HashSet<String>();
+				for (int type : new int[] { BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE,
+						BinaryMapAddressReaderAdapter.VILLAGES_TYPE, BinaryMapAddressReaderAdapter.POSTCODES_TYPE }) {
+					for (City c : update.getCities(BinaryMapIndexReader.<City>buildAddressRequest(null), type)) {
+						keys.add(getAddressKey(c));
+						update.preloadStreets(c, BinaryMapIndexReader.<Street>buildAddressRequest(null));
+						for (Street st : c.getStreets()) {
+							keys.add(getAddressKey(st));
+						}
+					}
+				}
+				ov.add(keys);
+			}
+			addressOverride = ov;
+		}
+		return addressOverride;
+	}
+
+	private static boolean matchesName(StringMatcher matcher, Amenity a) {
+		if (matcher.matches(a.getName().toLowerCase()) || matcher.matches(a.getEnName(true).toLowerCase())) {
+			return true;
+		}
+		for (String n : a.getAllNames()) {
+			if (matcher.matches(n.toLowerCase())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean intersects(SearchRequest<BinaryMapDataObject> req, BinaryMapDataObject o) {
+		int len = o.getPointsLength();
+		if (len == 0) {
+			return false;
+		}
+		int l = o.getPoint31XTile(0);
+		int r = l;
+		int t = o.getPoint31YTile(0);
+		int b = t;
+		for (int i = 1; i < len; i++) {
+			int x = o.getPoint31XTile(i);
+			int y = o.getPoint31YTile(i);
+			l = Math.min(l, x);
+			r = Math.max(r, x);
+			t = Math.min(t, y);
+			b = Math.max(b, y);
+		}
+		return req.intersects(l, t, r, b);
+	}
+
+	private static boolean accept(SearchRequest<BinaryMapDataObject> req, BinaryMapDataObject o) {
+		if (req.searchFilter == null) {
+			return true;
+		}
+		return req.searchFilter.accept(new TIntArrayList(o.getTypes()), o.getMapIndex());
+	}
+
+	private static boolean isDeleted(BinaryMapDataObject o) {
+		MapIndex mi = o.getMapIndex();
+		for (int t : o.getTypes()) {
+			TagValuePair pair = mi.decodeType(t);
+			if (pair != null && DELETE_TAG.equals(pair.tag) && DELETE_VALUE.equals(pair.value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized MapOverride getMapOverride() throws IOException {
+		if (mapOverride == null) {
+			long time = System.currentTimeMillis();
+			MapOverride ov = new MapOverride();
+			TLongHashSet deleted = new TLongHashSet();
+			for (BinaryMapIndexReader update : updates) {
+				// objects are grouped by id to override all zoom levels of previous version at once
+				TLongObjectHashMap<List<MapLevel>> updateIds = new TLongObjectHashMap<List<MapLevel>>();
+				TLongHashSet updateDeleted = new TLongHashSet();
+				for (MapIndex mi : update.getMapIndexes()) {
+					for (MapRoot root : mi.getRoots()) {
+						MapLevel level = new MapLevel();
+						level.minZoom = root.getMinZoom();
+						level.maxZoom = root.getMaxZoom();
+						SearchRequest<BinaryMapDataObject> req = BinaryMapIndexReader.buildSearchRequest(0, Integer.MAX_VALUE,
+								0, Integer.MAX_VALUE, root.getMinZoom(), null);
+						req.log = false;
+						update.searchMapIndex(req, mi);
+						for (BinaryMapDataObject o : req.getSearchResults()) {
+							List<MapLevel> l = updateIds.get(o.getId());
+							if (l == null) {
+								l = new ArrayList<MapLevel>(2);
+								updateIds.put(o.getId(), l);
+							}
+							if (!l.contains(level)) {
+								l.add(level);
+							}
+							if (isDeleted(o)) {
+								updateDeleted.add(o.getId());
+							} else {
+								level.objects.add(o);
+							}
+						}
+						ov.levels.add(level);
+					}
+				}
+				for (long id : updateIds.keys()) {
+					List<MapLevel> l = updateIds.get(id);
+					ov.newest.put(id, l.toArray(new MapLevel[l.size()]));
+					if (updateDeleted.contains(id)) {
+						deleted.add(id);
+					} else {
+						deleted.remove(id);
+					}
+				}
+			}
+			// keep only newest version, remove deleted objects
+			for (MapLevel level : ov.levels) {
+				List<BinaryMapDataObject> objects = new ArrayList<BinaryMapDataObject>();
+				for (BinaryMapDataObject o : level.objects) {
+					if (!deleted.contains(o.getId()) && contains(ov.newest.get(o.getId()), level)) {
+						objects.add(o);
+					}
+				}
+				level.objects = objects;
+			}
+			mapOverride = ov;
+			log.info("Map updates of " + base.getFile().getName() + " are merged in " + (System.currentTimeMillis() - time)
+					+ " ms: " + updates.size() + " files, " + ov.newest.size() + " objects overridden");
+		}
+		return mapOverride;
+	}
+
+	private static boolean contains(MapLevel[] levels, MapLevel level) {
+		for (MapLevel l : levels) {
+			if (l == level) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized PoiOverride getPoiOverride() throws IOException {
+		if (poiOverride == null) {
+			long time = System.currentTimeMillis();
+			PoiOverride ov = new PoiOverride();
+			TLongObjectHashMap<List<Amenity>> newest = new TLongObjectHashMap<List<Amenity>>();
+			for (BinaryMapIndexReader update : updates) {
+				SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(0, Integer.MAX_VALUE, 0,
+						Integer.MAX_VALUE, -1, BinaryMapIndexReader.ACCEPT_ALL_POI_TYPE_FILTER, null);
+				update.searchPoi(req);
+				// all types of object in newer file replace previous version
+				TLongObjectHashMap<List<Amenity>> updateIds = new TLongObjectHashMap<List<Amenity>>();
+				for (Amenity a : req.getSearchResults()) {
+					List<Amenity> l = updateIds.get(a.getId());
+					if (l == null) {
+						l = new ArrayList<Amenity>(1);
+						updateIds.put(a.getId(), l);
+					}
+					l.add(a);
+				}
+				newest.putAll(updateIds);
+			}
+			for (long id : newest.keys()) {
+				ov.ids.add(id);
+				for (Amenity a : newest.get(id)) {
+					if (!a.isClosed()) {
+						ov.amenities.add(a);
+					}
+				}
+			}
+			poiOverride = ov;
+			log.info("Poi updates of " + base.getFile().getName() + " are merged in " + (System.currentTimeMillis() - time)
+					+ " ms: " + updates.size() + " files, " + ov.ids.size() + " objects overridden");
+		}
+		return poiOverride;
+	}
+
+	private abstract static class OverrideResultMatcher<T> implements ResultMatcher<T> {
+		private final ResultMatcher<T> matcher;
+
+		public OverrideResultMatcher(ResultMatcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		protected abstract boolean isOverridden(T object);
+
+		@Override
+		public boolean publish(T object) {
+			if (isOverridden(object)) {
+				return false;
+			}
+			return matcher == null || matcher.publish(object);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return matcher != null && matcher.isCancelled();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package net.osmand.binary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Side index of poi region: data boxes (leaves of boxes tree) are numbered in tree order and every
+ * poi category value (category id with subcategory id) is mapped to compressed bitmap of boxes containing it.
+ * Boxes of one subtree have consecutive numbers, so bitmaps are stored as runs of box numbers.
+ * Boxes without categories (not written for some zooms) are inherited from parent box or treated as unknown.
+ */
+class PoiTypeBoxIndex {
+
+	private final TIntArrayList x = new TIntArrayList();
+	private final TIntArrayList y = new TIntArrayList();
+	private final TIntArrayList zoom = new TIntArrayList();
+	private final TIntArrayList offset = new TIntArrayList();
+	// category value -> runs of boxes [start, end] (inclusive)
+	private final TIntObjectHashMap<TIntArrayList> runs = new TIntObjectHashMap<TIntArrayList>();
+	// boxes without known categories are always read
+	private final TIntArrayList unknownRuns = new TIntArrayList();
+
+	/**
+	 * @param categories category values of box or null if not known
+	 */
+	void addBox(int bx, int by, int bzoom, int boffset, TIntArrayList categories) {
+		int box = x.size();
+		x.add(bx);
+		y.add(by);
+		zoom.add(bzoom);
+		offset.add(boffset);
+		if (categories == null) {
+			addToRuns(unknownRuns, box);
+			return;
+		}
+		for (int i = 0; i < categories.size(); i++) {
+			int c = categories.get(i);
+			TIntArrayList l = runs.get(c);
+			if (l == null) {
+				l = new TIntArrayList(2);
+				runs.put(c, l);
+			}
+			addToRuns(l, box);
+		}
+	}
+
+	private static void addToRuns(TIntArrayList l, int box) {
+		int sz = l.size();
+		if (sz > 0 && l.get(sz - 1) == box - 1) {
+			l.set(sz - 1, box);
+		} else if (sz == 0 || l.get(sz - 1) != box) {
+			l.add(box);
+			l.add(box);
+		}
+	}
+
+	int size() {
+		return x.size();
+	}
+
+	int[] getCategories() {
+		return runs.keys();
+	}
+
+	/**
+	 * @return merged runs of boxes containing any of categories (including boxes with unknown categories)
+	 */
+	int[] selectBoxes(TIntArrayList categories) {
+		int count = unknownRuns.size() / 2;
+		for (int i = 0; i < categories.size(); i++) {
+			TIntArrayList l = runs.get(categories.get(i));
+			if (l != null) {
+				count += l.size() / 2;
+			}
+		}
+		long[] all = new long[count];
+		int p = 0;
+		p = appendRuns(all, p, unknownRuns);
+		for (int i = 0; i < categories.size(); i++) {
+			TIntArrayList l = runs.get(categories.get(i));
+			if (l != null) {
+				p = appendRuns(all, p, l);
+			}
+		}
+		Arrays.sort(all);
+		TIntArrayList merged = new TIntArrayList();
+		for (long r : all) {
+			int start = (int) (r >> 32);
+			int end = (int) r;
+			int sz = merged.size();
+			if (sz > 0 && merged.get(sz - 1) >= start - 1) {
+				merged.set(sz - 1, Math.max(end, merged.get(sz - 1)));
+			} else {
+				merged.add(start);
+				merged.add(end);
+			}
+		}
+		return merged.toArray();
+	}
+
+	private static int appendRuns(long[] all, int p, TIntArrayList l) {
+		for (int i = 0; i < l.size(); i += 2) {
+			all[p++] = (((long) l.get(i)) << 32) | l.get(i + 1);
+		}
+		return p;
+	}
+
+	int getX(int box) {
+		return x.get(box);
+	}
+
+	int getY(int box) {
+		return y.get(box);
+	}
+
+	int getZoom(int box) {
+		return zoom.get(box);
+	}
+
+	int getOffset(int box) {
+		return offset.get(box);
+	}
+}
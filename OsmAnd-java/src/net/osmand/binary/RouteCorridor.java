@@ -0,0 +1,165 @@
+package net.osmand.binary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.hash.TLongHashSet;
+
+import java.util.List;
+
+import net.osmand.Location;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.data.Amenity.AmenityRoutePoint;
+import net.osmand.data.LatLon;
+import net.osmand.util.MapUtils;
+
+/**
+ * Buffer of route polyline used to search objects along the route: route is covered once by tiles of
+ * {@link SearchRequest#ZOOM_TO_SEARCH_POI} zoom with lists of route segments near every tile, so corridor
+ * could be reused by searches of different types and deviation from route is computed by segments of one tile.
+ */
+public class RouteCorridor {
+
+	private static final int ZOOM = SearchRequest.ZOOM_TO_SEARCH_POI;
+	private static final int MAX_TILE = (1 << ZOOM) - 1;
+
+	private final List<Location> route;
+	private final double radius;
+	// tile -> indexes of segments ending at route point with that index
+	private final TLongObjectHashMap<TIntArrayList> tiles = new TLongObjectHashMap<TIntArrayList>();
+	// covered tiles and their parents of all zooms to check boxes of any zoom
+	private final TLongHashSet boxes = new TLongHashSet();
+	private int left31 = Integer.MAX_VALUE;
+	private int right31 = 0;
+	private int top31 = Integer.MAX_VALUE;
+	private int bottom31 = 0;
+
+	public RouteCorridor(List<Location> route, double radius) {
+		this.route = route;
+		this.radius = radius;
+		double equatorTileWidth = MapUtils.getDistance(0, MapUtils.getLongitudeFromTile(ZOOM, 0),
+				0, MapUtils.getLongitudeFromTile(ZOOM, 1));
+		for (int i = 1; i < route.size(); i++) {
+			Location cr = route.get(i);
+			Location pr = route.get(i - 1);
+			double maxLat = Math.max(Math.abs(cr.getLatitude()), Math.abs(pr.getLatitude()));
+			double coeff = radius / (equatorTileWidth * Math.cos(Math.toRadians(Math.min(maxLat, 85))));
+			double tx = MapUtils.getTileNumberX(ZOOM, cr.getLongitude());
+			double ty = MapUtils.getTileNumberY(ZOOM, cr.getLatitude());
+			double px = MapUtils.getTileNumberX(ZOOM, pr.getLongitude());
+			double py = MapUtils.getTileNumberY(ZOOM, pr.getLatitude());
+			int left = Math.max(0, (int) (Math.min(tx, px) - coeff));
+			int top = Math.max(0, (int) (Math.min(ty, py) - coeff));
+			int right = Math.min(MAX_TILE, (int) (Math.max(tx, px) + coeff));
+			int bottom = Math.min(MAX_TILE, (int) (Math.max(ty, py) + coeff));
+			for (int x = left; x <= right; x++) {
+				for (int y = top; y <= bottom; y++) {
+					long hash = (((long) x) << ZOOM) | y;
+					TIntArrayList segments = tiles.get(hash);
+					if (segments == null) {
+						segments = new TIntArrayList(4);
+						tiles.put(hash, segments);
+						addBoxes(x, y);
+					}
+					segments.add(i);
+				}
+			}
+			left31 = Math.min(left31, left << (31 - ZOOM));
+			top31 = Math.min(top31, top << (31 - ZOOM));
+			right31 = Math.max(right31, ((right + 1) << (31 - ZOOM)) - 1);
+			bottom31 = Math.max(bottom31, ((bottom + 1) << (31 - ZOOM)) - 1);
+		}
+	}
+
+	private void addBoxes(int x, int y) {
+		for (int z = ZOOM; z >= 0; z--) {
+			if (!boxes.add(boxKey(x >> (ZOOM - z), y >> (ZOOM - z), z))) {
+				// parents are already added
+				return;
+			}
+		}
+	}
+
+	private static long boxKey(long x, long y, int zoom) {
+		return (((x << ZOOM) | y) << 5) | zoom;
+	}
+
+	public List<Location> getRoute() {
+		return route;
+	}
+
+	public double getRadius() {
+		return radius;
+	}
+
+	public boolean isEmpty() {
+		return tiles.isEmpty();
+	}
+
+	public int getLeft31() {
+		return left31;
+	}
+
+	public int getRight31() {
+		return right31;
+	}
+
+	public int getTop31() {
+		return top31;
+	}
+
+	public int getBottom31() {
+		return bottom31;
+	}
+
+	/**
+	 * @return true if tile box of given zoom intersects corridor
+	 */
+	public boolean intersectsBox(int x, int y, int zoom) {
+		if (zoom > ZOOM) {
+			x >>= zoom - ZOOM;
+			y >>= zoom - ZOOM;
+			zoom = ZOOM;
+		}
+		return boxes.contains(boxKey(x, y, zoom));
+	}
+
+	/**
+	 * @return closest route segment to location with deviation from it
+	 * or null if location is farther than radius from route
+	 */
+	public AmenityRoutePoint getRoutePoint(LatLon l) {
+		long x = (int) MapUtils.getTileNumberX(ZOOM, l.getLongitude());
+		long y = (int) MapUtils.getTileNumberY(ZOOM, l.getLatitude());
+		TIntArrayList segments = tiles.get((x << ZOOM) | y);
+		if (segments == null) {
+			return null;
+		}
+		double dist = radius + 0.1;
+		int ind = -1;
+		for (int j = 0; j < segments.size(); j++) {
+			int i = segments.get(j);
+			Location a = route.get(i - 1);
+			Location b = route.get(i);
+			double d = MapUtils.getOrthogonalDistance(l.getLatitude(), l.getLongitude(),
+					a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
+			if (d < dist) {
+				dist = d;
+				ind = i;
+			}
+		}
+		if (ind == -1) {
+			return null;
+		}
+		AmenityRoutePoint arp = new AmenityRoutePoint();
+		arp.deviateDistance = dist;
+		arp.pointA = route.get(ind - 1);
+		arp.pointB = route.get(ind);
+		arp.pointAIndex = ind - 1;
+		if (arp.deviateDistance != 0) {
+			arp.deviationDirectionRight = MapUtils.rightSide(l.getLatitude(), l.getLongitude(),
+					arp.pointA.getLatitude(), arp.pointA.getLongitude(),
+					arp.pointB.getLatitude(), arp.pointB.getLongitude());
+		}
+		return arp;
+	}
+}
@@ -54,6 +54,8 @@ public class Amenity extends MapObject {
 		public boolean deviationDirectionRight;
 		public Location pointA;
 		public Location pointB;
+		// index of pointA in route or -1 if not known
+		public int pointAIndex = -1;
 	}
 
 	public PoiCategory getType() {
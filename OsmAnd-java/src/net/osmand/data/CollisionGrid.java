@@ -0,0 +1,150 @@
+package net.osmand.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid of inserted boxes to find label collisions. Every box is registered in all cells it covers
+ * (boxes outside of grid bounds are kept in border cells), query returns each candidate once and exact test
+ * is left to caller. Arrays are reused after {@link #reset(QuadRect)}, so grid doesn't allocate memory
+ * when it is used for every frame with similar number of labels.
+ */
+public class CollisionGrid<T> {
+
+	private final double cellSize;
+	private double left;
+	private double top;
+	private int cols;
+	private int rows;
+
+	// first entry of cell or -1
+	private int[] cellHead = new int[0];
+	// entry = item registered in one cell
+	private int[] entryNext = new int[256];
+	private int[] entryItem = new int[256];
+	private int entries;
+	private final List<T> items = new ArrayList<T>();
+	// stamp of last query which returned item to skip duplicates from neighbour cells
+	private int[] itemStamp = new int[64];
+	private int stamp;
+
+	public CollisionGrid(double cellSize) {
+		this.cellSize = cellSize;
+	}
+
+	public void reset(QuadRect bounds) {
+		left = bounds.left;
+		top = bounds.top;
+		cols = Math.max(1, (int) Math.ceil(bounds.width() / cellSize));
+		rows = Math.max(1, (int) Math.ceil(bounds.height() / cellSize));
+		if (cellHead.length < cols * rows) {
+			cellHead = new int[cols * rows];
+		}
+		Arrays.fill(cellHead, 0, cols * rows, -1);
+		entries = 0;
+		items.clear();
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	private int col(double x) {
+		return Math.max(0, Math.min(cols - 1, (int) Math.floor((x - left) / cellSize)));
+	}
+
+	private int row(double y) {
+		return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - top) / cellSize)));
+	}
+
+	public void insert(T data, QuadRect box) {
+		int item = items.size();
+		items.add(data);
+		if (item >= itemStamp.length) {
+			itemStamp = Arrays.copyOf(itemStamp, item * 2);
+		}
+		itemStamp[item] = 0;
+		int c1 = col(box.right);
+		int r1 = row(box.bottom);
+		for (int r = row(box.top); r <= r1; r++) {
+			for (int c = col(box.left); c <= c1; c++) {
+				if (entries == entryNext.length) {
+					entryNext = Arrays.copyOf(entryNext, entries * 2);
+					entryItem = Arrays.copyOf(entryItem, entries * 2);
+				}
+				int cell = r * cols + c;
+				entryItem[entries] = item;
+				entryNext[entries] = cellHead[cell];
+				cellHead[cell] = entries;
+				entries++;
+			}
+		}
+	}
+
+	/**
+	 * @return items registered in cells covered by box (result list is cleared and could be reused)
+	 */
+	public List<T> queryInBox(QuadRect box, List<T> result) {
+		result.clear();
+		if (stamp == Integer.MAX_VALUE) {
+			Arrays.fill(itemStamp, 0);
+			stamp = 0;
+		}
+		stamp++;
+		int c1 = col(box.right);
+		int r1 = row(box.bottom);
+		for (int r = row(box.top); r <= r1; r++) {
+			for (int c = col(box.left); c <= c1; c++) {
+				for (int e = cellHead[r * cols + c]; e != -1; e = entryNext[e]) {
+					int item = entryItem[e];
+					if (itemStamp[item] != stamp) {
+						itemStamp[item] = stamp;
+						result.add(items.get(item));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Approximate intersection of boxes rotated around their centers (rotation in radians), boxes are
+	 * rotated only if text goes at angle to each other.
+	 */
+	public static boolean intersects(QuadRect tRect, float tRot, QuadRect sRect, float sRot) {
+		if (Math.abs(tRot) < Math.PI / 15 && Math.abs(sRot) < Math.PI / 15) {
+			return QuadRect.intersects(tRect, sRect);
+		}
+		double tcx = tRect.centerX();
+		double tcy = tRect.centerY();
+		double scx = sRect.centerX();
+		double scy = sRect.centerY();
+		double tw = tRect.width();
+		double th = tRect.height();
+		double dist = Math.sqrt((tcx - scx) * (tcx - scx) + (tcy - scy) * (tcy - scy));
+		if (dist < 3) {
+			return true;
+		}
+		// difference close to 90/270 degrees
+		if (Math.abs(Math.cos(tRot - sRot)) < 0.3) {
+			// rotate one rectangle to 90 degrees around its center
+			tRot += Math.PI / 2;
+			double w = tw;
+			tw = th;
+			th = w;
+		}
+		// determine difference close to 180/0 degrees
+		if (Math.abs(Math.sin(tRot - sRot)) < 0.3) {
+			// rotate t box
+			// (calculate offset for t center suppose we rotate around s center)
+			float diff = (float) (-Math.atan2(tcx - scx, tcy - scy) + Math.PI / 2);
+			diff -= sRot;
+			tcx = scx + dist * Math.cos(diff);
+			tcy = scy - dist * Math.sin(diff);
+		}
+		// other cases are not covered
+		return tcx - tw / 2 < sRect.right && sRect.left < tcx + tw / 2 && tcy - th / 2 < sRect.bottom
+				&& sRect.top < tcy + th / 2;
+	}
+}
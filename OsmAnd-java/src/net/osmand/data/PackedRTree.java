@@ -0,0 +1,132 @@
+package net.osmand.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Static R-tree packed with Sort-Tile-Recursive algorithm. Tree is built once from all boxes
+ * and can't be modified, so it is suitable for rarely changed sets (for example extents of map files).
+ * Boxes are treated as closed, so boxes touching by border intersect.
+ */
+public class PackedRTree<T> {
+
+	private static final int NODE_CAPACITY = 8;
+
+	private static class Node<T> {
+		double left;
+		double right;
+		double top;
+		double bottom;
+		List<Node<T>> children;
+		T data;
+
+		boolean intersects(QuadRect b) {
+			return b.right >= left && b.left <= right && top <= b.bottom && bottom >= b.top;
+		}
+
+		void include(Node<T> n) {
+			left = Math.min(left, n.left);
+			right = Math.max(right, n.right);
+			top = Math.min(top, n.top);
+			bottom = Math.max(bottom, n.bottom);
+		}
+	}
+
+	private final Node<T> root;
+	private final int size;
+
+	/**
+	 * @param boxes boxes of data objects, same size as data
+	 */
+	public PackedRTree(List<T> data, List<QuadRect> boxes) {
+		if (data.size() != boxes.size()) {
+			throw new IllegalArgumentException();
+		}
+		List<Node<T>> level = new ArrayList<Node<T>>(data.size());
+		for (int i = 0; i < data.size(); i++) {
+			QuadRect b = boxes.get(i);
+			Node<T> n = new Node<T>();
+			n.left = Math.min(b.left, b.right);
+			n.right = Math.max(b.left, b.right);
+			n.top = Math.min(b.top, b.bottom);
+			n.bottom = Math.max(b.top, b.bottom);
+			n.data = data.get(i);
+			level.add(n);
+		}
+		size = level.size();
+		while (level.size() > NODE_CAPACITY) {
+			level = pack(level);
+		}
+		if (level.isEmpty()) {
+			root = null;
+		} else {
+			root = parent(level);
+		}
+	}
+
+	private List<Node<T>> pack(List<Node<T>> nodes) {
+		int parents = (nodes.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		int slices = (int) Math.ceil(Math.sqrt(parents));
+		int sliceSize = slices * NODE_CAPACITY;
+		Collections.sort(nodes, new Comparator<Node<T>>() {
+			@Override
+			public int compare(Node<T> o1, Node<T> o2) {
+				return Double.compare(o1.left + o1.right, o2.left + o2.right);
+			}
+		});
+		List<Node<T>> result = new ArrayList<Node<T>>(parents);
+		for (int s = 0; s < nodes.size(); s += sliceSize) {
+			List<Node<T>> slice = new ArrayList<Node<T>>(nodes.subList(s, Math.min(nodes.size(), s + sliceSize)));
+			Collections.sort(slice, new Comparator<Node<T>>() {
+				@Override
+				public int compare(Node<T> o1, Node<T> o2) {
+					return Double.compare(o1.top + o1.bottom, o2.top + o2.bottom);
+				}
+			});
+			for (int i = 0; i < slice.size(); i += NODE_CAPACITY) {
+				result.add(parent(slice.subList(i, Math.min(slice.size(), i + NODE_CAPACITY))));
+			}
+		}
+		return result;
+	}
+
+	private Node<T> parent(List<Node<T>> children) {
+		Node<T> p = new Node<T>();
+		p.children = new ArrayList<Node<T>>(children);
+		Node<T> first = children.get(0);
+		p.left = first.left;
+		p.right = first.right;
+		p.top = first.top;
+		p.bottom = first.bottom;
+		for (Node<T> c : children) {
+			p.include(c);
+		}
+		return p;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public List<T> queryInBox(QuadRect box, List<T> result) {
+		if (root != null) {
+			query(root, box, result);
+		}
+		return result;
+	}
+
+	private void query(Node<T> n, QuadRect box, List<T> result) {
+		if (!n.intersects(box)) {
+			return;
+		}
+		if (n.children == null) {
+			result.add(n.data);
+			return;
+		}
+		for (Node<T> c : n.children) {
+			query(c, box, result);
+		}
+	}
+}
@@ -0,0 +1,435 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.osmand.PlatformUtil;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Binary cache of resolved rendering style (with all depends): dictionary, properties, rendering attributes and
+ * rule trees are stored as is, so style is loaded without xml parsing.
+ * Cache stores hashes of all xml sources of style and it is valid only if sources have the same hashes.
+ */
+public class CachedRenderingRulesStorage {
+
+	private static final Log log = PlatformUtil.getLog(CachedRenderingRulesStorage.class);
+
+	public static final int VERSION = 1;
+	private static final int MAGIC = 0x4f53524c;
+
+	public interface SourceHashProvider {
+
+		/**
+		 * @return hash of current source of style or null if it doesn't exist
+		 */
+		String getSourceHash(String name) throws IOException;
+	}
+
+	/**
+	 * @return md5 hex of stream content, stream is closed
+	 */
+	public static String getSourceHash(InputStream is) throws IOException {
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5");
+			byte[] buf = new byte[8192];
+			int read;
+			while ((read = is.read(buf)) != -1) {
+				md.update(buf, 0, read);
+			}
+			StringBuilder sb = new StringBuilder();
+			for (byte b : md.digest()) {
+				sb.append(String.format("%02x", b & 0xff));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e.getMessage());
+		} finally {
+			is.close();
+		}
+	}
+
+	/**
+	 * @param sourceHashes hashes of xml sources which style was loaded from
+	 */
+	public static void writeCache(RenderingRulesStorage storage, Map<String, String> sourceHashes, File file)
+			throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(sourceHashes.size());
+			for (Entry<String, String> e : sourceHashes.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeUTF(e.getValue());
+			}
+			writeStorage(storage, out);
+		} finally {
+			out.close();
+		}
+		if (!tmp.renameTo(file)) {
+			file.delete();
+			if (!tmp.renameTo(file)) {
+				tmp.delete();
+				throw new IOException("Cache file couldn't be written " + file);
+			}
+		}
+	}
+
+	/**
+	 * @return storage or null if cache doesn't exist or sources are changed
+	 */
+	public static RenderingRulesStorage readCache(File file, SourceHashProvider provider) {
+		if (!file.exists()) {
+			return null;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+					return null;
+				}
+				int sources = in.readInt();
+				for (int i = 0; i < sources; i++) {
+					String name = in.readUTF();
+					String hash = in.readUTF();
+					if (!hash.equals(provider.getSourceHash(name))) {
+						return null;
+					}
+				}
+				return readStorage(in);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			log.warn("Rendering style cache is not valid " + file + " : " + e.getMessage());
+		} catch (RuntimeException e) {
+			log.warn("Rendering style cache is not valid " + file, e);
+		}
+		return null;
+	}
+
+	/**
+	 * @return names of sources stored in cache in order of loading (depends first) or empty list
+	 */
+	public static List<String> readCacheSources(File file) {
+		List<String> names = new ArrayList<String>();
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				if (in.readInt() == MAGIC && in.readInt() == VERSION) {
+					int sources = in.readInt();
+					for (int i = 0; i < sources; i++) {
+						names.add(in.readUTF());
+						in.readUTF();
+					}
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			names.clear();
+		}
+		return names;
+	}
+
+	private static void writeStorage(RenderingRulesStorage storage, DataOutputStream out) throws IOException {
+		writeNullableString(out, storage.renderingName);
+		writeNullableString(out, storage.internalRenderingName);
+		writeMap(out, storage.renderingConstants);
+		out.writeInt(storage.dictionary.size());
+		for (String s : storage.dictionary) {
+			out.writeUTF(s);
+		}
+		RenderingRuleProperty[] props = storage.PROPS.getPoperties();
+		out.writeInt(props.length);
+		for (RenderingRuleProperty p : props) {
+			out.writeUTF(p.getAttrName());
+			out.writeInt(p.type);
+			out.writeBoolean(p.isInputProperty());
+		}
+		List<RenderingRuleProperty> custom = storage.PROPS.getCustomRules();
+		out.writeInt(custom.size());
+		for (RenderingRuleProperty p : custom) {
+			out.writeInt(p.getId());
+			writeNullableString(out, p.getName());
+			writeNullableString(out, p.getDescription());
+			writeNullableString(out, p.getDefaultValueDescription());
+			writeNullableString(out, p.getCategory());
+			String[] possibleValues = p.possibleValues;
+			out.writeInt(possibleValues == null ? -1 : possibleValues.length);
+			if (possibleValues != null) {
+				for (String s : possibleValues) {
+					out.writeUTF(s);
+				}
+			}
+		}
+
+		// rules are shared by several parents (apply rules, depends), so they are written once and referenced by index
+		List<RenderingRule> rules = new ArrayList<RenderingRule>();
+		Map<RenderingRule, Integer> indexes = new IdentityHashMap<RenderingRule, Integer>();
+		for (RenderingRule r : storage.renderingAttributes.values()) {
+			collectRules(r, rules, indexes);
+		}
+		for (TIntObjectHashMap<RenderingRule> m : storage.tagValueGlobalRules) {
+			if (m != null) {
+				for (RenderingRule r : m.valueCollection()) {
+					collectRules(r, rules, indexes);
+				}
+			}
+		}
+		out.writeInt(rules.size());
+		for (RenderingRule r : rules) {
+			out.writeBoolean(r.isGroup());
+		}
+		for (RenderingRule r : rules) {
+			writeRule(r, indexes, out);
+		}
+		out.writeInt(storage.renderingAttributes.size());
+		for (Entry<String, RenderingRule> e : storage.renderingAttributes.entrySet()) {
+			out.writeUTF(e.getKey());
+			out.writeInt(indexes.get(e.getValue()));
+		}
+		out.writeInt(storage.tagValueGlobalRules.length);
+		for (TIntObjectHashMap<RenderingRule> m : storage.tagValueGlobalRules) {
+			if (m == null) {
+				out.writeInt(-1);
+				continue;
+			}
+			int[] keys = m.keys();
+			out.writeInt(keys.length);
+			for (int key : keys) {
+				out.writeInt(key);
+				out.writeInt(indexes.get(m.get(key)));
+			}
+		}
+	}
+
+	private static void collectRules(RenderingRule r, List<RenderingRule> rules, Map<RenderingRule, Integer> indexes) {
+		if (r == null || indexes.containsKey(r)) {
+			return;
+		}
+		indexes.put(r, rules.size());
+		rules.add(r);
+		for (int i = 0; i < r.getProperties().length; i++) {
+			collectRules(r.getAttrProp(i), rules, indexes);
+		}
+		for (RenderingRule c : r.getIfElseChildren()) {
+			collectRules(c, rules, indexes);
+		}
+		for (RenderingRule c : r.getIfChildren()) {
+			collectRules(c, rules, indexes);
+		}
+	}
+
+	private static void writeRule(RenderingRule r, Map<RenderingRule, Integer> indexes, DataOutputStream out)
+			throws IOException {
+		RenderingRuleProperty[] props = r.getProperties();
+		boolean floats = r.hasFloatProperties();
+		out.writeInt(props.length);
+		out.writeBoolean(floats);
+		for (int i = 0; i < props.length; i++) {
+			out.writeInt(props[i].getId());
+			out.writeInt(r.getIntProp(i));
+			if (floats) {
+				out.writeFloat(r.getFloatProp(i));
+			}
+			RenderingRule ref = r.getAttrProp(i);
+			out.writeInt(ref == null ? -1 : indexes.get(ref));
+		}
+		writeRuleList(r.getIfElseChildren(), indexes, out);
+		writeRuleList(r.getIfChildren(), indexes, out);
+		out.writeBoolean(r.hasStoredAttributes());
+		if (r.hasStoredAttributes()) {
+			writeMap(out, r.getAttributes());
+		}
+	}
+
+	private static void writeRuleList(List<RenderingRule> list, Map<RenderingRule, Integer> indexes,
+			DataOutputStream out) throws IOException {
+		out.writeInt(list.size());
+		for (RenderingRule c : list) {
+			out.writeInt(indexes.get(c));
+		}
+	}
+
+	private static RenderingRulesStorage readStorage(DataInputStream in) throws IOException {
+		String name = readNullableString(in);
+		String internalName = readNullableString(in);
+		Map<String, String> constants = readMap(in);
+		RenderingRulesStorage storage = new RenderingRulesStorage(name, constants);
+		storage.internalRenderingName = internalName;
+		int dictSize = in.readInt();
+		storage.dictionary = new ArrayList<String>(dictSize);
+		storage.dictionaryMap = new ConcurrentHashMap<String, Integer>();
+		for (int i = 0; i < dictSize; i++) {
+			String s = in.readUTF();
+			storage.dictionary.add(s);
+			storage.dictionaryMap.put(s, i);
+		}
+
+		int propsSize = in.readInt();
+		String[] attrNames = new String[propsSize];
+		int[] types = new int[propsSize];
+		boolean[] inputs = new boolean[propsSize];
+		for (int i = 0; i < propsSize; i++) {
+			attrNames[i] = in.readUTF();
+			types[i] = in.readInt();
+			inputs[i] = in.readBoolean();
+		}
+		int customSize = in.readInt();
+		int[] customIds = new int[customSize];
+		RenderingRuleProperty[] custom = new RenderingRuleProperty[propsSize];
+		for (int i = 0; i < customSize; i++) {
+			int id = in.readInt();
+			RenderingRuleProperty p = new RenderingRuleProperty(attrNames[id], types[id], inputs[id]);
+			p.setName(readNullableString(in));
+			p.setDescription(readNullableString(in));
+			p.setDefaultValueDescription(readNullableString(in));
+			p.setCategory(readNullableString(in));
+			int pv = in.readInt();
+			if (pv >= 0) {
+				String[] possibleValues = new String[pv];
+				for (int j = 0; j < pv; j++) {
+					possibleValues[j] = in.readUTF();
+				}
+				p.setPossibleValues(possibleValues);
+			}
+			customIds[i] = id;
+			custom[id] = p;
+		}
+		// registered by id order to get the same ids
+		for (RenderingRuleProperty p : custom) {
+			if (p != null) {
+				storage.PROPS.registerRule(p);
+			}
+		}
+		storage.PROPS.customRules.clear();
+		for (int id : customIds) {
+			storage.PROPS.customRules.add(custom[id]);
+		}
+		RenderingRuleProperty[] props = storage.PROPS.getPoperties();
+		if (props.length != propsSize) {
+			throw new IOException("Properties are not matching");
+		}
+		for (int i = 0; i < propsSize; i++) {
+			if (!props[i].getAttrName().equals(attrNames[i]) || props[i].type != types[i]
+					|| props[i].isInputProperty() != inputs[i]) {
+				throw new IOException("Property is not matching " + attrNames[i]);
+			}
+		}
+
+		int rulesSize = in.readInt();
+		RenderingRule[] rules = new RenderingRule[rulesSize];
+		for (int i = 0; i < rulesSize; i++) {
+			rules[i] = new RenderingRule(in.readBoolean(), storage);
+		}
+		for (int i = 0; i < rulesSize; i++) {
+			readRule(rules[i], rules, props, in);
+		}
+		int attrs = in.readInt();
+		for (int i = 0; i < attrs; i++) {
+			String attr = in.readUTF();
+			storage.renderingAttributes.put(attr, rules[in.readInt()]);
+		}
+		int states = in.readInt();
+		for (int state = 0; state < states; state++) {
+			int size = in.readInt();
+			if (size < 0) {
+				continue;
+			}
+			TIntObjectHashMap<RenderingRule> m = new TIntObjectHashMap<RenderingRule>(size);
+			for (int i = 0; i < size; i++) {
+				int key = in.readInt();
+				m.put(key, rules[in.readInt()]);
+			}
+			storage.tagValueGlobalRules[state] = m;
+		}
+		return storage;
+	}
+
+	private static void readRule(RenderingRule r, RenderingRule[] rules, RenderingRuleProperty[] allProps,
+			DataInputStream in) throws IOException {
+		int size = in.readInt();
+		boolean hasFloats = in.readBoolean();
+		RenderingRuleProperty[] props = new RenderingRuleProperty[size];
+		int[] ints = new int[size];
+		float[] floats = hasFloats ? new float[size] : null;
+		RenderingRule[] refs = null;
+		for (int i = 0; i < size; i++) {
+			props[i] = allProps[in.readInt()];
+			ints[i] = in.readInt();
+			if (hasFloats) {
+				floats[i] = in.readFloat();
+			}
+			int ref = in.readInt();
+			if (ref >= 0) {
+				if (refs == null) {
+					refs = new RenderingRule[size];
+				}
+				refs[i] = rules[ref];
+			}
+		}
+		r.setProperties(props, ints, floats, refs);
+		int ifElse = in.readInt();
+		for (int i = 0; i < ifElse; i++) {
+			r.addIfElseChildren(rules[in.readInt()]);
+		}
+		int ifChildren = in.readInt();
+		for (int i = 0; i < ifChildren; i++) {
+			r.addIfChildren(rules[in.readInt()]);
+		}
+		if (in.readBoolean()) {
+			r.storeAttributes(readMap(in));
+		}
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Entry<String, String> e : map.entrySet()) {
+			out.writeUTF(e.getKey());
+			writeNullableString(out, e.getValue());
+		}
+	}
+
+	private static Map<String, String> readMap(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for (int i = 0; i < size; i++) {
+			String key = in.readUTF();
+			map.put(key, readNullableString(in));
+		}
+		return map;
+	}
+
+	private static void writeNullableString(DataOutputStream out, String s) throws IOException {
+		out.writeBoolean(s != null);
+		if (s != null) {
+			out.writeUTF(s);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
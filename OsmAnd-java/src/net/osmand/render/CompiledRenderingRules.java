@@ -0,0 +1,166 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rules of storage specialized for one zoom and fixed values of style filters (night mode, custom properties):
+ * zoom and style filter checks are evaluated once, rules which never match are removed and cases following
+ * unconditional case are cut, so search by tag/value visits only checks depending on object.
+ * Rules referencing disable property are not removed because their checks change state of request.
+ */
+class CompiledRenderingRules {
+
+	static final int MAX_ZOOM = 31;
+
+	private final RenderingRuleProperty disable;
+	private final boolean[] fixedProperties;
+	private final int[] values;
+	private final float[] fvalues;
+	// request is used only while rules are compiled, compiled rules are shared by requests of storage
+	private RenderingRuleSearchRequest req;
+	@SuppressWarnings("unchecked")
+	private final TIntObjectHashMap<RenderingRule>[] rules = new TIntObjectHashMap[RenderingRulesStorage.LENGTH_RULES];
+	// rules could be shared by several parents
+	private final Map<RenderingRule, RenderingRule> compiled = new IdentityHashMap<RenderingRule, RenderingRule>();
+	private final Set<RenderingRule> neverMatch = Collections.newSetFromMap(new IdentityHashMap<RenderingRule, Boolean>());
+
+	/**
+	 * @param fixedProperties ids of properties which values are fixed for compiled rules (besides zoom)
+	 */
+	CompiledRenderingRules(RenderingRuleSearchRequest req, RenderingRulesStorage storage, boolean[] fixedProperties,
+			int[] savedValues, float[] savedFvalues, int zoom) {
+		this.req = req;
+		this.disable = storage.PROPS.R_DISABLE;
+		this.fixedProperties = fixedProperties.clone();
+		this.values = savedValues.clone();
+		this.fvalues = savedFvalues.clone();
+		this.fixedProperties[storage.PROPS.R_MINZOOM.getId()] = true;
+		this.fixedProperties[storage.PROPS.R_MAXZOOM.getId()] = true;
+		values[storage.PROPS.R_MINZOOM.getId()] = zoom;
+		values[storage.PROPS.R_MAXZOOM.getId()] = zoom;
+		for (int state = 0; state < RenderingRulesStorage.LENGTH_RULES; state++) {
+			TIntObjectHashMap<RenderingRule> src = storage.tagValueGlobalRules[state];
+			if (src == null) {
+				continue;
+			}
+			TIntObjectHashMap<RenderingRule> dst = new TIntObjectHashMap<RenderingRule>(src.size());
+			int[] keys = src.keys();
+			for (int key : keys) {
+				RenderingRule r = compile(src.get(key));
+				if (r != null) {
+					dst.put(key, r);
+				}
+			}
+			rules[state] = dst;
+		}
+		compiled.clear();
+		neverMatch.clear();
+		this.req = null;
+	}
+
+	RenderingRule getRule(int state, int key) {
+		TIntObjectHashMap<RenderingRule> r = rules[state];
+		return r == null ? null : r.get(key);
+	}
+
+	/**
+	 * @return specialized rule or null if rule never matches
+	 */
+	private RenderingRule compile(RenderingRule rule) {
+		RenderingRule c = compiled.get(rule);
+		if (c == null && !neverMatch.contains(rule)) {
+			c = compileRule(rule);
+			if (c == null) {
+				neverMatch.add(rule);
+			} else {
+				compiled.put(rule, c);
+			}
+		}
+		return c;
+	}
+
+	private RenderingRule compileRule(RenderingRule rule) {
+		RenderingRuleProperty[] properties = rule.getProperties();
+		boolean[] keep = new boolean[properties.length];
+		boolean changesState = false;
+		boolean changed = false;
+		for (int i = 0; i < properties.length; i++) {
+			RenderingRuleProperty rp = properties[i];
+			changesState |= rp == disable;
+			if (rp.isInputProperty() && fixedProperties[rp.getId()]) {
+				boolean match;
+				if (rp.isFloat()) {
+					match = rp.accept(rule.getFloatProp(i), fvalues[rp.getId()], req);
+				} else {
+					match = rp.accept(rule.getIntProp(i), values[rp.getId()], req);
+				}
+				if (!match) {
+					return neverMatch(rule);
+				}
+				changed = true;
+			} else {
+				keep[i] = true;
+			}
+		}
+		List<RenderingRule> ifElse = new ArrayList<RenderingRule>();
+		List<RenderingRule> ifElseSrc = rule.getIfElseChildren();
+		for (int i = 0; i < ifElseSrc.size(); i++) {
+			RenderingRule child = compile(ifElseSrc.get(i));
+			if (child != ifElseSrc.get(i)) {
+				changed = true;
+			}
+			if (child == null) {
+				continue;
+			}
+			ifElse.add(child);
+			if (!child.isGroup() && !hasInputProperties(child)) {
+				// case always matches, next cases are never visited
+				changed |= i < ifElseSrc.size() - 1;
+				break;
+			}
+		}
+		if (rule.isGroup() && ifElse.isEmpty() && !changesState) {
+			return null;
+		}
+		List<RenderingRule> ifChildren = new ArrayList<RenderingRule>();
+		for (RenderingRule src : rule.getIfChildren()) {
+			RenderingRule child = compile(src);
+			if (child != src) {
+				changed = true;
+			}
+			if (child != null) {
+				ifChildren.add(child);
+			}
+		}
+		if (!changed) {
+			return rule;
+		}
+		return new RenderingRule(rule, keep, ifElse, ifChildren);
+	}
+
+	private RenderingRule neverMatch(RenderingRule rule) {
+		for (RenderingRuleProperty rp : rule.getProperties()) {
+			if (rp == disable) {
+				// keep original checks to change state the same way
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	private static boolean hasInputProperties(RenderingRule rule) {
+		for (RenderingRuleProperty rp : rule.getProperties()) {
+			if (rp.isInputProperty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,1163 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.procedure.TIntObjectProcedure;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.TexturePaint;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import net.osmand.PlatformUtil;
+import net.osmand.RenderingContext;
+import net.osmand.RenderingContext.ShadowRenderingMode;
+import net.osmand.RenderingStats.Phase;
+import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+import net.osmand.data.CollisionGrid;
+import net.osmand.data.QuadRect;
+import net.osmand.data.QuadTree;
+import net.osmand.render.RenderingOrderCache.OrderInfo;
+import net.osmand.render.RenderingOrderCache.OrderedPrimitive;
+import net.osmand.util.Algorithms;
+import net.osmand.util.MapUtils;
+import net.sf.junidecode.Junidecode;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Java2D port of Android map renderer: orders objects by order rules and draws polygons, line shadows, lines,
+ * icons and text without intersections into {@link Graphics2D}. Renderer keeps paint and text state
+ * between calls, so every rendering thread should use its own instance.
+ */
+public class Java2DMapRenderer {
+	private static final Log log = PlatformUtil.getLog(Java2DMapRenderer.class);
+
+	public static final int TILE_SIZE = 256;
+	private static final int DEFAULT_POLYGON_MAX = 11;
+	private static final int MAX_V = 10;
+	private static final int MAX_V_AREA = 2000;
+	private static final int DEFAULT_TEXT_WRAP = 40;
+
+	private static class MapDataObjectPrimitive implements OrderedPrimitive {
+		BinaryMapDataObject obj;
+		int typeInd;
+		double order;
+		int objectType;
+		double area;
+
+		@Override
+		public double getOrder() {
+			return order;
+		}
+	}
+
+	private static class IconDrawInfo {
+		float x;
+		float y;
+		float iconSize;
+		int iconOrder;
+		String resId;
+		String resId_1;
+		String resId2;
+		String shieldId;
+	}
+
+	private static class TextDrawInfo {
+		String text;
+		// path to draw text on it
+		float[] pathX;
+		float[] pathY;
+		QuadRect bounds;
+		float vOffset;
+		float centerX;
+		float centerY;
+		float pathRotate;
+		float textSize;
+		float minDistance;
+		int textColor;
+		int textShadow;
+		int textShadowColor;
+		int textWrap;
+		boolean bold;
+		boolean italic;
+		String shieldRes;
+		String shieldResIcon;
+		int textOrder;
+
+		TextDrawInfo(String text) {
+			this.text = text;
+		}
+
+		void fillProperties(RenderingContext rc, RenderingRuleSearchRequest render, float centerX, float centerY) {
+			this.centerX = centerX;
+			// used only for draw on path where centerY doesn't play role
+			this.vOffset = (int) rc.getComplexValue(render, render.ALL.R_TEXT_DY);
+			this.centerY = centerY + this.vOffset;
+			textColor = render.getIntPropertyValue(render.ALL.R_TEXT_COLOR);
+			if (textColor == 0) {
+				textColor = 0xff000000;
+			}
+			textSize = rc.getComplexValue(render, render.ALL.R_TEXT_SIZE);
+			textShadow = (int) rc.getComplexValue(render, render.ALL.R_TEXT_HALO_RADIUS);
+			textShadowColor = render.getIntPropertyValue(render.ALL.R_TEXT_HALO_COLOR);
+			if (textShadowColor == 0) {
+				textShadowColor = 0xffffffff;
+			}
+			textWrap = (int) rc.getComplexValue(render, render.ALL.R_TEXT_WRAP_WIDTH);
+			bold = render.getIntPropertyValue(render.ALL.R_TEXT_BOLD, 0) > 0;
+			italic = render.getIntPropertyValue(render.ALL.R_TEXT_ITALIC, 0) > 0;
+			minDistance = rc.getComplexValue(render, render.ALL.R_TEXT_MIN_DISTANCE);
+			if (render.isSpecified(render.ALL.R_TEXT_SHIELD)) {
+				shieldRes = render.getStringPropertyValue(render.ALL.R_TEXT_SHIELD);
+			}
+			if (render.isSpecified(render.ALL.R_ICON)) {
+				shieldResIcon = render.getStringPropertyValue(render.ALL.R_ICON);
+			}
+			textOrder = render.getIntPropertyValue(render.ALL.R_TEXT_ORDER, 100);
+		}
+	}
+
+	private static final Comparator<TextDrawInfo> TEXT_ORDER = new Comparator<TextDrawInfo>() {
+		@Override
+		public int compare(TextDrawInfo object1, TextDrawInfo object2) {
+			return object1.textOrder - object2.textOrder;
+		}
+	};
+
+	private final File iconsDir;
+	private final Map<String, BufferedImage> icons = new HashMap<String, BufferedImage>();
+	private final Map<String, float[]> parsedDashEffects = new HashMap<String, float[]>();
+	private final Map<Integer, Font> fonts = new HashMap<Integer, Font>();
+	private final FontRenderContext frc = new FontRenderContext(null, true, true);
+	private final List<TextDrawInfo> textToDraw = new ArrayList<TextDrawInfo>();
+	private final List<IconDrawInfo> iconsToDraw = new ArrayList<IconDrawInfo>();
+	private final CollisionGrid<TextDrawInfo> textIntersections = new CollisionGrid<TextDrawInfo>(64);
+	private final List<TextDrawInfo> tempSearch = new ArrayList<TextDrawInfo>();
+	private final QuadRect boundsSearch = new QuadRect();
+	private final RenderingOrderCache orderCache = new RenderingOrderCache();
+	private BasicStroke[] oneWay;
+	private BasicStroke[] reverseOneWay;
+
+	// current paint
+	private Paint paint;
+	private BasicStroke stroke;
+	private boolean fill;
+
+	/**
+	 * @param iconsDir directory with png icons named by rendering style resources or null to skip icons
+	 */
+	public Java2DMapRenderer(File iconsDir) {
+		this.iconsDir = iconsDir;
+	}
+
+	public void render(RenderingContext rc, List<BinaryMapDataObject> objects, RenderingRuleSearchRequest render,
+			Graphics2D g) {
+		long now = System.currentTimeMillis();
+		g.setColor(new Color(rc.defaultColor & 0xffffff));
+		g.fillRect(0, 0, rc.width, rc.height);
+		if (objects == null || objects.isEmpty() || rc.width == 0 || rc.height == 0) {
+			return;
+		}
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+		textToDraw.clear();
+		iconsToDraw.clear();
+		List<MapDataObjectPrimitive> pointsArray = new ArrayList<MapDataObjectPrimitive>();
+		List<MapDataObjectPrimitive> polygonsArray = new ArrayList<MapDataObjectPrimitive>();
+		List<MapDataObjectPrimitive> linesArray = new ArrayList<MapDataObjectPrimitive>();
+		int searches = render.getSearchCount();
+		rc.stats.start(Phase.SORT);
+		sortObjectsByProperOrder(rc, objects, render, pointsArray, polygonsArray, linesArray);
+		rc.stats.end(Phase.SORT);
+
+		rc.stats.start(Phase.POLYGONS);
+		drawObject(rc, g, render, polygonsArray, 0);
+		rc.stats.end(Phase.POLYGONS);
+		rc.stats.start(Phase.LINES);
+		if (rc.shadowRenderingMode > 1) {
+			drawObject(rc, g, render, linesArray, 1);
+		}
+		drawObject(rc, g, render, linesArray, 2);
+		rc.stats.end(Phase.LINES);
+		rc.stats.start(Phase.POINTS);
+		drawObject(rc, g, render, pointsArray, 3);
+		rc.stats.end(Phase.POINTS);
+		rc.stats.ruleSearches += render.getSearchCount() - searches;
+		long beforeIconTextTime = System.currentTimeMillis() - now;
+		rc.stats.start(Phase.ICONS);
+		drawIcons(rc, g);
+		rc.stats.end(Phase.ICONS);
+		rc.stats.start(Phase.TEXT);
+		drawText(rc, g);
+		rc.stats.end(Phase.TEXT);
+		long time = System.currentTimeMillis() - now;
+		rc.renderingDebugInfo = String.format("Rendering: %s ms  (%s text)\n"
+				+ "(%s points, %s points inside, %s of %s objects visible)",//$NON-NLS-1$
+				time, time - beforeIconTextTime, rc.pointCount, rc.pointInsideCount, rc.visible, rc.allObjects);
+		if (log.isDebugEnabled()) {
+			log.debug(rc.renderingDebugInfo);
+		}
+	}
+
+	private void drawObject(RenderingContext rc, Graphics2D g, RenderingRuleSearchRequest req,
+			List<MapDataObjectPrimitive> array, int objOrder) {
+		double minPolygonSize = 1. / rc.polygonMinSizeToDisplay;
+		for (int i = 0; i < array.size(); i++) {
+			rc.allObjects++;
+			MapDataObjectPrimitive p = array.get(i);
+			BinaryMapDataObject mObj = p.obj;
+			TagValuePair pair = mObj.getMapIndex().decodeType(mObj.getTypes()[p.typeInd]);
+			int visible = rc.visible;
+			if (p.objectType == 3) {
+				if (p.order > minPolygonSize + ((int) p.order)) {
+					continue;
+				}
+				drawPolygon(mObj, req, g, rc, pair, p.area);
+				rc.stats.polygonsDrawn += rc.visible - visible;
+			} else if (p.objectType == 2) {
+				drawPolyline(mObj, req, g, rc, pair, mObj.getSimpleLayer(), objOrder == 1);
+				rc.stats.linesDrawn += rc.visible - visible;
+			} else if (p.objectType == 1) {
+				drawPoint(mObj, req, rc, pair, p.typeInd == 0);
+				rc.stats.pointsDrawn += rc.visible - visible;
+			}
+			if (i % 25 == 0 && rc.interrupted) {
+				return;
+			}
+		}
+	}
+
+	private static Comparator<MapDataObjectPrimitive> sortByOrder() {
+		return new Comparator<MapDataObjectPrimitive>() {
+
+			@Override
+			public int compare(MapDataObjectPrimitive i, MapDataObjectPrimitive j) {
+				if (i.order == j.order) {
+					if (i.typeInd == j.typeInd) {
+						if (i.obj.getPointsLength() == j.obj.getPointsLength()) {
+							return 0;
+						}
+						return i.obj.getPointsLength() < j.obj.getPointsLength() ? -1 : 1;
+					}
+					return i.typeInd < j.typeInd ? -1 : 1;
+				}
+				return (i.order < j.order ? -1 : 1);
+			}
+		};
+	}
+
+	private void sortObjectsByProperOrder(RenderingContext rc, List<BinaryMapDataObject> objects,
+			RenderingRuleSearchRequest render, List<MapDataObjectPrimitive> pointsArray,
+			List<MapDataObjectPrimitive> polygonsArray, List<MapDataObjectPrimitive> linesArray) {
+		render.clearState();
+		float mult = (float) (1. / MapUtils.getPowZoom(Math.max(31 - (rc.zoom + 8), 0)));
+		for (int i = 0; i < objects.size(); i++) {
+			BinaryMapDataObject o = objects.get(i);
+			double area = -1;
+			for (int j = 0; j < o.getTypes().length; j++) {
+				OrderInfo info = orderCache.getOrder(render, o, j, rc.zoom);
+				if (info == null) {
+					continue;
+				}
+				int objectType = info.objectType;
+				int order = info.order;
+				MapDataObjectPrimitive mapObj = new MapDataObjectPrimitive();
+				mapObj.objectType = objectType;
+				mapObj.order = order;
+				mapObj.typeInd = j;
+				mapObj.obj = o;
+				if (objectType == 3) {
+					MapDataObjectPrimitive pointObj = new MapDataObjectPrimitive();
+					pointObj.objectType = 1;
+					pointObj.order = order;
+					pointObj.typeInd = j;
+					pointObj.obj = o;
+					if (area < 0) {
+						area = polygonArea(o, mult);
+					}
+					mapObj.area = area;
+					if (area > MAX_V) {
+						mapObj.order = mapObj.order + (1. / area);
+						if (order < DEFAULT_POLYGON_MAX) {
+							polygonsArray.add(mapObj);
+						} else {
+							linesArray.add(mapObj);
+						}
+						if (area > MAX_V_AREA || info.ignorePointArea) {
+							pointsArray.add(pointObj);
+						}
+					}
+				} else if (objectType == 1) {
+					pointsArray.add(mapObj);
+				} else {
+					linesArray.add(mapObj);
+				}
+			}
+			if (rc.interrupted) {
+				return;
+			}
+		}
+		Comparator<MapDataObjectPrimitive> sortByOrder = sortByOrder();
+		RenderingOrderCache.sortByOrder(polygonsArray, sortByOrder);
+		RenderingOrderCache.sortByOrder(pointsArray, sortByOrder);
+		RenderingOrderCache.sortByOrder(linesArray, sortByOrder);
+	}
+
+	private static double polygonArea(BinaryMapDataObject obj, float mult) {
+		double area = 0.;
+		int j = obj.getPointsLength() - 1;
+		for (int i = 0; i < obj.getPointsLength(); i++) {
+			int px = obj.getPoint31XTile(i);
+			int py = obj.getPoint31YTile(i);
+			int sx = obj.getPoint31XTile(j);
+			int sy = obj.getPoint31YTile(j);
+			area += (sx + ((float) px)) * (sy - ((float) py));
+			j = i;
+		}
+		return Math.abs(area) * mult * mult * .5;
+	}
+
+	private static float calcX(RenderingContext rc, int x31) {
+		return (float) ((x31 / rc.tileDivisor - rc.leftX) * TILE_SIZE);
+	}
+
+	private static float calcY(RenderingContext rc, int y31) {
+		return (float) ((y31 / rc.tileDivisor - rc.topY) * TILE_SIZE);
+	}
+
+	private static void countPoint(RenderingContext rc, float x, float y) {
+		rc.pointCount++;
+		if (x >= 0 && x < rc.width && y >= 0 && y < rc.height) {
+			rc.pointInsideCount++;
+		}
+	}
+
+	private void drawPolygon(BinaryMapDataObject obj, RenderingRuleSearchRequest render, Graphics2D g,
+			RenderingContext rc, TagValuePair pair, double area) {
+		if (pair == null) {
+			return;
+		}
+		render.setInitialTagValueZoom(pair.tag, pair.value, rc.zoom, obj);
+		boolean rendered = render.search(RenderingRulesStorage.POLYGON_RULES);
+		int len = obj.getPointsLength();
+		if (!rendered || len == 0 || !updatePaint(render, 0, true, rc)) {
+			return;
+		}
+		rc.visible++;
+		float xText = 0;
+		float yText = 0;
+		Path2D.Float path = new Path2D.Float(Path2D.WIND_EVEN_ODD, len);
+		for (int i = 0; i < len; i++) {
+			float x = calcX(rc, obj.getPoint31XTile(i));
+			float y = calcY(rc, obj.getPoint31YTile(i));
+			countPoint(rc, x, y);
+			xText += x;
+			yText += y;
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		int[][] polygonInnerCoordinates = obj.getPolygonInnerCoordinates();
+		if (polygonInnerCoordinates != null) {
+			for (int j = 0; j < polygonInnerCoordinates.length; j++) {
+				for (int i = 0; i < polygonInnerCoordinates[j].length; i += 2) {
+					float x = calcX(rc, polygonInnerCoordinates[j][i]);
+					float y = calcY(rc, polygonInnerCoordinates[j][i + 1]);
+					if (i == 0) {
+						path.moveTo(x, y);
+					} else {
+						path.lineTo(x, y);
+					}
+				}
+			}
+		}
+		drawPath(g, path);
+		if (updatePaint(render, 1, false, rc)) {
+			drawPath(g, path);
+		}
+		boolean ignorePointArea = render.getIntPropertyValue(render.ALL.R_IGNORE_POLYGON_AS_POINT_AREA) != 0;
+		if (area > MAX_V_AREA || ignorePointArea) {
+			renderText(obj, render, rc, pair, xText / len, yText / len, null, null);
+		}
+	}
+
+	private void drawPath(Graphics2D g, Shape path) {
+		g.setPaint(paint);
+		if (fill) {
+			g.fill(path);
+		} else {
+			g.setStroke(stroke);
+			g.draw(path);
+		}
+	}
+
+	private boolean updatePaint(RenderingRuleSearchRequest req, int ind, boolean area, RenderingContext rc) {
+		RenderingRuleProperty rColor;
+		RenderingRuleProperty rStrokeW;
+		RenderingRuleProperty rCap;
+		RenderingRuleProperty rPathEff;
+		if (ind == 0) {
+			rColor = req.ALL.R_COLOR;
+			rStrokeW = req.ALL.R_STROKE_WIDTH;
+			rCap = req.ALL.R_CAP;
+			rPathEff = req.ALL.R_PATH_EFFECT;
+		} else if (ind == 1) {
+			rColor = req.ALL.R_COLOR_2;
+			rStrokeW = req.ALL.R_STROKE_WIDTH_2;
+			rCap = req.ALL.R_CAP_2;
+			rPathEff = req.ALL.R_PATH_EFFECT_2;
+		} else if (ind == -1) {
+			rColor = req.ALL.R_COLOR_0;
+			rStrokeW = req.ALL.R_STROKE_WIDTH_0;
+			rCap = req.ALL.R_CAP_0;
+			rPathEff = req.ALL.R_PATH_EFFECT_0;
+		} else if (ind == -2) {
+			rColor = req.ALL.R_COLOR__1;
+			rStrokeW = req.ALL.R_STROKE_WIDTH__1;
+			rCap = req.ALL.R_CAP__1;
+			rPathEff = req.ALL.R_PATH_EFFECT__1;
+		} else if (ind == 2) {
+			rColor = req.ALL.R_COLOR_3;
+			rStrokeW = req.ALL.R_STROKE_WIDTH_3;
+			rCap = req.ALL.R_CAP_3;
+			rPathEff = req.ALL.R_PATH_EFFECT_3;
+		} else if (ind == -3) {
+			rColor = req.ALL.R_COLOR__2;
+			rStrokeW = req.ALL.R_STROKE_WIDTH__2;
+			rCap = req.ALL.R_CAP__2;
+			rPathEff = req.ALL.R_PATH_EFFECT__2;
+		} else if (ind == 3) {
+			rColor = req.ALL.R_COLOR_4;
+			rStrokeW = req.ALL.R_STROKE_WIDTH_4;
+			rCap = req.ALL.R_CAP_4;
+			rPathEff = req.ALL.R_PATH_EFFECT_4;
+		} else {
+			rColor = req.ALL.R_COLOR_5;
+			rStrokeW = req.ALL.R_STROKE_WIDTH_5;
+			rCap = req.ALL.R_CAP_5;
+			rPathEff = req.ALL.R_PATH_EFFECT_5;
+		}
+		if (area) {
+			if (!req.isSpecified(rColor) && !req.isSpecified(req.ALL.R_SHADER)) {
+				return false;
+			}
+			fill = true;
+			stroke = null;
+		} else {
+			if (!req.isSpecified(rStrokeW)) {
+				return false;
+			}
+			fill = false;
+			int cap = BasicStroke.CAP_BUTT;
+			String capName = req.getStringPropertyValue(rCap);
+			if ("ROUND".equalsIgnoreCase(capName)) {
+				cap = BasicStroke.CAP_ROUND;
+			} else if ("SQUARE".equalsIgnoreCase(capName)) {
+				cap = BasicStroke.CAP_SQUARE;
+			}
+			float[] dashes = null;
+			String pathEffect = req.getStringPropertyValue(rPathEff);
+			if (!Algorithms.isEmpty(pathEffect)) {
+				dashes = getDashEffect(rc, pathEffect);
+			}
+			stroke = new BasicStroke(rc.getComplexValue(req, rStrokeW), cap, BasicStroke.JOIN_MITER, 4, dashes, 0);
+		}
+		paint = new Color(req.getIntPropertyValue(rColor), true);
+		if (ind == 0) {
+			String resId = req.getStringPropertyValue(req.ALL.R_SHADER);
+			if (resId != null) {
+				BufferedImage shader = getIcon(resId);
+				if (shader != null) {
+					paint = new TexturePaint(shader, new Rectangle(0, 0, shader.getWidth(), shader.getHeight()));
+				}
+			}
+		}
+		return true;
+	}
+
+	private float[] getDashEffect(RenderingContext rc, String pathEffect) {
+		float[] cachedValues = parsedDashEffects.get(pathEffect);
+		if (cachedValues == null) {
+			String[] vls = pathEffect.split("_");
+			cachedValues = new float[vls.length * 2];
+			for (int i = 0; i < vls.length; i++) {
+				int s = vls[i].indexOf(':');
+				String pre = vls[i];
+				String post = "";
+				if (s != -1) {
+					pre = vls[i].substring(0, s);
+					post = vls[i].substring(s + 1);
+				}
+				if (pre.length() > 0) {
+					cachedValues[i * 2] = Float.parseFloat(pre);
+				}
+				if (post.length() > 0) {
+					cachedValues[i * 2 + 1] = Float.parseFloat(post);
+				}
+			}
+			parsedDashEffects.put(pathEffect, cachedValues);
+		}
+		float[] dashes = new float[cachedValues.length / 2];
+		boolean positive = false;
+		for (int i = 0; i < dashes.length; i++) {
+			dashes[i] = rc.getDensityValue(cachedValues[i * 2]) + cachedValues[i * 2 + 1];
+			positive |= dashes[i] > 0;
+		}
+		// java2d doesn't accept dashes without any visible segment
+		return positive ? dashes : null;
+	}
+
+	private void drawPoint(BinaryMapDataObject obj, RenderingRuleSearchRequest render, RenderingContext rc,
+			TagValuePair pair, boolean renderText) {
+		if (pair == null) {
+			return;
+		}
+		render.setInitialTagValueZoom(pair.tag, pair.value, rc.zoom, obj);
+		render.setIntFilter(render.ALL.R_TEXT_LENGTH, obj.getName().length());
+		render.search(RenderingRulesStorage.POINT_RULES);
+		String resId = render.getStringPropertyValue(render.ALL.R_ICON);
+		if (resId == null && !renderText) {
+			return;
+		}
+		int len = obj.getPointsLength();
+		rc.visible++;
+		float px = 0;
+		float py = 0;
+		for (int i = 0; i < len; i++) {
+			float x = calcX(rc, obj.getPoint31XTile(i));
+			float y = calcY(rc, obj.getPoint31YTile(i));
+			countPoint(rc, x, y);
+			px += x;
+			py += y;
+		}
+		if (len > 1) {
+			px /= len;
+			py /= len;
+		}
+		if (resId != null) {
+			IconDrawInfo ico = new IconDrawInfo();
+			ico.x = px;
+			ico.y = py;
+			ico.iconOrder = render.getIntPropertyValue(render.ALL.R_ICON_ORDER, 100);
+			ico.iconSize = rc.getComplexValue(render, render.ALL.R_ICON_VISIBLE_SIZE, -1);
+			ico.shieldId = render.getStringPropertyValue(render.ALL.R_SHIELD);
+			ico.resId_1 = render.getStringPropertyValue(render.ALL.R_ICON__1);
+			ico.resId = resId;
+			ico.resId2 = render.getStringPropertyValue(render.ALL.R_ICON_2);
+			iconsToDraw.add(ico);
+		}
+		if (renderText) {
+			renderText(obj, render, rc, pair, px, py, null, null);
+		}
+	}
+
+	private void drawPolylineShadow(Graphics2D g, RenderingContext rc, Shape path, int shadowColor, int shadowRadius) {
+		// blur is not available for java2d strokes, so blurred shadow is drawn as solid border
+		if ((rc.shadowRenderingMode == ShadowRenderingMode.BLUR_SHADOW.value
+				|| rc.shadowRenderingMode == ShadowRenderingMode.SOLID_SHADOW.value) && shadowRadius > 0) {
+			g.setPaint(new Color(shadowColor, true));
+			g.setStroke(new BasicStroke(stroke.getLineWidth() + shadowRadius * 2, stroke.getEndCap(),
+					stroke.getLineJoin(), stroke.getMiterLimit(), stroke.getDashArray(), stroke.getDashPhase()));
+			g.draw(path);
+		}
+	}
+
+	private void drawPolyline(BinaryMapDataObject obj, RenderingRuleSearchRequest render, Graphics2D g,
+			RenderingContext rc, TagValuePair pair, int layer, boolean drawOnlyShadow) {
+		if (pair == null) {
+			return;
+		}
+		int length = obj.getPointsLength();
+		if (length < 2) {
+			return;
+		}
+		render.setInitialTagValueZoom(pair.tag, pair.value, rc.zoom, obj);
+		render.setIntFilter(render.ALL.R_LAYER, layer);
+		boolean rendered = render.search(RenderingRulesStorage.LINE_RULES);
+		if (!rendered || !updatePaint(render, 0, false, rc)) {
+			return;
+		}
+		int oneway = 0;
+		if (rc.zoom >= 16 && "highway".equals(pair.tag)) { //$NON-NLS-1$
+			if (obj.containsAdditionalType(obj.getMapIndex().onewayAttribute)) {
+				oneway = 1;
+			} else if (obj.containsAdditionalType(obj.getMapIndex().onewayReverseAttribute)) {
+				oneway = -1;
+			}
+		}
+		rc.visible++;
+		Path2D.Float path = new Path2D.Float(Path2D.WIND_NON_ZERO, length);
+		float xMid = 0;
+		float yMid = 0;
+		int middle = length / 2;
+		float[] xs = new float[length];
+		float[] ys = new float[length];
+		boolean intersect = false;
+		for (int i = 0; i < length; i++) {
+			float x = calcX(rc, obj.getPoint31XTile(i));
+			float y = calcY(rc, obj.getPoint31YTile(i));
+			countPoint(rc, x, y);
+			xs[i] = x;
+			ys[i] = y;
+			if (!intersect) {
+				if (x >= 0 && y >= 0 && x < rc.width && y < rc.height) {
+					intersect = true;
+				} else if (i > 0) {
+					float prevX = xs[i - 1];
+					float prevY = ys[i - 1];
+					intersect = !((x < 0 && prevX < 0) || (y < 0 && prevY < 0)
+							|| (x > rc.width && prevX > rc.width) || (y > rc.height && prevY > rc.height));
+				}
+			}
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				if (i == middle) {
+					xMid = x;
+					yMid = y;
+				}
+				path.lineTo(x, y);
+			}
+		}
+		if (!intersect) {
+			return;
+		}
+		if (drawOnlyShadow) {
+			int shadowColor = render.getIntPropertyValue(render.ALL.R_SHADOW_COLOR);
+			int shadowRadius = (int) rc.getComplexValue(render, render.ALL.R_SHADOW_RADIUS);
+			if (shadowColor == 0) {
+				shadowColor = rc.shadowRenderingColor;
+			}
+			drawPolylineShadow(g, rc, path, shadowColor, shadowRadius);
+			return;
+		}
+		boolean update = false;
+		for (int ind = -3; ind <= -1; ind++) {
+			if (updatePaint(render, ind, false, rc)) {
+				update = true;
+				drawPath(g, path);
+			}
+		}
+		if (update) {
+			updatePaint(render, 0, false, rc);
+		}
+		drawPath(g, path);
+		for (int ind = 1; ind <= 4; ind++) {
+			if (updatePaint(render, ind, false, rc)) {
+				drawPath(g, path);
+			}
+		}
+		if (oneway != 0) {
+			BasicStroke[] strokes = oneway == -1 ? getReverseOneWayStrokes(rc) : getOneWayStrokes(rc);
+			g.setPaint(new Color(0xff6c70d5, true));
+			for (int i = 0; i < strokes.length; i++) {
+				g.setStroke(strokes[i]);
+				g.draw(path);
+			}
+		}
+		renderText(obj, render, rc, pair, xMid, yMid, xs, ys);
+	}
+
+	private static BasicStroke oneWayStroke(float width, float[] dashes, float phase) {
+		return new BasicStroke(width, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 4, dashes, phase);
+	}
+
+	private BasicStroke[] getReverseOneWayStrokes(RenderingContext rc) {
+		if (reverseOneWay == null) {
+			int rmin = (int) rc.getDensityValue(1);
+			if (rmin > 2) {
+				rmin = rmin / 2;
+			}
+			reverseOneWay = new BasicStroke[] {
+					oneWayStroke(rmin * 2, new float[] { 0, 12, 10 * rmin, 152 }, 0),
+					oneWayStroke(rmin, new float[] { 0, 12 + rmin, 9 * rmin, 152 }, 1),
+					oneWayStroke(rmin * 3, new float[] { 0, 12 + 2 * rmin, 2 * rmin, 152 + 6 * rmin }, 1),
+					oneWayStroke(rmin * 4, new float[] { 0, 12 + 3 * rmin, 1 * rmin, 152 + 6 * rmin }, 1) };
+		}
+		return reverseOneWay;
+	}
+
+	private BasicStroke[] getOneWayStrokes(RenderingContext rc) {
+		if (oneWay == null) {
+			float rmin = rc.getDensityValue(1);
+			if (rmin > 1) {
+				rmin = rmin * 2 / 3;
+			}
+			oneWay = new BasicStroke[] {
+					oneWayStroke(rmin, new float[] { 0, 12, 10 * rmin, 152 }, 0),
+					oneWayStroke(rmin * 2, new float[] { 0, 12, 9 * rmin, 152 + rmin }, 1),
+					oneWayStroke(rmin * 3, new float[] { 0, 12 + 6 * rmin, 2 * rmin, 152 + 2 * rmin }, 1),
+					oneWayStroke(rmin * 4, new float[] { 0, 12 + 6 * rmin, 1 * rmin, 152 + 3 * rmin }, 1) };
+		}
+		return oneWay;
+	}
+
+	/**
+	 * Loads icon from icons directory (null results are cached too), override to take icons from other source
+	 */
+	protected BufferedImage getIcon(String resId) {
+		if (resId == null || iconsDir == null) {
+			return null;
+		}
+		if (icons.containsKey(resId)) {
+			return icons.get(resId);
+		}
+		BufferedImage img = null;
+		File f = new File(iconsDir, resId + ".png");
+		if (f.exists()) {
+			try {
+				img = ImageIO.read(f);
+			} catch (IOException e) {
+				log.warn("Icon " + f + " could not be read", e);
+			}
+		}
+		icons.put(resId, img);
+		return img;
+	}
+
+	private void drawIcons(RenderingContext rc, Graphics2D g) {
+		Collections.sort(iconsToDraw, new Comparator<IconDrawInfo>() {
+			@Override
+			public int compare(IconDrawInfo object1, IconDrawInfo object2) {
+				return object1.iconOrder - object2.iconOrder;
+			}
+		});
+		QuadRect bounds = new QuadRect(0, 0, rc.width, rc.height);
+		bounds.inset(-bounds.width() / 4, -bounds.height() / 4);
+		QuadTree<QuadRect> boundIntersections = new QuadTree<QuadRect>(bounds, 4, 0.6f);
+		List<QuadRect> result = new ArrayList<QuadRect>();
+		float coeff = rc.getDensityValue(rc.screenDensityRatio * rc.textScale);
+		for (IconDrawInfo icon : iconsToDraw) {
+			BufferedImage ico = getIcon(icon.resId);
+			if (ico == null || icon.y < 0 || icon.y >= rc.height || icon.x < 0 || icon.x >= rc.width) {
+				continue;
+			}
+			int visibleWidth = icon.iconSize >= 0 ? (int) icon.iconSize : ico.getWidth();
+			int visibleHeight = icon.iconSize >= 0 ? (int) icon.iconSize : ico.getHeight();
+			QuadRect visibleRect = null;
+			if (visibleHeight > 0 && visibleWidth > 0) {
+				visibleRect = calculateRect(icon.x, icon.y, visibleWidth, visibleHeight, coeff);
+				boolean intersects = false;
+				boundIntersections.queryInBox(visibleRect, result);
+				for (QuadRect r : result) {
+					if (QuadRect.intersects(r, visibleRect)) {
+						intersects = true;
+						break;
+					}
+				}
+				if (intersects) {
+					rc.stats.iconsRejected++;
+					continue;
+				}
+			}
+			rc.stats.iconsPlaced++;
+			drawIcon(g, getIcon(icon.shieldId), icon.x, icon.y, coeff);
+			drawIcon(g, getIcon(icon.resId_1), icon.x, icon.y, coeff);
+			drawIcon(g, ico, icon.x, icon.y, coeff);
+			drawIcon(g, getIcon(icon.resId2), icon.x, icon.y, coeff);
+			if (visibleRect != null) {
+				visibleRect.inset(-visibleRect.width() / 4, -visibleRect.height() / 4);
+				boundIntersections.insert(visibleRect, visibleRect);
+			}
+		}
+	}
+
+	private static QuadRect calculateRect(float x, float y, float width, float height, float coeff) {
+		double left = x - width / 2 * coeff;
+		double top = y - height / 2 * coeff;
+		return new QuadRect(left, top, left + width * coeff, top + height * coeff);
+	}
+
+	private static void drawIcon(Graphics2D g, BufferedImage ico, float x, float y, float coeff) {
+		if (ico != null) {
+			QuadRect r = calculateRect(x, y, ico.getWidth(), ico.getHeight(), coeff);
+			g.drawImage(ico, (int) r.left, (int) r.top, (int) Math.ceil(r.width()), (int) Math.ceil(r.height()), null);
+		}
+	}
+
+	private Font getFont(boolean bold, boolean italic, float size) {
+		int style = (bold ? Font.BOLD : 0) | (italic ? Font.ITALIC : 0);
+		int key = (Math.round(size * 10) << 2) | style;
+		Font f = fonts.get(key);
+		if (f == null) {
+			f = new Font(Font.SERIF, style, 1).deriveFont(size);
+			fonts.put(key, f);
+		}
+		return f;
+	}
+
+	private void renderText(final BinaryMapDataObject obj, final RenderingRuleSearchRequest render,
+			final RenderingContext rc, final TagValuePair pair, final float xMid, final float yMid,
+			final float[] xs, final float[] ys) {
+		final TIntObjectHashMap<String> map = obj.getObjectNames();
+		if (map == null) {
+			return;
+		}
+		map.forEachEntry(new TIntObjectProcedure<String>() {
+			@Override
+			public boolean execute(int tag, String name) {
+				if (name != null && name.trim().length() > 0) {
+					boolean isName = tag == obj.getMapIndex().nameEncodingType;
+					String nameTag = isName ? "" : obj.getMapIndex().decodeType(tag).tag;
+					// not completely correct we should check "name"+rc.preferredLocale
+					boolean skip = isName && !rc.preferredLocale.equals("")
+							&& map.containsKey(obj.getMapIndex().nameEnEncodingType);
+					if (!skip) {
+						createTextDrawInfo(obj, render, rc, pair, xMid, yMid, xs, ys, name, nameTag);
+					}
+				}
+				return true;
+			}
+		});
+	}
+
+	private void createTextDrawInfo(final BinaryMapDataObject o, RenderingRuleSearchRequest render,
+			RenderingContext rc, TagValuePair pair, float xMid, float yMid, float[] xs, float[] ys,
+			String name, String tagName) {
+		render.setInitialTagValueZoom(pair.tag, pair.value, rc.zoom, o);
+		render.setIntFilter(render.ALL.R_TEXT_LENGTH, name.length());
+		render.setStringFilter(render.ALL.R_NAME_TAG, tagName);
+		if (!render.search(RenderingRulesStorage.TEXT_RULES)
+				|| render.getFloatPropertyValue(render.ALL.R_TEXT_SIZE) <= 0) {
+			return;
+		}
+		final TextDrawInfo text = new TextDrawInfo(name);
+		text.fillProperties(rc, render, xMid, yMid);
+		final String tagName2 = render.getStringPropertyValue(render.ALL.R_NAME_TAG2);
+		if (!Algorithms.isEmpty(tagName2)) {
+			o.getObjectNames().forEachEntry(new TIntObjectProcedure<String>() {
+				@Override
+				public boolean execute(int tagid, String nname) {
+					String tagNameN2 = o.getMapIndex().decodeType(tagid).tag;
+					if (tagName2.equals(tagNameN2)) {
+						if (nname != null && nname.trim().length() > 0) {
+							text.text += " (" + nname + ")";
+						}
+						return false;
+					}
+					return true;
+				}
+			});
+		}
+		Rectangle2D bs = getFont(text.bold, text.italic, text.textSize).createGlyphVector(frc, name).getVisualBounds();
+		text.bounds = new QuadRect(bs.getMinX(), bs.getMinY(), bs.getMaxX(), bs.getMaxY());
+		text.bounds.inset(-rc.getDensityValue(3), -rc.getDensityValue(10));
+		boolean display = true;
+		if (xs != null) {
+			text.pathX = xs;
+			text.pathY = ys;
+			display = calculatePathToRotate(rc, text, xs, ys,
+					render.getIntPropertyValue(render.ALL.R_TEXT_ON_PATH, 0) != 0);
+		}
+		if (text.pathX == null) {
+			text.bounds.offset(text.centerX, text.centerY);
+			// shift to match alignment
+			text.bounds.offset(-text.bounds.width() / 2, 0);
+		} else {
+			text.bounds.offset(text.centerX - text.bounds.width() / 2, text.centerY - text.bounds.height() / 2);
+		}
+		if (display) {
+			textToDraw.add(text);
+		}
+	}
+
+	private static float fsqr(float a) {
+		return a * a;
+	}
+
+	private boolean calculatePathToRotate(RenderingContext rc, TextDrawInfo p, float[] xs, float[] ys,
+			boolean drawOnPath) {
+		int len = xs.length;
+		if (!drawOnPath) {
+			p.pathX = null;
+			p.pathY = null;
+			// simply calculate rotation of path used for shields
+			float px = 0;
+			float py = 0;
+			for (int i = 1; i < len; i++) {
+				px += xs[i] - xs[i - 1];
+				py += ys[i] - ys[i - 1];
+			}
+			if (px != 0 || py != 0) {
+				p.pathRotate = (float) (-Math.atan2(px, py) + Math.PI / 2);
+			}
+			return true;
+		}
+		boolean inverse = false;
+		float roadLength = 0;
+		boolean prevInside = false;
+		float visibleRoadLength = 0;
+		float textw = (float) p.bounds.width();
+		int last = 0;
+		int startVisible = 0;
+		float[] distances = new float[len - 1];
+		float normalTextLen = 1.5f * textw;
+		for (int i = 0; i < len; i++, last++) {
+			boolean inside = xs[i] >= 0 && xs[i] <= rc.width && ys[i] >= 0 && ys[i] <= rc.height;
+			if (i > 0) {
+				float d = (float) Math.sqrt(fsqr(xs[i] - xs[i - 1]) + fsqr(ys[i] - ys[i - 1]));
+				distances[i - 1] = d;
+				roadLength += d;
+				if (inside) {
+					visibleRoadLength += d;
+					if (!prevInside) {
+						startVisible = i - 1;
+					}
+				} else if (prevInside) {
+					if (visibleRoadLength >= normalTextLen) {
+						break;
+					}
+					visibleRoadLength = 0;
+				}
+			}
+			prevInside = inside;
+		}
+		if (textw >= roadLength) {
+			return false;
+		}
+		int startInd = 0;
+		int endInd = len;
+		if (textw < visibleRoadLength && last - startVisible > 1) {
+			startInd = startVisible;
+			endInd = last;
+			// display long road name in center
+			if (visibleRoadLength > 3 * textw) {
+				boolean ch;
+				do {
+					ch = false;
+					if (endInd - startInd > 2 && visibleRoadLength - distances[startInd] > normalTextLen) {
+						visibleRoadLength -= distances[startInd];
+						startInd++;
+						ch = true;
+					}
+					if (endInd - startInd > 2 && visibleRoadLength - distances[endInd - 2] > normalTextLen) {
+						visibleRoadLength -= distances[endInd - 2];
+						endInd--;
+						ch = true;
+					}
+				} while (ch);
+			}
+		}
+		// calculate vector of the road (px, py) to proper rotate it
+		float px = 0;
+		float py = 0;
+		for (int i = startInd + 1; i < endInd; i++) {
+			px += xs[i] - xs[i - 1];
+			py += ys[i] - ys[i - 1];
+		}
+		float scale = 0.5f;
+		float plen = (float) Math.sqrt(px * px + py * py);
+		// vector ox,oy orthogonal to px,py to measure height
+		float ox = -py;
+		float oy = px;
+		if (plen > 0) {
+			float rot = (float) (-Math.atan2(px, py) + Math.PI / 2);
+			if (rot < 0) {
+				rot += Math.PI * 2;
+			}
+			if (rot > Math.PI / 2f && rot < 3 * Math.PI / 2f) {
+				rot += Math.PI;
+				inverse = true;
+				ox = -ox;
+				oy = -oy;
+			}
+			p.pathRotate = rot;
+			ox *= (p.bounds.height() / plen) / 2;
+			oy *= (p.bounds.height() / plen) / 2;
+		}
+		p.centerX = xs[startInd] + scale * px + ox;
+		p.centerY = ys[startInd] + scale * py + oy;
+		// find subpath (reversed to keep text readable)
+		p.pathX = new float[endInd - startInd];
+		p.pathY = new float[endInd - startInd];
+		for (int i = startInd; i < endInd; i++) {
+			int k = inverse ? endInd - 1 - i : i - startInd;
+			p.pathX[k] = xs[i];
+			p.pathY[k] = ys[i];
+		}
+		return true;
+	}
+
+	private boolean findTextIntersection(RenderingContext rc, TextDrawInfo text) {
+		textIntersections.queryInBox(text.bounds, tempSearch);
+		for (int i = 0; i < tempSearch.size(); i++) {
+			TextDrawInfo t = tempSearch.get(i);
+			if (CollisionGrid.intersects(text.bounds, text.pathRotate, t.bounds, t.pathRotate)) {
+				return true;
+			}
+		}
+		if (text.minDistance > 0) {
+			boundsSearch.left = text.bounds.left;
+			boundsSearch.top = text.bounds.top;
+			boundsSearch.right = text.bounds.right;
+			boundsSearch.bottom = text.bounds.bottom;
+			boundsSearch.inset(-Math.max(rc.getDensityValue(5.0f), text.minDistance), -rc.getDensityValue(15));
+			textIntersections.queryInBox(boundsSearch, tempSearch);
+			for (int i = 0; i < tempSearch.size(); i++) {
+				TextDrawInfo t = tempSearch.get(i);
+				if (t.minDistance > 0 && t.text.equals(text.text)
+						&& CollisionGrid.intersects(boundsSearch, text.pathRotate, t.bounds, t.pathRotate)) {
+					return true;
+				}
+			}
+		}
+		textIntersections.insert(text, text.bounds);
+		return false;
+	}
+
+	private void drawText(RenderingContext rc, Graphics2D g) {
+		Collections.sort(textToDraw, TEXT_ORDER);
+		textIntersections.reset(new QuadRect(-100, -100, rc.width + 100, rc.height + 100));
+		float coeff = rc.getDensityValue(rc.screenDensityRatio * rc.textScale);
+		for (int i = 0; i < textToDraw.size(); i++) {
+			TextDrawInfo text = textToDraw.get(i);
+			if (text.text == null || text.text.length() == 0) {
+				continue;
+			}
+			if (rc.preferredLocale.length() > 0) {
+				text.text = Junidecode.unidecode(text.text);
+			}
+			float textSize = text.textSize * rc.textScale;
+			Font font = getFont(text.bold, text.italic, textSize);
+			LineMetrics lm = font.getLineMetrics(text.text, frc);
+			// align center y
+			text.centerY += lm.getAscent();
+			if (findTextIntersection(rc, text)) {
+				rc.stats.textRejected++;
+				continue;
+			}
+			rc.stats.textPlaced++;
+			if (text.pathX != null) {
+				GlyphVector gv = font.createGlyphVector(frc, text.text);
+				Shape outline = getTextOnPathOutline(gv, text.pathX, text.pathY,
+						text.vOffset + lm.getAscent() / 2 - lm.getDescent());
+				drawTextOutline(g, outline, text);
+			} else {
+				BufferedImage shield = getIcon(text.shieldRes);
+				drawIcon(g, shield, text.centerX, text.centerY - lm.getDescent(), coeff);
+				drawIcon(g, getIcon(text.shieldResIcon), text.centerX, text.centerY - lm.getDescent(), coeff);
+				drawWrappedText(g, font, text, textSize);
+			}
+		}
+	}
+
+	private void drawTextOutline(Graphics2D g, Shape outline, TextDrawInfo text) {
+		if (outline == null) {
+			return;
+		}
+		if (text.textShadow > 0) {
+			g.setPaint(new Color(text.textShadowColor, true));
+			g.setStroke(new BasicStroke(2 + text.textShadow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+			g.draw(outline);
+		}
+		g.setPaint(new Color(text.textColor, true));
+		g.fill(outline);
+	}
+
+	private void drawCenteredText(Graphics2D g, Font font, String s, float centerX, float centerY, TextDrawInfo text) {
+		GlyphVector gv = font.createGlyphVector(frc, s);
+		float w = (float) gv.getLogicalBounds().getWidth();
+		drawTextOutline(g, gv.getOutline(centerX - w / 2, centerY), text);
+	}
+
+	private void drawWrappedText(Graphics2D g, Font font, TextDrawInfo text, float textSize) {
+		if (text.textWrap == 0) {
+			// set maximum for all text
+			text.textWrap = DEFAULT_TEXT_WRAP;
+		}
+		if (text.text.length() <= text.textWrap) {
+			drawCenteredText(g, font, text.text, text.centerX, text.centerY, text);
+			return;
+		}
+		int start = 0;
+		int end = text.text.length();
+		int line = 0;
+		int pos = 0;
+		int limit = 0;
+		while (pos < end) {
+			int lastSpace = -1;
+			limit += text.textWrap;
+			while (pos < limit && pos < end) {
+				if (!Character.isLetterOrDigit(text.text.charAt(pos))) {
+					lastSpace = pos;
+				}
+				pos++;
+			}
+			float y = text.centerY + line * (textSize + 2);
+			if (lastSpace == -1 || pos == end) {
+				drawCenteredText(g, font, text.text.substring(start, pos), text.centerX, y, text);
+				start = pos;
+			} else {
+				drawCenteredText(g, font, text.text.substring(start, lastSpace), text.centerX, y, text);
+				start = lastSpace + 1;
+				limit += (start - pos) - 1;
+			}
+			line++;
+		}
+	}
+
+	/**
+	 * Places glyphs along polyline centered by its length (as text with center alignment on android path)
+	 */
+	private static Shape getTextOnPathOutline(GlyphVector gv, float[] xs, float[] ys, float vOffset) {
+		float[] dist = new float[xs.length];
+		for (int i = 1; i < xs.length; i++) {
+			dist[i] = dist[i - 1] + (float) Math.sqrt(fsqr(xs[i] - xs[i - 1]) + fsqr(ys[i] - ys[i - 1]));
+		}
+		float textWidth = (float) gv.getLogicalBounds().getWidth();
+		float pathLength = dist[dist.length - 1];
+		if (pathLength == 0) {
+			return null;
+		}
+		float start = (pathLength - textWidth) / 2;
+		Path2D.Float res = new Path2D.Float();
+		AffineTransform t = new AffineTransform();
+		int seg = 1;
+		for (int i = 0; i < gv.getNumGlyphs(); i++) {
+			Point2D pos = gv.getGlyphPosition(i);
+			float advance = gv.getGlyphMetrics(i).getAdvance();
+			float mid = (float) (start + pos.getX() + advance / 2);
+			if (mid < 0 || mid > pathLength) {
+				continue;
+			}
+			while (seg < dist.length - 1 && dist[seg] < mid) {
+				seg++;
+			}
+			float segLength = dist[seg] - dist[seg - 1];
+			float k = segLength == 0 ? 0 : (mid - dist[seg - 1]) / segLength;
+			float x = xs[seg - 1] + k * (xs[seg] - xs[seg - 1]);
+			float y = ys[seg - 1] + k * (ys[seg] - ys[seg - 1]);
+			t.setToTranslation(x, y);
+			t.rotate(Math.atan2(ys[seg] - ys[seg - 1], xs[seg] - xs[seg - 1]));
+			t.translate(-pos.getX() - advance / 2, vOffset);
+			res.append(t.createTransformedShape(gv.getGlyphOutline(i)), false);
+		}
+		return res;
+	}
+}
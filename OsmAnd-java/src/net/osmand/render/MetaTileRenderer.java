@@ -0,0 +1,372 @@
+package net.osmand.render;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.set.hash.TLongHashSet;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.osmand.PlatformUtil;
+import net.osmand.RenderingContext;
+import net.osmand.RenderingStats;
+import net.osmand.RenderingStats.Phase;
+import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+import net.osmand.binary.BinaryMapIndexReader.SearchFilter;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+import net.osmand.util.MapUtils;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Headless raster tile renderer: tiles are rendered by metatiles of {@link #META_SIZE}x{@link #META_SIZE} tiles
+ * (with buffer around) so labels and icons are placed once for all tiles of metatile and stay consistent across
+ * tile edges. Metatiles are rendered by pool of threads, every thread has own copies of map files, search request
+ * and renderer, so only rendering style is shared. Recently rendered metatiles are kept to serve their other tiles.
+ */
+public class MetaTileRenderer {
+	private static final Log log = PlatformUtil.getLog(MetaTileRenderer.class);
+
+	public static final int META_SIZE = 8;
+	// pixels rendered around metatile to draw objects and labels crossing its edges
+	public static final int BUFFER = 128;
+	private static final int TILE_SIZE = Java2DMapRenderer.TILE_SIZE;
+	private static final int ZOOM_ONLY_FOR_BASEMAPS = 11;
+	private static final int MAX_ZOOM_WITH_FILTER = 16;
+	// geometry is simplified while reading (quarter of pixel) and polygons smaller than pixel are skipped
+	private static final int MAX_ZOOM_WITH_SIMPLIFICATION = 12;
+
+	private final List<BinaryMapIndexReader> files;
+	private final RenderingRulesStorage storage;
+	private final boolean nightMode;
+	private final Map<String, String> renderingProps;
+	private final File iconsDir;
+	private final ExecutorService executor;
+	private final ThreadLocal<Worker> workers = new ThreadLocal<Worker>();
+	private final List<Worker> allWorkers = new ArrayList<Worker>();
+	private final Map<Long, Future<BufferedImage[]>> metaTiles;
+	private final RenderingStats stats = new RenderingStats();
+
+	/**
+	 * @param files opened map files, they are only used as reference for per thread copies
+	 * @param renderingProps values of custom rendering style properties
+	 * @param iconsDir directory with png icons or null to render without icons
+	 * @param maxCachedMetaTiles number of rendered metatiles kept in memory
+	 */
+	public MetaTileRenderer(List<BinaryMapIndexReader> files, RenderingRulesStorage storage, boolean nightMode,
+			Map<String, String> renderingProps, File iconsDir, int threads, final int maxCachedMetaTiles) {
+		this.files = files;
+		this.storage = storage;
+		this.nightMode = nightMode;
+		this.renderingProps = renderingProps;
+		this.iconsDir = iconsDir;
+		this.metaTiles = new LinkedHashMap<Long, Future<BufferedImage[]>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Future<BufferedImage[]>> eldest) {
+				return size() > maxCachedMetaTiles;
+			}
+		};
+		final AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "MetaTileRenderer-" + threadNumber.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	private class Worker {
+		final List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+		final RenderingRuleSearchRequest request;
+		final Java2DMapRenderer renderer;
+
+		Worker() throws IOException {
+			for (BinaryMapIndexReader r : files) {
+				readers.add(new BinaryMapIndexReader(new RandomAccessFile(r.getFile(), "r"), r));
+			}
+			request = RenderingRuleSearchRequest.createWithCustomRules(storage, nightMode, renderingProps);
+			renderer = new Java2DMapRenderer(iconsDir);
+		}
+
+		void close() {
+			for (BinaryMapIndexReader r : readers) {
+				try {
+					r.close();
+				} catch (IOException e) {
+					log.warn("Map file could not be closed " + r.getFile(), e);
+				}
+			}
+		}
+	}
+
+	private Worker getWorker() throws IOException {
+		Worker w = workers.get();
+		if (w == null) {
+			w = new Worker();
+			workers.set(w);
+			synchronized (allWorkers) {
+				allWorkers.add(w);
+			}
+		}
+		return w;
+	}
+
+	/**
+	 * @return number of tiles in metatile row at given zoom (the whole world could be smaller than metatile)
+	 */
+	public static int getMetaSize(int zoom) {
+		return Math.min(META_SIZE, 1 << zoom);
+	}
+
+	public BufferedImage getTile(int x, int y, int zoom) throws IOException {
+		int n = getMetaSize(zoom);
+		BufferedImage[] tiles = getMetaTile(x / n, y / n, zoom);
+		return tiles[(y % n) * n + (x % n)];
+	}
+
+	/**
+	 * @return tiles of metatile by rows
+	 */
+	public BufferedImage[] getMetaTile(int mx, int my, int zoom) throws IOException {
+		try {
+			return submitMetaTile(mx, my, zoom).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * @return phase timers and counters summed over all rendered metatiles (timers are summed over threads)
+	 */
+	public RenderingStats getStatistics() {
+		RenderingStats s = new RenderingStats();
+		synchronized (stats) {
+			s.add(stats);
+		}
+		return s;
+	}
+
+	public Future<BufferedImage[]> submitMetaTile(final int mx, final int my, final int zoom) {
+		long key = (((long) zoom) << 56) | (((long) mx) << 28) | my;
+		synchronized (metaTiles) {
+			Future<BufferedImage[]> f = metaTiles.get(key);
+			if (f == null) {
+				MetaTileTask task = new MetaTileTask(key, new Callable<BufferedImage[]>() {
+					@Override
+					public BufferedImage[] call() throws Exception {
+						return renderMetaTile(getWorker(), mx, my, zoom);
+					}
+				});
+				executor.execute(task);
+				metaTiles.put(key, task);
+				f = task;
+			}
+			return f;
+		}
+	}
+
+	// failed metatile is not kept, so it is rendered again on next request
+	private class MetaTileTask extends FutureTask<BufferedImage[]> {
+		private final long key;
+
+		MetaTileTask(long key, Callable<BufferedImage[]> callable) {
+			super(callable);
+			this.key = key;
+		}
+
+		@Override
+		protected void done() {
+			try {
+				get();
+			} catch (Exception e) {
+				synchronized (metaTiles) {
+					if (metaTiles.get(key) == this) {
+						metaTiles.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	public void close() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+		synchronized (allWorkers) {
+			for (Worker w : allWorkers) {
+				w.close();
+			}
+			allWorkers.clear();
+		}
+		synchronized (metaTiles) {
+			metaTiles.clear();
+		}
+	}
+
+	private BufferedImage[] renderMetaTile(Worker w, int mx, int my, int zoom) throws IOException {
+		int n = getMetaSize(zoom);
+		int size = n * TILE_SIZE + 2 * BUFFER;
+		RenderingContext rc = new RenderingContext();
+		rc.zoom = zoom;
+		rc.tileDivisor = MapUtils.getPowZoom(31 - zoom);
+		rc.leftX = mx * n - (double) BUFFER / TILE_SIZE;
+		rc.topY = my * n - (double) BUFFER / TILE_SIZE;
+		rc.width = size;
+		rc.height = size;
+		rc.nightMode = nightMode;
+		RenderingRuleSearchRequest req = w.request;
+		req.clearState();
+		req.setIntFilter(req.ALL.R_MINZOOM, zoom);
+		if (req.searchRenderingAttribute(RenderingRuleStorageProperties.A_DEFAULT_COLOR)) {
+			rc.defaultColor = req.getIntPropertyValue(req.ALL.R_ATTR_COLOR_VALUE);
+		}
+		req.clearState();
+		req.setIntFilter(req.ALL.R_MINZOOM, zoom);
+		if (req.searchRenderingAttribute(RenderingRuleStorageProperties.A_SHADOW_RENDERING)) {
+			rc.shadowRenderingMode = req.getIntPropertyValue(req.ALL.R_ATTR_INT_VALUE);
+			rc.shadowRenderingColor = req.getIntPropertyValue(req.ALL.R_SHADOW_COLOR);
+		}
+		if (req.searchRenderingAttribute("polygonMinSizeToDisplay")) {
+			rc.polygonMinSizeToDisplay = req.getIntPropertyValue(req.ALL.R_ATTR_INT_VALUE);
+		}
+		int max31 = Integer.MAX_VALUE;
+		int left = (int) Math.max(0, Math.min(max31, rc.leftX * rc.tileDivisor));
+		int top = (int) Math.max(0, Math.min(max31, rc.topY * rc.tileDivisor));
+		int right = (int) Math.max(0, Math.min(max31, (rc.leftX + (double) size / TILE_SIZE) * rc.tileDivisor));
+		int bottom = (int) Math.max(0, Math.min(max31, (rc.topY + (double) size / TILE_SIZE) * rc.tileDivisor));
+		rc.stats.start(Phase.READ);
+		List<BinaryMapDataObject> objects = readMapObjects(w, req, zoom, left, right, top, bottom, rc.stats);
+		rc.stats.end(Phase.READ);
+		rc.stats.objectsRead += objects.size();
+
+		BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = img.createGraphics();
+		try {
+			w.renderer.render(rc, objects, req, g);
+		} finally {
+			g.dispose();
+		}
+		rc.stats.finish(rc);
+		synchronized (stats) {
+			stats.add(rc.stats);
+		}
+		BufferedImage[] tiles = new BufferedImage[n * n];
+		for (int j = 0; j < n; j++) {
+			for (int i = 0; i < n; i++) {
+				BufferedImage tile = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+				int[] rgb = img.getRGB(BUFFER + i * TILE_SIZE, BUFFER + j * TILE_SIZE, TILE_SIZE, TILE_SIZE, null, 0,
+						TILE_SIZE);
+				tile.setRGB(0, 0, TILE_SIZE, TILE_SIZE, rgb, 0, TILE_SIZE);
+				tiles[j * n + i] = tile;
+			}
+		}
+		return tiles;
+	}
+
+	private static List<BinaryMapDataObject> readMapObjects(Worker w, final RenderingRuleSearchRequest req,
+			final int zoom, int left, int right, int top, int bottom, RenderingStats stats) throws IOException {
+		SearchFilter searchFilter = null;
+		if (zoom <= MAX_ZOOM_WITH_FILTER) {
+			searchFilter = new SearchFilter() {
+				@Override
+				public boolean accept(TIntArrayList types, MapIndex root) {
+					for (int j = 0; j < types.size(); j++) {
+						TagValuePair pair = root.decodeType(types.get(j));
+						if (pair != null) {
+							for (int i = 1; i <= 3; i++) {
+								req.setIntFilter(req.ALL.R_MINZOOM, zoom);
+								req.setStringFilter(req.ALL.R_TAG, pair.tag);
+								req.setStringFilter(req.ALL.R_VALUE, pair.value);
+								if (req.search(i, false)) {
+									return true;
+								}
+							}
+							req.setStringFilter(req.ALL.R_TAG, pair.tag);
+							req.setStringFilter(req.ALL.R_VALUE, pair.value);
+							if (req.search(RenderingRulesStorage.TEXT_RULES, false)) {
+								return true;
+							}
+						}
+					}
+					return false;
+				}
+			};
+		}
+		List<BinaryMapDataObject> result = new ArrayList<BinaryMapDataObject>();
+		List<BinaryMapDataObject> basemapResult = new ArrayList<BinaryMapDataObject>();
+		TLongHashSet ids = new TLongHashSet();
+		boolean ocean = false;
+		boolean land = false;
+		MapIndex mi = null;
+		SearchRequest<BinaryMapDataObject> sr = BinaryMapIndexReader.buildSearchRequest(left, right, top, bottom,
+				zoom, searchFilter);
+		if (zoom <= MAX_ZOOM_WITH_SIMPLIFICATION) {
+			sr.setGeometrySimplification(0.25, 1);
+		}
+		for (BinaryMapIndexReader c : w.readers) {
+			boolean basemap = c.isBasemap();
+			sr.clearSearchResults();
+			long bytesRead = sr.getStats().bytesRead;
+			List<BinaryMapDataObject> res = c.searchMapIndex(sr);
+			stats.bytesRead += sr.getStats().bytesRead - bytesRead;
+			for (BinaryMapDataObject r : res) {
+				if (!basemap) {
+					if (r.getId() > 0 && !ids.add(r.getId())) {
+						// do not add object twice
+						continue;
+					}
+					result.add(r);
+				} else {
+					basemapResult.add(r);
+				}
+			}
+			if (sr.isOcean() || sr.isLand()) {
+				mi = c.getMapIndexes().get(0);
+				ocean |= sr.isOcean();
+				land |= sr.isLand();
+			}
+		}
+		boolean emptyData = zoom > ZOOM_ONLY_FOR_BASEMAPS && result.isEmpty();
+		if (zoom <= ZOOM_ONLY_FOR_BASEMAPS || emptyData) {
+			result.addAll(basemapResult);
+		}
+		if (mi != null) {
+			// coastlines are not assembled into polygons: box is filled by land or sea under all objects
+			int[] coordinates = new int[] { left, top, right, top, right, bottom, left, bottom, left, top };
+			BinaryMapDataObject o = new BinaryMapDataObject(-1, coordinates, new int[0][],
+					RenderingRulesStorage.POLYGON_RULES, true,
+					new int[] { ocean && !land ? mi.coastlineEncodingType : mi.landEncodingType }, null);
+			o.setMapIndex(mi);
+			result.add(0, o);
+		}
+		return result;
+	}
+}
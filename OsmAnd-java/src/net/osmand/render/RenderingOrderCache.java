@@ -0,0 +1,233 @@
+package net.osmand.render;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+
+/**
+ * Results of order rules (order, object type, shadow level) cached by type of object and zoom, so objects of
+ * the same type don't search order rules on every frame. Cache is kept for saved state of one rendering request
+ * and it is cleared when request of another style or with other filters is passed. It is not thread safe,
+ * every rendering thread should have own cache.
+ */
+public class RenderingOrderCache {
+
+	public interface OrderedPrimitive {
+
+		/**
+		 * @return rendering order, objects are drawn from lower to higher order
+		 */
+		public double getOrder();
+	}
+
+	public static class OrderInfo {
+		public final int objectType;
+		public final int order;
+		public final boolean ignorePointArea;
+		public final boolean shadowLevel;
+
+		OrderInfo(int objectType, int order, boolean ignorePointArea, boolean shadowLevel) {
+			this.objectType = objectType;
+			this.order = order;
+			this.ignorePointArea = ignorePointArea;
+			this.shadowLevel = shadowLevel;
+		}
+	}
+
+	private static final int MAX_CACHED_ORDERS = 8192;
+	// orders of style are in small range, otherwise list is sorted by comparator
+	private static final int MAX_BUCKETS = 4096;
+	private static final OrderInfo NOT_FOUND = new OrderInfo(0, 0, false, false);
+
+	private final Map<OrderKey, OrderInfo> orders = new HashMap<OrderKey, OrderInfo>();
+	private final OrderKey probeKey = new OrderKey();
+	private RenderingRuleSearchRequest request;
+	private RenderingRuleStorageProperties props;
+	private int[] savedValues;
+	private float[] savedFvalues;
+	private int hits;
+	private int misses;
+
+	/**
+	 * @return order rules result for type of object or null if object type is not rendered
+	 */
+	public OrderInfo getOrder(RenderingRuleSearchRequest render, BinaryMapDataObject o, int typeInd, int zoom) {
+		checkRequest(render);
+		int layer = 0;
+		if (o.getPointsLength() > 1) {
+			layer = o.getSimpleLayer();
+		}
+		int flags = (zoom << 3) | (o.isArea() ? 1 : 0) | (o.getPointsLength() == 1 ? 2 : 0) | (o.isCycle() ? 4 : 0);
+		probeKey.set(o.getMapIndex(), o.getTypes()[typeInd], layer, flags, o.getAdditionalTypes());
+		OrderInfo info = orders.get(probeKey);
+		if (info != null) {
+			hits++;
+			return info == NOT_FOUND ? null : info;
+		}
+		misses++;
+		info = searchOrder(render, o, typeInd, zoom, layer);
+		if (orders.size() >= MAX_CACHED_ORDERS) {
+			orders.clear();
+		}
+		orders.put(probeKey.copy(), info == null ? NOT_FOUND : info);
+		return info;
+	}
+
+	private void checkRequest(RenderingRuleSearchRequest render) {
+		if (render == request && render.savedValues == savedValues) {
+			return;
+		}
+		if (render.ALL != props || !Arrays.equals(render.savedValues, savedValues)
+				|| !Arrays.equals(render.savedFvalues, savedFvalues)) {
+			orders.clear();
+			props = render.ALL;
+		}
+		request = render;
+		savedValues = render.savedValues;
+		savedFvalues = render.savedFvalues;
+	}
+
+	private static OrderInfo searchOrder(RenderingRuleSearchRequest render, BinaryMapDataObject o, int typeInd,
+			int zoom, int layer) {
+		TagValuePair pair = o.getMapIndex().decodeType(o.getTypes()[typeInd]);
+		if (pair == null) {
+			return null;
+		}
+		// output values of previous search should not be used, result depends only on object type
+		render.clearState();
+		render.setTagValueZoomLayer(pair.tag, pair.value, zoom, layer, o);
+		render.setBooleanFilter(render.ALL.R_AREA, o.isArea());
+		render.setBooleanFilter(render.ALL.R_POINT, o.getPointsLength() == 1);
+		render.setBooleanFilter(render.ALL.R_CYCLE, o.isCycle());
+		if (!render.search(RenderingRulesStorage.ORDER_RULES)) {
+			return null;
+		}
+		return new OrderInfo(render.getIntPropertyValue(render.ALL.R_OBJECT_TYPE),
+				render.getIntPropertyValue(render.ALL.R_ORDER),
+				render.getIntPropertyValue(render.ALL.R_IGNORE_POLYGON_AS_POINT_AREA) != 0,
+				render.isSpecified(render.ALL.R_SHADOW_LEVEL));
+	}
+
+	public void clear() {
+		orders.clear();
+		request = null;
+		props = null;
+		savedValues = null;
+		savedFvalues = null;
+	}
+
+	public int getHits() {
+		return hits;
+	}
+
+	public int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Stable bucket sort by integer part of order, objects of one bucket are sorted by comparator.
+	 * Result is the same as of {@link Collections#sort(List, Comparator)} if comparator compares order first.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends OrderedPrimitive> void sortByOrder(List<T> list, Comparator<? super T> comparator) {
+		int n = list.size();
+		if (n < 2) {
+			return;
+		}
+		int[] keys = new int[n];
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int i = 0; i < n; i++) {
+			int k = (int) Math.floor(list.get(i).getOrder());
+			keys[i] = k;
+			min = Math.min(min, k);
+			max = Math.max(max, k);
+		}
+		long range = (long) max - min + 1;
+		if (range > MAX_BUCKETS && range > n) {
+			Collections.sort(list, comparator);
+			return;
+		}
+		// ends[b] is end of bucket b after objects are distributed
+		int[] ends = new int[(int) range];
+		for (int i = 0; i < n; i++) {
+			ends[keys[i] - min]++;
+		}
+		for (int b = 1; b < ends.length; b++) {
+			ends[b] += ends[b - 1];
+		}
+		T[] sorted = (T[]) new OrderedPrimitive[n];
+		for (int i = n - 1; i >= 0; i--) {
+			sorted[--ends[keys[i] - min]] = list.get(i);
+		}
+		// now ends[b] is start of bucket b
+		for (int b = 0; b < ends.length; b++) {
+			int start = ends[b];
+			int end = b + 1 < ends.length ? ends[b + 1] : n;
+			if (end - start > 1) {
+				Arrays.sort(sorted, start, end, comparator);
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			list.set(i, sorted[i]);
+		}
+	}
+
+	private static class OrderKey {
+		MapIndex mapIndex;
+		int type;
+		int layer;
+		int flags;
+		int[] additionalTypes;
+		int hash;
+
+		void set(MapIndex mapIndex, int type, int layer, int flags, int[] additionalTypes) {
+			this.mapIndex = mapIndex;
+			this.type = type;
+			this.layer = layer;
+			this.flags = flags;
+			this.additionalTypes = additionalTypes != null && additionalTypes.length == 0 ? null : additionalTypes;
+			int h = System.identityHashCode(mapIndex);
+			h = 31 * h + type;
+			h = 31 * h + layer;
+			h = 31 * h + flags;
+			this.hash = 31 * h + Arrays.hashCode(this.additionalTypes);
+		}
+
+		OrderKey copy() {
+			OrderKey k = new OrderKey();
+			k.mapIndex = mapIndex;
+			k.type = type;
+			k.layer = layer;
+			k.flags = flags;
+			k.additionalTypes = additionalTypes == null ? null : additionalTypes.clone();
+			k.hash = hash;
+			return k;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof OrderKey)) {
+				return false;
+			}
+			OrderKey k = (OrderKey) obj;
+			return hash == k.hash && mapIndex == k.mapIndex && type == k.type && layer == k.layer && flags == k.flags
+					&& Arrays.equals(additionalTypes, k.additionalTypes);
+		}
+	}
+}
@@ -30,6 +30,72 @@ public class RenderingRule {
 		init(attributes);
 	}
 	
+	/**
+	 * Empty rule which properties and children are set later (used by cached storage)
+	 */
+	RenderingRule(boolean isGroup, RenderingRulesStorage storage) {
+		this.isGroup = isGroup;
+		this.storage = storage;
+		setProperties(new RenderingRuleProperty[0], new int[0], null, null);
+	}
+
+	void setProperties(RenderingRuleProperty[] properties, int[] intProperties, float[] floatProperties,
+			RenderingRule[] attributesRef) {
+		this.properties = properties;
+		this.intProperties = intProperties;
+		this.floatProperties = floatProperties;
+		this.attributesRef = attributesRef;
+	}
+
+	boolean hasFloatProperties() {
+		return floatProperties != null;
+	}
+
+	boolean hasStoredAttributes() {
+		return attributes != null;
+	}
+
+	/**
+	 * Copy of rule with part of properties and given children (used by compiled rules)
+	 */
+	RenderingRule(RenderingRule source, boolean[] keepProperties, List<RenderingRule> ifElseChildren,
+			List<RenderingRule> ifChildren) {
+		this.isGroup = source.isGroup;
+		this.storage = source.storage;
+		this.attributes = source.attributes;
+		int size = 0;
+		for (boolean k : keepProperties) {
+			if (k) {
+				size++;
+			}
+		}
+		properties = new RenderingRuleProperty[size];
+		intProperties = new int[size];
+		int j = 0;
+		for (int i = 0; i < keepProperties.length; i++) {
+			if (!keepProperties[i]) {
+				continue;
+			}
+			properties[j] = source.properties[i];
+			intProperties[j] = source.intProperties[i];
+			if (source.floatProperties != null) {
+				if (floatProperties == null) {
+					floatProperties = new float[size];
+				}
+				floatProperties[j] = source.floatProperties[i];
+			}
+			if (source.attributesRef != null && source.attributesRef[i] != null) {
+				if (attributesRef == null) {
+					attributesRef = new RenderingRule[size];
+				}
+				attributesRef[j] = source.attributesRef[i];
+			}
+			j++;
+		}
+		this.ifElseChildren = ifElseChildren.isEmpty() ? null : ifElseChildren;
+		this.ifChildren = ifChildren.isEmpty() ? null : ifChildren;
+	}
+	
 	public void storeAttributes(Map<String, String> attributes){
 		this.attributes = new HashMap<String, String>(attributes);
 	}
@@ -1,6 +1,13 @@
 package net.osmand.render;
 
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
 import net.osmand.util.Algorithms;
 
 
@@ -16,6 +23,24 @@ public class RenderingRuleSearchRequest {
 	float[] savedFvalues;
 	
 	boolean searchResult = false;
+
+	// results of searches by full state of request (filters, values left by previous search and object types),
+	// it is cleared when saved filters change
+	private static final int MAX_CACHED_SEARCHES = 512;
+	private final Map<SearchKey, SearchResult> searchCache = new HashMap<SearchKey, SearchResult>();
+	private final SearchKey probeKey = new SearchKey();
+	// only input values are hashed, other values are compared on equals
+	private final int[] inputIds;
+	private boolean cacheEnabled = true;
+	private int cacheHits;
+	private int cacheMisses;
+	private int searchCount;
+
+	// rules compiled by zoom for saved values of style filters, taken from storage on first search at zoom
+	private final boolean[] styleFilters;
+	private CompiledRenderingRules[] compiledRules = new CompiledRenderingRules[CompiledRenderingRules.MAX_ZOOM + 1];
+	private boolean compiledRulesEnabled = true;
+	private boolean styleFiltersChanged;
 	
 	
 	public final RenderingRuleStorageProperties ALL;
@@ -31,6 +56,19 @@ public class RenderingRuleSearchRequest {
 			}
 		}
 		fvalues = new float[props.length];
+		TIntArrayList inputs = new TIntArrayList();
+		for (int i = 0; i < props.length; i++) {
+			if (props[i].isInputProperty()) {
+				inputs.add(i);
+			}
+		}
+		inputIds = inputs.toArray();
+		styleFilters = new boolean[props.length];
+		styleFilters[storage.PROPS.R_TEST.getId()] = true;
+		styleFilters[storage.PROPS.R_NIGHT_MODE.getId()] = true;
+		for (RenderingRuleProperty p : storage.PROPS.getCustomRules()) {
+			styleFilters[p.getId()] = true;
+		}
 		setBooleanFilter(storage.PROPS.R_TEST, true);
 		saveState();
 	}
@@ -38,29 +76,51 @@ public class RenderingRuleSearchRequest {
 	public void setStringFilter(RenderingRuleProperty p, String filter) {
 		assert p.isInputProperty();
 		values[p.getId()] = storage.getDictionaryValue(filter);
+		checkStyleFilter(p);
 	}
 
 	public void setIntFilter(RenderingRuleProperty p, int filter) {
 		assert p.isInputProperty();
 		values[p.getId()] = filter;
+		checkStyleFilter(p);
 	}
 	
 	public void setBooleanFilter(RenderingRuleProperty p, boolean filter) {
 		assert p.isInputProperty();
 		values[p.getId()] = filter ? RenderingRuleProperty.TRUE_VALUE : RenderingRuleProperty.FALSE_VALUE;
+		checkStyleFilter(p);
+	}
+
+	private void checkStyleFilter(RenderingRuleProperty p) {
+		if (styleFilters[p.getId()] && savedValues != null && values[p.getId()] != savedValues[p.getId()]) {
+			// compiled rules are not valid till state is cleared
+			styleFiltersChanged = true;
+		}
 	}
 
 	public void saveState() {
+		searchCache.clear();
+		compiledRules = new CompiledRenderingRules[CompiledRenderingRules.MAX_ZOOM + 1];
+		styleFiltersChanged = false;
 		savedValues = new int[values.length];
 		savedFvalues = new float[fvalues.length];
 		System.arraycopy(values, 0, savedValues, 0, values.length);
 		System.arraycopy(fvalues, 0, savedFvalues, 0, fvalues.length);
 	}
 
+	/**
+	 * @return true if other request is of the same style and saved filters (night mode, custom properties) are equal
+	 */
+	public boolean hasSameSavedState(RenderingRuleSearchRequest other) {
+		return other != null && storage == other.storage && Arrays.equals(savedValues, other.savedValues)
+				&& Arrays.equals(savedFvalues, other.savedFvalues);
+	}
+
 	public void clearState() {
 		System.arraycopy(savedValues, 0, values, 0, values.length);
 		System.arraycopy(savedFvalues, 0, fvalues, 0, fvalues.length);
 		object = null;
+		styleFiltersChanged = false;
 	}
 	
 	public void clearValue(RenderingRuleProperty p) {
@@ -114,20 +174,95 @@ public class RenderingRuleSearchRequest {
 	}
 	
 	public boolean search(int state, boolean loadOutput) {
+		searchCount++;
+		if (!cacheEnabled) {
+			return searchNotCached(state, loadOutput);
+		}
+		probeKey.set(state, loadOutput, values, fvalues, object, inputIds);
+		SearchResult cached = searchCache.get(probeKey);
+		if (cached != null) {
+			cacheHits++;
+			System.arraycopy(cached.values, 0, values, 0, values.length);
+			System.arraycopy(cached.fvalues, 0, fvalues, 0, fvalues.length);
+			searchResult = cached.found;
+			return searchResult;
+		}
+		cacheMisses++;
+		SearchKey key = probeKey.copy();
+		boolean found = searchNotCached(state, loadOutput);
+		if (searchCache.size() >= MAX_CACHED_SEARCHES) {
+			searchCache.clear();
+		}
+		searchCache.put(key, new SearchResult(found, values.clone(), fvalues.clone()));
+		return found;
+	}
+
+	/**
+	 * Rules are compiled for every zoom and saved style filters, it could be disabled to compare with
+	 * interpretation of original rules
+	 */
+	public void setCompiledRulesEnabled(boolean compiledRulesEnabled) {
+		this.compiledRulesEnabled = compiledRulesEnabled;
+		searchCache.clear();
+	}
+
+	/**
+	 * @return compiled rules for current zoom or null if filters differ from saved state
+	 */
+	private CompiledRenderingRules getCompiledRules() {
+		int zoom = values[storage.PROPS.R_MINZOOM.getId()];
+		if (!compiledRulesEnabled || styleFiltersChanged || zoom < 0 || zoom > CompiledRenderingRules.MAX_ZOOM
+				|| zoom != values[storage.PROPS.R_MAXZOOM.getId()]) {
+			return null;
+		}
+		CompiledRenderingRules c = compiledRules[zoom];
+		if (c == null) {
+			c = storage.getCompiledRules(this, styleFilters, savedValues, savedFvalues, zoom);
+			compiledRules[zoom] = c;
+		}
+		return c;
+	}
+
+	/**
+	 * Search results are cached by whole state of request, cache could be disabled for styles
+	 * which properties are changed by other ways than filters
+	 */
+	public void setCacheEnabled(boolean cacheEnabled) {
+		this.cacheEnabled = cacheEnabled;
+		searchCache.clear();
+	}
+
+	public int getCacheHits() {
+		return cacheHits;
+	}
+
+	public int getCacheMisses() {
+		return cacheMisses;
+	}
+
+	/**
+	 * @return number of rule searches done with request (cached or not)
+	 */
+	public int getSearchCount() {
+		return searchCount;
+	}
+
+	private boolean searchNotCached(int state, boolean loadOutput) {
 		searchResult = false;
 		int tagKey = values[storage.PROPS.R_TAG.getId()];
 		int valueKey = values[storage.PROPS.R_VALUE.getId()];
-		boolean result = searchInternal(state, tagKey, valueKey, loadOutput);
+		CompiledRenderingRules compiled = getCompiledRules();
+		boolean result = searchInternal(compiled, state, tagKey, valueKey, loadOutput);
 		if (result) {
 			searchResult = true;
 			return true;
 		}
-		result = searchInternal(state, tagKey, 0, loadOutput);
+		result = searchInternal(compiled, state, tagKey, 0, loadOutput);
 		if (result) {
 			searchResult = true;
 			return true;
 		}
-		result = searchInternal(state, 0, 0, loadOutput);
+		result = searchInternal(compiled, state, 0, 0, loadOutput);
 		if (result) {
 			searchResult = true;
 			return true;
@@ -137,11 +272,17 @@ public class RenderingRuleSearchRequest {
 	}
 
 
-	private boolean searchInternal(int state, int tagKey, int valueKey, boolean loadOutput) {
+	private boolean searchInternal(CompiledRenderingRules compiled, int state, int tagKey, int valueKey,
+			boolean loadOutput) {
 		values[storage.PROPS.R_TAG.getId()] = tagKey;
 		values[storage.PROPS.R_VALUE.getId()] = valueKey;
 		values[storage.PROPS.R_DISABLE.getId()] = 0;
-		RenderingRule accept = storage.getRule(state, tagKey, valueKey);
+		RenderingRule accept;
+		if (compiled != null) {
+			accept = compiled.getRule(state, RenderingRulesStorage.getTagValueKey(tagKey, valueKey));
+		} else {
+			accept = storage.getRule(state, tagKey, valueKey);
+		}
 		if (accept == null) {
 			return false;
 		}
@@ -294,4 +435,107 @@ public class RenderingRuleSearchRequest {
 		return storage;
 	}
 
-}
\ No newline at end of file
+	private static class SearchKey {
+		int state;
+		boolean loadOutput;
+		int[] values;
+		float[] fvalues;
+		boolean hasObject;
+		// additional types are resolved by map index of object
+		MapIndex mapIndex;
+		int[] additionalTypes;
+		int hash;
+
+		void set(int state, boolean loadOutput, int[] values, float[] fvalues, BinaryMapDataObject object,
+				int[] inputIds) {
+			this.state = state;
+			this.loadOutput = loadOutput;
+			this.values = values;
+			this.fvalues = fvalues;
+			this.hasObject = object != null;
+			int[] types = object == null ? null : object.getAdditionalTypes();
+			if (types != null && types.length > 0) {
+				this.mapIndex = object.getMapIndex();
+				this.additionalTypes = types;
+			} else {
+				this.mapIndex = null;
+				this.additionalTypes = null;
+			}
+			int h = 1;
+			for (int id : inputIds) {
+				h = 31 * h + values[id];
+			}
+			h = 31 * h + Arrays.hashCode(additionalTypes);
+			h = 31 * h + (mapIndex == null ? 0 : System.identityHashCode(mapIndex));
+			h = 31 * h + (hasObject ? 1 : 0);
+			h = 31 * h + (loadOutput ? 1 : 0);
+			this.hash = 31 * h + state;
+		}
+
+		SearchKey copy() {
+			SearchKey k = new SearchKey();
+			k.state = state;
+			k.loadOutput = loadOutput;
+			k.values = values.clone();
+			k.fvalues = fvalues.clone();
+			k.hasObject = hasObject;
+			k.mapIndex = mapIndex;
+			k.additionalTypes = additionalTypes == null ? null : additionalTypes.clone();
+			k.hash = hash;
+			return k;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SearchKey)) {
+				return false;
+			}
+			SearchKey o = (SearchKey) obj;
+			return hash == o.hash && state == o.state && loadOutput == o.loadOutput && hasObject == o.hasObject
+					&& mapIndex == o.mapIndex && Arrays.equals(values, o.values)
+					&& Arrays.equals(fvalues, o.fvalues) && Arrays.equals(additionalTypes, o.additionalTypes);
+		}
+	}
+
+	private static class SearchResult {
+		final boolean found;
+		final int[] values;
+		final float[] fvalues;
+
+		SearchResult(boolean found, int[] values, float[] fvalues) {
+			this.found = found;
+			this.values = values;
+			this.fvalues = fvalues;
+		}
+	}
+
+	/**
+	 * @param props values of custom style properties by their attribute names, missing are false or empty
+	 * @return request with night mode and custom properties filters set and state saved
+	 */
+	public static RenderingRuleSearchRequest createWithCustomRules(RenderingRulesStorage storage, boolean nightMode,
+			Map<String, String> props) {
+		RenderingRuleSearchRequest req = new RenderingRuleSearchRequest(storage);
+		req.setBooleanFilter(storage.PROPS.R_NIGHT_MODE, nightMode);
+		for (RenderingRuleProperty p : storage.PROPS.getCustomRules()) {
+			String v = props.get(p.getAttrName());
+			if (p.isBoolean()) {
+				req.setBooleanFilter(p, "true".equals(v));
+			} else if (p.isString()) {
+				req.setStringFilter(p, v == null ? "" : v);
+			} else if (p.isIntParse()) {
+				req.setIntFilter(p, v == null ? 0 : Integer.parseInt(v));
+			}
+		}
+		req.saveState();
+		return req;
+	}
+}
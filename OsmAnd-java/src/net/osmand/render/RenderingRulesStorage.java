@@ -2,6 +2,7 @@ package net.osmand.render;
 
 import gnu.trove.map.hash.TIntObjectHashMap;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.osmand.PlatformUtil;
 
@@ -42,13 +44,25 @@ public class RenderingRulesStorage {
 	
 	// C++
 	List<String> dictionary = new ArrayList<String>();
-	Map<String, Integer> dictionaryMap = new LinkedHashMap<String, Integer>();
+	Map<String, Integer> dictionaryMap = new ConcurrentHashMap<String, Integer>();
 	
 	public RenderingRuleStorageProperties PROPS = new RenderingRuleStorageProperties();
 
 	@SuppressWarnings("unchecked")
 	public TIntObjectHashMap<RenderingRule>[] tagValueGlobalRules = new TIntObjectHashMap[LENGTH_RULES];
 	
+	// rules compiled by zoom for saved values of style filters, shared by all search requests of storage
+	private static final int MAX_COMPILED_STATES = 8;
+	private final Map<CompiledRulesKey, CompiledRenderingRules[]> compiledRules =
+			new LinkedHashMap<CompiledRulesKey, CompiledRenderingRules[]>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<CompiledRulesKey, CompiledRenderingRules[]> eldest) {
+			return size() > MAX_COMPILED_STATES;
+		}
+	};
+	
 	protected Map<String, RenderingRule> renderingAttributes = new LinkedHashMap<String, RenderingRule>();
 	protected Map<String, String> renderingConstants = new LinkedHashMap<String, String>();
 	
@@ -70,14 +84,20 @@ public class RenderingRulesStorage {
 	}
 	
 	public int getDictionaryValue(String val) {
-		if(dictionaryMap.containsKey(val)){
-			return dictionaryMap.get(val);
+		Integer ind = dictionaryMap.get(val);
+		if (ind != null) {
+			return ind;
+		}
+		// storage is shared by rendering threads and unknown values could be registered concurrently
+		synchronized (this) {
+			ind = dictionaryMap.get(val);
+			if (ind == null) {
+				ind = dictionary.size();
+				dictionary.add(val);
+				dictionaryMap.put(val, ind);
+			}
+			return ind;
 		}
-		int nextInd = dictionaryMap.size();
-		dictionaryMap.put(val, nextInd);
-		dictionary.add(val);
-		return nextInd;
-
 	}
 	
 	public String getStringValue(int i){
@@ -307,7 +327,7 @@ public class RenderingRulesStorage {
 				if(dependsStorage != null){
 					// copy dictionary
 					dictionary = new ArrayList<String>(dependsStorage.dictionary);
-					dictionaryMap = new LinkedHashMap<String, Integer>(dependsStorage.dictionaryMap);
+					dictionaryMap = new ConcurrentHashMap<String, Integer>(dependsStorage.dictionaryMap);
 					PROPS = new RenderingRuleStorageProperties(dependsStorage.PROPS);
 					
 				}
@@ -411,6 +431,54 @@ public class RenderingRulesStorage {
 		
 	}
 	
+	/**
+	 * @return rules compiled for zoom and saved values of style filters, rules are compiled once for all requests
+	 */
+	synchronized CompiledRenderingRules getCompiledRules(RenderingRuleSearchRequest req, boolean[] styleFilters,
+			int[] savedValues, float[] savedFvalues, int zoom) {
+		CompiledRulesKey key = new CompiledRulesKey(styleFilters, savedValues, savedFvalues);
+		CompiledRenderingRules[] byZoom = compiledRules.get(key);
+		if (byZoom == null) {
+			byZoom = new CompiledRenderingRules[CompiledRenderingRules.MAX_ZOOM + 1];
+			compiledRules.put(key, byZoom);
+		}
+		if (byZoom[zoom] == null) {
+			byZoom[zoom] = new CompiledRenderingRules(req, this, styleFilters, savedValues, savedFvalues, zoom);
+		}
+		return byZoom[zoom];
+	}
+
+	private static class CompiledRulesKey {
+		private final int[] values;
+
+		CompiledRulesKey(boolean[] styleFilters, int[] savedValues, float[] savedFvalues) {
+			int size = 0;
+			for (boolean f : styleFilters) {
+				if (f) {
+					size++;
+				}
+			}
+			values = new int[size * 2];
+			int j = 0;
+			for (int i = 0; i < styleFilters.length; i++) {
+				if (styleFilters[i]) {
+					values[j++] = savedValues[i];
+					values[j++] = Float.floatToIntBits(savedFvalues[i]);
+				}
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(values);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CompiledRulesKey && Arrays.equals(values, ((CompiledRulesKey) obj).values);
+		}
+	}
+
 	public int getTagValueKey(String tag, String value){
 		int itag = getDictionaryValue(tag);
 		int ivalue = getDictionaryValue(value);
@@ -427,11 +495,15 @@ public class RenderingRulesStorage {
 	
 	protected RenderingRule getRule(int state, int itag, int ivalue){
 		if(tagValueGlobalRules[state] != null){
-			return tagValueGlobalRules[state].get((itag << SHIFT_TAG_VAL) | ivalue);
+			return tagValueGlobalRules[state].get(getTagValueKey(itag, ivalue));
 		}
 		return null;
 	}
 	
+	static int getTagValueKey(int itag, int ivalue) {
+		return (itag << SHIFT_TAG_VAL) | ivalue;
+	}
+	
 	public RenderingRule getRenderingAttributeRule(String attribute){
 		return renderingAttributes.get(attribute);
 	}
@@ -468,6 +540,56 @@ public class RenderingRulesStorage {
 	}
 	
 	
+	/**
+	 * Loads style file with styles it depends on from the same directory, rendering constants are taken
+	 * from default.render.xml of that directory if it exists
+	 */
+	public static RenderingRulesStorage loadFromFile(final File style) throws XmlPullParserException, IOException {
+		final File dir = style.getParentFile();
+		final Map<String, String> renderingConstants = new LinkedHashMap<String, String>();
+		File defaultStyle = new File(dir, "default.render.xml");
+		if (defaultStyle.exists()) {
+			InputStream is = new FileInputStream(defaultStyle);
+			try {
+				XmlPullParser parser = PlatformUtil.newXMLPullParser();
+				parser.setInput(is, "UTF-8");
+				int tok;
+				while ((tok = parser.next()) != XmlPullParser.END_DOCUMENT) {
+					if (tok == XmlPullParser.START_TAG && parser.getName().equals("renderingConstant")) {
+						if (!renderingConstants.containsKey(parser.getAttributeValue("", "name"))) {
+							renderingConstants.put(parser.getAttributeValue("", "name"),
+									parser.getAttributeValue("", "value"));
+						}
+					}
+				}
+			} finally {
+				is.close();
+			}
+		}
+		RenderingRulesStorageResolver resolver = new RenderingRulesStorageResolver() {
+			@Override
+			public RenderingRulesStorage resolve(String name, RenderingRulesStorageResolver ref)
+					throws XmlPullParserException, IOException {
+				RenderingRulesStorage depends = new RenderingRulesStorage(name, renderingConstants);
+				InputStream is = new FileInputStream(new File(dir, name + ".render.xml"));
+				try {
+					depends.parseRulesFromXmlInputStream(is, ref);
+				} finally {
+					is.close();
+				}
+				return depends;
+			}
+		};
+		RenderingRulesStorage storage = new RenderingRulesStorage(style.getName(), renderingConstants);
+		InputStream is = new FileInputStream(style);
+		try {
+			storage.parseRulesFromXmlInputStream(is, resolver);
+		} finally {
+			is.close();
+		}
+		return storage;
+	}
+
 	public static void main(String[] args) throws XmlPullParserException, IOException {
 		STORE_ATTTRIBUTES = true;
 //		InputStream is = RenderingRulesStorage.class.getResourceAsStream("default.render.xml");
@@ -1,10 +1,12 @@
 package net.osmand.search;
 
 import net.osmand.Collator;
+import net.osmand.FoldedStringMatcher;
 import net.osmand.OsmAndCollator;
 import net.osmand.PlatformUtil;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.GlobalNameIndex;
 import net.osmand.data.Amenity;
 import net.osmand.data.LatLon;
 import net.osmand.data.Street;
@@ -28,20 +30,24 @@ import org.apache.commons.logging.Log;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SearchUICore {
 
-	private static final int TIMEOUT_BETWEEN_CHARS = 700;
-	private static final int TIMEOUT_BEFORE_SEARCH = 50;
+	public static final int TIMEOUT_BETWEEN_CHARS = 700;
+	public static final int TIMEOUT_BEFORE_SEARCH = 50;
 	private static final int TIMEOUT_BEFORE_FILTER = 20;
 	private static final Log LOG = PlatformUtil.getLog(SearchUICore.class);
 	private SearchPhrase phrase;
@@ -49,12 +55,18 @@ public class SearchUICore {
 
 	private ThreadPoolExecutor singleThreadedExecutor;
 	private LinkedBlockingQueue<Runnable> taskQueue;
+	private ThreadPoolExecutor searchWorkers;
 	private Runnable onSearchStart = null;
 	private Runnable onResultsComplete = null;
 	private AtomicInteger requestNumber = new AtomicInteger();
 	private int totalLimit = -1; // -1 unlimited - not used
+	private int timeoutBetweenChars = TIMEOUT_BETWEEN_CHARS;
+	private int timeoutBeforeSearch = TIMEOUT_BEFORE_SEARCH;
 
 	List<SearchCoreAPI> apis = new ArrayList<>();
+	// apis sharing state (sub searches) are never run concurrently
+	private Map<SearchCoreAPI, List<SearchCoreAPI>> dependentApis = new HashMap<>();
+	private PrefixRefinementCache refinementCache = new PrefixRefinementCache();
 	private SearchSettings searchSettings;
 	private MapPoiTypes poiTypes;
 
@@ -81,7 +93,8 @@ public class SearchUICore {
 	public static class SearchResultCollection {
 		private List<SearchResult> searchResults;
 		private SearchPhrase phrase;
-		private static final int DEPTH_TO_CHECK_SAME_SEARCH_RESULTS = 20;
+		// index of searchResults, every change of list should update or drop it
+		private DuplicatesIndex duplicatesIndex;
 
 		public SearchResultCollection(SearchPhrase phrase) {
 			searchResults = new ArrayList<>();
@@ -101,54 +114,26 @@ public class SearchUICore {
 			}
 			if (resortAll) {
 				this.searchResults.addAll(sr);
+				duplicatesIndex = null;
 				sortSearchResults();
 				if (removeDuplicates) {
 					filterSearchDuplicateResults();
 				}
 			} else {
 				if (!removeDuplicates) {
-					this.searchResults.addAll(sr);
+					for (SearchResult r : sr) {
+						addSearchResult(r);
+					}
 				} else {
+					// order of current results is kept, new sorted results without duplicates are appended.
+					// It is the same as before, when results were walked in merge order but added only to the end,
+					// except that duplicates are found among all current results, not only among last 20 ones
 					ArrayList<SearchResult> addedResults = new ArrayList<>(sr);
-					SearchResultComparator cmp = new SearchResultComparator(phrase);
-					Collections.sort(addedResults, cmp);
-					filterSearchDuplicateResults(addedResults);
-					int i = 0;
-					int j = 0;
-					while (j < addedResults.size()) {
-						SearchResult addedResult = addedResults.get(j);
-						if (i >= searchResults.size()) {
-							int k = 0;
-							boolean same = false;
-							while (searchResults.size() > k && k < DEPTH_TO_CHECK_SAME_SEARCH_RESULTS) {
-								if (sameSearchResult(addedResult, searchResults.get(searchResults.size() - k - 1))) {
-									same = true;
-									break;
-								}
-								k++;
-							}
-							if (!same) {
-								searchResults.add(addedResult);
-							}
-							j++;
-							continue;
-						}
-						SearchResult existingResult = searchResults.get(i);
-						if (sameSearchResult(addedResult, existingResult)) {
-							j++;
-							continue;
-						}
-						int compare = cmp.compare(existingResult, addedResult);
-						if (compare == 0) {
-							// existingResult == addedResult
-							j++;
-						} else if (compare > 0) {
-							// existingResult > addedResult
-							this.searchResults.add(addedResults.get(j));
-							j++;
-						} else {
-							// existingResult < addedResult
-							i++;
+					Collections.sort(addedResults, new SearchResultComparator(phrase));
+					DuplicatesIndex index = getDuplicatesIndex();
+					for (SearchResult addedResult : addedResults) {
+						if (index.addIfUnique(addedResult)) {
+							searchResults.add(addedResult);
 						}
 					}
 				}
@@ -159,6 +144,13 @@ public class SearchUICore {
 			return this;
 		}
 
+		private void addSearchResult(SearchResult r) {
+			searchResults.add(r);
+			if (duplicatesIndex != null) {
+				duplicatesIndex.add(r);
+			}
+		}
+
 		public List<SearchResult> getCurrentSearchResults() {
 			return Collections.unmodifiableList(searchResults);
 		}
@@ -188,26 +180,163 @@ public class SearchUICore {
 		}
 
 		private void filterSearchDuplicateResults(List<SearchResult> lst) {
-			ListIterator<SearchResult> it = lst.listIterator();
-			LinkedList<SearchResult> lstUnique = new LinkedList<SearchResult>();
-			while (it.hasNext()) {
-				SearchResult r = it.next();
-				boolean same = false;
-				for (SearchResult rs : lstUnique) {
-					same = sameSearchResult(rs, r);
-					if (same) {
-						break;
+			DuplicatesIndex index = new DuplicatesIndex();
+			List<SearchResult> unique = new ArrayList<>(lst.size());
+			for (SearchResult r : lst) {
+				if (index.addIfUnique(r)) {
+					unique.add(r);
+				}
+			}
+			if (unique.size() != lst.size()) {
+				lst.clear();
+				lst.addAll(unique);
+			}
+			if (lst == searchResults) {
+				duplicatesIndex = index;
+			}
+		}
+
+		private DuplicatesIndex getDuplicatesIndex() {
+			if (duplicatesIndex == null) {
+				duplicatesIndex = new DuplicatesIndex();
+				for (SearchResult r : searchResults) {
+					duplicatesIndex.add(r);
+				}
+			}
+			return duplicatesIndex;
+		}
+
+		/**
+		 * Hash index of results to find candidates for {@link #sameSearchResult(SearchResult, SearchResult)}
+		 * without comparing with all results: results are grouped by name and by grid cell of location,
+		 * streets by location, results without location by object.
+		 */
+		private class DuplicatesIndex {
+			// ~110 m by latitude, max distance of near duplicates is 100 m
+			private static final double CELL_SIZE = 0.001;
+			private static final double NEAR_DISTANCE = 100;
+
+			private Map<String, Map<Long, List<SearchResult>>> cellsByName = new HashMap<>();
+			// all results by name, they are checked for amenities which could be duplicates at any distance
+			private Map<String, List<SearchResult>> byName = new HashMap<>();
+			// amenities which could be duplicates at any distance
+			private Map<String, List<SearchResult>> farByName = new HashMap<>();
+			private Map<LatLon, List<SearchResult>> streets = new HashMap<>();
+			private Map<Object, List<SearchResult>> byObject = new IdentityHashMap<>();
+
+			public boolean addIfUnique(SearchResult r) {
+				if (contains(r)) {
+					return false;
+				}
+				add(r);
+				return true;
+			}
+
+			public void add(SearchResult r) {
+				if (r.object != null) {
+					put(byObject, r.object, r);
+				}
+				if (r.location == null) {
+					return;
+				}
+				if (r.objectType == ObjectType.STREET) {
+					put(streets, ((Street) r.object).getLocation(), r);
+				}
+				if (r.localeName != null) {
+					put(byName, r.localeName, r);
+					if (isFarDuplicateCandidate(r)) {
+						put(farByName, r.localeName, r);
+					}
+					Map<Long, List<SearchResult>> cells = cellsByName.get(r.localeName);
+					if (cells == null) {
+						cells = new HashMap<>();
+						cellsByName.put(r.localeName, cells);
 					}
+					put(cells, cellKey(latCell(r.location.getLatitude()), lonCell(r.location.getLongitude())), r);
 				}
-				if (same) {
-					it.remove();
-				} else {
-					lstUnique.add(r);
-					if (lstUnique.size() > DEPTH_TO_CHECK_SAME_SEARCH_RESULTS) {
-						lstUnique.remove(0);
+			}
+
+			public boolean contains(SearchResult r) {
+				if (r.object != null && matches(r, byObject.get(r.object))) {
+					return true;
+				}
+				if (r.location == null || r.localeName == null) {
+					// other cases are not duplicates or they are covered by object check
+					return r.location != null && r.objectType == ObjectType.STREET
+							&& matches(r, streets.get(((Street) r.object).getLocation()));
+				}
+				if (r.objectType == ObjectType.STREET && matches(r, streets.get(((Street) r.object).getLocation()))) {
+					return true;
+				}
+				if (isFarDuplicateCandidate(r)) {
+					return matches(r, byName.get(r.localeName));
+				}
+				if (matches(r, farByName.get(r.localeName))) {
+					return true;
+				}
+				Map<Long, List<SearchResult>> cells = cellsByName.get(r.localeName);
+				if (cells == null) {
+					return false;
+				}
+				double lat = r.location.getLatitude();
+				double lon = r.location.getLongitude();
+				double dlat = NEAR_DISTANCE / METERS_IN_DEGREE;
+				double dlon = dlat / Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+				for (int y = latCell(lat - dlat); y <= latCell(lat + dlat); y++) {
+					for (int x = lonCell(lon - dlon); x <= lonCell(lon + dlon); x++) {
+						if (matches(r, cells.get(cellKey(y, x)))) {
+							return true;
+						}
+					}
+				}
+				return false;
+			}
+
+			private boolean matches(SearchResult r, List<SearchResult> candidates) {
+				if (candidates != null) {
+					for (SearchResult c : candidates) {
+						if (sameSearchResult(c, r)) {
+							return true;
+						}
 					}
 				}
+				return false;
+			}
+
+			private <K> void put(Map<K, List<SearchResult>> map, K key, SearchResult r) {
+				List<SearchResult> l = map.get(key);
+				if (l == null) {
+					l = new ArrayList<>(1);
+					map.put(key, l);
+				}
+				l.add(r);
 			}
+
+			private int latCell(double lat) {
+				return (int) Math.floor(lat / CELL_SIZE);
+			}
+
+			private int lonCell(double lon) {
+				return (int) Math.floor(lon / CELL_SIZE);
+			}
+
+			private long cellKey(int y, int x) {
+				return ((long) y << 32) | (x & 0xffffffffL);
+			}
+		}
+
+		private static final double METERS_IN_DEGREE = 111000;
+
+		// see sameSearchResult: such amenities are compared on big distances
+		private static boolean isFarDuplicateCandidate(SearchResult r) {
+			if (!(r.object instanceof Amenity)) {
+				return false;
+			}
+			Amenity a = (Amenity) r.object;
+			String subType = a.getSubType();
+			return "natural".equals(a.getType().getKeyName()) || "building".equals(subType)
+					|| subType.contains("cn_ref") || subType.contains("wn_ref")
+					|| (subType.startsWith("route_hiking_") && subType.endsWith("n_poi"));
 		}
 
 		public boolean sameSearchResult(SearchResult r1, SearchResult r2) {
@@ -227,7 +356,7 @@ public class SearchUICore {
 				if (r2.object instanceof Amenity) {
 					a2 = (Amenity) r2.object;
 				}
-				if (r1.localeName.equals(r2.localeName)) {
+				if (r1.localeName != null && r1.localeName.equals(r2.localeName)) {
 					double similarityRadius = 30;
 					if (a1 != null && a2 != null) {
 						// here 2 points are amenity
@@ -311,13 +440,18 @@ public class SearchUICore {
 		apis.add(new SearchCoreFactory.SearchLocationAndUrlAPI());
 		apis.add(new SearchCoreFactory.SearchAmenityTypesAPI(poiTypes));
 		apis.add(new SearchCoreFactory.SearchAmenityByTypeAPI(poiTypes));
-		apis.add(new SearchCoreFactory.SearchAmenityByNameAPI());
+		SearchCoreFactory.SearchAmenityByNameAPI amenityByNameApi = new SearchCoreFactory.SearchAmenityByNameAPI();
+		apis.add(amenityByNameApi);
+		refinementCache.registerRefinableAPI(amenityByNameApi);
 		SearchBuildingAndIntersectionsByStreetAPI streetsApi =
 				new SearchCoreFactory.SearchBuildingAndIntersectionsByStreetAPI();
 		apis.add(streetsApi);
 		SearchStreetByCityAPI cityApi = new SearchCoreFactory.SearchStreetByCityAPI(streetsApi);
 		apis.add(cityApi);
-		apis.add(new SearchCoreFactory.SearchAddressByNameAPI(streetsApi, cityApi));
+		SearchCoreFactory.SearchAddressByNameAPI addressApi = new SearchCoreFactory.SearchAddressByNameAPI(streetsApi, cityApi);
+		apis.add(addressApi);
+		registerDependentAPIs(streetsApi, cityApi, addressApi);
+		refinementCache.registerRefinableAPI(addressApi);
 	}
 
 	public void clearCustomSearchPoiFilters() {
@@ -340,6 +474,88 @@ public class SearchUICore {
 		apis.add(api);
 	}
 
+	/**
+	 * Marks apis which share state (for example one is used as sub search of another),
+	 * in concurrent search mode they are run one by one on the same worker
+	 */
+	public void registerDependentAPIs(SearchCoreAPI... group) {
+		List<SearchCoreAPI> lst = new ArrayList<>();
+		for (SearchCoreAPI api : group) {
+			List<SearchCoreAPI> prev = dependentApis.get(api);
+			if (prev != null) {
+				for (SearchCoreAPI p : prev) {
+					if (!lst.contains(p)) {
+						lst.add(p);
+					}
+				}
+			} else if (!lst.contains(api)) {
+				lst.add(api);
+			}
+		}
+		for (SearchCoreAPI api : lst) {
+			dependentApis.put(api, lst);
+		}
+	}
+
+	/**
+	 * Enables concurrent search mode: independent apis are run on a pool of worker threads
+	 * and their results are merged in priority order. Result matcher is called from worker threads
+	 * (calls are serialized).
+	 * @param threads number of worker threads, 0 or 1 switches to sequential search
+	 */
+	public synchronized void setConcurrentSearch(int threads) {
+		if (searchWorkers != null) {
+			searchWorkers.shutdown();
+			searchWorkers = null;
+		}
+		if (threads > 1) {
+			searchWorkers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						private final AtomicInteger counter = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "Search worker " + counter.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+			searchWorkers.allowCoreThreadTimeOut(true);
+		}
+	}
+
+	public synchronized boolean isConcurrentSearch() {
+		return searchWorkers != null;
+	}
+
+	/**
+	 * Enables reuse of results of name searches when search word is extended by typing
+	 */
+	public void setPrefixRefinement(boolean enabled) {
+		refinementCache.setEnabled(enabled);
+	}
+
+	public boolean isPrefixRefinement() {
+		return refinementCache.isEnabled();
+	}
+
+	/**
+	 * Marks api which results are always narrowed down when search word is extended,
+	 * so they could be filtered in memory instead of new search
+	 */
+	public void registerRefinableAPI(SearchCoreAPI api) {
+		refinementCache.registerRefinableAPI(api);
+	}
+
+
+	/**
+	 * @param betweenChars time to wait for next char before delayed search is started
+	 * @param beforeSearch time to wait before not delayed search is started
+	 */
+	public void setSearchTimeouts(int betweenChars, int beforeSearch) {
+		this.timeoutBetweenChars = betweenChars;
+		this.timeoutBeforeSearch = beforeSearch;
+	}
 
 	public SearchResultCollection getCurrentSearchResult() {
 		return currentSearchResult;
@@ -365,6 +581,17 @@ public class SearchUICore {
 		searchSettings = settings;
 	}
 
+	/**
+	 * Sets files to search and name index, index is not updated here (it could take long),
+	 * search by name uses index only for files already indexed and scans others
+	 * @param nameIndex could be null if name index is not used
+	 */
+	public void setOfflineIndexes(List<BinaryMapIndexReader> readers, GlobalNameIndex nameIndex) {
+		SearchSettings settings = searchSettings.setNameIndex(nameIndex);
+		settings.setOfflineIndexes(readers);
+		searchSettings = settings;
+	}
+
 	private void filterCurrentResults(SearchPhrase phrase, ResultMatcher<SearchResult> matcher) {
 		if (matcher == null) {
 			return;
@@ -430,7 +657,7 @@ public class SearchUICore {
 						}
 
 						boolean filtered = false;
-						while (System.currentTimeMillis() - startTime <= TIMEOUT_BETWEEN_CHARS) {
+						while (System.currentTimeMillis() - startTime <= timeoutBetweenChars) {
 							if (rm.isCancelled()) {
 								if (debugMode) {
 									LOG.info("Search cancelled <" + phrase + ">");
@@ -447,7 +674,7 @@ public class SearchUICore {
 								filterCurrentResults(phrase, new ResultMatcher<SearchResult>() {
 									@Override
 									public boolean publish(SearchResult object) {
-										quickRes.searchResults.add(object);
+										quickRes.addSearchResult(object);
 										return true;
 									}
 
@@ -467,7 +694,7 @@ public class SearchUICore {
 							}
 						}
 					} else {
-						Thread.sleep(TIMEOUT_BEFORE_SEARCH);
+						Thread.sleep(timeoutBeforeSearch);
 					}
 					if (rm.isCancelled()) {
 						if (debugMode) {
@@ -538,29 +765,344 @@ public class SearchUICore {
 						o2.getSearchPriority(phrase));
 			}
 		});
+		ThreadPoolExecutor workers;
+		synchronized (this) {
+			workers = searchWorkers;
+		}
+		if (workers != null) {
+			searchConcurrently(phrase, matcher, lst, workers);
+			return;
+		}
 		for (SearchCoreAPI api : lst) {
 			if (matcher.isCancelled()) {
 				break;
 			}
+			runApiSearch(api, phrase, matcher);
+		}
+	}
+
+	private void runApiSearch(SearchCoreAPI api, SearchPhrase phrase, SearchResultMatcher matcher) {
+		if (!api.isSearchAvailable(phrase) || api.getSearchPriority(phrase) == -1) {
+			return;
+		}
+		try {
+			if (refinementCache.refine(api, phrase, matcher)) {
+				matcher.apiSearchFinished(api, phrase);
+				return;
+			}
+			if (debugMode) {
+				LOG.info("Run API search <" + phrase + "> API=<" + api + ">");
+			}
+			int size = matcher.getRequestResults().size();
+			int count = matcher.count;
+			api.search(phrase, matcher);
+			if (!matcher.isCancelled()) {
+				List<SearchResult> results = matcher.getRequestResults();
+				boolean complete = matcher.count - count == results.size() - size;
+				refinementCache.put(api, phrase, results.subList(size, results.size()), complete);
+			}
+			if (debugMode) {
+				LOG.info("API search finishing <" + phrase + "> API=<" + api + ">");
+			}
+			matcher.apiSearchFinished(api, phrase);
+			if (debugMode) {
+				LOG.info("API search done <" + phrase + "> API=<" + api + ">");
+			}
+		} catch (Throwable e) {
+			e.printStackTrace();
+			LOG.error(e.getMessage(), e);
+		}
+	}
+
+	private void searchConcurrently(final SearchPhrase phrase, SearchResultMatcher matcher,
+			List<SearchCoreAPI> sortedApis, ThreadPoolExecutor workers) {
+		// group dependent apis, groups are ordered by priority of their first api
+		List<List<SearchCoreAPI>> groups = new ArrayList<>();
+		Map<List<SearchCoreAPI>, List<SearchCoreAPI>> groupByDependency = new HashMap<>();
+		for (SearchCoreAPI api : sortedApis) {
 			if (!api.isSearchAvailable(phrase) || api.getSearchPriority(phrase) == -1) {
 				continue;
 			}
-			try {
-				if (debugMode) {
-					LOG.info("Run API search <" + phrase + "> API=<" + api + ">");
+			List<SearchCoreAPI> dependent = dependentApis.get(api);
+			List<SearchCoreAPI> group = dependent == null ? null : groupByDependency.get(dependent);
+			if (group == null) {
+				group = new ArrayList<>();
+				groups.add(group);
+				if (dependent != null) {
+					groupByDependency.put(dependent, group);
 				}
-				api.search(phrase, matcher);
-				if (debugMode) {
-					LOG.info("API search finishing <" + phrase + "> API=<" + api + ">");
+			}
+			group.add(api);
+		}
+		// initialize lazy fields of phrase before it is shared between threads
+		phrase.getNameStringMatcher();
+		final ConcurrentSearchMerge merge = new ConcurrentSearchMerge(matcher, groups.size());
+		List<Runnable> tasks = new ArrayList<>(groups.size());
+		for (int i = 0; i < groups.size(); i++) {
+			final List<SearchCoreAPI> group = groups.get(i);
+			final int task = i;
+			// total limit is applied once to merged results
+			final SearchResultMatcher taskMatcher = new SearchResultMatcher(merge.getTaskMatcher(task), phrase,
+					matcher.request, matcher.requestNumber, -1);
+			Runnable r = new Runnable() {
+				@Override
+				public void run() {
+					try {
+						for (SearchCoreAPI api : group) {
+							if (taskMatcher.isCancelled()) {
+								break;
+							}
+							runApiSearch(api, phrase, taskMatcher);
+							// results are kept by merged matcher only
+							taskMatcher.requestResults.clear();
+						}
+					} finally {
+						merge.taskFinished(task);
+					}
 				}
-				matcher.apiSearchFinished(api, phrase);
-				if (debugMode) {
-					LOG.info("API search done <" + phrase + "> API=<" + api + ">");
+			};
+			tasks.add(r);
+			workers.execute(r);
+		}
+		try {
+			while (!merge.await(TIMEOUT_BEFORE_FILTER)) {
+				if (matcher.isCancelled()) {
+					// tasks not started yet are dropped, running ones stop by themselves
+					for (Runnable r : tasks) {
+						workers.remove(r);
+					}
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			LOG.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Keeps results of last search of refinable apis. When only last search word is extended
+	 * (user types next character) and everything else in phrase is the same, results of new search
+	 * are subset of cached ones, so they are filtered in memory and name indexes are not read again.
+	 * Results truncated by limits and results of apis which are not {@link SearchCoreAPI#isRefinable} are not reused.
+	 */
+	static class PrefixRefinementCache {
+		// apis limit results to 10000, so bigger result set could be incomplete
+		private static final int MAX_RESULTS = 5000;
+
+		private final List<SearchCoreAPI> refinableApis = new ArrayList<>();
+		private final Map<SearchCoreAPI, CachedResults> cache = new HashMap<>();
+		private boolean enabled = true;
+
+		private static class CachedResults {
+			PrefixRefinementKey key;
+			List<SearchResult> results;
+		}
+
+		public synchronized void registerRefinableAPI(SearchCoreAPI api) {
+			if (!refinableApis.contains(api)) {
+				refinableApis.add(api);
+			}
+		}
+
+		public synchronized boolean isEnabled() {
+			return enabled;
+		}
+
+		public synchronized void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+			if (!enabled) {
+				cache.clear();
+			}
+		}
+
+		public synchronized void clear() {
+			cache.clear();
+		}
+
+		public void put(SearchCoreAPI api, SearchPhrase phrase, List<SearchResult> results, boolean complete) {
+			synchronized (this) {
+				if (!enabled || !refinableApis.contains(api)) {
+					return;
+				}
+			}
+			PrefixRefinementKey key = PrefixRefinementKey.create(phrase);
+			synchronized (this) {
+				if (key == null || !complete || results.size() > MAX_RESULTS || !api.isRefinable(phrase)) {
+					cache.remove(api);
+				} else {
+					CachedResults c = new CachedResults();
+					c.key = key;
+					c.results = new ArrayList<>(results);
+					cache.put(api, c);
+				}
+			}
+		}
+
+		/**
+		 * Publishes cached results of api matching phrase
+		 * @return false if cached results could not be used and search should be done
+		 */
+		public boolean refine(SearchCoreAPI api, SearchPhrase phrase, SearchResultMatcher matcher) {
+			CachedResults c;
+			synchronized (this) {
+				c = enabled ? cache.get(api) : null;
+			}
+			if (c == null) {
+				return false;
+			}
+			PrefixRefinementKey key = PrefixRefinementKey.create(phrase);
+			if (key == null || !key.refines(c.key)) {
+				return false;
+			}
+			if (debugMode) {
+				LOG.info("Refine API search <" + phrase + "> API=<" + api + "> Cached results=" + c.results.size());
+			}
+			NameStringMatcher nm = phrase.getNameStringMatcher();
+			List<SearchResult> refined = new ArrayList<>();
+			for (SearchResult r : c.results) {
+				if (matcher.isCancelled()) {
+					return true;
+				}
+				if (nm.matches(r.localeName) || nm.matches(r.otherNames)) {
+					// results of previous search are shown until new results are published, so they are not changed
+					SearchResult res = new SearchResult(phrase, r);
+					res.alternateName = null;
+					SearchResult prev = matcher.setParentSearchResult(r.parentSearchResult);
+					if (matcher.publish(res)) {
+						refined.add(res);
+					}
+					matcher.setParentSearchResult(prev);
+				}
+			}
+			if (refined.isEmpty() && phrase.getSettings().isFuzzySearch()) {
+				// search again to find names with typos
+				return false;
+			}
+			synchronized (this) {
+				c = new CachedResults();
+				c.key = key;
+				c.results = refined;
+				cache.put(api, c);
+			}
+			return true;
+		}
+	}
+
+	private static class PrefixRefinementKey {
+		private List<SearchResult> words = new ArrayList<>();
+		private List<BinaryMapIndexReader> files;
+		private int radiusLevel;
+		private LatLon location;
+		private String lang;
+		private boolean transliterate;
+		private ObjectType[] searchTypes;
+		private String word;
+		private boolean complete;
+
+		// null if phrase has more than one unknown word
+		static PrefixRefinementKey create(SearchPhrase phrase) {
+			if (!phrase.getUnknownSearchWords().isEmpty() || !phrase.isUnknownSearchWordPresent()) {
+				return null;
+			}
+			PrefixRefinementKey k = new PrefixRefinementKey();
+			for (SearchWord w : phrase.getWords()) {
+				k.words.add(w.getResult());
+			}
+			k.files = new ArrayList<>(phrase.getOfflineIndexes());
+			k.radiusLevel = phrase.getRadiusLevel();
+			k.location = phrase.getLastTokenLocation();
+			k.lang = phrase.getSettings().getLang();
+			k.transliterate = phrase.getSettings().isTransliterate();
+			k.searchTypes = phrase.getSearchTypes();
+			k.word = FoldedStringMatcher.fold(phrase.getUnknownSearchWord());
+			k.complete = phrase.isLastUnknownSearchWordComplete();
+			return k;
+		}
+
+		// true if results for this key are subset of results of previous key
+		boolean refines(PrefixRefinementKey prev) {
+			if (prev.complete || !word.startsWith(prev.word)) {
+				return false;
+			}
+			if (words.size() != prev.words.size()) {
+				return false;
+			}
+			for (int i = 0; i < words.size(); i++) {
+				if (words.get(i) != prev.words.get(i)) {
+					return false;
+				}
+			}
+			return radiusLevel == prev.radiusLevel && transliterate == prev.transliterate
+					&& Algorithms.objectEquals(lang, prev.lang) && Algorithms.objectEquals(location, prev.location)
+					&& Arrays.equals(searchTypes, prev.searchTypes) && files.equals(prev.files);
+		}
+	}
+
+	/**
+	 * Merges results of apis searching concurrently: results of task with highest priority are published
+	 * immediately, results of other tasks are buffered until all preceding tasks are finished.
+	 * Buffered results are accepted by task matcher and they are filtered by merged matcher when published.
+	 */
+	private static class ConcurrentSearchMerge {
+		private final SearchResultMatcher matcher;
+		private final List<List<SearchResult>> buffers;
+		private final boolean[] finished;
+		private final CountDownLatch done;
+		private int current = 0;
+
+		public ConcurrentSearchMerge(SearchResultMatcher matcher, int tasks) {
+			this.matcher = matcher;
+			this.finished = new boolean[tasks];
+			this.done = new CountDownLatch(tasks);
+			this.buffers = new ArrayList<>(tasks);
+			for (int i = 0; i < tasks; i++) {
+				buffers.add(new ArrayList<SearchResult>());
+			}
+		}
+
+		public ResultMatcher<SearchResult> getTaskMatcher(final int task) {
+			return new ResultMatcher<SearchResult>() {
+				@Override
+				public boolean publish(SearchResult object) {
+					return ConcurrentSearchMerge.this.publish(task, object);
+				}
+
+				@Override
+				public boolean isCancelled() {
+					return matcher.isCancelled();
+				}
+			};
+		}
+
+		private synchronized boolean publish(int task, SearchResult object) {
+			if (task == current) {
+				return forward(object);
+			}
+			buffers.get(task).add(object);
+			return true;
+		}
+
+		public synchronized void taskFinished(int task) {
+			finished[task] = true;
+			while (current < finished.length && finished[current]) {
+				current++;
+				if (current < finished.length) {
+					List<SearchResult> buffer = buffers.get(current);
+					for (SearchResult r : buffer) {
+						forward(r);
+					}
+					buffer.clear();
 				}
-			} catch (Throwable e) {
-				e.printStackTrace();
-				LOG.error(e.getMessage(), e);
 			}
+			done.countDown();
+		}
+
+		public boolean await(long timeoutMs) throws InterruptedException {
+			return done.await(timeoutMs, TimeUnit.MILLISECONDS);
+		}
+
+		private boolean forward(SearchResult object) {
+			return !matcher.isCancelled() && matcher.publishMerged(object);
 		}
 	}
 
@@ -688,6 +1230,22 @@ public class SearchUICore {
 			}
 			return false;
 		}
+		// publishes result of concurrent api search which is already processed by task matcher
+		private boolean publishMerged(SearchResult object) {
+			if (object.objectType == ObjectType.SEARCH_API_FINISHED
+					|| object.objectType == ObjectType.SEARCH_API_REGION_FINISHED) {
+				return matcher == null || matcher.publish(object);
+			}
+			if (matcher == null || matcher.publish(object)) {
+				count++;
+				if (totalLimit == -1 || count < totalLimit) {
+					requestResults.add(object);
+				}
+				return true;
+			}
+			return false;
+		}
+
 		@Override
 		public boolean isCancelled() {
 			boolean cancelled = request != requestNumber.get();
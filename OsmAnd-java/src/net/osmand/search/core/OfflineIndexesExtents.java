@@ -0,0 +1,127 @@
+package net.osmand.search.core;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.osmand.binary.BinaryIndexPart;
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+import net.osmand.binary.BinaryMapIndexReader.MapRoot;
+import net.osmand.binary.BinaryMapPoiReaderAdapter.PoiRegion;
+import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
+import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteSubregion;
+import net.osmand.data.PackedRTree;
+import net.osmand.data.QuadRect;
+import net.osmand.search.core.SearchPhrase.SearchPhraseDataType;
+
+/**
+ * Spatial index of section extents of offline files, it is built lazily once per list of files
+ * and shared by all copies of {@link SearchSettings}.
+ */
+class OfflineIndexesExtents {
+
+	// zoom used to check map data
+	private static final int MAP_ZOOM = 15;
+
+	private final List<BinaryMapIndexReader> indexes;
+	private Map<SearchPhraseDataType, PackedRTree<BinaryMapIndexReader>> trees;
+	private Set<BinaryMapIndexReader> indexed;
+
+	public OfflineIndexesExtents(List<BinaryMapIndexReader> indexes) {
+		this.indexes = indexes;
+	}
+
+	private synchronized void init() {
+		if (trees != null) {
+			return;
+		}
+		Map<SearchPhraseDataType, PackedRTree<BinaryMapIndexReader>> trees =
+				new EnumMap<SearchPhraseDataType, PackedRTree<BinaryMapIndexReader>>(SearchPhraseDataType.class);
+		indexed = new HashSet<>(indexes);
+		for (SearchPhraseDataType dt : SearchPhraseDataType.values()) {
+			List<BinaryMapIndexReader> data = new ArrayList<>();
+			List<QuadRect> boxes = new ArrayList<>();
+			for (BinaryMapIndexReader r : indexes) {
+				List<QuadRect> fileBoxes = getExtents(r, dt);
+				for (QuadRect b : fileBoxes) {
+					data.add(r);
+					boxes.add(b);
+				}
+			}
+			trees.put(dt, new PackedRTree<BinaryMapIndexReader>(data, boxes));
+		}
+		this.trees = trees;
+	}
+
+	private static List<QuadRect> getExtents(BinaryMapIndexReader r, SearchPhraseDataType dt) {
+		List<QuadRect> boxes = new ArrayList<>();
+		if (dt == SearchPhraseDataType.POI || dt == SearchPhraseDataType.ADDRESS) {
+			// poi extents are used for address too, not all maps have address extents
+			if (dt == SearchPhraseDataType.POI || r.containsAddressData()) {
+				for (BinaryIndexPart part : r.getIndexes()) {
+					if (part instanceof PoiRegion) {
+						PoiRegion p = (PoiRegion) part;
+						boxes.add(new QuadRect(p.getLeft31(), p.getTop31(), p.getRight31(), p.getBottom31()));
+					}
+				}
+			}
+		} else if (dt == SearchPhraseDataType.ROUTING) {
+			for (RouteRegion rr : r.getRoutingIndexes()) {
+				for (RouteSubregion s : rr.getSubregions()) {
+					boxes.add(new QuadRect(s.left, s.top, s.right, s.bottom));
+				}
+			}
+		} else {
+			for (MapIndex mi : r.getMapIndexes()) {
+				for (MapRoot root : mi.getRoots()) {
+					if (root.getMinZoom() <= MAP_ZOOM && root.getMaxZoom() >= MAP_ZOOM) {
+						boxes.add(new QuadRect(root.getLeft(), root.getTop(), root.getRight(), root.getBottom()));
+					}
+				}
+			}
+		}
+		return boxes;
+	}
+
+	/**
+	 * @return files of list having data of type in rect, order of list is kept
+	 * (it is set by {@link SearchPhrase#sortFiles()}, e.g. updates before main files)
+	 */
+	public List<BinaryMapIndexReader> query(List<BinaryMapIndexReader> list, QuadRect rect, SearchPhraseDataType dt) {
+		init();
+		// same integer box as used by contains methods of reader
+		QuadRect box = new QuadRect((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom);
+		Set<BinaryMapIndexReader> found = new HashSet<>(trees.get(dt).queryInBox(box,
+				new ArrayList<BinaryMapIndexReader>()));
+		List<BinaryMapIndexReader> result = new ArrayList<>();
+		for (BinaryMapIndexReader r : list) {
+			if (indexed.contains(r)) {
+				if (found.contains(r)) {
+					result.add(r);
+				}
+			} else if (containsData(r, rect, dt)) {
+				// file is added after index was built
+				result.add(r);
+			}
+		}
+		return result;
+	}
+
+	static boolean containsData(BinaryMapIndexReader r, QuadRect rect, SearchPhraseDataType dt) {
+		if (dt == SearchPhraseDataType.POI) {
+			return r.containsPoiData((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom);
+		} else if (dt == SearchPhraseDataType.ADDRESS) {
+			// containsAddressData not all maps supported
+			return r.containsPoiData((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom)
+					&& r.containsAddressData();
+		} else if (dt == SearchPhraseDataType.ROUTING) {
+			return r.containsRouteData((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom, MAP_ZOOM);
+		} else {
+			return r.containsMapData((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom, MAP_ZOOM);
+		}
+	}
+}
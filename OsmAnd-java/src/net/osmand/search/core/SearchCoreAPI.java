@@ -22,6 +22,13 @@ public interface SearchCoreAPI {
 
 	boolean isSearchAvailable(SearchPhrase p);
 
+	/**
+	 * @param phrase
+	 * @return true if results of phrase contain all results of phrase with extended last word,
+	 * so they could be filtered instead of new search
+	 */
+	boolean isRefinable(SearchPhrase phrase);
+
 	/**
 	 * @param phrase
 	 * @return minimal search radius in meters
@@ -4,11 +4,14 @@ import com.jwetherell.openmap.common.LatLonPoint;
 import com.jwetherell.openmap.common.UTMPoint;
 
 import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.FuzzyStringMatcher;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapAddressReaderAdapter;
 import net.osmand.binary.BinaryMapIndexReader;
 import net.osmand.binary.BinaryMapIndexReader.SearchPoiTypeFilter;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.GlobalNameIndex;
+import net.osmand.binary.GlobalNameIndex.NameIndexLookup;
 import net.osmand.binary.CommonWords;
 import net.osmand.data.Amenity;
 import net.osmand.data.Building;
@@ -35,6 +38,7 @@ import net.osmand.util.MapUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -119,6 +123,11 @@ public class SearchCoreFactory {
 			return true;
 		}
 
+		@Override
+		public boolean isRefinable(SearchPhrase phrase) {
+			return true;
+		}
+
 		@Override
 		public int getSearchPriority(SearchPhrase p) {
 			return 1;
@@ -208,6 +217,28 @@ public class SearchCoreFactory {
 		}
 	}
 
+	/**
+	 * @return fuzzy matcher for word if typos are allowed and search by name found nothing, otherwise null
+	 */
+	private static FuzzyStringMatcher getFuzzyFallbackMatcher(SearchPhrase phrase, String word, StringMatcherMode mode,
+			boolean found, SearchResultMatcher resultMatcher) {
+		if (found || !phrase.getSettings().isFuzzySearch() || resultMatcher.isCancelled()) {
+			return null;
+		}
+		int maxEdits = FuzzyStringMatcher.getMaxEdits(word.length());
+		return maxEdits == 0 ? null : new FuzzyStringMatcher(word, maxEdits, mode);
+	}
+
+	private static int getFuzzyDistance(FuzzyStringMatcher fuzzy, String localeName, Collection<String> otherNames) {
+		int d = fuzzy.getDistance(localeName);
+		if (otherNames != null) {
+			for (String n : otherNames) {
+				d = Math.min(d, fuzzy.getDistance(n));
+			}
+		}
+		return d;
+	}
+
 	private static String stripBraces(String localeName) {
 		int i = localeName.indexOf('(');
 		String retName = localeName;
@@ -268,6 +299,17 @@ public class SearchCoreFactory {
 			return phrase.getRadiusSearch(DEFAULT_ADDRESS_BBOX_RADIUS);
 		}
 
+		@Override
+		public boolean isRefinable(SearchPhrase phrase) {
+			// streets are not searched for short words, longer word could find them
+			return isSearchByNameAvailable(phrase);
+		}
+
+		private boolean isSearchByNameAvailable(SearchPhrase phrase) {
+			return phrase.getRadiusLevel() > 1 || phrase.getUnknownSearchWordLength() > 3
+					|| phrase.getUnknownSearchWords().size() > 0;
+		}
+
 		@Override
 		public boolean search(final SearchPhrase phrase, final SearchResultMatcher resultMatcher) throws IOException {
 			if (!phrase.isUnknownSearchWordPresent() && !phrase.isEmptyQueryAllowed()) {
@@ -290,7 +332,10 @@ public class SearchCoreFactory {
 				BinaryMapIndexReader r = offlineIndexes.next();
 				if (!townCities.containsKey(r)) {
 					BinaryMapIndexReader.buildAddressRequest(null);
-					List<City> l = r.getCities(null, BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE);
+					List<City> l;
+					synchronized (r) {
+						l = r.getCities(null, BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE);
+					}
 					townCities.put(r, l);
 					for (City c  : l) {
 						LatLon cl = c.getLocation();
@@ -339,9 +384,8 @@ public class SearchCoreFactory {
 
 		private void searchByName(final SearchPhrase phrase, final SearchResultMatcher resultMatcher)
 				throws IOException {
-			if (phrase.getRadiusLevel() > 1 || phrase.getUnknownSearchWordLength() > 3 || phrase.getUnknownSearchWords().size() > 0) {
+			if (isSearchByNameAvailable(phrase)) {
 				final boolean locSpecified = phrase.getLastTokenLocation() != null;
-				LatLon loc = phrase.getLastTokenLocation();
 				final List<SearchResult> immediateResults = new ArrayList<>();
 				final QuadRect streetBbox = phrase.getRadiusBBoxToSearch(DEFAULT_ADDRESS_BBOX_RADIUS);
 				final QuadRect postcodeBbox = phrase.getRadiusBBoxToSearch(DEFAULT_ADDRESS_BBOX_RADIUS * 5);
@@ -350,7 +394,8 @@ public class SearchCoreFactory {
 				final int priority = phrase.isNoSelectedType() ?
 						SEARCH_ADDRESS_BY_NAME_PRIORITY : SEARCH_ADDRESS_BY_NAME_PRIORITY_RADIUS2;
 				final BinaryMapIndexReader[] currentFile = new BinaryMapIndexReader[1];
-				
+				// set when exact search found nothing and names with typos are searched
+				final FuzzyStringMatcher[] fuzzy = new FuzzyStringMatcher[1];
 				
 				ResultMatcher<MapObject> rm = new ResultMatcher<MapObject>() {
 					int limit = 0;
@@ -369,6 +414,14 @@ public class SearchCoreFactory {
 						sr.location = object.getLocation();
 						sr.priorityDistance = 1;
 						sr.priority = priority;
+						if (fuzzy[0] != null) {
+							int d = getFuzzyDistance(fuzzy[0], sr.localeName, sr.otherNames);
+							if (d == FuzzyStringMatcher.NO_MATCH) {
+								return false;
+							}
+							// fewer typos first
+							sr.priority += d;
+						}
 						int y = MapUtils.get31TileNumberY(object.getLocation().getLatitude());
 						int x = MapUtils.get31TileNumberX(object.getLocation().getLongitude());
 						List<City> closestCities = null;
@@ -450,37 +503,64 @@ public class SearchCoreFactory {
 								resultMatcher.isCancelled();
 					}
 				};
-				Iterator<BinaryMapIndexReader> offlineIterator = phrase.getRadiusOfflineIndexes(DEFAULT_ADDRESS_BBOX_RADIUS * 5,
-						SearchPhraseDataType.ADDRESS);
-				
 				String wordToSearch = phrase.getUnknownWordToSearch();
-				while (offlineIterator.hasNext() && wordToSearch.length() > 0) {
-					BinaryMapIndexReader r = offlineIterator.next();
-					currentFile[0] = r;
-					immediateResults.clear();
-					SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(rm, wordToSearch.toLowerCase(),
-							phrase.isUnknownSearchWordComplete() ? StringMatcherMode.CHECK_EQUALS_FROM_SPACE
-									: StringMatcherMode.CHECK_STARTS_FROM_SPACE);
-					if (locSpecified) {
-						req.setBBoxRadius(loc.getLatitude(), loc.getLongitude(),
-								phrase.getRadiusSearch(DEFAULT_ADDRESS_BBOX_RADIUS * 5));
+				GlobalNameIndex nameIndex = phrase.getSettings().getNameIndex();
+				NameIndexLookup nameLookup = nameIndex == null || wordToSearch.length() == 0 ? null :
+						nameIndex.lookup(wordToSearch);
+				StringMatcherMode mode = phrase.isUnknownSearchWordComplete() ? StringMatcherMode.CHECK_EQUALS_FROM_SPACE
+						: StringMatcherMode.CHECK_STARTS_FROM_SPACE;
+				boolean found = searchByNameInFiles(phrase, resultMatcher, rm, currentFile, immediateResults, wordToSearch, mode,
+						nameLookup, 0);
+				fuzzy[0] = getFuzzyFallbackMatcher(phrase, wordToSearch, mode, found, resultMatcher);
+				if (fuzzy[0] != null) {
+					searchByNameInFiles(phrase, resultMatcher, rm, currentFile, immediateResults, wordToSearch, mode,
+							null, fuzzy[0].getMaxEdits());
+				}
+			}
+		}
+
+		private boolean searchByNameInFiles(SearchPhrase phrase, SearchResultMatcher resultMatcher, ResultMatcher<MapObject> rm,
+				BinaryMapIndexReader[] currentFile, List<SearchResult> immediateResults, String wordToSearch,
+				StringMatcherMode mode, NameIndexLookup nameLookup, int maxEdits) throws IOException {
+			boolean found = false;
+			LatLon loc = phrase.getLastTokenLocation();
+			Iterator<BinaryMapIndexReader> offlineIterator = phrase.getRadiusOfflineIndexes(DEFAULT_ADDRESS_BBOX_RADIUS * 5,
+					SearchPhraseDataType.ADDRESS);
+			while (offlineIterator.hasNext() && wordToSearch.length() > 0) {
+				BinaryMapIndexReader r = offlineIterator.next();
+				currentFile[0] = r;
+				immediateResults.clear();
+				SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(rm, wordToSearch.toLowerCase(),
+						mode);
+				req.setMaxEdits(maxEdits);
+				if (loc != null) {
+					req.setBBoxRadius(loc.getLatitude(), loc.getLongitude(),
+							phrase.getRadiusSearch(DEFAULT_ADDRESS_BBOX_RADIUS * 5));
+				}
+				// reader is not thread safe and could be used by concurrent search
+				synchronized (r) {
+					if (nameLookup != null && nameLookup.isIndexed(r)) {
+						r.searchAddressDataByName(req, null, nameLookup);
+					} else {
+						r.searchAddressDataByName(req);
 					}
-					r.searchAddressDataByName(req);
-					for (SearchResult res : immediateResults) {
-						res.firstUnknownWordMatches = wordToSearch.equals(phrase.getUnknownSearchWord());
-						if (res.objectType == ObjectType.STREET) {
-							City ct = ((Street) res.object).getCity();
-							phrase.countUnknownWordsMatch(res, 
-									ct.getName(phrase.getSettings().getLang(), phrase.getSettings().isTransliterate()),
-									ct.getAllNames(true));
-							subSearchApiOrPublish(phrase, resultMatcher, res, streetsApi);
-						} else {
-							subSearchApiOrPublish(phrase, resultMatcher, res, cityApi);
-						}
+				}
+				found |= !immediateResults.isEmpty();
+				for (SearchResult res : immediateResults) {
+					res.firstUnknownWordMatches = wordToSearch.equals(phrase.getUnknownSearchWord());
+					if (res.objectType == ObjectType.STREET) {
+						City ct = ((Street) res.object).getCity();
+						phrase.countUnknownWordsMatch(res, 
+								ct.getName(phrase.getSettings().getLang(), phrase.getSettings().isTransliterate()),
+								ct.getAllNames(true));
+						subSearchApiOrPublish(phrase, resultMatcher, res, streetsApi);
+					} else {
+						subSearchApiOrPublish(phrase, resultMatcher, res, cityApi);
 					}
-					resultMatcher.apiSearchRegionFinished(this, r, phrase);
 				}
+				resultMatcher.apiSearchRegionFinished(this, r, phrase);
 			}
+			return found;
 		}
 	}
 
@@ -506,6 +586,8 @@ public class SearchCoreFactory {
 			final NameStringMatcher nm = phrase.getNameStringMatcher();
 			QuadRect bbox = phrase.getRadiusBBoxToSearch(BBOX_RADIUS_INSIDE);
 			final Set<String> ids = new HashSet<String>();
+			// set when exact search found nothing and names with typos are searched
+			final FuzzyStringMatcher[] fuzzy = new FuzzyStringMatcher[1];
 			SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(
 					(int)bbox.centerX(), (int)bbox.centerY(),
 					phrase.getUnknownSearchWord(),
@@ -525,7 +607,13 @@ public class SearchCoreFactory {
 							SearchResult sr = new SearchResult(phrase);
 							sr.otherNames = object.getAllNames(true);
 							sr.localeName = object.getName(phrase.getSettings().getLang(), phrase.getSettings().isTransliterate());
-							if (phrase.isUnknownSearchWordComplete()) {
+							int edits = 0;
+							if (fuzzy[0] != null) {
+								edits = getFuzzyDistance(fuzzy[0], sr.localeName, sr.otherNames);
+								if (edits == FuzzyStringMatcher.NO_MATCH) {
+									return false;
+								}
+							} else if (phrase.isUnknownSearchWordComplete()) {
 								if(!nm.matches(sr.localeName) && !nm.matches(sr.otherNames) &&
 										!nm.matches(object.getAdditionalInfo().values())) {
 									return false;
@@ -544,7 +632,8 @@ public class SearchCoreFactory {
 							} else {
 								sr.priorityDistance = 1;
 							}
-							sr.priority = SEARCH_AMENITY_BY_NAME_PRIORITY;
+							// fewer typos first
+							sr.priority = SEARCH_AMENITY_BY_NAME_PRIORITY + edits;
 							phrase.countUnknownWordsMatch(sr);
 							sr.objectType = ObjectType.POI;
 							resultMatcher.publish(sr);
@@ -558,14 +647,36 @@ public class SearchCoreFactory {
 						}
 					});
 
+			String word = phrase.getUnknownSearchWord().replace("\"", "");
+			GlobalNameIndex nameIndex = phrase.getSettings().getNameIndex();
+			NameIndexLookup nameLookup = nameIndex == null ? null : nameIndex.lookup(word);
+			searchByNameInFiles(phrase, resultMatcher, req, currentFile, offlineIterator, nameLookup);
+			fuzzy[0] = getFuzzyFallbackMatcher(phrase, word, StringMatcherMode.CHECK_STARTS_FROM_SPACE,
+					!ids.isEmpty(), resultMatcher);
+			if (fuzzy[0] != null) {
+				req.setMaxEdits(fuzzy[0].getMaxEdits());
+				searchByNameInFiles(phrase, resultMatcher, req, currentFile,
+						phrase.getRadiusOfflineIndexes(BBOX_RADIUS, SearchPhraseDataType.POI), null);
+			}
+			return true;
+		}
+
+		private void searchByNameInFiles(SearchPhrase phrase, SearchResultMatcher resultMatcher, SearchRequest<Amenity> req,
+				BinaryMapIndexReader[] currentFile, Iterator<BinaryMapIndexReader> offlineIterator,
+				NameIndexLookup nameLookup) throws IOException {
 			while (offlineIterator.hasNext()) {
 				BinaryMapIndexReader r = offlineIterator.next();
 				currentFile[0] = r;
-				r.searchPoiByName(req);
+				synchronized (r) {
+					if (nameLookup != null && nameLookup.isIndexed(r)) {
+						r.searchPoiByName(req, nameLookup);
+					} else {
+						r.searchPoiByName(req);
+					}
+				}
 
 				resultMatcher.apiSearchRegionFinished(this, r, phrase);
 			}
-			return true;
 		}
 
 		@Override
@@ -785,7 +896,9 @@ public class SearchCoreFactory {
 							(int)bbox.left, (int)bbox.right,
 							(int)bbox.top, (int)bbox.bottom, -1, ptf,
 							rm);
-					o.searchPoi(req);
+					synchronized (o) {
+						o.searchPoi(req);
+					}
 					resultMatcher.apiSearchRegionFinished(this, o, phrase);
 				}
 			}
@@ -905,8 +1018,11 @@ public class SearchCoreFactory {
 			SearchWord sw = phrase.getLastSelectedWord();
 			if (isLastWordCityGroup(phrase) && sw.getResult() != null && sw.getResult().file != null) {
 				City c = (City) sw.getResult().object;
-				if (c.getStreets().isEmpty()) {
-					sw.getResult().file.preloadStreets(c, null);
+				BinaryMapIndexReader file = sw.getResult().file;
+				synchronized (file) {
+					if (c.getStreets().isEmpty()) {
+						file.preloadStreets(c, null);
+					}
 				}
 				int limit = 0;
 				String wordToSearch = phrase.getUnknownWordToSearch();
@@ -1022,7 +1138,9 @@ public class SearchCoreFactory {
 								}
 							});
 
-					file.preloadBuildings(s, sr);
+					synchronized (file) {
+						file.preloadBuildings(s, sr);
+					}
 					Collections.sort(s.getBuildings(), new Comparator<Building>() {
 
 						@Override
@@ -1,7 +1,7 @@
 package net.osmand.search.core;
 
 import net.osmand.Collator;
-import net.osmand.CollatorStringMatcher;
+import net.osmand.FoldedStringMatcher;
 import net.osmand.CollatorStringMatcher.StringMatcherMode;
 import net.osmand.StringMatcher;
 import net.osmand.binary.BinaryMapIndexReader;
@@ -269,51 +269,15 @@ public class SearchPhrase {
 		
 	}
 
+	/**
+	 * @return files having data of type in rect (all files if rect is null) in order of files of phrase
+	 */
 	public Iterator<BinaryMapIndexReader> getOfflineIndexes(final QuadRect rect, final SearchPhraseDataType dt) {
 		List<BinaryMapIndexReader> list = indexes != null ? indexes : settings.getOfflineIndexes();
-		final Iterator<BinaryMapIndexReader> lit = list.iterator();
-		return new Iterator<BinaryMapIndexReader>() {
-			BinaryMapIndexReader next = null;
-			@Override
-			public boolean hasNext() {
-				while (lit.hasNext()) {
-					next = lit.next();
-					if(rect != null) {
-						if(dt == SearchPhraseDataType.POI) {
-							if(next.containsPoiData((int)rect.left, (int)rect.top, (int)rect.right, (int)rect.bottom)) {
-								return true;
-							}
-						} else if(dt == SearchPhraseDataType.ADDRESS) {
-							// containsAddressData not all maps supported
-							if(next.containsPoiData((int)rect.left, (int)rect.top, (int)rect.right, (int)rect.bottom) && 
-									next.containsAddressData()) {
-								return true;
-							}
-						} else if(dt == SearchPhraseDataType.ROUTING) {
-							if(next.containsRouteData((int)rect.left, (int)rect.top, (int)rect.right, (int)rect.bottom, 15)) {
-								return true;
-							}
-						} else {
-							if(next.containsMapData((int)rect.left, (int)rect.top, (int)rect.right, (int)rect.bottom, 15)) {
-								return true;
-							}
-						}
-					} else {
-						return true;
-					}
-				}
-				return false;
-			}
-
-			@Override
-			public BinaryMapIndexReader next() {
-				return next;
-			}
-
-			@Override
-			public void remove() {
-			}
-		};
+		if (rect == null) {
+			return new ArrayList<>(list).iterator();
+		}
+		return settings.getOfflineIndexesExtents().query(list, rect, dt).iterator();
 	}
 	
 	public List<BinaryMapIndexReader> getOfflineIndexes() {
@@ -606,10 +570,10 @@ public class SearchPhrase {
 
 	public static class NameStringMatcher implements StringMatcher {
 
-		private CollatorStringMatcher sm;
+		private FoldedStringMatcher sm;
 
 		public NameStringMatcher(String lastWordTrim, StringMatcherMode mode) {
-			sm = new CollatorStringMatcher(lastWordTrim, mode);
+			sm = new FoldedStringMatcher(lastWordTrim, mode);
 		}
 		
 		public boolean matches(Collection<String> map) {
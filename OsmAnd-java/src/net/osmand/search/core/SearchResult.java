@@ -26,6 +26,27 @@ public class SearchResult {
 	public SearchResult(SearchPhrase sp) {
 		this.requiredSearchPhrase = sp;
 	}
+
+	public SearchResult(SearchPhrase sp, SearchResult r) {
+		this.requiredSearchPhrase = sp;
+		this.object = r.object;
+		this.objectType = r.objectType;
+		this.file = r.file;
+		this.priority = r.priority;
+		this.priorityDistance = r.priorityDistance;
+		this.wordsSpan = r.wordsSpan;
+		this.parentSearchResult = r.parentSearchResult;
+		this.otherWordsMatch = r.otherWordsMatch;
+		this.firstUnknownWordMatches = r.firstUnknownWordMatches;
+		this.location = r.location;
+		this.preferredZoom = r.preferredZoom;
+		this.localeName = r.localeName;
+		this.alternateName = r.alternateName;
+		this.otherNames = r.otherNames;
+		this.localeRelatedObjectName = r.localeRelatedObjectName;
+		this.relatedObject = r.relatedObject;
+		this.distRelatedObjectName = r.distRelatedObjectName;
+	}
 	
 	public int getFoundWordCount() {
 		int inc = 0;
@@ -1,6 +1,7 @@
 package net.osmand.search.core;
 
 import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.GlobalNameIndex;
 import net.osmand.data.LatLon;
 
 import java.util.ArrayList;
@@ -12,6 +13,7 @@ public class SearchSettings {
 
 	private LatLon originalLocation;
 	private List<BinaryMapIndexReader> offlineIndexes = new ArrayList<>();
+	private OfflineIndexesExtents offlineIndexesExtents = new OfflineIndexesExtents(offlineIndexes);
 	private int radiusLevel = 1;
 	private int totalLimit = -1;
 	private String lang;
@@ -19,6 +21,8 @@ public class SearchSettings {
 	private ObjectType[] searchTypes;
 	private boolean emptyQueryAllowed;
 	private boolean sortByName;
+	private GlobalNameIndex nameIndex;
+	private boolean fuzzySearch;
 
 	public SearchSettings(SearchSettings s) {
 		if(s != null) {
@@ -26,15 +30,18 @@ public class SearchSettings {
 			this.lang = s.lang;
 			this.totalLimit = s.totalLimit;
 			this.offlineIndexes = s.offlineIndexes;
+			this.offlineIndexesExtents = s.offlineIndexesExtents;
 			this.originalLocation = s.originalLocation;
 			this.searchTypes = s.searchTypes;
 			this.emptyQueryAllowed = s.emptyQueryAllowed;
 			this.sortByName = s.sortByName;
+			this.nameIndex = s.nameIndex;
+			this.fuzzySearch = s.fuzzySearch;
 		}
 	}
 	
 	public SearchSettings(List<BinaryMapIndexReader> offlineIndexes) {
-		this.offlineIndexes = Collections.unmodifiableList(offlineIndexes);
+		setOfflineIndexes(offlineIndexes);
 	}
 	
 	
@@ -44,6 +51,11 @@ public class SearchSettings {
 
 	public void setOfflineIndexes(List<BinaryMapIndexReader> offlineIndexes) {
 		this.offlineIndexes = Collections.unmodifiableList(offlineIndexes);
+		this.offlineIndexesExtents = new OfflineIndexesExtents(this.offlineIndexes);
+	}
+
+	OfflineIndexesExtents getOfflineIndexesExtents() {
+		return offlineIndexesExtents;
 	}
 
 	public int getRadiusLevel() {
@@ -131,6 +143,29 @@ public class SearchSettings {
 		return s;
 	}
 
+	public GlobalNameIndex getNameIndex() {
+		return nameIndex;
+	}
+
+	public SearchSettings setNameIndex(GlobalNameIndex nameIndex) {
+		SearchSettings s = new SearchSettings(this);
+		s.nameIndex = nameIndex;
+		return s;
+	}
+
+	public boolean isFuzzySearch() {
+		return fuzzySearch;
+	}
+
+	/**
+	 * Names with typos are searched when search by name finds nothing
+	 */
+	public SearchSettings setFuzzySearch(boolean fuzzySearch) {
+		SearchSettings s = new SearchSettings(this);
+		s.fuzzySearch = fuzzySearch;
+		return s;
+	}
+
 	public boolean hasCustomSearchType(ObjectType type) {
 		if (searchTypes != null) {
 			for (ObjectType t : searchTypes) {
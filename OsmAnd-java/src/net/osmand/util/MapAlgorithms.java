@@ -3,7 +3,9 @@ package net.osmand.util;
 import java.util.Collection;
 import java.util.List;
 
+import gnu.trove.list.TIntList;
 import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TIntArrayList;
 import net.osmand.data.LatLon;
 import net.osmand.osm.edit.Node;
 import net.osmand.osm.edit.OsmMapUtils;
@@ -71,6 +73,185 @@ public class MapAlgorithms {
 	}
 	
 	
+	/**
+	 * Douglas-Peucker simplification of x,y pairs (31 coordinates), first and last points are always kept.
+	 * @param tolerance maximum distance of removed point to simplified segment
+	 * @param result cleared and filled with kept points
+	 */
+	public static void simplifyDouglasPeucker(TIntList coordinates, double tolerance, TIntList result) {
+		result.clear();
+		int n = coordinates.size() / 2;
+		if (n <= 2) {
+			result.addAll(coordinates);
+			return;
+		}
+		boolean[] keep = new boolean[n];
+		keep[0] = true;
+		keep[n - 1] = true;
+		double sqTolerance = tolerance * tolerance;
+		int[] stack = new int[2 * n];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = n - 1;
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+			double x1 = coordinates.get(2 * first);
+			double y1 = coordinates.get(2 * first + 1);
+			double dx = coordinates.get(2 * last) - x1;
+			double dy = coordinates.get(2 * last + 1) - y1;
+			double sqLength = dx * dx + dy * dy;
+			double maxDist = sqTolerance;
+			int index = -1;
+			for (int i = first + 1; i < last; i++) {
+				double px = coordinates.get(2 * i) - x1;
+				double py = coordinates.get(2 * i + 1) - y1;
+				// distance to segment, not to line, so collinear hairpins are kept
+				double t = sqLength == 0 ? 0 : (px * dx + py * dy) / sqLength;
+				if (t < 0) {
+					t = 0;
+				} else if (t > 1) {
+					t = 1;
+				}
+				double ex = px - t * dx;
+				double ey = py - t * dy;
+				double dist = ex * ex + ey * ey;
+				if (dist > maxDist) {
+					maxDist = dist;
+					index = i;
+				}
+			}
+			if (index != -1) {
+				keep[index] = true;
+				stack[top++] = first;
+				stack[top++] = index;
+				stack[top++] = index;
+				stack[top++] = last;
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			if (keep[i]) {
+				result.add(coordinates.get(2 * i));
+				result.add(coordinates.get(2 * i + 1));
+			}
+		}
+	}
+
+	/**
+	 * @return absolute area of polygon given by x,y pairs (31 coordinates)
+	 */
+	public static double polygonArea(TIntList coordinates) {
+		int n = coordinates.size() / 2;
+		if (n < 3) {
+			return 0;
+		}
+		// relative to first point to not lose precision
+		long x0 = coordinates.get(0);
+		long y0 = coordinates.get(1);
+		double area = 0;
+		for (int i = 1; i < n - 1; i++) {
+			area += (double) (coordinates.get(2 * i) - x0) * (coordinates.get(2 * i + 3) - y0)
+					- (double) (coordinates.get(2 * i + 2) - x0) * (coordinates.get(2 * i + 1) - y0);
+		}
+		return Math.abs(area) / 2;
+	}
+
+	/**
+	 * Sutherland-Hodgman clipping of polygon given by x,y pairs (31 coordinates) by rectangle, bounds could be out
+	 * of 31 coordinates range (then polygon is not clipped by that side).
+	 * @return clipped closed polygon, the same coordinates if polygon is inside or null if nothing is left
+	 */
+	public static TIntList clipPolygon(TIntList coordinates, long leftX, long rightX, long bottomY, long topY) {
+		int n = coordinates.size() / 2;
+		if (n < 3) {
+			return null;
+		}
+		long minX = Long.MAX_VALUE, maxX = Long.MIN_VALUE, minY = Long.MAX_VALUE, maxY = Long.MIN_VALUE;
+		for (int i = 0; i < n; i++) {
+			int x = coordinates.get(2 * i);
+			int y = coordinates.get(2 * i + 1);
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
+		}
+		if (maxX < leftX || minX > rightX || maxY < topY || minY > bottomY) {
+			return null;
+		}
+		if (minX >= leftX && maxX <= rightX && minY >= topY && maxY <= bottomY) {
+			return coordinates;
+		}
+		TIntList points = coordinates;
+		// polygon crosses bound, so bound is in int range
+		if (minX < leftX) {
+			points = clipByEdge(points, 0, leftX);
+		}
+		if (maxX > rightX) {
+			points = clipByEdge(points, 1, rightX);
+		}
+		if (minY < topY) {
+			points = clipByEdge(points, 2, topY);
+		}
+		if (maxY > bottomY) {
+			points = clipByEdge(points, 3, bottomY);
+		}
+		if (points.size() < 6) {
+			return null;
+		}
+		if (points.get(0) != points.get(points.size() - 2) || points.get(1) != points.get(points.size() - 1)) {
+			points.add(points.get(0));
+			points.add(points.get(1));
+		}
+		return points;
+	}
+
+	// edge: 0 - left, 1 - right, 2 - top, 3 - bottom
+	private static TIntList clipByEdge(TIntList points, int edge, long bound) {
+		int n = points.size() / 2;
+		TIntList res = new TIntArrayList(points.size() + 8);
+		if (n == 0) {
+			return res;
+		}
+		int px = points.get(2 * n - 2);
+		int py = points.get(2 * n - 1);
+		boolean pIn = isInside(edge, px, py, bound);
+		for (int i = 0; i < n; i++) {
+			int x = points.get(2 * i);
+			int y = points.get(2 * i + 1);
+			boolean in = isInside(edge, x, y, bound);
+			if (in != pIn) {
+				if (edge < 2) {
+					res.add((int) bound);
+					res.add((int) (py + ((long) y - py) * (bound - px) / ((long) x - px)));
+				} else {
+					res.add((int) (px + ((long) x - px) * (bound - py) / ((long) y - py)));
+					res.add((int) bound);
+				}
+			}
+			if (in) {
+				res.add(x);
+				res.add(y);
+			}
+			px = x;
+			py = y;
+			pIn = in;
+		}
+		return res;
+	}
+
+	private static boolean isInside(int edge, int x, int y, long bound) {
+		switch (edge) {
+		case 0:
+			return x >= bound;
+		case 1:
+			return x <= bound;
+		case 2:
+			return y >= bound;
+		default:
+			return y <= bound;
+		}
+	}
+
 	public static int ray_intersect_x(int prevX, int prevY, int x, int y, int middleY) {
 		// prev node above line
 		// x,y node below line
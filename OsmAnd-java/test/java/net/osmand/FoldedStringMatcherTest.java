@@ -0,0 +1,111 @@
+package net.osmand;
+
+import java.util.Locale;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FoldedStringMatcherTest {
+
+	private static final String[] NAMES = { "Café de Flore", "CAFE ROYAL", "café royal", "Crème Brûlée Bar",
+			"Saint-Étienne", "rue de l'Église", "Ärztehaus Nord", "Main Street", "123 Main St", "Mañana",
+			"Straße der Einheit", "Zürich Hbf", "Ñandú", "Øster Allé", "Łódź Główna", "Dağ Yolu", "Đakovo",
+			"Main  Street", "Nord-Ost\u00adweg", "St. Peter", "" };
+
+	private static final String[] PARTS = { "", "e", "de", "cafe", "CAFÉ", "café r", "royal", "creme", "BRÛ",
+			"brulee", "bar", "etienne", "saint-e", "eglise", "l'eg", "arztehaus", "ÄRZTE", "nord", "main", "main s",
+			"street", "st", "123", "mana", "manana", "straße", "str", "der einheit", "zurich", "hbf", "nandu", "xyz",
+			"oster", "ost", "lodz", "glowna", "dag", "dağ", "yolu", "dakovo", "mains",
+			"main-st", "main  s", "saint e", "nordost", "ostweg", "st.", "st peter", "-", " " };
+
+	private Locale defaultLocale;
+
+	@Before
+	public void setUp() {
+		defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.US);
+	}
+
+	@After
+	public void tearDown() {
+		Locale.setDefault(defaultLocale);
+	}
+
+	@Test
+	public void testMatchesAsCollator() {
+		for (StringMatcherMode mode : StringMatcherMode.values()) {
+			for (String part : PARTS) {
+				CollatorStringMatcher collator = new CollatorStringMatcher(part, mode);
+				FoldedStringMatcher folded = new FoldedStringMatcher(part, mode);
+				for (String name : NAMES) {
+					Assert.assertEquals(mode + " '" + part + "' in '" + name + "'", collator.matches(name),
+							folded.matches(name));
+				}
+			}
+		}
+		FoldedStringMatcher m = new FoldedStringMatcher("cafe", StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		Assert.assertTrue(m.matches("Café de Flore"));
+		Assert.assertFalse(m.matches("Cafeteria"));
+		m = new FoldedStringMatcher("flore", StringMatcherMode.CHECK_STARTS_FROM_SPACE_NOT_BEGINNING);
+		Assert.assertTrue(m.matches("Café de Flore"));
+		Assert.assertFalse(m.matches("Flore"));
+		Assert.assertFalse(m.matches(null));
+	}
+
+	@Test
+	public void testKnownDifferences() {
+		// collator lower cases name before comparison, so dotted I becomes two characters
+		assertOnlyFoldedMatches("istanbul", "İstanbul Cad", StringMatcherMode.CHECK_ONLY_STARTS_WITH);
+		// collator doesn't know case of some letters, it is ignored only where name is lower cased
+		assertOnlyFoldedMatches("øster", "Øster Allé", StringMatcherMode.CHECK_CONTAINS);
+		assertOnlyFoldedMatches("łódź", "Łódź Główna", StringMatcherMode.CHECK_CONTAINS);
+		// expanded letters match with other length of name part, collator compares parts of same length
+		assertOnlyFoldedMatches("strasse", "Straße der Einheit", StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		assertOnlyFoldedMatches("straße", "Strasse am See", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		assertOnlyFoldedMatches("ae", "Æbeltoft Kro", StringMatcherMode.CHECK_ONLY_STARTS_WITH);
+		assertOnlyFoldedMatches("aebeltoft", "Æbeltoft Kro", StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+	}
+
+	@Test
+	public void testSameAsCollatorForSeparateLettersAndIgnoredCharacters() {
+		// letters which are not decomposed to base letter are different letters
+		assertBothMatch(false, "oster", "Øster Allé", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		assertBothMatch(true, "øster", "Øster Allé", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		assertBothMatch(false, "lodz", "Łódź Główna", StringMatcherMode.CHECK_CONTAINS);
+		assertBothMatch(false, "glowna", "Łódź Główna", StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		assertBothMatch(false, "istanbul", "ıstanbul", StringMatcherMode.CHECK_CONTAINS);
+		assertBothMatch(false, "dakovo", "Đakovo", StringMatcherMode.CHECK_ONLY_STARTS_WITH);
+		// contains ignores spaces and hyphens, but not other punctuation
+		assertBothMatch(true, "main s", "Main  Street", StringMatcherMode.CHECK_CONTAINS);
+		assertBothMatch(true, "mains", "Main Street", StringMatcherMode.CHECK_CONTAINS);
+		assertBothMatch(true, "nordostweg", "Nord-Ost\u00adweg", StringMatcherMode.CHECK_CONTAINS);
+		assertBothMatch(false, "stpeter", "St. Peter", StringMatcherMode.CHECK_CONTAINS);
+		// starts with compares part of name with length of query
+		assertBothMatch(true, "main-st", "Main Street", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		assertBothMatch(false, "mains", "Main Street", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+	}
+
+	@Test
+	public void testFoldedNameIsReused() {
+		FoldedStringMatcher m = new FoldedStringMatcher("cafe", StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		String name = "Café de Flore";
+		Assert.assertTrue(m.matches(name));
+		Assert.assertTrue(m.matches(name));
+		Assert.assertFalse(m.matches("Crème Brûlée Bar"));
+		Assert.assertTrue(m.matches(new String(name)));
+	}
+
+	private static void assertBothMatch(boolean expected, String part, String name, StringMatcherMode mode) {
+		Assert.assertEquals("Collator " + part, expected, new CollatorStringMatcher(part, mode).matches(name));
+		Assert.assertEquals("Folded " + part, expected, new FoldedStringMatcher(part, mode).matches(name));
+	}
+
+	private static void assertOnlyFoldedMatches(String part, String name, StringMatcherMode mode) {
+		Assert.assertFalse(new CollatorStringMatcher(part, mode).matches(name));
+		Assert.assertTrue(new FoldedStringMatcher(part, mode).matches(name));
+	}
+}
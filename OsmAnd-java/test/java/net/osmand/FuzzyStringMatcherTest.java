@@ -0,0 +1,206 @@
+package net.osmand;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.ObfFixtureBuilder;
+import net.osmand.binary.ObfFixtureBuilder.CityData;
+import net.osmand.data.Amenity;
+import net.osmand.data.City.CityType;
+import net.osmand.data.MapObject;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FuzzyStringMatcherTest {
+
+	private static final String[] STREETS = { "Main Street", "Maine Avenue", "Nain Road", "Berlin Allee",
+			"Barlin Way", "Bremen Street", "Oak Lane", "Old Oak Road", "Kastanienallee", "Lindenstrasse" };
+	private static final String[] POIS = { "Main Bakery", "Mein Cafe", "Berliner Kiosk", "Oakwood Pub", "Linden Apotheke" };
+	private static final String[] QUERIES = { "main", "mian", "nain", "ain", "mainn", "berlin", "brelin", "berln",
+			"bremen", "oak", "oaks", "okwood", "kastanien", "kastanein", "lindenstrase", "xyzw" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Locale defaultLocale;
+	private BinaryMapIndexReader reader;
+
+	@Before
+	public void setUp() {
+		defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.US);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Locale.setDefault(defaultLocale);
+		if (reader != null) {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testDistanceBounds() {
+		FuzzyStringMatcher m = new FuzzyStringMatcher("berlin", 2, StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		Assert.assertEquals(0, m.getDistance("Berlin"));
+		Assert.assertEquals(1, m.getDistance("Barlin"));
+		Assert.assertEquals(1, m.getDistance("Berllin"));
+		Assert.assertEquals(1, m.getDistance("Berin"));
+		Assert.assertEquals(2, m.getDistance("Brlinn"));
+		// transposition is replacement of two characters
+		Assert.assertEquals(2, m.getDistance("Brelin"));
+		Assert.assertEquals(FuzzyStringMatcher.NO_MATCH, m.getDistance("Brelni"));
+		Assert.assertEquals(FuzzyStringMatcher.NO_MATCH, m.getDistance(null));
+		m = new FuzzyStringMatcher("berlin", 1, StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+		Assert.assertFalse(m.matches("Brelin"));
+		Assert.assertTrue(m.matches("Alt Berlinn"));
+		Assert.assertFalse(m.matches("Berlinerstr"));
+		Assert.assertTrue(new FuzzyStringMatcher("berlin", 1, StringMatcherMode.CHECK_STARTS_FROM_SPACE)
+				.matches("Barlinerstr"));
+
+		// distance of random edits is exact edit distance up to max edits
+		Random rnd = new Random(1);
+		String query = "kastanienallee";
+		for (int maxEdits = 0; maxEdits <= 3; maxEdits++) {
+			m = new FuzzyStringMatcher(query, maxEdits, StringMatcherMode.CHECK_EQUALS_FROM_SPACE);
+			for (int k = 0; k < 500; k++) {
+				String name = edit(query, 1 + rnd.nextInt(4), rnd);
+				int expected = levenshtein(query, name);
+				Assert.assertEquals(name, expected <= maxEdits ? expected : FuzzyStringMatcher.NO_MATCH,
+						m.getDistance(name));
+			}
+		}
+	}
+
+	@Test
+	public void testStepPrefix() {
+		FuzzyStringMatcher m = new FuzzyStringMatcher("main", 1, StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		int[] start = m.start();
+		Assert.assertFalse(m.isAccepted(start));
+		// two wrong first letters can't start any matching name
+		Assert.assertNull(m.stepPrefix(start, "xy"));
+		Assert.assertNull(m.stepPrefix(start, "mxyz"));
+		int[] ma = m.stepPrefix(start, "ma");
+		Assert.assertNotNull(ma);
+		Assert.assertFalse(m.isAccepted(ma));
+		// once query is matched every continuation matches
+		int[] mai = m.stepPrefix(start, "mai");
+		Assert.assertTrue(m.isAccepted(mai));
+		Assert.assertTrue(m.isAccepted(m.stepPrefix(mai, "xyz")));
+		Assert.assertTrue(m.isAccepted(m.stepPrefix(m.stepPrefix(start, "m"), "ain")));
+		int[] nai = m.stepPrefix(start, "nai");
+		Assert.assertFalse(m.isAccepted(nai));
+		Assert.assertTrue(m.isAccepted(m.stepPrefix(nai, "n")));
+		Assert.assertNull(m.stepPrefix(nai, "xx"));
+		// key prefix state is the same as state of stepping by characters
+		int[] s = start;
+		for (char c : "nai".toCharArray()) {
+			s = m.step(s, c);
+		}
+		Assert.assertArrayEquals(s, nai);
+	}
+
+	@Test
+	public void testIndexedStringTableWalk() throws IOException {
+		ObfFixtureBuilder.initPoiTypes("shop");
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		CityData city = b.addCity(CityType.CITY, 1, "Mainz", 50.0, 10.0);
+		for (int i = 0; i < STREETS.length; i++) {
+			b.addStreet(city, 10 + i, STREETS[i], 50.001 + i * 0.001, 10.001);
+		}
+		for (int i = 0; i < POIS.length; i++) {
+			b.addPoi(100 + i, "shop", "bakery", POIS[i], 50.001 + i * 0.001, 10.002);
+		}
+		File f = b.write(folder.newFile("Region.obf"));
+		reader = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+		List<String> addresses = new ArrayList<String>();
+		addresses.add("Mainz");
+		for (String s : STREETS) {
+			addresses.add(s);
+		}
+		int checked = 0;
+		for (String q : QUERIES) {
+			int maxEdits = FuzzyStringMatcher.getMaxEdits(q.length());
+			if (maxEdits == 0) {
+				continue;
+			}
+			SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(null, q,
+					StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+			req.setMaxEdits(maxEdits);
+			Assert.assertEquals("Address " + q, matching(q, maxEdits, addresses.toArray(new String[0])),
+					names(reader.searchAddressDataByName(req)));
+			SearchRequest<Amenity> preq = BinaryMapIndexReader.buildSearchPoiRequest(0, 0, q, 0, Integer.MAX_VALUE, 0,
+					Integer.MAX_VALUE, null);
+			preq.setMaxEdits(maxEdits);
+			Assert.assertEquals("Poi " + q, matching(q, maxEdits, POIS), names(reader.searchPoiByName(preq)));
+			checked++;
+		}
+		Assert.assertTrue(checked > 10);
+	}
+
+	private static Set<String> matching(String q, int maxEdits, String[] names) {
+		FuzzyStringMatcher m = new FuzzyStringMatcher(q, maxEdits, StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+		Set<String> res = new TreeSet<String>();
+		for (String n : names) {
+			if (m.matches(n)) {
+				res.add(n);
+			}
+		}
+		return res;
+	}
+
+	private static Set<String> names(List<? extends MapObject> objects) {
+		Set<String> names = new TreeSet<String>();
+		for (MapObject o : objects) {
+			names.add(o.getName());
+		}
+		return names;
+	}
+
+	private static String edit(String s, int edits, Random rnd) {
+		StringBuilder b = new StringBuilder(s);
+		for (int i = 0; i < edits; i++) {
+			int pos = rnd.nextInt(b.length() + 1);
+			char c = (char) ('a' + rnd.nextInt(26));
+			int op = pos == b.length() ? 0 : rnd.nextInt(3);
+			if (op == 0) {
+				b.insert(pos, c);
+			} else if (op == 1 && b.length() > 1) {
+				b.deleteCharAt(pos);
+			} else {
+				b.setCharAt(pos, c);
+			}
+		}
+		return b.toString();
+	}
+
+	private static int levenshtein(String a, String b) {
+		int[][] d = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) {
+			for (int j = 0; j <= b.length(); j++) {
+				if (i == 0 || j == 0) {
+					d[i][j] = i + j;
+				} else {
+					int r = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+					d[i][j] = Math.min(r, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+				}
+			}
+		}
+		return d[a.length()][b.length()];
+	}
+}
@@ -0,0 +1,141 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.BinaryReadStats.BinaryIndexSection;
+import net.osmand.data.Amenity;
+import net.osmand.util.MapUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryMapSearchIteratorTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private BinaryMapIndexReader reader;
+
+	@Before
+	public void setUp() throws IOException {
+		ObfFixtureBuilder.initPoiTypes("shop", "sustenance");
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		b.addMapObject(11, "highway", "residential", "First Street", 50.001, 10.001, 50.002, 10.003);
+		b.addMapObject(12, "highway", "residential", "Second Street", 50.011, 10.011, 50.012, 10.013);
+		b.addMapObject(13, "waterway", "river", null, 50.021, 10.021, 50.023, 10.022, 50.024, 10.024);
+		// far from others
+		b.addMapObject(14, "highway", "primary", "Far Road", 51.5, 11.5, 51.51, 11.51);
+		b.addPoi(1, "sustenance", "cafe", "Cafe", 50.001, 10.001);
+		b.addPoi(2, "shop", "convenience", "Corner Shop", 50.02, 10.02);
+		b.addPoi(3, "shop", "bakery", "Bakery", 50.04, 10.04);
+		b.addPoi(4, "shop", "kiosk", "Far Kiosk", 51.5, 11.5);
+		File f = b.write(folder.newFile("Region.obf"));
+		reader = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		reader.close();
+	}
+
+	@Test
+	public void testMapIteratorReturnsSameObjectsAsSearch() throws IOException {
+		List<Long> searched = new ArrayList<Long>();
+		for (BinaryMapDataObject o : reader.searchMapIndex(mapRequest())) {
+			searched.add(o.getId());
+		}
+		Assert.assertEquals(3, searched.size());
+
+		reader.clearReadStats();
+		BinaryMapSearchIterator<BinaryMapDataObject> it = reader.iterateMapIndex(mapRequest());
+		List<Long> iterated = new ArrayList<Long>();
+		List<String> names = new ArrayList<String>();
+		while (it.hasNext()) {
+			BinaryMapDataObject o = it.next();
+			iterated.add(o.getId());
+			names.add(o.getName());
+		}
+		Assert.assertFalse(it.hasNext());
+		Assert.assertEquals(searched, iterated);
+		Assert.assertEquals("[First Street, Second Street, ]", names.toString());
+		// every object is in own block
+		Assert.assertEquals(3, it.getBlocksRead());
+
+		BinaryReadStats stats = reader.getReadStats(BinaryIndexSection.MAP);
+		Assert.assertEquals(1, stats.searches);
+		Assert.assertEquals(3, stats.blocksDecoded);
+		Assert.assertEquals(3, stats.objectsAccepted);
+		// small file is already buffered, so only equality of counters is checked
+		Assert.assertEquals(stats.bytesRead, it.getSearchRequest().getStats().bytesRead);
+	}
+
+	@Test
+	public void testPoiIteratorReturnsSameObjectsAsSearch() throws IOException {
+		List<String> searched = new ArrayList<String>();
+		for (Amenity a : reader.searchPoi(poiRequest())) {
+			searched.add(a.getName());
+		}
+		Assert.assertEquals(3, searched.size());
+
+		reader.clearReadStats();
+		BinaryMapSearchIterator<Amenity> it = reader.iteratePoi(poiRequest());
+		List<String> iterated = new ArrayList<String>();
+		while (it.hasNext()) {
+			iterated.add(it.next().getName());
+		}
+		Assert.assertEquals(searched, iterated);
+		BinaryReadStats stats = reader.getReadStats(BinaryIndexSection.POI);
+		Assert.assertEquals(1, stats.searches);
+		Assert.assertTrue(stats.blocksDecoded > 0);
+		Assert.assertEquals(3, stats.objectsAccepted);
+	}
+
+	@Test
+	public void testClosedIteratorStopsReading() throws IOException {
+		reader.clearReadStats();
+		BinaryMapSearchIterator<BinaryMapDataObject> it = reader.iterateMapIndex(mapRequest());
+		Assert.assertTrue(it.hasNext());
+		Assert.assertEquals(11, it.next().getId());
+		it.close();
+		Assert.assertFalse(it.hasNext());
+		Assert.assertEquals(1, it.getBlocksRead());
+		Assert.assertTrue(it.getSearchRequest().isCancelled());
+		// closed search is still accounted once
+		BinaryReadStats stats = reader.getReadStats(BinaryIndexSection.MAP);
+		Assert.assertEquals(1, stats.searches);
+		Assert.assertEquals(1, stats.blocksDecoded);
+		it.close();
+		Assert.assertEquals(1, reader.getReadStats(BinaryIndexSection.MAP).searches);
+	}
+
+	@Test
+	public void testIteratorWithoutResults() throws IOException {
+		SearchRequest<BinaryMapDataObject> req = BinaryMapIndexReader.buildSearchRequest(
+				MapUtils.get31TileNumberX(-20), MapUtils.get31TileNumberX(-19),
+				MapUtils.get31TileNumberY(-20), MapUtils.get31TileNumberY(-21), 15, null);
+		BinaryMapSearchIterator<BinaryMapDataObject> it = reader.iterateMapIndex(req);
+		Assert.assertFalse(it.hasNext());
+		Assert.assertEquals(0, it.getBlocksRead());
+	}
+
+	private static SearchRequest<BinaryMapDataObject> mapRequest() {
+		return BinaryMapIndexReader.buildSearchRequest(MapUtils.get31TileNumberX(10.0),
+				MapUtils.get31TileNumberX(10.1), MapUtils.get31TileNumberY(50.1), MapUtils.get31TileNumberY(50.0),
+				15, null);
+	}
+
+	private static SearchRequest<Amenity> poiRequest() {
+		return BinaryMapIndexReader.buildSearchPoiRequest(MapUtils.get31TileNumberX(10.0),
+				MapUtils.get31TileNumberX(10.1), MapUtils.get31TileNumberY(50.1), MapUtils.get31TileNumberY(50.0),
+				15, BinaryMapIndexReader.ACCEPT_ALL_POI_TYPE_FILTER, null);
+	}
+}
@@ -0,0 +1,107 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.BinaryReadStats.BinaryIndexSection;
+import net.osmand.binary.BinaryReadStats.MetricsSink;
+import net.osmand.util.MapUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryReadStatsTest {
+
+	// objects are placed along meridian, so every object box is above previous one
+	private static final int OBJECTS = 400;
+	private static final double STEP = 0.001;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+	private BinaryMapIndexReader reader;
+
+	@Before
+	public void setUp() throws IOException {
+		// readers resolve poi types
+		ObfFixtureBuilder.initPoiTypes();
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		for (int i = 0; i < OBJECTS; i++) {
+			double lat = 50 + i * STEP;
+			b.addMapObject(i + 1, "highway", "residential", "Street number " + i, lat, 10.0, lat + STEP / 2,
+					10.0005);
+		}
+		file = b.write(folder.newFile("Region.obf"));
+		// data blocks should not fit into read buffer
+		Assert.assertTrue(file.length() > 4 * 5 * 1024);
+		reader = new BinaryMapIndexReader(new RandomAccessFile(file, "r"), file);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		reader.close();
+	}
+
+	@Test
+	public void testBytesAndBlocksOfMapSearch() throws IOException {
+		final List<BinaryReadStats> reported = new ArrayList<BinaryReadStats>();
+		reader.setMetricsSink(new MetricsSink() {
+			@Override
+			public void searchFinished(BinaryMapIndexReader reader, BinaryIndexSection section, BinaryReadStats stats) {
+				Assert.assertEquals(BinaryIndexSection.MAP, section);
+				reported.add(stats);
+			}
+		});
+		reader.clearReadStats();
+		// last 50 objects
+		SearchRequest<BinaryMapDataObject> req = request(OBJECTS - 50, OBJECTS);
+		Assert.assertEquals(50, reader.searchMapIndex(req).size());
+
+		BinaryReadStats stats = reader.getReadStats(BinaryIndexSection.MAP);
+		Assert.assertEquals(1, stats.searches);
+		Assert.assertEquals(50, stats.blocksDecoded);
+		Assert.assertEquals(50, stats.objectsAccepted);
+		Assert.assertEquals(0, stats.objectsRejected);
+		// blocks are at the end of file, so they are read from file
+		Assert.assertTrue(stats.bytesRead > 0);
+		Assert.assertTrue(stats.bytesRead < file.length());
+		Assert.assertTrue(stats.bufferRefills > 0);
+		Assert.assertTrue(stats.seeks > 0);
+
+		BinaryReadStats reqStats = req.getStats();
+		Assert.assertEquals(stats.bytesRead, reqStats.bytesRead);
+		Assert.assertEquals(stats.blocksDecoded, reqStats.blocksDecoded);
+		Assert.assertEquals(1, reported.size());
+		Assert.assertEquals(stats.bytesRead, reported.get(0).bytesRead);
+		Assert.assertEquals(stats.blocksDecoded, reported.get(0).blocksDecoded);
+
+		// counters of section are cumulative
+		reader.searchMapIndex(request(0, 10));
+		stats = reader.getReadStats(BinaryIndexSection.MAP);
+		Assert.assertEquals(2, stats.searches);
+		Assert.assertEquals(60, stats.blocksDecoded);
+		Assert.assertEquals(0, reader.getReadStats(BinaryIndexSection.POI).searches);
+
+		reader.clearReadStats();
+		Assert.assertEquals(0, reader.getReadStats(BinaryIndexSection.MAP).searches);
+		Assert.assertEquals(0, reader.getReadStats(BinaryIndexSection.MAP).bytesRead);
+	}
+
+	// objects from first to last (exclusive)
+	private static SearchRequest<BinaryMapDataObject> request(int first, int last) {
+		double top = 50 + (last - 1) * STEP + STEP * 3 / 4;
+		double bottom = 50 + first * STEP - STEP / 4;
+		return BinaryMapIndexReader.buildSearchRequest(MapUtils.get31TileNumberX(9.999),
+				MapUtils.get31TileNumberX(10.001), MapUtils.get31TileNumberY(top), MapUtils.get31TileNumberY(bottom),
+				15, null);
+	}
+}
@@ -0,0 +1,145 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+import net.osmand.binary.BinaryMapIndexReader.MapRoot;
+import net.osmand.binary.BinaryMapIndexReader.MapTree;
+import net.osmand.binary.OsmandIndex.FileIndex;
+import net.osmand.binary.OsmandIndex.OsmAndStoredIndex;
+import net.osmand.util.MapUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachedOsmandIndexesTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+	private File obf;
+
+	@Before
+	public void setUp() throws IOException {
+		// readers resolve poi types
+		ObfFixtureBuilder.initPoiTypes();
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		b.addMapObject(11, "highway", "residential", "First Street", 50.001, 10.001, 50.002, 10.003);
+		b.addMapObject(12, "highway", "residential", "Second Street", 50.011, 10.011, 50.012, 10.013);
+		b.addMapObject(13, "waterway", "river", null, 50.021, 10.021, 50.023, 10.022);
+		obf = b.write(folder.newFile("Region.obf"));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		for (BinaryMapIndexReader r : readers) {
+			r.close();
+		}
+	}
+
+	@Test
+	public void testMapStructureSurvivesCache() throws IOException {
+		CachedOsmandIndexes cache = new CachedOsmandIndexes();
+		BinaryMapIndexReader original = open(cache, obf);
+		File cacheFile = folder.newFile("indexes.cache");
+		cache.writeToFile(cacheFile);
+
+		CachedOsmandIndexes read = new CachedOsmandIndexes();
+		read.readFromFile(cacheFile, CachedOsmandIndexes.VERSION);
+		BinaryMapIndexReader cached = open(read, obf);
+
+		MapIndex om = original.getMapIndexes().get(0);
+		MapIndex cm = cached.getMapIndexes().get(0);
+		Assert.assertEquals(om.getName(), cm.getName());
+		// rules and top level boxes are taken from cache without reading file
+		Assert.assertEquals(om.decodingRules.size(), cm.decodingRules.size());
+		Assert.assertEquals(om.getRoots().size(), cm.getRoots().size());
+		for (int i = 0; i < om.getRoots().size(); i++) {
+			MapRoot or = om.getRoots().get(i);
+			MapRoot cr = cm.getRoots().get(i);
+			Assert.assertNotNull(cr.trees);
+			Assert.assertEquals(or.trees.size(), cr.trees.size());
+			for (int j = 0; j < or.trees.size(); j++) {
+				MapTree ot = or.trees.get(j);
+				MapTree ct = cr.trees.get(j);
+				Assert.assertEquals(ot.filePointer, ct.filePointer);
+				Assert.assertEquals(ot.left, ct.left);
+				Assert.assertEquals(ot.bottom, ct.bottom);
+				Assert.assertEquals(ot.mapDataBlock, ct.mapDataBlock);
+			}
+		}
+		Assert.assertEquals(search(original), search(cached));
+	}
+
+	@Test
+	public void testCacheOfOtherVersionIsIgnored() throws IOException {
+		CachedOsmandIndexes cache = new CachedOsmandIndexes();
+		open(cache, obf);
+		File cacheFile = folder.newFile("indexes.cache");
+		cache.writeToFile(cacheFile);
+
+		// mark map section of cache, so it is visible whether cache was used
+		File current = rewrite(cacheFile, CachedOsmandIndexes.VERSION, "Cached");
+		CachedOsmandIndexes read = new CachedOsmandIndexes();
+		read.readFromFile(current, CachedOsmandIndexes.VERSION);
+		Assert.assertEquals("Cached", open(read, obf).getMapIndexes().get(0).getName());
+
+		File old = rewrite(cacheFile, 2, "Cached");
+		read = new CachedOsmandIndexes();
+		read.readFromFile(old, CachedOsmandIndexes.VERSION);
+		BinaryMapIndexReader reader = open(read, obf);
+		Assert.assertEquals("Region", reader.getMapIndexes().get(0).getName());
+		Assert.assertEquals(2, search(reader).size());
+	}
+
+	private BinaryMapIndexReader open(CachedOsmandIndexes cache, File f) throws IOException {
+		BinaryMapIndexReader r = cache.getReader(f);
+		readers.add(r);
+		return r;
+	}
+
+	private File rewrite(File cacheFile, int version, String mapName) throws IOException {
+		OsmAndStoredIndex stored;
+		FileInputStream is = new FileInputStream(cacheFile);
+		try {
+			stored = OsmAndStoredIndex.parseFrom(is);
+		} finally {
+			is.close();
+		}
+		OsmAndStoredIndex.Builder builder = OsmAndStoredIndex.newBuilder(stored).setVersion(version).clearFileIndex();
+		for (FileIndex fi : stored.getFileIndexList()) {
+			FileIndex.Builder fb = FileIndex.newBuilder(fi);
+			fb.setMapIndex(0, fi.getMapIndex(0).toBuilder().setName(mapName));
+			builder.addFileIndex(fb);
+		}
+		File f = folder.newFile("indexes_" + version + ".cache");
+		FileOutputStream out = new FileOutputStream(f);
+		try {
+			builder.build().writeTo(out);
+		} finally {
+			out.close();
+		}
+		return f;
+	}
+
+	private static List<Long> search(BinaryMapIndexReader reader) throws IOException {
+		List<Long> ids = new ArrayList<Long>();
+		for (BinaryMapDataObject o : reader.searchMapIndex(BinaryMapIndexReader.buildSearchRequest(
+				MapUtils.get31TileNumberX(10.0), MapUtils.get31TileNumberX(10.015),
+				MapUtils.get31TileNumberY(50.1), MapUtils.get31TileNumberY(50.0), 15, null))) {
+			ids.add(o.getId());
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,116 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import net.osmand.binary.GeocodingUtilities.GeocodingResult;
+import net.osmand.binary.ObfFixtureBuilder.CityData;
+import net.osmand.binary.ObfFixtureBuilder.StreetData;
+import net.osmand.data.City.CityType;
+import net.osmand.data.LatLon;
+import net.osmand.data.MapObject;
+import net.osmand.router.RoutePlannerFrontEnd;
+import net.osmand.router.RoutingConfiguration;
+import net.osmand.router.RoutingContext;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GeocodingUtilitiesTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+	private RoutingConfiguration config;
+
+	@Before
+	public void setUp() throws Exception {
+		ObfFixtureBuilder.initPoiTypes("shop");
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Springfield");
+		CityData city = b.addCity(CityType.CITY, 1, "Springfield", 50.0, 10.0);
+		StreetData main = b.addStreet(city, 11, "Main Street", 50.001, 10.002);
+		for (int i = 0; i < 4; i++) {
+			b.addBuilding(main, 111 + i, String.valueOf(2 * i + 1), 50.0011, 10.0005 + i * 0.001);
+		}
+		StreetData oak = b.addStreet(city, 12, "Oak Road", 50.0015, 10.005);
+		for (int i = 0; i < 3; i++) {
+			b.addBuilding(oak, 121 + i, String.valueOf(2 * i + 2), 50.0005 + i * 0.001, 10.0051);
+		}
+		b.addRoad(1001, "Main Street", 50.001, 10.000, 50.001, 10.002, 50.001, 10.004);
+		b.addRoad(1002, "Oak Road", 50.000, 10.005, 50.0015, 10.005, 50.003, 10.005);
+		File f = b.write(folder.newFile("Springfield.obf"));
+		readers.add(new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f));
+		config = RoutingConfiguration.parseFromInputStream(
+				GeocodingUtilitiesTest.class.getResourceAsStream("/test_routing.xml")).build("car", 0);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		for (BinaryMapIndexReader r : readers) {
+			r.close();
+		}
+	}
+
+	@Test
+	public void testBatchMatchesSinglePoint() throws IOException {
+		List<LatLon> points = new ArrayList<LatLon>();
+		for (int i = 0; i < 15; i++) {
+			for (int j = 0; j < 14; j++) {
+				points.add(new LatLon(49.9995 + i * 0.0003, 9.9995 + j * 0.0005));
+			}
+		}
+		Collections.shuffle(points, new Random(1));
+		points.add(new LatLon(10, 10));
+		List<GeocodingResult> batch = new GeocodingUtilities().reverseGeocodingBatch(config, readers, points, 3);
+		Assert.assertEquals(points.size(), batch.size());
+		int buildings = 0;
+		for (int i = 0; i < points.size(); i++) {
+			GeocodingResult expected = reverseGeocoding(points.get(i));
+			GeocodingResult actual = batch.get(i);
+			String msg = points.get(i).toString();
+			Assert.assertEquals(msg, points.get(i), actual.searchPoint);
+			Assert.assertEquals(msg, expected == null ? null : expected.streetName, actual.streetName);
+			Assert.assertEquals(msg, name(expected == null ? null : expected.street), name(actual.street));
+			Assert.assertEquals(msg, name(expected == null ? null : expected.building), name(actual.building));
+			Assert.assertEquals(msg, name(expected == null ? null : expected.city), name(actual.city));
+			if (actual.building != null) {
+				buildings++;
+			}
+		}
+		Assert.assertTrue(buildings > 0);
+		Assert.assertNull(batch.get(points.size() - 1).streetName);
+	}
+
+	private GeocodingResult reverseGeocoding(LatLon p) throws IOException {
+		BinaryMapIndexReader[] files = readers.toArray(new BinaryMapIndexReader[readers.size()]);
+		RoutingContext ctx = new RoutePlannerFrontEnd(false).buildRoutingContext(config, null, files);
+		GeocodingUtilities gu = new GeocodingUtilities();
+		List<GeocodingResult> complete = new ArrayList<GeocodingResult>();
+		double minBuildingDistance = 0;
+		for (GeocodingResult road : gu.reverseGeocodingSearch(ctx, p.getLatitude(), p.getLongitude(), false)) {
+			List<GeocodingResult> justified = gu.justifyReverseGeocodingSearch(road, readers.get(0),
+					minBuildingDistance, null);
+			if (!justified.isEmpty()) {
+				double md = justified.get(0).getDistance();
+				minBuildingDistance = minBuildingDistance == 0 ? md : Math.min(md, minBuildingDistance);
+				complete.addAll(justified);
+			}
+		}
+		Collections.sort(complete, GeocodingUtilities.DISTANCE_COMPARATOR);
+		return complete.isEmpty() ? null : complete.get(0);
+	}
+
+	private static String name(MapObject o) {
+		return o == null ? null : o.getName();
+	}
+}
@@ -0,0 +1,173 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.GlobalNameIndex.NameIndexLookup;
+import net.osmand.binary.ObfFixtureBuilder.CityData;
+import net.osmand.binary.ObfFixtureBuilder.StreetData;
+import net.osmand.data.Amenity;
+import net.osmand.data.City.CityType;
+import net.osmand.data.MapObject;
+import net.osmand.osm.MapPoiTypes;
+import net.osmand.search.SearchUICore;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GlobalNameIndexTest {
+
+	private static final String[] QUERIES = { "m", "ma", "main", "maple", "mapleton", "oak", "river", "rivers", "xyz" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+
+	@Before
+	public void setUp() throws IOException {
+		ObfFixtureBuilder.initPoiTypes("shop", "sustenance");
+		ObfFixtureBuilder springfield = new ObfFixtureBuilder("Springfield");
+		CityData city = springfield.addCity(CityType.CITY, 1, "Springfield", 50.0, 10.0);
+		StreetData main = springfield.addStreet(city, 11, "Main Street", 50.001, 10.001);
+		springfield.addBuilding(main, 111, "1", 50.0011, 10.0011);
+		springfield.addStreet(city, 12, "Maple Avenue", 50.002, 10.002);
+		springfield.addStreet(city, 13, "Old Oak Road", 50.003, 10.003);
+		CityData village = springfield.addCity(CityType.VILLAGE, 2, "Mapleton", 50.05, 10.05);
+		springfield.addStreet(village, 21, "Main Road", 50.051, 10.051);
+		springfield.addPoi(101, "shop", "bakery", "Main Bakery", 50.0012, 10.0012);
+		springfield.addPoi(102, "sustenance", "cafe", "Oakwood Cafe", 50.0032, 10.0032);
+		springfield.addPoi(103, "shop", "chemist", "Maple Pharmacy", 50.0022, 10.0022);
+		readers.add(open(springfield.write(folder.newFile("Springfield.obf"))));
+
+		ObfFixtureBuilder riverside = new ObfFixtureBuilder("Riverside");
+		CityData town = riverside.addCity(CityType.TOWN, 3, "Riverside", 50.2, 10.2);
+		riverside.addStreet(town, 31, "River Lane", 50.201, 10.201);
+		riverside.addStreet(town, 32, "Main Street", 50.202, 10.202);
+		riverside.addPoi(301, "sustenance", "pub", "River Pub", 50.2012, 10.2012);
+		riverside.addPoi(302, "shop", "bakery", "Oak Bakery", 50.2022, 10.2022);
+		readers.add(open(riverside.write(folder.newFile("Riverside.obf"))));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		for (BinaryMapIndexReader r : readers) {
+			r.close();
+		}
+	}
+
+	private static BinaryMapIndexReader open(File f) throws IOException {
+		return new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+	}
+
+	@Test
+	public void testLookupMatchesFileSearch() throws IOException {
+		GlobalNameIndex index = new GlobalNameIndex(new File(folder.getRoot(), "names.cache"));
+		index.updateIndex(readers);
+		Assert.assertTrue(index.getKeysCount() > 0);
+		for (String q : QUERIES) {
+			NameIndexLookup lookup = index.lookup(q);
+			for (BinaryMapIndexReader r : readers) {
+				Assert.assertTrue(lookup.isIndexed(r));
+				Assert.assertEquals("Address " + q + " in " + r.getFile().getName(),
+						names(r.searchAddressDataByName(addressRequest(q))),
+						names(r.searchAddressDataByName(addressRequest(q), null, lookup)));
+				Assert.assertEquals("Poi " + q + " in " + r.getFile().getName(),
+						names(r.searchPoiByName(poiRequest(q))),
+						names(r.searchPoiByName(poiRequest(q), lookup)));
+			}
+		}
+		NameIndexLookup lookup = index.lookup("main");
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Main Road", "Main Street")),
+				names(readers.get(0).searchAddressDataByName(addressRequest("main"), null, lookup)));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Main Bakery")),
+				names(readers.get(0).searchPoiByName(poiRequest("main"), lookup)));
+		lookup = index.lookup("river");
+		Assert.assertFalse(lookup.hasHits(readers.get(0)));
+		Assert.assertTrue(lookup.hasHits(readers.get(1)));
+	}
+
+	@Test
+	public void testIndexIsUpdatedWithFiles() throws IOException {
+		File cache = new File(folder.getRoot(), "names.cache");
+		GlobalNameIndex index = new GlobalNameIndex(cache);
+		index.updateIndex(readers.subList(0, 1));
+		Assert.assertFalse(index.isIndexed(readers.get(1)));
+		Assert.assertFalse(index.lookup("river").hasHits(readers.get(1)));
+
+		// search only installs index, not indexed file is scanned
+		SearchUICore core = new SearchUICore(MapPoiTypes.getDefaultNoInit(), "en", false);
+		core.setOfflineIndexes(readers, index);
+		Assert.assertSame(index, core.getSearchSettings().getNameIndex());
+		Assert.assertEquals(readers, core.getSearchSettings().getOfflineIndexes());
+		Assert.assertFalse(index.isIndexed(readers.get(1)));
+		Assert.assertFalse(index.lookup("river").isIndexed(readers.get(1)));
+
+		index.updateIndex(readers);
+		Assert.assertTrue(index.isIndexed(readers.get(0)));
+		Assert.assertTrue(index.isIndexed(readers.get(1)));
+		Assert.assertTrue(index.lookup("river").hasHits(readers.get(1)));
+
+		// persisted index is loaded and removed files are dropped
+		GlobalNameIndex loaded = new GlobalNameIndex(cache);
+		Assert.assertEquals(index.getKeysCount(), loaded.getKeysCount());
+		loaded.updateIndex(readers.subList(1, 2));
+		Assert.assertFalse(loaded.isIndexed(readers.get(0)));
+		Assert.assertFalse(loaded.lookup("maple").hasHits(readers.get(0)));
+		Assert.assertTrue(loaded.lookup("river").hasHits(readers.get(1)));
+	}
+
+	@Test
+	public void testInexactFoldingIsNotUsedToSkipFiles() throws IOException {
+		ObfFixtureBuilder nordby = new ObfFixtureBuilder("Nordby");
+		CityData city = nordby.addCity(CityType.TOWN, 4, "Nordby", 55.0, 10.0);
+		nordby.addStreet(city, 41, "\u00d8stergade", 55.001, 10.001);
+		BinaryMapIndexReader r = open(nordby.write(folder.newFile("Nordby.obf")));
+		readers.add(r);
+		GlobalNameIndex index = new GlobalNameIndex(new File(folder.getRoot(), "names.cache"));
+		index.updateIndex(readers);
+		Assert.assertTrue(index.isIndexed(r));
+
+		// folded query differs from collator, all files are scanned
+		NameIndexLookup lookup = index.lookup("\u00f8st");
+		for (BinaryMapIndexReader reader : readers) {
+			Assert.assertFalse(lookup.isIndexed(reader));
+		}
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("\u00d8stergade")),
+				names(r.searchAddressDataByName(addressRequest("\u00f8st"))));
+
+		// keys of file are folded differently from collator, so missing hits don't mean there are no results
+		lookup = index.lookup("ost");
+		Assert.assertFalse(lookup.isIndexed(r));
+		Assert.assertTrue(lookup.isIndexed(readers.get(0)));
+		Assert.assertTrue(lookup.isIndexed(readers.get(1)));
+	}
+
+	private static SearchRequest<MapObject> addressRequest(String q) {
+		return BinaryMapIndexReader.buildAddressByNameRequest(null, q, StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+	}
+
+	private static SearchRequest<Amenity> poiRequest(String q) {
+		return BinaryMapIndexReader.buildSearchPoiRequest(0, 0, q, 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, null);
+	}
+
+	private static Set<String> names(List<? extends MapObject> objects) {
+		Set<String> names = new TreeSet<String>();
+		for (MapObject o : objects) {
+			names.add(o.getName());
+		}
+		return names;
+	}
+}
@@ -0,0 +1,161 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.osmand.CollatorStringMatcher.StringMatcherMode;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.ObfFixtureBuilder.CityData;
+import net.osmand.data.Amenity;
+import net.osmand.data.City.CityType;
+import net.osmand.data.MapObject;
+import net.osmand.util.MapUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MergedBinaryMapIndexReaderTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+	private BinaryMapIndexReader base;
+	private BinaryMapIndexReader monthUpdate;
+	private BinaryMapIndexReader dayUpdate;
+
+	@Before
+	public void setUp() throws IOException {
+		ObfFixtureBuilder.initPoiTypes("shop", "sustenance");
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region").setDateCreated(1000);
+		b.addPoi(1, "sustenance", "cafe", "Old Cafe", 50.001, 10.001);
+		b.addPoi(2, "shop", "convenience", "Corner Shop", 50.002, 10.002);
+		b.addPoi(3, "shop", "kiosk", "Park Kiosk", 50.003, 10.003);
+		b.addPoi(4, "shop", "bakery", "Bakery", 50.004, 10.004);
+		base = open(b.write(folder.newFile("Region.obf")));
+
+		ObfFixtureBuilder month = new ObfFixtureBuilder("Region").setDateCreated(2000);
+		month.addPoi(1, "sustenance", "cafe", "New Cafe", 50.001, 10.001);
+		month.addPoi(4, "shop", "bakery", "Bakery", 50.004, 10.004).addTag(Amenity.OSM_DELETE_TAG,
+				Amenity.OSM_DELETE_VALUE);
+		monthUpdate = open(month.write(folder.newFile("Region_19_01_00.obf")));
+
+		ObfFixtureBuilder day = new ObfFixtureBuilder("Region").setDateCreated(3000);
+		day.addPoi(1, "sustenance", "cafe", "Newest Cafe", 50.0011, 10.0011);
+		day.addPoi(2, "shop", "convenience", "Corner Shop", 50.002, 10.002).addTag(Amenity.OSM_DELETE_TAG,
+				Amenity.OSM_DELETE_VALUE);
+		day.addPoi(5, "shop", "kiosk", "New Kiosk", 50.005, 10.005);
+		dayUpdate = open(day.write(folder.newFile("Region_19_01_02.obf")));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		for (BinaryMapIndexReader r : readers) {
+			r.close();
+		}
+	}
+
+	private BinaryMapIndexReader open(File f) throws IOException {
+		BinaryMapIndexReader r = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+		readers.add(r);
+		return r;
+	}
+
+	@Test
+	public void testNewerAndDeletedObjectsSupersedeBase() throws IOException {
+		// updates are ordered by creation date, not by given order
+		MergedBinaryMapIndexReader merged = new MergedBinaryMapIndexReader(base, Arrays.asList(dayUpdate, monthUpdate));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Newest Cafe", "Park Kiosk", "New Kiosk")),
+				names(merged.searchPoi(poiRequest())));
+		// second search uses built override
+		Assert.assertEquals(3, merged.searchPoi(poiRequest()).size());
+
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("New Kiosk", "Park Kiosk")),
+				names(merged.searchPoiByName(poiByNameRequest("kiosk"))));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Newest Cafe")),
+				names(merged.searchPoiByName(poiByNameRequest("cafe"))));
+		Assert.assertTrue(merged.searchPoiByName(poiByNameRequest("corner")).isEmpty());
+		Assert.assertTrue(merged.searchPoiByName(poiByNameRequest("old")).isEmpty());
+
+		merged = new MergedBinaryMapIndexReader(base, Arrays.asList(monthUpdate));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("New Cafe", "Corner Shop", "Park Kiosk")),
+				names(merged.searchPoi(poiRequest())));
+	}
+
+	@Test
+	public void testSearchBox() throws IOException {
+		MergedBinaryMapIndexReader merged = new MergedBinaryMapIndexReader(base, Arrays.asList(monthUpdate, dayUpdate));
+		SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(
+				MapUtils.get31TileNumberX(10.0045), MapUtils.get31TileNumberX(10.006),
+				MapUtils.get31TileNumberY(50.006), MapUtils.get31TileNumberY(50.0045),
+				-1, BinaryMapIndexReader.ACCEPT_ALL_POI_TYPE_FILTER, null);
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("New Kiosk")), names(merged.searchPoi(req)));
+	}
+
+	@Test
+	public void testNewerCitiesAndStreetsSupersedeBase() throws IOException {
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region").setDateCreated(1000);
+		CityData city = b.addCity(CityType.CITY, 1, "Springfield", 50.0, 10.0);
+		b.addStreet(city, 11, "Main Street", 50.001, 10.001);
+		b.addStreet(city, 12, "Maple Avenue", 50.002, 10.002);
+		CityData village = b.addCity(CityType.VILLAGE, 2, "Mapleton", 50.05, 10.05);
+		b.addStreet(village, 21, "Main Road", 50.051, 10.051);
+		BinaryMapIndexReader address = open(b.write(folder.newFile("Address.obf")));
+
+		ObfFixtureBuilder update = new ObfFixtureBuilder("Region").setDateCreated(2000);
+		city = update.addCity(CityType.CITY, 1, "Springfield", 50.0, 10.0);
+		// renamed street and new street
+		update.addStreet(city, 11, "Mainland Street", 50.001, 10.001);
+		update.addStreet(city, 13, "Market Street", 50.003, 10.003);
+		BinaryMapIndexReader addressUpdate = open(update.write(folder.newFile("Address_19_01_00.obf")));
+
+		MergedBinaryMapIndexReader merged = new MergedBinaryMapIndexReader(address, Arrays.asList(addressUpdate));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Main Road", "Mainland Street")),
+				objectNames(merged.searchAddressDataByName(addressRequest("main"))));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Maple Avenue", "Mapleton")),
+				objectNames(merged.searchAddressDataByName(addressRequest("map"))));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Springfield")),
+				objectNames(merged.searchAddressDataByName(addressRequest("spring"))));
+		Assert.assertEquals(new TreeSet<String>(Arrays.asList("Market Street")),
+				objectNames(merged.searchAddressDataByName(addressRequest("market"))));
+	}
+
+	private static SearchRequest<MapObject> addressRequest(String q) {
+		return BinaryMapIndexReader.buildAddressByNameRequest(null, q, StringMatcherMode.CHECK_STARTS_FROM_SPACE);
+	}
+
+	private static Set<String> objectNames(List<MapObject> objects) {
+		Set<String> names = new TreeSet<String>();
+		for (MapObject o : objects) {
+			names.add(o.getName());
+		}
+		return names;
+	}
+
+	private static SearchRequest<Amenity> poiRequest() {
+		return BinaryMapIndexReader.buildSearchPoiRequest(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, -1,
+				BinaryMapIndexReader.ACCEPT_ALL_POI_TYPE_FILTER, null);
+	}
+
+	private static SearchRequest<Amenity> poiByNameRequest(String q) {
+		return BinaryMapIndexReader.buildSearchPoiRequest(0, 0, q, 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, null);
+	}
+
+	private static Set<String> names(List<Amenity> amenities) {
+		Set<String> names = new TreeSet<String>();
+		for (Amenity a : amenities) {
+			names.add(a.getName());
+		}
+		return names;
+	}
+}
@@ -0,0 +1,865 @@
+package net.osmand.binary;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import net.osmand.IndexConstants;
+import net.osmand.binary.OsmandOdb.AddressNameIndexDataAtom;
+import net.osmand.binary.OsmandOdb.CityBlockIndex;
+import net.osmand.binary.OsmandOdb.CityIndex;
+import net.osmand.binary.OsmandOdb.IdTable;
+import net.osmand.binary.OsmandOdb.IndexedStringTable;
+import net.osmand.binary.OsmandOdb.MapData;
+import net.osmand.binary.OsmandOdb.MapDataBlock;
+import net.osmand.binary.OsmandOdb.OsmAndAddressIndex;
+import net.osmand.binary.OsmandOdb.OsmAndAddressIndex.CitiesIndex;
+import net.osmand.binary.OsmandOdb.OsmAndAddressNameIndexData;
+import net.osmand.binary.OsmandOdb.OsmAndAddressNameIndexData.AddressNameIndexData;
+import net.osmand.binary.OsmandOdb.OsmAndCategoryTable;
+import net.osmand.binary.OsmandOdb.OsmAndMapIndex;
+import net.osmand.binary.OsmandOdb.OsmAndMapIndex.MapDataBox;
+import net.osmand.binary.OsmandOdb.OsmAndMapIndex.MapEncodingRule;
+import net.osmand.binary.OsmandOdb.OsmAndMapIndex.MapRootLevel;
+import net.osmand.binary.OsmandOdb.OsmAndPoiBox;
+import net.osmand.binary.OsmandOdb.OsmAndPoiBoxData;
+import net.osmand.binary.OsmandOdb.OsmAndPoiBoxDataAtom;
+import net.osmand.binary.OsmandOdb.OsmAndPoiIndex;
+import net.osmand.binary.OsmandOdb.OsmAndPoiNameIndex;
+import net.osmand.binary.OsmandOdb.OsmAndPoiNameIndex.OsmAndPoiNameIndexData;
+import net.osmand.binary.OsmandOdb.OsmAndPoiNameIndexDataAtom;
+import net.osmand.binary.OsmandOdb.OsmAndPoiSubtype;
+import net.osmand.binary.OsmandOdb.OsmAndRoutingIndex;
+import net.osmand.binary.OsmandOdb.OsmAndRoutingIndex.RouteDataBlock;
+import net.osmand.binary.OsmandOdb.OsmAndRoutingIndex.RouteDataBox;
+import net.osmand.binary.OsmandOdb.OsmAndRoutingIndex.RouteEncodingRule;
+import net.osmand.binary.OsmandOdb.OsmAndStructure;
+import net.osmand.binary.OsmandOdb.OsmAndSubtypesTable;
+import net.osmand.binary.OsmandOdb.OsmAndTileBox;
+import net.osmand.binary.OsmandOdb.RouteData;
+import net.osmand.binary.OsmandOdb.StreetIndex;
+import net.osmand.binary.OsmandOdb.StringTable;
+import net.osmand.binary.OsmandOdb.BuildingIndex;
+import net.osmand.data.City.CityType;
+import net.osmand.osm.MapPoiTypes;
+import net.osmand.util.MapUtils;
+
+import com.google.protobuf.WireFormat;
+
+/**
+ * Writes small binary map files with map, address, poi and routing sections for tests (there are no obf files in repository).
+ * Name tables contain keys of up to 3 first letters of every word grouped into subtables by first letter.
+ * Map objects are lines of one level (zooms 1-22), every object is written into own box and data block.
+ * Roads are residential highways written into one route box and one data block.
+ */
+public class ObfFixtureBuilder {
+
+	private static final int NAME_KEY_LENGTH = 3;
+
+	// rule ids start from 1
+	private static final String[][] ROUTE_RULES = { { "highway", "residential" }, { "name", "" } };
+	private static final int ROUTE_HIGHWAY_RULE = 1;
+	private static final int ROUTE_NAME_RULE = 2;
+	private static final int ROUTE_SHIFT_COORDINATES = 4;
+	private static final int MAP_MASK = ~((1 << BinaryMapIndexReader.SHIFT_COORDINATES) - 1);
+
+	public static class CityData {
+		final CityType type;
+		final long id;
+		final String name;
+		final int x31;
+		final int y31;
+		final List<StreetData> streets = new ArrayList<StreetData>();
+		int offset;
+		int blockShiftPos;
+
+		CityData(CityType type, long id, String name, double lat, double lon) {
+			this.type = type;
+			this.id = id;
+			this.name = name;
+			this.x31 = MapUtils.get31TileNumberX(lon);
+			this.y31 = MapUtils.get31TileNumberY(lat);
+		}
+
+		boolean isCityOrTown() {
+			return type == CityType.CITY || type == CityType.TOWN;
+		}
+	}
+
+	public static class StreetData {
+		final CityData city;
+		final long id;
+		final String name;
+		final double lat;
+		final double lon;
+		final List<BuildingData> buildings = new ArrayList<BuildingData>();
+		int offset;
+
+		StreetData(CityData city, long id, String name, double lat, double lon) {
+			this.city = city;
+			this.id = id;
+			this.name = name;
+			this.lat = lat;
+			this.lon = lon;
+		}
+	}
+
+	public static class BuildingData {
+		final long id;
+		final String name;
+		final double lat;
+		final double lon;
+
+		BuildingData(long id, String name, double lat, double lon) {
+			this.id = id;
+			this.name = name;
+			this.lat = lat;
+			this.lon = lon;
+		}
+	}
+
+	public static class PoiData {
+		final long id;
+		final String category;
+		final String subcategory;
+		final String name;
+		final int x31;
+		final int y31;
+		final Map<String, String> tags = new LinkedHashMap<String, String>();
+		final List<Integer> nameShiftPos = new ArrayList<Integer>();
+
+		PoiData(long id, String category, String subcategory, String name, double lat, double lon) {
+			this.id = id;
+			this.category = category;
+			this.subcategory = subcategory;
+			this.name = name;
+			this.x31 = MapUtils.get31TileNumberX(lon);
+			this.y31 = MapUtils.get31TileNumberY(lat);
+		}
+
+		public PoiData addTag(String tag, String value) {
+			tags.put(tag, value);
+			return this;
+		}
+	}
+
+	public static class RoadData {
+		final long id;
+		final String name;
+		final int[] x31;
+		final int[] y31;
+
+		RoadData(long id, String name, double[] latLons) {
+			this.id = id;
+			this.name = name;
+			this.x31 = new int[latLons.length / 2];
+			this.y31 = new int[latLons.length / 2];
+			for (int i = 0; i < x31.length; i++) {
+				y31[i] = MapUtils.get31TileNumberY(latLons[2 * i]);
+				x31[i] = MapUtils.get31TileNumberX(latLons[2 * i + 1]);
+			}
+		}
+	}
+
+	public static class MapObjectData {
+		final long id;
+		final String tag;
+		final String value;
+		final String name;
+		final int[] x31;
+		final int[] y31;
+
+		MapObjectData(long id, String tag, String value, String name, double[] latLons) {
+			this.id = id;
+			this.tag = tag;
+			this.value = value;
+			this.name = name;
+			this.x31 = new int[latLons.length / 2];
+			this.y31 = new int[latLons.length / 2];
+			for (int i = 0; i < x31.length; i++) {
+				y31[i] = MapUtils.get31TileNumberY(latLons[2 * i]) & MAP_MASK;
+				x31[i] = MapUtils.get31TileNumberX(latLons[2 * i + 1]) & MAP_MASK;
+			}
+		}
+	}
+
+	private final String regionName;
+	private long dateCreated = System.currentTimeMillis();
+	private final List<CityData> cities = new ArrayList<CityData>();
+	private final List<PoiData> pois = new ArrayList<PoiData>();
+	private final List<RoadData> roads = new ArrayList<RoadData>();
+	private final List<MapObjectData> mapObjects = new ArrayList<MapObjectData>();
+
+	public ObfFixtureBuilder(String regionName) {
+		this.regionName = regionName;
+	}
+
+	/**
+	 * Poi categories of files are resolved by default poi types which can't be loaded in tests
+	 */
+	public static void initPoiTypes(String... categories) {
+		MapPoiTypes types = MapPoiTypes.getDefaultNoInit();
+		for (String c : categories) {
+			types.getPoiCategoryByName(c, true);
+		}
+	}
+
+	public ObfFixtureBuilder setDateCreated(long dateCreated) {
+		this.dateCreated = dateCreated;
+		return this;
+	}
+
+	public CityData addCity(CityType type, long id, String name, double lat, double lon) {
+		CityData c = new CityData(type, id, name, lat, lon);
+		cities.add(c);
+		return c;
+	}
+
+	public StreetData addStreet(CityData city, long id, String name, double lat, double lon) {
+		StreetData s = new StreetData(city, id, name, lat, lon);
+		city.streets.add(s);
+		return s;
+	}
+
+	public BuildingData addBuilding(StreetData street, long id, String name, double lat, double lon) {
+		BuildingData b = new BuildingData(id, name, lat, lon);
+		street.buildings.add(b);
+		return b;
+	}
+
+	public PoiData addPoi(long id, String category, String subcategory, String name, double lat, double lon) {
+		PoiData p = new PoiData(id, category, subcategory, name, lat, lon);
+		pois.add(p);
+		return p;
+	}
+
+	/**
+	 * @param latLons latitude and longitude of every point of road
+	 */
+	public RoadData addRoad(long id, String name, double... latLons) {
+		RoadData r = new RoadData(id, name, latLons);
+		roads.add(r);
+		return r;
+	}
+
+	/**
+	 * @param latLons latitude and longitude of every point of line
+	 */
+	public MapObjectData addMapObject(long id, String tag, String value, String name, double... latLons) {
+		MapObjectData o = new MapObjectData(id, tag, value, name, latLons);
+		mapObjects.add(o);
+		return o;
+	}
+
+	public File write(File file) throws IOException {
+		Out out = new Out();
+		out.uint32(OsmAndStructure.VERSION_FIELD_NUMBER, IndexConstants.BINARY_MAP_VERSION);
+		out.int64(OsmAndStructure.DATECREATED_FIELD_NUMBER, dateCreated);
+		if (!mapObjects.isEmpty()) {
+			writeMapIndex(out);
+		}
+		if (!cities.isEmpty()) {
+			writeAddressIndex(out);
+		}
+		// poi bounds are used as address extents by search
+		if (!cities.isEmpty() || !pois.isEmpty()) {
+			writePoiIndex(out);
+		}
+		if (!roads.isEmpty()) {
+			writeRoutingIndex(out);
+		}
+		out.uint32(OsmAndStructure.VERSIONCONFIRM_FIELD_NUMBER, IndexConstants.BINARY_MAP_VERSION);
+		FileOutputStream fout = new FileOutputStream(file);
+		try {
+			fout.write(out.buf, 0, out.size);
+		} finally {
+			fout.close();
+		}
+		return file;
+	}
+
+	private void writeMapIndex(Out out) {
+		int region = out.beginFixedMessage(OsmAndStructure.MAPINDEX_FIELD_NUMBER);
+		out.string(OsmAndMapIndex.NAME_FIELD_NUMBER, regionName);
+		// rule ids are given by order starting from 1
+		List<String> rules = new ArrayList<String>();
+		rules.add("name=");
+		for (MapObjectData o : mapObjects) {
+			if (!rules.contains(o.tag + "=" + o.value)) {
+				rules.add(o.tag + "=" + o.value);
+			}
+		}
+		for (String rule : rules) {
+			int r = out.beginMessage(OsmAndMapIndex.RULES_FIELD_NUMBER);
+			out.string(MapEncodingRule.TAG_FIELD_NUMBER, rule.substring(0, rule.indexOf('=')));
+			out.string(MapEncodingRule.VALUE_FIELD_NUMBER, rule.substring(rule.indexOf('=') + 1));
+			out.endMessage(r);
+		}
+		int[] bbox = new int[] { Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0 };
+		for (MapObjectData o : mapObjects) {
+			for (int i = 0; i < o.x31.length; i++) {
+				extend(bbox, o.x31[i], o.y31[i]);
+			}
+		}
+		int level = out.beginFixedMessage(OsmAndMapIndex.LEVELS_FIELD_NUMBER);
+		out.int32(MapRootLevel.MAXZOOM_FIELD_NUMBER, 22);
+		out.int32(MapRootLevel.MINZOOM_FIELD_NUMBER, 1);
+		out.int32(MapRootLevel.LEFT_FIELD_NUMBER, bbox[0]);
+		out.int32(MapRootLevel.RIGHT_FIELD_NUMBER, bbox[1]);
+		out.int32(MapRootLevel.TOP_FIELD_NUMBER, bbox[2]);
+		out.int32(MapRootLevel.BOTTOM_FIELD_NUMBER, bbox[3]);
+		int[] boxes = new int[mapObjects.size()];
+		int[] shifts = new int[mapObjects.size()];
+		for (int k = 0; k < mapObjects.size(); k++) {
+			MapObjectData o = mapObjects.get(k);
+			int[] obox = new int[] { Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0 };
+			for (int i = 0; i < o.x31.length; i++) {
+				extend(obox, o.x31[i], o.y31[i]);
+			}
+			boxes[k] = out.beginFixedMessage(MapRootLevel.BOXES_FIELD_NUMBER);
+			out.sint32(MapDataBox.LEFT_FIELD_NUMBER, obox[0] - bbox[0]);
+			out.sint32(MapDataBox.RIGHT_FIELD_NUMBER, obox[1] - bbox[1]);
+			out.sint32(MapDataBox.TOP_FIELD_NUMBER, obox[2] - bbox[2]);
+			out.sint32(MapDataBox.BOTTOM_FIELD_NUMBER, obox[3] - bbox[3]);
+			out.tag(MapDataBox.SHIFTTOMAPDATA_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+			shifts[k] = out.reserveInt();
+			out.endFixedMessage(boxes[k]);
+		}
+		for (int k = 0; k < mapObjects.size(); k++) {
+			MapObjectData o = mapObjects.get(k);
+			int block = out.beginMessage(MapRootLevel.BLOCKS_FIELD_NUMBER);
+			out.setInt(shifts[k], block - (boxes[k] + 4));
+			out.uint64(MapDataBlock.BASEID_FIELD_NUMBER, 0);
+			int obj = out.beginMessage(MapDataBlock.DATAOBJECTS_FIELD_NUMBER);
+			int points = out.beginMessage(MapData.COORDINATES_FIELD_NUMBER);
+			// coordinates are relative to box of object
+			int px = o.x31[0];
+			int py = o.y31[0];
+			for (int i = 1; i < o.x31.length; i++) {
+				px = Math.min(px, o.x31[i]);
+				py = Math.min(py, o.y31[i]);
+			}
+			for (int i = 0; i < o.x31.length; i++) {
+				out.zigZag((o.x31[i] - px) >> BinaryMapIndexReader.SHIFT_COORDINATES);
+				out.zigZag((o.y31[i] - py) >> BinaryMapIndexReader.SHIFT_COORDINATES);
+				px = o.x31[i];
+				py = o.y31[i];
+			}
+			out.endMessage(points);
+			int types = out.beginMessage(MapData.TYPES_FIELD_NUMBER);
+			out.varint(rules.indexOf(o.tag + "=" + o.value) + 1);
+			out.endMessage(types);
+			if (o.name != null) {
+				int nm = out.beginMessage(MapData.STRINGNAMES_FIELD_NUMBER);
+				out.varint(rules.indexOf("name=") + 1);
+				out.varint(0);
+				out.endMessage(nm);
+			}
+			out.sint64(MapData.ID_FIELD_NUMBER, o.id);
+			out.endMessage(obj);
+			if (o.name != null) {
+				int table = out.beginMessage(MapDataBlock.STRINGTABLE_FIELD_NUMBER);
+				out.string(StringTable.S_FIELD_NUMBER, o.name);
+				out.endMessage(table);
+			}
+			out.endMessage(block);
+		}
+		out.endFixedMessage(level);
+		out.endFixedMessage(region);
+	}
+
+	private void writeAddressIndex(Out out) {
+		int region = out.beginFixedMessage(OsmAndStructure.ADDRESSINDEX_FIELD_NUMBER);
+		out.string(OsmAndAddressIndex.NAME_FIELD_NUMBER, regionName);
+		writeCities(out, BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE);
+		writeCities(out, BinaryMapAddressReaderAdapter.VILLAGES_TYPE);
+
+		TreeMap<String, List<Object>> keys = new TreeMap<String, List<Object>>();
+		for (CityData c : cities) {
+			addNameKeys(keys, c.name, c);
+			for (StreetData s : c.streets) {
+				addNameKeys(keys, s.name, s);
+			}
+		}
+		int nameIndex = out.beginFixedMessage(OsmAndAddressIndex.NAMEINDEX_FIELD_NUMBER);
+		int table = out.beginFixedMessage(OsmAndAddressNameIndexData.TABLE_FIELD_NUMBER);
+		Map<String, Integer> valPos = writeIndexedStringTable(out, keys.keySet());
+		out.endFixedMessage(table);
+		for (Entry<String, List<Object>> e : keys.entrySet()) {
+			int data = out.beginMessage(OsmAndAddressNameIndexData.ATOM_FIELD_NUMBER);
+			out.setInt(valPos.get(e.getKey()), data - (table + 4));
+			for (Object o : e.getValue()) {
+				int atom = out.beginMessage(AddressNameIndexData.ATOM_FIELD_NUMBER);
+				if (o instanceof CityData) {
+					CityData c = (CityData) o;
+					out.int32(AddressNameIndexDataAtom.TYPE_FIELD_NUMBER, c.isCityOrTown() ?
+							BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE : BinaryMapAddressReaderAdapter.VILLAGES_TYPE);
+					out.int32(AddressNameIndexDataAtom.SHIFTTOINDEX_FIELD_NUMBER, data - c.offset);
+					out.int32(AddressNameIndexDataAtom.XY16_FIELD_NUMBER, xy16(c.x31, c.y31));
+					out.string(AddressNameIndexDataAtom.NAME_FIELD_NUMBER, c.name);
+				} else {
+					StreetData s = (StreetData) o;
+					out.int32(AddressNameIndexDataAtom.TYPE_FIELD_NUMBER, BinaryMapAddressReaderAdapter.STREET_TYPE);
+					out.int32(AddressNameIndexDataAtom.SHIFTTOINDEX_FIELD_NUMBER, data - s.offset);
+					out.int32(AddressNameIndexDataAtom.SHIFTTOCITYINDEX_FIELD_NUMBER, data - s.city.offset);
+					out.int32(AddressNameIndexDataAtom.XY16_FIELD_NUMBER,
+							xy16(MapUtils.get31TileNumberX(s.lon), MapUtils.get31TileNumberY(s.lat)));
+					out.string(AddressNameIndexDataAtom.NAME_FIELD_NUMBER, s.name);
+				}
+				out.endMessage(atom);
+			}
+			out.endMessage(data);
+		}
+		out.endFixedMessage(nameIndex);
+		out.endFixedMessage(region);
+	}
+
+	private void writeCities(Out out, int type) {
+		List<CityData> list = new ArrayList<CityData>();
+		for (CityData c : cities) {
+			if (c.isCityOrTown() == (type == BinaryMapAddressReaderAdapter.CITY_TOWN_TYPE)) {
+				list.add(c);
+			}
+		}
+		if (list.isEmpty()) {
+			return;
+		}
+		int block = out.beginFixedMessage(OsmAndAddressIndex.CITIES_FIELD_NUMBER);
+		out.uint32(CitiesIndex.TYPE_FIELD_NUMBER, type);
+		for (CityData c : list) {
+			c.offset = out.beginMessage(CitiesIndex.CITIES_FIELD_NUMBER);
+			out.uint32(CityIndex.CITY_TYPE_FIELD_NUMBER, c.type.ordinal());
+			out.uint64(CityIndex.ID_FIELD_NUMBER, c.id);
+			out.string(CityIndex.NAME_FIELD_NUMBER, c.name);
+			out.uint32(CityIndex.X_FIELD_NUMBER, c.x31);
+			out.uint32(CityIndex.Y_FIELD_NUMBER, c.y31);
+			out.tag(CityIndex.SHIFTTOCITYBLOCKINDEX_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+			c.blockShiftPos = out.reserveInt();
+			out.endMessage(c.offset);
+		}
+		for (CityData c : list) {
+			int blockOffset = out.beginMessage(CitiesIndex.BLOCKS_FIELD_NUMBER);
+			out.setInt(c.blockShiftPos, blockOffset - c.offset);
+			// reader restores city tile from its location
+			int city24X = MapUtils.get31TileNumberX(MapUtils.get31LongitudeX(c.x31)) >> 7;
+			int city24Y = MapUtils.get31TileNumberY(MapUtils.get31LatitudeY(c.y31)) >> 7;
+			for (StreetData s : c.streets) {
+				s.offset = out.beginMessage(CityBlockIndex.STREETS_FIELD_NUMBER);
+				int street24X = (int) MapUtils.getTileNumberX(24, s.lon);
+				int street24Y = (int) MapUtils.getTileNumberY(24, s.lat);
+				out.uint64(StreetIndex.ID_FIELD_NUMBER, s.id);
+				out.string(StreetIndex.NAME_FIELD_NUMBER, s.name);
+				out.sint32(StreetIndex.X_FIELD_NUMBER, street24X - city24X);
+				out.sint32(StreetIndex.Y_FIELD_NUMBER, street24Y - city24Y);
+				for (BuildingData b : s.buildings) {
+					int building = out.beginMessage(StreetIndex.BUILDINGS_FIELD_NUMBER);
+					out.uint64(BuildingIndex.ID_FIELD_NUMBER, b.id);
+					out.string(BuildingIndex.NAME_FIELD_NUMBER, b.name);
+					out.sint32(BuildingIndex.X_FIELD_NUMBER, (int) MapUtils.getTileNumberX(24, b.lon) - street24X);
+					out.sint32(BuildingIndex.Y_FIELD_NUMBER, (int) MapUtils.getTileNumberY(24, b.lat) - street24Y);
+					out.endMessage(building);
+				}
+				out.endMessage(s.offset);
+			}
+			out.endMessage(blockOffset);
+		}
+		out.endFixedMessage(block);
+	}
+
+	private void writePoiIndex(Out out) {
+		int region = out.beginFixedMessage(OsmAndStructure.POIINDEX_FIELD_NUMBER);
+		int regionStart = region + 4;
+		out.string(OsmAndPoiIndex.NAME_FIELD_NUMBER, regionName);
+		int bounds = out.beginMessage(OsmAndPoiIndex.BOUNDARIES_FIELD_NUMBER);
+		int[] bbox = getBounds();
+		out.uint32(OsmAndTileBox.LEFT_FIELD_NUMBER, bbox[0]);
+		out.uint32(OsmAndTileBox.RIGHT_FIELD_NUMBER, bbox[1]);
+		out.uint32(OsmAndTileBox.TOP_FIELD_NUMBER, bbox[2]);
+		out.uint32(OsmAndTileBox.BOTTOM_FIELD_NUMBER, bbox[3]);
+		out.endMessage(bounds);
+
+		Map<String, List<String>> categories = new LinkedHashMap<String, List<String>>();
+		Map<String, List<String>> subtypes = new LinkedHashMap<String, List<String>>();
+		TreeMap<String, List<Object>> keys = new TreeMap<String, List<Object>>();
+		for (PoiData p : pois) {
+			List<String> subcategories = categories.get(p.category);
+			if (subcategories == null) {
+				subcategories = new ArrayList<String>();
+				categories.put(p.category, subcategories);
+			}
+			if (!subcategories.contains(p.subcategory)) {
+				subcategories.add(p.subcategory);
+			}
+			for (Entry<String, String> e : p.tags.entrySet()) {
+				List<String> values = subtypes.get(e.getKey());
+				if (values == null) {
+					values = new ArrayList<String>();
+					subtypes.put(e.getKey(), values);
+				}
+				if (!values.contains(e.getValue())) {
+					values.add(e.getValue());
+				}
+			}
+			if (p.name != null) {
+				addNameKeys(keys, p.name, p);
+			}
+		}
+		for (Entry<String, List<String>> e : categories.entrySet()) {
+			int table = out.beginMessage(OsmAndPoiIndex.CATEGORIESTABLE_FIELD_NUMBER);
+			out.string(OsmAndCategoryTable.CATEGORY_FIELD_NUMBER, e.getKey());
+			for (String s : e.getValue()) {
+				out.string(OsmAndCategoryTable.SUBCATEGORIES_FIELD_NUMBER, s);
+			}
+			out.endMessage(table);
+		}
+		if (!subtypes.isEmpty()) {
+			int table = out.beginMessage(OsmAndPoiIndex.SUBTYPESTABLE_FIELD_NUMBER);
+			for (Entry<String, List<String>> e : subtypes.entrySet()) {
+				int st = out.beginMessage(OsmAndSubtypesTable.SUBTYPES_FIELD_NUMBER);
+				out.string(OsmAndPoiSubtype.NAME_FIELD_NUMBER, e.getKey());
+				for (String v : e.getValue()) {
+					out.string(OsmAndPoiSubtype.SUBTYPEVALUE_FIELD_NUMBER, v);
+				}
+				out.endMessage(st);
+			}
+			out.endMessage(table);
+		}
+
+		int nameIndex = out.beginFixedMessage(OsmAndPoiIndex.NAMEINDEX_FIELD_NUMBER);
+		int table = out.beginFixedMessage(OsmAndPoiNameIndex.TABLE_FIELD_NUMBER);
+		Map<String, Integer> valPos = writeIndexedStringTable(out, keys.keySet());
+		out.endFixedMessage(table);
+		for (Entry<String, List<Object>> e : keys.entrySet()) {
+			int data = out.beginMessage(OsmAndPoiNameIndex.DATA_FIELD_NUMBER);
+			out.setInt(valPos.get(e.getKey()), data - (table + 4));
+			for (Object o : e.getValue()) {
+				PoiData p = (PoiData) o;
+				int atom = out.beginMessage(OsmAndPoiNameIndexData.ATOMS_FIELD_NUMBER);
+				out.uint32(OsmAndPoiNameIndexDataAtom.ZOOM_FIELD_NUMBER, 15);
+				out.uint32(OsmAndPoiNameIndexDataAtom.X_FIELD_NUMBER, p.x31 >> 16);
+				out.uint32(OsmAndPoiNameIndexDataAtom.Y_FIELD_NUMBER, p.y31 >> 16);
+				out.tag(OsmAndPoiNameIndexDataAtom.SHIFTTO_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+				p.nameShiftPos.add(out.reserveInt());
+				out.endMessage(atom);
+			}
+			out.endMessage(data);
+		}
+		out.endFixedMessage(nameIndex);
+
+		// one root box with all pois in one data block
+		int box = out.beginFixedMessage(OsmAndPoiIndex.BOXES_FIELD_NUMBER);
+		out.uint32(OsmAndPoiBox.ZOOM_FIELD_NUMBER, 0);
+		out.sint32(OsmAndPoiBox.LEFT_FIELD_NUMBER, 0);
+		out.sint32(OsmAndPoiBox.TOP_FIELD_NUMBER, 0);
+		out.tag(OsmAndPoiBox.SHIFTTODATA_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+		int dataShiftPos = out.reserveInt();
+		out.endFixedMessage(box);
+
+		int data = out.beginFixedMessage(OsmAndPoiIndex.POIDATA_FIELD_NUMBER);
+		out.setInt(dataShiftPos, data - regionStart);
+		out.uint32(OsmAndPoiBoxData.ZOOM_FIELD_NUMBER, 0);
+		out.uint32(OsmAndPoiBoxData.X_FIELD_NUMBER, 0);
+		out.uint32(OsmAndPoiBoxData.Y_FIELD_NUMBER, 0);
+		List<String> categoryNames = new ArrayList<String>(categories.keySet());
+		List<String> subtypeNames = new ArrayList<String>(subtypes.keySet());
+		for (PoiData p : pois) {
+			for (int pos : p.nameShiftPos) {
+				out.setInt(pos, data - regionStart);
+			}
+			int atom = out.beginMessage(OsmAndPoiBoxData.POIDATA_FIELD_NUMBER);
+			out.sint32(OsmAndPoiBoxDataAtom.DX_FIELD_NUMBER, p.x31 >> 7);
+			out.sint32(OsmAndPoiBoxDataAtom.DY_FIELD_NUMBER, p.y31 >> 7);
+			int cat = categoryNames.indexOf(p.category);
+			int subcat = categories.get(p.category).indexOf(p.subcategory);
+			out.uint32(OsmAndPoiBoxDataAtom.CATEGORIES_FIELD_NUMBER,
+					(subcat << BinaryMapPoiReaderAdapter.SHIFT_BITS_CATEGORY) | cat);
+			for (Entry<String, String> e : p.tags.entrySet()) {
+				int type = subtypeNames.indexOf(e.getKey());
+				int value = subtypes.get(e.getKey()).indexOf(e.getValue());
+				out.uint32(OsmAndPoiBoxDataAtom.SUBCATEGORIES_FIELD_NUMBER, (value << 6) | (type << 1));
+			}
+			if (p.name != null) {
+				out.string(OsmAndPoiBoxDataAtom.NAME_FIELD_NUMBER, p.name);
+			}
+			out.uint64(OsmAndPoiBoxDataAtom.ID_FIELD_NUMBER, p.id);
+			out.endMessage(atom);
+		}
+		out.endFixedMessage(data);
+		out.endFixedMessage(region);
+	}
+
+	private void writeRoutingIndex(Out out) {
+		int region = out.beginFixedMessage(OsmAndStructure.ROUTINGINDEX_FIELD_NUMBER);
+		out.string(OsmAndRoutingIndex.NAME_FIELD_NUMBER, regionName);
+		for (String[] rule : ROUTE_RULES) {
+			int r = out.beginMessage(OsmAndRoutingIndex.RULES_FIELD_NUMBER);
+			out.string(RouteEncodingRule.TAG_FIELD_NUMBER, rule[0]);
+			out.string(RouteEncodingRule.VALUE_FIELD_NUMBER, rule[1]);
+			out.endMessage(r);
+		}
+		int[] bbox = new int[] { Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0 };
+		for (RoadData r : roads) {
+			for (int i = 0; i < r.x31.length; i++) {
+				extend(bbox, r.x31[i], r.y31[i]);
+			}
+		}
+		int box = out.beginFixedMessage(OsmAndRoutingIndex.ROOTBOXES_FIELD_NUMBER);
+		out.sint32(RouteDataBox.LEFT_FIELD_NUMBER, bbox[0]);
+		out.sint32(RouteDataBox.RIGHT_FIELD_NUMBER, bbox[1]);
+		out.sint32(RouteDataBox.TOP_FIELD_NUMBER, bbox[2]);
+		out.sint32(RouteDataBox.BOTTOM_FIELD_NUMBER, bbox[3]);
+		out.tag(RouteDataBox.SHIFTTODATA_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+		int dataShiftPos = out.reserveInt();
+		out.endFixedMessage(box);
+
+		int block = out.beginMessage(OsmAndRoutingIndex.BLOCKS_FIELD_NUMBER);
+		out.setInt(dataShiftPos, block - (box + 4));
+		int ids = out.beginMessage(RouteDataBlock.IDTABLE_FIELD_NUMBER);
+		long prevId = 0;
+		for (RoadData r : roads) {
+			out.sint64(IdTable.ROUTEID_FIELD_NUMBER, r.id - prevId);
+			prevId = r.id;
+		}
+		out.endMessage(ids);
+		List<String> names = new ArrayList<String>();
+		for (int i = 0; i < roads.size(); i++) {
+			RoadData r = roads.get(i);
+			int obj = out.beginMessage(RouteDataBlock.DATAOBJECTS_FIELD_NUMBER);
+			int types = out.beginMessage(RouteData.TYPES_FIELD_NUMBER);
+			out.varint(ROUTE_HIGHWAY_RULE);
+			out.endMessage(types);
+			int points = out.beginMessage(RouteData.POINTS_FIELD_NUMBER);
+			int px = bbox[0] >> ROUTE_SHIFT_COORDINATES;
+			int py = bbox[2] >> ROUTE_SHIFT_COORDINATES;
+			for (int j = 0; j < r.x31.length; j++) {
+				int x = r.x31[j] >> ROUTE_SHIFT_COORDINATES;
+				int y = r.y31[j] >> ROUTE_SHIFT_COORDINATES;
+				out.zigZag(x - px);
+				out.zigZag(y - py);
+				px = x;
+				py = y;
+			}
+			out.endMessage(points);
+			out.int32(RouteData.ROUTEID_FIELD_NUMBER, i);
+			if (r.name != null) {
+				int nm = out.beginMessage(RouteData.STRINGNAMES_FIELD_NUMBER);
+				out.varint(ROUTE_NAME_RULE);
+				out.varint(names.size());
+				names.add(r.name);
+				out.endMessage(nm);
+			}
+			out.endMessage(obj);
+		}
+		if (!names.isEmpty()) {
+			int table = out.beginMessage(RouteDataBlock.STRINGTABLE_FIELD_NUMBER);
+			for (String n : names) {
+				out.string(StringTable.S_FIELD_NUMBER, n);
+			}
+			out.endMessage(table);
+		}
+		out.endMessage(block);
+		out.endFixedMessage(region);
+	}
+
+	// left, right, top, bottom
+	private int[] getBounds() {
+		int[] bbox = new int[] { Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0 };
+		for (CityData c : cities) {
+			extend(bbox, c.x31, c.y31);
+			for (StreetData s : c.streets) {
+				extend(bbox, MapUtils.get31TileNumberX(s.lon), MapUtils.get31TileNumberY(s.lat));
+				for (BuildingData b : s.buildings) {
+					extend(bbox, MapUtils.get31TileNumberX(b.lon), MapUtils.get31TileNumberY(b.lat));
+				}
+			}
+		}
+		for (PoiData p : pois) {
+			extend(bbox, p.x31, p.y31);
+		}
+		return bbox;
+	}
+
+	private static void extend(int[] bbox, int x31, int y31) {
+		bbox[0] = Math.min(bbox[0], x31);
+		bbox[1] = Math.max(bbox[1], x31);
+		bbox[2] = Math.min(bbox[2], y31);
+		bbox[3] = Math.max(bbox[3], y31);
+	}
+
+	private static int xy16(int x31, int y31) {
+		return ((x31 >> 15) << 16) | (y31 >> 15);
+	}
+
+	private static void addNameKeys(TreeMap<String, List<Object>> keys, String name, Object o) {
+		for (String word : name.toLowerCase(Locale.US).split("[\\s\\-]+")) {
+			if (word.length() == 0) {
+				continue;
+			}
+			String key = word.substring(0, Math.min(NAME_KEY_LENGTH, word.length()));
+			List<Object> list = keys.get(key);
+			if (list == null) {
+				list = new ArrayList<Object>();
+				keys.put(key, list);
+			}
+			if (!list.contains(o)) {
+				list.add(o);
+			}
+		}
+	}
+
+	/**
+	 * Writes first letters as keys without values with subtables of keys relative to them
+	 * @return positions of values to patch
+	 */
+	private static Map<String, Integer> writeIndexedStringTable(Out out, Iterable<String> sortedKeys) {
+		Map<String, Integer> valPos = new LinkedHashMap<String, Integer>();
+		String first = null;
+		int subtable = -1;
+		for (String key : sortedKeys) {
+			String f = key.substring(0, 1);
+			if (!f.equals(first)) {
+				if (subtable != -1) {
+					out.endMessage(subtable);
+				}
+				first = f;
+				out.string(IndexedStringTable.KEY_FIELD_NUMBER, f);
+				subtable = out.beginMessage(IndexedStringTable.SUBTABLES_FIELD_NUMBER);
+			}
+			out.string(IndexedStringTable.KEY_FIELD_NUMBER, key.substring(1));
+			out.tag(IndexedStringTable.VAL_FIELD_NUMBER, WireFormat.WIRETYPE_FIXED32);
+			valPos.put(key, out.reserveInt());
+		}
+		if (subtable != -1) {
+			out.endMessage(subtable);
+		}
+		return valPos;
+	}
+
+	/**
+	 * Protobuf output with absolute positions, so offsets and lengths can be patched after message is written.
+	 * Lengths of messages are written as 5 bytes varints, lengths of fixed messages and fixed values are big endian.
+	 */
+	private static class Out {
+		byte[] buf = new byte[1 << 12];
+		int size;
+
+		void raw(int b) {
+			if (size == buf.length) {
+				byte[] n = new byte[buf.length * 2];
+				System.arraycopy(buf, 0, n, 0, size);
+				buf = n;
+			}
+			buf[size++] = (byte) b;
+		}
+
+		void varint(long v) {
+			while ((v & ~0x7fL) != 0) {
+				raw((int) ((v & 0x7f) | 0x80));
+				v >>>= 7;
+			}
+			raw((int) v);
+		}
+
+		void tag(int field, int wireType) {
+			varint((field << 3) | wireType);
+		}
+
+		void uint32(int field, int v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			varint(v & 0xffffffffL);
+		}
+
+		void uint64(int field, long v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			varint(v);
+		}
+
+		void int32(int field, int v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			varint(v);
+		}
+
+		void int64(int field, long v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			varint(v);
+		}
+
+		void sint32(int field, int v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			zigZag(v);
+		}
+
+		// sint32 value without tag, used in packed fields
+		void zigZag(int v) {
+			varint(((v << 1) ^ (v >> 31)) & 0xffffffffL);
+		}
+
+		void sint64(int field, long v) {
+			tag(field, WireFormat.WIRETYPE_VARINT);
+			varint((v << 1) ^ (v >> 63));
+		}
+
+		void string(int field, String s) {
+			tag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			byte[] b;
+			try {
+				b = s.getBytes("UTF-8");
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			varint(b.length);
+			for (byte c : b) {
+				raw(c);
+			}
+		}
+
+		int reserveInt() {
+			int pos = size;
+			for (int i = 0; i < 4; i++) {
+				raw(0);
+			}
+			return pos;
+		}
+
+		void setInt(int pos, int v) {
+			buf[pos] = (byte) (v >>> 24);
+			buf[pos + 1] = (byte) (v >>> 16);
+			buf[pos + 2] = (byte) (v >>> 8);
+			buf[pos + 3] = (byte) v;
+		}
+
+		// returns position of length which is also offset of message used by index
+		int beginMessage(int field) {
+			tag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			int pos = size;
+			for (int i = 0; i < 5; i++) {
+				raw(0);
+			}
+			return pos;
+		}
+
+		void endMessage(int pos) {
+			int len = size - pos - 5;
+			for (int i = 0; i < 4; i++) {
+				buf[pos + i] = (byte) (((len >>> (7 * i)) & 0x7f) | 0x80);
+			}
+			buf[pos + 4] = (byte) (len >>> 28);
+		}
+
+		int beginFixedMessage(int field) {
+			tag(field, WireFormat.WIRETYPE_FIXED32_LENGTH_DELIMITED);
+			return reserveInt();
+		}
+
+		void endFixedMessage(int pos) {
+			setInt(pos, size - pos - 4);
+		}
+	}
+}
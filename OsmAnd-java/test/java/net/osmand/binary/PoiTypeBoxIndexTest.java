@@ -0,0 +1,74 @@
+package net.osmand.binary;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PoiTypeBoxIndexTest {
+
+	private static final int CAFE = 1;
+	private static final int SHOP = 2;
+	private static final int FUEL = 3;
+
+	@Test
+	public void testOverlappingRunsAreMerged() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE }, { CAFE }, { CAFE, SHOP }, { CAFE, SHOP }, { SHOP },
+				{ SHOP }, { FUEL } });
+		assertRuns(new int[] { 0, 5 }, index, CAFE, SHOP);
+		// order of categories doesn't matter
+		assertRuns(new int[] { 0, 5 }, index, SHOP, CAFE);
+		assertRuns(new int[] { 0, 3 }, index, CAFE);
+		assertRuns(new int[] { 2, 5 }, index, SHOP);
+	}
+
+	@Test
+	public void testContainedRunIsMerged() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE }, { CAFE, SHOP }, { CAFE, SHOP }, { CAFE }, { CAFE } });
+		assertRuns(new int[] { 0, 4 }, index, SHOP, CAFE);
+	}
+
+	@Test
+	public void testAdjacentRunsAreMerged() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE }, { CAFE }, { SHOP }, { SHOP }, { FUEL }, { CAFE } });
+		assertRuns(new int[] { 0, 3, 5, 5 }, index, CAFE, SHOP);
+		assertRuns(new int[] { 0, 1, 5, 5 }, index, CAFE);
+		assertRuns(new int[] { 0, 5 }, index, CAFE, SHOP, FUEL);
+	}
+
+	@Test
+	public void testSeparateRunsAreKept() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE }, { FUEL }, { SHOP }, { FUEL }, { CAFE } });
+		assertRuns(new int[] { 0, 0, 2, 2, 4, 4 }, index, CAFE, SHOP);
+		assertRuns(new int[0], index, 42);
+		assertRuns(new int[0], index);
+	}
+
+	@Test
+	public void testUnknownBoxesAreAlwaysSelected() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE }, null, null, { SHOP }, { FUEL }, null, { CAFE } });
+		assertRuns(new int[] { 0, 2, 5, 6 }, index, CAFE);
+		assertRuns(new int[] { 1, 3, 5, 5 }, index, SHOP);
+		assertRuns(new int[] { 1, 2, 5, 5 }, index);
+		Assert.assertEquals(7, index.size());
+	}
+
+	@Test
+	public void testRepeatedCategoryOfBox() {
+		PoiTypeBoxIndex index = index(new int[][] { { CAFE, CAFE }, { CAFE }, { SHOP, SHOP } });
+		assertRuns(new int[] { 0, 1 }, index, CAFE);
+		assertRuns(new int[] { 0, 2 }, index, CAFE, SHOP, CAFE);
+	}
+
+	private static PoiTypeBoxIndex index(int[][] boxes) {
+		PoiTypeBoxIndex index = new PoiTypeBoxIndex();
+		for (int i = 0; i < boxes.length; i++) {
+			index.addBox(i, i, 14, i * 10, boxes[i] == null ? null : new TIntArrayList(boxes[i]));
+		}
+		return index;
+	}
+
+	private static void assertRuns(int[] expected, PoiTypeBoxIndex index, int... categories) {
+		Assert.assertArrayEquals(expected, index.selectBoxes(new TIntArrayList(categories)));
+	}
+}
@@ -0,0 +1,164 @@
+package net.osmand.binary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.osmand.Location;
+import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.data.Amenity.AmenityRoutePoint;
+import net.osmand.data.LatLon;
+import net.osmand.util.MapUtils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RouteCorridorTest {
+
+	private static final int ZOOM = SearchRequest.ZOOM_TO_SEARCH_POI;
+	private static final double RADIUS = 200;
+	// meters in degree of latitude
+	private static final double LAT_DEGREE = MapUtils.getDistance(0, 0, 1, 0);
+
+	@Test
+	public void testRadiusAtHighLatitude() {
+		for (double lat : new double[] { 0, 45, 70, 80 }) {
+			RouteCorridor corridor = new RouteCorridor(route(lat, 20, lat, 20.05), RADIUS);
+			double lonDegree = LAT_DEGREE * Math.cos(Math.toRadians(lat));
+			// across route
+			assertInside(corridor, new LatLon(lat + (RADIUS - 5) / LAT_DEGREE, 20.025));
+			assertInside(corridor, new LatLon(lat - (RADIUS - 5) / LAT_DEGREE, 20.01));
+			assertOutside(corridor, new LatLon(lat + (RADIUS + 5) / LAT_DEGREE, 20.025));
+			// along route beyond its ends, degree of longitude is shorter with cos(lat)
+			assertInside(corridor, new LatLon(lat, 20.05 + (RADIUS - 5) / lonDegree));
+			assertInside(corridor, new LatLon(lat, 20 - (RADIUS - 5) / lonDegree));
+			assertOutside(corridor, new LatLon(lat, 20.05 + (RADIUS + 5) / lonDegree));
+			assertOutside(corridor, new LatLon(lat, 20 - (RADIUS + 5) / lonDegree));
+		}
+		RouteCorridor corridor = new RouteCorridor(route(70, 20, 70.02, 20.03, 70.02, 20.1), RADIUS);
+		AmenityRoutePoint rp = corridor.getRoutePoint(new LatLon(70.02 + 100 / LAT_DEGREE, 20.08));
+		Assert.assertEquals(1, rp.pointAIndex);
+		Assert.assertEquals(100, rp.deviateDistance, 1);
+		Assert.assertFalse(rp.deviationDirectionRight);
+	}
+
+	@Test
+	public void testIntersectsBox() {
+		// route is covered by boxes of its segments, so route has dense points as calculated routes
+		List<Location> route = new ArrayList<Location>();
+		List<Location> turns = route(70, 20, 70.01, 20.02, 70.005, 20.06, 70.02, 20.07);
+		for (int i = 1; i < turns.size(); i++) {
+			Location a = turns.get(i - 1);
+			Location b = turns.get(i);
+			int n = (int) (MapUtils.getDistance(a.getLatitude(), a.getLongitude(), b.getLatitude(),
+					b.getLongitude()) / 50) + 1;
+			for (int k = i == 1 ? 0 : 1; k <= n; k++) {
+				route.addAll(route(a.getLatitude() + (b.getLatitude() - a.getLatitude()) * k / n,
+						a.getLongitude() + (b.getLongitude() - a.getLongitude()) * k / n));
+			}
+		}
+		RouteCorridor corridor = new RouteCorridor(route, RADIUS);
+		int x16 = (int) MapUtils.getTileNumberX(ZOOM, 20.035);
+		int y16 = (int) MapUtils.getTileNumberY(ZOOM, 70.01);
+		int margin = 40;
+		boolean[][] covered = new boolean[2 * margin][2 * margin];
+		int count = 0;
+		for (int i = 0; i < 2 * margin; i++) {
+			for (int j = 0; j < 2 * margin; j++) {
+				int x = x16 - margin + i;
+				int y = y16 - margin + j;
+				covered[i][j] = corridor.intersectsBox(x, y, ZOOM);
+				if (covered[i][j]) {
+					count++;
+					Assert.assertTrue(corridor.getLeft31() <= (x << (31 - ZOOM)));
+					Assert.assertTrue(corridor.getRight31() >= ((x + 1) << (31 - ZOOM)) - 1);
+					Assert.assertTrue(corridor.getTop31() <= (y << (31 - ZOOM)));
+					Assert.assertTrue(corridor.getBottom31() >= ((y + 1) << (31 - ZOOM)) - 1);
+				}
+				boolean near = false;
+				boolean far = true;
+				for (int sx = 0; sx <= 4; sx++) {
+					for (int sy = 0; sy <= 4; sy++) {
+						LatLon l = new LatLon(MapUtils.getLatitudeFromTile(ZOOM, y + sy / 4d),
+								MapUtils.getLongitudeFromTile(ZOOM, x + sx / 4d));
+						double d = distanceToRoute(corridor.getRoute(), l);
+						near |= d < RADIUS && corridor.getRoutePoint(l) != null;
+						far &= d > 2 * RADIUS;
+					}
+				}
+				// tiles with points in radius are covered, far tiles are not
+				if (near) {
+					Assert.assertTrue(covered[i][j]);
+				}
+				if (far) {
+					Assert.assertFalse(covered[i][j]);
+				}
+			}
+		}
+		Assert.assertTrue(count > 0);
+		// boxes of other zooms intersect corridor if any covered tile is inside them
+		for (int z = ZOOM - 5; z <= ZOOM + 2; z++) {
+			int shift = ZOOM - z;
+			for (int i = 0; i < 2 * margin; i++) {
+				for (int j = 0; j < 2 * margin; j++) {
+					int x = x16 - margin + i;
+					int y = y16 - margin + j;
+					if (z > ZOOM) {
+						Assert.assertEquals(covered[i][j], corridor.intersectsBox(x << -shift, y << -shift, z));
+						Assert.assertEquals(covered[i][j], corridor.intersectsBox(((x + 1) << -shift) - 1,
+								((y + 1) << -shift) - 1, z));
+						continue;
+					}
+					int bx = x >> shift;
+					int by = y >> shift;
+					boolean expected = false;
+					for (int cx = bx << shift; cx < (bx + 1) << shift; cx++) {
+						for (int cy = by << shift; cy < (by + 1) << shift; cy++) {
+							int ci = cx - x16 + margin;
+							int cj = cy - y16 + margin;
+							if (ci >= 0 && cj >= 0 && ci < 2 * margin && cj < 2 * margin && covered[ci][cj]) {
+								expected = true;
+							}
+						}
+					}
+					// boxes crossing border of tested area could contain covered tiles outside of it
+					boolean inside = (bx << shift) >= x16 - margin && ((bx + 1) << shift) <= x16 + margin
+							&& (by << shift) >= y16 - margin && ((by + 1) << shift) <= y16 + margin;
+					if (inside || expected) {
+						Assert.assertEquals(z + " " + bx + " " + by, expected, corridor.intersectsBox(bx, by, z));
+					}
+				}
+			}
+		}
+		Assert.assertFalse(corridor.intersectsBox(0, 0, 3));
+	}
+
+	private static double distanceToRoute(List<Location> route, LatLon l) {
+		double d = Double.MAX_VALUE;
+		for (int i = 1; i < route.size(); i++) {
+			Location a = route.get(i - 1);
+			Location b = route.get(i);
+			d = Math.min(d, MapUtils.getOrthogonalDistance(l.getLatitude(), l.getLongitude(), a.getLatitude(),
+					a.getLongitude(), b.getLatitude(), b.getLongitude()));
+		}
+		return d;
+	}
+
+	private static void assertInside(RouteCorridor corridor, LatLon l) {
+		Assert.assertNotNull(l.toString(), corridor.getRoutePoint(l));
+	}
+
+	private static void assertOutside(RouteCorridor corridor, LatLon l) {
+		Assert.assertNull(l.toString(), corridor.getRoutePoint(l));
+	}
+
+	private static List<Location> route(double... latLons) {
+		List<Location> route = new ArrayList<Location>();
+		for (int i = 0; i < latLons.length; i += 2) {
+			Location l = new Location("");
+			l.setLatitude(latLons[i]);
+			l.setLongitude(latLons[i + 1]);
+			route.add(l);
+		}
+		return route;
+	}
+}
@@ -0,0 +1,129 @@
+package net.osmand.data;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CollisionGridTest {
+
+	private static final float[] ANGLES = { 0, (float) (Math.PI / 2), (float) Math.PI, (float) (-Math.PI / 2),
+			(float) (Math.PI / 4) };
+
+	@Test
+	public void testIntersectsAsRectangleCheck() {
+		Random rnd = new Random(45);
+		int intersected = 0;
+		for (int i = 0; i < 200000; i++) {
+			QuadRect t = randomBox(rnd);
+			QuadRect s = randomBox(rnd);
+			if (i % 10 == 0) {
+				// centers closer than 3 pixels
+				double dx = rnd.nextDouble() * 4 - 2;
+				double dy = rnd.nextDouble() * 4 - 2;
+				t = new QuadRect(s.centerX() + dx - t.width() / 2, s.centerY() + dy - t.height() / 2,
+						s.centerX() + dx + t.width() / 2, s.centerY() + dy + t.height() / 2);
+			}
+			float tRot = randomAngle(rnd);
+			float sRot = randomAngle(rnd);
+			QuadRect tCopy = new QuadRect(t);
+			boolean expected = intersectsRectangles(t, tRot, s, sRot);
+			Assert.assertEquals(t + " " + tRot + " " + s + " " + sRot, expected,
+					CollisionGrid.intersects(t, tRot, s, sRot));
+			// boxes are not changed
+			Assert.assertEquals(tCopy.left, t.left, 0);
+			Assert.assertEquals(tCopy.bottom, t.bottom, 0);
+			if (expected) {
+				intersected++;
+			}
+		}
+		Assert.assertTrue(intersected > 10000);
+	}
+
+	@Test
+	public void testQueryReturnsEveryIntersectedBoxOnce() {
+		Random rnd = new Random(7);
+		CollisionGrid<Integer> grid = new CollisionGrid<Integer>(64);
+		List<QuadRect> boxes = new ArrayList<QuadRect>();
+		List<Integer> result = new ArrayList<Integer>();
+		for (int round = 0; round < 3; round++) {
+			// grid is reused with other bounds, boxes could be outside of bounds
+			grid.reset(new QuadRect(0, 0, 500 + round * 300, 400));
+			boxes.clear();
+			for (int i = 0; i < 500; i++) {
+				QuadRect b = randomBox(rnd);
+				boxes.add(b);
+				grid.insert(i, b);
+			}
+			Assert.assertEquals(boxes.size(), grid.size());
+			for (int k = 0; k < 200; k++) {
+				QuadRect q = randomBox(rnd);
+				grid.queryInBox(q, result);
+				Set<Integer> unique = new HashSet<Integer>(result);
+				Assert.assertEquals(result.size(), unique.size());
+				for (int i = 0; i < boxes.size(); i++) {
+					if (QuadRect.intersects(q, boxes.get(i))) {
+						Assert.assertTrue(unique.contains(i));
+					}
+				}
+			}
+		}
+	}
+
+	private static QuadRect randomBox(Random rnd) {
+		double cx = rnd.nextDouble() * 1000 - 100;
+		double cy = rnd.nextDouble() * 600 - 100;
+		double w = 10 + rnd.nextDouble() * 200;
+		double h = 6 + rnd.nextDouble() * 30;
+		return new QuadRect(cx - w / 2, cy - h / 2, cx + w / 2, cy + h / 2);
+	}
+
+	// mostly angles close to the cases of check
+	private static float randomAngle(Random rnd) {
+		if (rnd.nextInt(4) == 0) {
+			return (float) (rnd.nextDouble() * 4 * Math.PI - 2 * Math.PI);
+		}
+		return ANGLES[rnd.nextInt(ANGLES.length)] + (float) (rnd.nextDouble() * 0.6 - 0.3);
+	}
+
+	private static double sqr(double a) {
+		return a * a;
+	}
+
+	// check of text renderer before it was moved to grid, boxes are rotated into new rectangles
+	private static boolean intersectsRectangles(QuadRect tRect, float tRot, QuadRect sRect, float sRot) {
+		if (Math.abs(tRot) < Math.PI / 15 && Math.abs(sRot) < Math.PI / 15) {
+			return QuadRect.intersects(tRect, sRect);
+		}
+		double dist = Math.sqrt(sqr(tRect.centerX() - sRect.centerX()) + sqr(tRect.centerY() - sRect.centerY()));
+		if (dist < 3) {
+			return true;
+		}
+		// difference close to 90/270 degrees
+		if (Math.abs(Math.cos(tRot - sRot)) < 0.3) {
+			// rotate one rectangle to 90 degrees
+			tRot += Math.PI / 2;
+			double l = tRect.centerX() - tRect.height() / 2;
+			double t = tRect.centerY() - tRect.width() / 2;
+			tRect = new QuadRect(l, t, l + tRect.height(), t + tRect.width());
+		}
+		// determine difference close to 180/0 degrees
+		if (Math.abs(Math.sin(tRot - sRot)) < 0.3) {
+			// rotate t box
+			// (calculate offset for t center suppose we rotate around s center)
+			float diff = (float) (-Math.atan2(tRect.centerX() - sRect.centerX(), tRect.centerY() - sRect.centerY())
+					+ Math.PI / 2);
+			diff -= sRot;
+			double left = sRect.centerX() + dist * Math.cos(diff) - tRect.width() / 2;
+			double top = sRect.centerY() - dist * Math.sin(diff) - tRect.height() / 2;
+			QuadRect nRect = new QuadRect(left, top, left + tRect.width(), top + tRect.height());
+			return QuadRect.intersects(nRect, sRect);
+		}
+		// other cases are not covered
+		return QuadRect.intersects(tRect, sRect);
+	}
+}
@@ -0,0 +1,127 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.osmand.render.CachedRenderingRulesStorage.SourceHashProvider;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xmlpull.v1.XmlPullParserException;
+
+public class CachedRenderingRulesStorageTest {
+
+	private static final int[] STATES = { RenderingRulesStorage.ORDER_RULES, RenderingRulesStorage.POINT_RULES,
+			RenderingRulesStorage.LINE_RULES, RenderingRulesStorage.POLYGON_RULES, RenderingRulesStorage.TEXT_RULES };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private RenderingRulesStorage xml;
+	private File cacheFile;
+	private String hash;
+
+	@Before
+	public void setUp() throws XmlPullParserException, IOException {
+		xml = CompiledRenderingRulesTest.loadStyle("test.render.xml");
+		hash = CachedRenderingRulesStorage.getSourceHash(
+				CachedRenderingRulesStorageTest.class.getResourceAsStream("test.render.xml"));
+		cacheFile = new File(folder.getRoot(), "test.render.cache");
+		CachedRenderingRulesStorage.writeCache(xml, Collections.singletonMap("test", hash), cacheFile);
+	}
+
+	@Test
+	public void testCachedStorageSearchesAsXml() {
+		RenderingRulesStorage cached = CachedRenderingRulesStorage.readCache(cacheFile, provider(hash));
+		Assert.assertNotNull(cached);
+		Assert.assertEquals(Collections.singletonList("test"), CachedRenderingRulesStorage.readCacheSources(cacheFile));
+		Assert.assertEquals(customRules(xml), customRules(cached));
+
+		List<Map<String, String>> propsList = new ArrayList<Map<String, String>>();
+		propsList.add(new LinkedHashMap<String, String>());
+		propsList.add(Collections.singletonMap("appMode", "car"));
+		propsList.add(Collections.singletonMap("appMode", "pedestrian"));
+		propsList.add(Collections.singletonMap("noPolygons", "true"));
+		propsList.add(Collections.singletonMap("showCycleRoutes", "true"));
+		int found = 0;
+		for (Map<String, String> props : propsList) {
+			for (boolean nightMode : new boolean[] { false, true }) {
+				RenderingRuleSearchRequest xr = RenderingRuleSearchRequest.createWithCustomRules(xml, nightMode, props);
+				RenderingRuleSearchRequest cr = RenderingRuleSearchRequest.createWithCustomRules(cached, nightMode,
+						props);
+				Assert.assertEquals(xr.searchRenderingAttribute("defaultColor"),
+						cr.searchRenderingAttribute("defaultColor"));
+				assertSameValues("defaultColor", xr, cr);
+				for (int state : STATES) {
+					TIntObjectHashMap<RenderingRule> rules = xml.tagValueGlobalRules[state];
+					Assert.assertEquals(rules.size(), cached.tagValueGlobalRules[state].size());
+					for (int key : rules.keys()) {
+						String tag = xml.getStringValue(key >> 16);
+						String value = xml.getStringValue(key & 0xffff);
+						for (int zoom = 1; zoom <= 21; zoom += 2) {
+							String msg = "state " + state + " " + tag + "=" + value + " zoom " + zoom + " night "
+									+ nightMode + " " + props;
+							boolean f = RenderingRulesBenchmark.search(xr, state, tag, value, zoom);
+							Assert.assertEquals(msg, f, RenderingRulesBenchmark.search(cr, state, tag, value, zoom));
+							assertSameValues(msg, xr, cr);
+							if (f) {
+								found++;
+							}
+						}
+					}
+				}
+			}
+		}
+		Assert.assertTrue(found > 0);
+	}
+
+	@Test
+	public void testChangedSourceInvalidatesCache() {
+		Assert.assertNull(CachedRenderingRulesStorage.readCache(cacheFile, provider("0000")));
+		Assert.assertNull(CachedRenderingRulesStorage.readCache(cacheFile, provider(null)));
+		Assert.assertNull(CachedRenderingRulesStorage.readCache(new File(folder.getRoot(), "missing.cache"),
+				provider(hash)));
+	}
+
+	private static SourceHashProvider provider(final String hash) {
+		return new SourceHashProvider() {
+			@Override
+			public String getSourceHash(String name) {
+				return "test".equals(name) ? hash : null;
+			}
+		};
+	}
+
+	private static List<String> customRules(RenderingRulesStorage storage) {
+		List<String> names = new ArrayList<String>();
+		for (RenderingRuleProperty p : storage.PROPS.getCustomRules()) {
+			names.add(p.getAttrName() + ":" + p.getName() + ":" + p.isBoolean() + ":" + p.isString());
+		}
+		return names;
+	}
+
+	// properties are compared by names, as dictionaries of storages may differ
+	private static void assertSameValues(String msg, RenderingRuleSearchRequest xr, RenderingRuleSearchRequest cr) {
+		for (RenderingRuleProperty p : xr.getProperties()) {
+			RenderingRuleProperty cp = cr.ALL.get(p.getAttrName());
+			Assert.assertNotNull(p.getAttrName(), cp);
+			String m = msg + " " + p.getAttrName();
+			if (p.isString()) {
+				Assert.assertEquals(m, xr.getStringPropertyValue(p), cr.getStringPropertyValue(cp));
+			} else {
+				Assert.assertEquals(m, xr.getIntPropertyValue(p), cr.getIntPropertyValue(cp));
+				Assert.assertEquals(m, xr.getFloatPropertyValue(p), cr.getFloatPropertyValue(cp), 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xmlpull.v1.XmlPullParserException;
+
+public class CompiledRenderingRulesTest {
+
+	private static final int[] STATES = { RenderingRulesStorage.ORDER_RULES, RenderingRulesStorage.POINT_RULES,
+			RenderingRulesStorage.LINE_RULES, RenderingRulesStorage.POLYGON_RULES, RenderingRulesStorage.TEXT_RULES };
+
+	@Test
+	public void testCompiledRulesOfTestStyle() throws XmlPullParserException, IOException {
+		RenderingRulesStorage storage = loadStyle("test.render.xml");
+		Assert.assertNotNull(storage);
+		int found = 0;
+		for (Map<String, String> props : customProperties()) {
+			found += assertSameResults(storage, false, props);
+			found += assertSameResults(storage, true, props);
+		}
+		// style has rules visible at sampled zooms
+		Assert.assertTrue(found > 0);
+	}
+
+	@Test
+	public void testCompiledRulesOfDefaultStyle() throws XmlPullParserException, IOException {
+		// default style is copied from resources by build, it is not part of sources
+		RenderingRulesStorage storage = loadStyle("default.render.xml");
+		if (storage == null) {
+			return;
+		}
+		for (Map<String, String> props : customProperties()) {
+			assertSameResults(storage, false, props);
+			assertSameResults(storage, true, props);
+		}
+	}
+
+	private static List<Map<String, String>> customProperties() {
+		List<Map<String, String>> list = new ArrayList<Map<String, String>>();
+		list.add(new LinkedHashMap<String, String>());
+		list.add(props("appMode", "car"));
+		list.add(props("appMode", "pedestrian"));
+		list.add(props("noPolygons", "true"));
+		list.add(props("showCycleRoutes", "true"));
+		return list;
+	}
+
+	private static Map<String, String> props(String name, String value) {
+		Map<String, String> props = new LinkedHashMap<String, String>();
+		props.put(name, value);
+		return props;
+	}
+
+	// every registered tag/value of every state at every zoom with unknown value of the same tag
+	private static int assertSameResults(RenderingRulesStorage storage, boolean nightMode, Map<String, String> props) {
+		RenderingRuleSearchRequest interpreted = request(storage, nightMode, props, false, false);
+		RenderingRuleSearchRequest compiled = request(storage, nightMode, props, true, false);
+		RenderingRuleSearchRequest cached = request(storage, nightMode, props, true, true);
+		int found = 0;
+		// twice, so second pass is answered from cache
+		for (int pass = 0; pass < 2; pass++) {
+			for (int state : STATES) {
+				TIntObjectHashMap<RenderingRule> rules = storage.tagValueGlobalRules[state];
+				if (rules == null) {
+					continue;
+				}
+				for (int key : rules.keys()) {
+					String tag = storage.getStringValue(key >> 16);
+					String value = storage.getStringValue(key & 0xffff);
+					for (String v : new String[] { value, "unknown_value" }) {
+						for (int zoom = 1; zoom <= 21; zoom++) {
+							boolean f = RenderingRulesBenchmark.search(interpreted, state, tag, v, zoom);
+							String msg = "state " + state + " " + tag + "=" + v + " zoom " + zoom + " night "
+									+ nightMode + " " + props;
+							Assert.assertEquals(msg, f, RenderingRulesBenchmark.search(compiled, state, tag, v, zoom));
+							Assert.assertTrue(msg, RenderingRulesBenchmark.equalValues(interpreted, compiled));
+							Assert.assertEquals(msg, f, RenderingRulesBenchmark.search(cached, state, tag, v, zoom));
+							Assert.assertTrue(msg, RenderingRulesBenchmark.equalValues(interpreted, cached));
+							if (f) {
+								found++;
+							}
+						}
+					}
+				}
+			}
+		}
+		Assert.assertTrue(cached.getCacheHits() > 0);
+		return found;
+	}
+
+	private static RenderingRuleSearchRequest request(RenderingRulesStorage storage, boolean nightMode,
+			Map<String, String> props, boolean compiledRules, boolean cache) {
+		RenderingRuleSearchRequest req = RenderingRuleSearchRequest.createWithCustomRules(storage, nightMode, props);
+		req.setCompiledRulesEnabled(compiledRules);
+		req.setCacheEnabled(cache);
+		return req;
+	}
+
+	static RenderingRulesStorage loadStyle(String name) throws XmlPullParserException, IOException {
+		InputStream is = CompiledRenderingRulesTest.class.getResourceAsStream(name);
+		if (is == null) {
+			return null;
+		}
+		RenderingRulesStorage storage = new RenderingRulesStorage(name, null);
+		try {
+			storage.parseRulesFromXmlInputStream(is, new RenderingRulesStorage.RenderingRulesStorageResolver() {
+				@Override
+				public RenderingRulesStorage resolve(String name, RenderingRulesStorage.RenderingRulesStorageResolver ref)
+						throws XmlPullParserException, IOException {
+					RenderingRulesStorage depends = loadStyle(name + ".render.xml");
+					if (depends == null) {
+						throw new IOException("Style " + name + " is not found");
+					}
+					return depends;
+				}
+			});
+		} finally {
+			is.close();
+		}
+		return storage;
+	}
+}
@@ -0,0 +1,142 @@
+package net.osmand.render;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.util.MapUtils;
+
+import org.xmlpull.v1.XmlPullParserException;
+
+/**
+ * Renders square of metatiles around location with different number of threads and prints tiles per second.
+ * Usage: MetaTileRendererBenchmark -obfDir=DIR -style=PATH/default.render.xml -lat=LAT -lon=LON [-zoom=Z]
+ * [-metaTiles=N] [-threads=1,2,4] [-icons=DIR] [-out=DIR] [-nightMode] [-prop:NAME=VALUE]...
+ */
+public class MetaTileRendererBenchmark {
+
+	public static void main(String[] args) throws IOException, XmlPullParserException, InterruptedException {
+		String obfDir = null;
+		String style = null;
+		String iconsDir = null;
+		String outDir = null;
+		double lat = Double.NaN;
+		double lon = Double.NaN;
+		int zoom = 14;
+		int side = 4;
+		String threads = "1," + Runtime.getRuntime().availableProcessors();
+		boolean nightMode = false;
+		Map<String, String> props = new LinkedHashMap<String, String>();
+		for (String a : args) {
+			if (a.startsWith("-obfDir=")) {
+				obfDir = a.substring("-obfDir=".length());
+			} else if (a.startsWith("-style=")) {
+				style = a.substring("-style=".length());
+			} else if (a.startsWith("-icons=")) {
+				iconsDir = a.substring("-icons=".length());
+			} else if (a.startsWith("-out=")) {
+				outDir = a.substring("-out=".length());
+			} else if (a.startsWith("-lat=")) {
+				lat = Double.parseDouble(a.substring("-lat=".length()));
+			} else if (a.startsWith("-lon=")) {
+				lon = Double.parseDouble(a.substring("-lon=".length()));
+			} else if (a.startsWith("-zoom=")) {
+				zoom = Integer.parseInt(a.substring("-zoom=".length()));
+			} else if (a.startsWith("-metaTiles=")) {
+				side = Integer.parseInt(a.substring("-metaTiles=".length()));
+			} else if (a.startsWith("-threads=")) {
+				threads = a.substring("-threads=".length());
+			} else if (a.equals("-nightMode")) {
+				nightMode = true;
+			} else if (a.startsWith("-prop:")) {
+				String p = a.substring("-prop:".length());
+				int i = p.indexOf('=');
+				props.put(p.substring(0, i), p.substring(i + 1));
+			}
+		}
+		if (obfDir == null || style == null || Double.isNaN(lat) || Double.isNaN(lon)) {
+			System.out.println("Usage: MetaTileRendererBenchmark -obfDir=DIR -style=PATH/default.render.xml "
+					+ "-lat=LAT -lon=LON [-zoom=Z] [-metaTiles=N] [-threads=1,2,4] [-icons=DIR] [-out=DIR] [-nightMode] "
+					+ "[-prop:NAME=VALUE]...");
+			return;
+		}
+		RenderingRulesStorage storage = RenderingRulesStorage.loadFromFile(new File(style));
+		List<BinaryMapIndexReader> files = new ArrayList<BinaryMapIndexReader>();
+		File[] obfs = new File(obfDir).listFiles();
+		if (obfs != null) {
+			for (File f : obfs) {
+				if (f.getName().endsWith(".obf")) {
+					files.add(new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f));
+				}
+			}
+		}
+		int n = MetaTileRenderer.getMetaSize(zoom);
+		int metaCount = (1 << zoom) / n;
+		int cx = (int) MapUtils.getTileNumberX(zoom, lon) / n;
+		int cy = (int) MapUtils.getTileNumberY(zoom, lat) / n;
+		int startX = Math.max(0, Math.min(metaCount - side, cx - side / 2));
+		int startY = Math.max(0, Math.min(metaCount - side, cy - side / 2));
+		int endX = Math.min(metaCount, startX + side);
+		int endY = Math.min(metaCount, startY + side);
+		System.out.println(String.format("Files %d, zoom %d, metatiles %d (%d tiles)", files.size(), zoom,
+				(endX - startX) * (endY - startY), (endX - startX) * (endY - startY) * n * n));
+		double singleThread = 0;
+		for (String t : threads.split(",")) {
+			int threadsCount = Integer.parseInt(t.trim());
+			MetaTileRenderer renderer = new MetaTileRenderer(files, storage, nightMode, props,
+					iconsDir == null ? null : new File(iconsDir), threadsCount, 0);
+			long start = System.nanoTime();
+			List<Future<BufferedImage[]>> futures = new ArrayList<Future<BufferedImage[]>>();
+			for (int my = startY; my < endY; my++) {
+				for (int mx = startX; mx < endX; mx++) {
+					futures.add(renderer.submitMetaTile(mx, my, zoom));
+				}
+			}
+			int tiles = 0;
+			long writeTime = 0;
+			for (int k = 0; k < futures.size(); k++) {
+				BufferedImage[] res;
+				try {
+					res = futures.get(k).get();
+				} catch (ExecutionException e) {
+					throw new IllegalStateException(e.getCause());
+				}
+				tiles += res.length;
+				if (outDir != null && singleThread == 0) {
+					long ws = System.nanoTime();
+					int mx = startX + k % (endX - startX);
+					int my = startY + k / (endX - startX);
+					for (int i = 0; i < res.length; i++) {
+						File dir = new File(outDir, zoom + "/" + (mx * n + i % n));
+						dir.mkdirs();
+						ImageIO.write(res[i], "png", new File(dir, (my * n + i / n) + ".png"));
+					}
+					writeTime += System.nanoTime() - ws;
+				}
+			}
+			// time of writing png files is not counted
+			double sec = (System.nanoTime() - start - writeTime) / 1e9;
+			renderer.close();
+			double tps = tiles / sec;
+			if (singleThread == 0) {
+				singleThread = tps;
+			}
+			System.out.println(String.format("Threads %d: %d tiles in %.2f s, %.1f tiles/s (x%.2f)", threadsCount,
+					tiles, sec, tps, tps / singleThread));
+			System.out.println("  " + renderer.getStatistics());
+		}
+		for (BinaryMapIndexReader r : files) {
+			r.close();
+		}
+	}
+}
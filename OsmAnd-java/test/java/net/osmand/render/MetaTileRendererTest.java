@@ -0,0 +1,139 @@
+package net.osmand.render;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.ObfFixtureBuilder;
+import net.osmand.util.MapUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xmlpull.v1.XmlPullParserException;
+
+public class MetaTileRendererTest {
+
+	private static final int ZOOM = 14;
+	private static final int TILE_SIZE = Java2DMapRenderer.TILE_SIZE;
+	// metatile of Berlin
+	private static final int MX = 8800 / MetaTileRenderer.META_SIZE;
+	private static final int MY = 5373 / MetaTileRenderer.META_SIZE;
+	// road crosses tiles 3 and 4 of row 5 in the middle of row
+	private static final int ROAD_ROW = 5;
+	private static final int ROAD_FIRST = 3;
+	private static final int ROAD_LAST = 4;
+	private static final int ROAD_COLOR = 0xfcd6a4;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private RenderingRulesStorage storage;
+	private BinaryMapIndexReader reader;
+	private MetaTileRenderer renderer;
+
+	@Before
+	public void setUp() throws IOException, XmlPullParserException {
+		ObfFixtureBuilder.initPoiTypes();
+		storage = CompiledRenderingRulesTest.loadStyle("test.render.xml");
+		int n = MetaTileRenderer.META_SIZE;
+		double lat = MapUtils.getLatitudeFromTile(ZOOM, MY * n + ROAD_ROW + 0.5);
+		double startLon = MapUtils.getLongitudeFromTile(ZOOM, MX * n + ROAD_FIRST - 0.25);
+		double endLon = MapUtils.getLongitudeFromTile(ZOOM, MX * n + ROAD_LAST + 1.25);
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		b.addMapObject(11, "highway", "primary", null, lat, startLon, lat, endLon);
+		File f = b.write(folder.newFile("Region.obf"));
+		reader = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+	}
+
+	@After
+	public void tearDown() throws IOException, InterruptedException {
+		if (renderer != null) {
+			renderer.close();
+		}
+		reader.close();
+	}
+
+	private MetaTileRenderer createRenderer(int maxCachedMetaTiles) {
+		List<BinaryMapIndexReader> files = Collections.singletonList(reader);
+		renderer = new MetaTileRenderer(files, storage, false, Collections.<String, String> emptyMap(), null, 2,
+				maxCachedMetaTiles);
+		return renderer;
+	}
+
+	@Test
+	public void testMetaTileIsSplitIntoTiles() throws IOException {
+		MetaTileRenderer r = createRenderer(4);
+		int n = MetaTileRenderer.META_SIZE;
+		BufferedImage[] tiles = r.getMetaTile(MX, MY, ZOOM);
+		Assert.assertEquals(n * n, tiles.length);
+		int background = rgb(tiles[0], TILE_SIZE / 2, TILE_SIZE / 2);
+		Assert.assertNotEquals(ROAD_COLOR, background);
+		for (int j = 0; j < n; j++) {
+			for (int i = 0; i < n; i++) {
+				BufferedImage tile = r.getTile(MX * n + i, MY * n + j, ZOOM);
+				// tiles are served from rendered metatile by rows
+				Assert.assertSame(tiles[j * n + i], tile);
+				Assert.assertEquals(TILE_SIZE, tile.getWidth());
+				Assert.assertEquals(TILE_SIZE, tile.getHeight());
+				boolean road = j == ROAD_ROW && i >= ROAD_FIRST && i <= ROAD_LAST;
+				Assert.assertEquals("tile " + i + " " + j, road ? ROAD_COLOR : background,
+						rgb(tile, TILE_SIZE / 2, TILE_SIZE / 2));
+				// road is horizontal, so it doesn't reach top of tiles
+				Assert.assertEquals("tile " + i + " " + j, background, rgb(tile, TILE_SIZE / 2, 0));
+			}
+		}
+		// road starts and ends in the last quarter of neighbour tiles
+		BufferedImage before = tiles[ROAD_ROW * n + ROAD_FIRST - 1];
+		Assert.assertEquals(background, rgb(before, TILE_SIZE * 5 / 8, TILE_SIZE / 2));
+		Assert.assertEquals(ROAD_COLOR, rgb(before, TILE_SIZE * 7 / 8, TILE_SIZE / 2));
+		BufferedImage after = tiles[ROAD_ROW * n + ROAD_LAST + 1];
+		Assert.assertEquals(ROAD_COLOR, rgb(after, TILE_SIZE / 8, TILE_SIZE / 2));
+		Assert.assertEquals(background, rgb(after, TILE_SIZE * 3 / 8, TILE_SIZE / 2));
+		Assert.assertEquals(1, r.getStatistics().objectsRead);
+	}
+
+	@Test
+	public void testWholeWorldIsSmallerThanMetaTile() throws IOException {
+		MetaTileRenderer r = createRenderer(4);
+		Assert.assertEquals(1, MetaTileRenderer.getMetaSize(0));
+		Assert.assertEquals(4, MetaTileRenderer.getMetaSize(2));
+		Assert.assertEquals(MetaTileRenderer.META_SIZE, MetaTileRenderer.getMetaSize(3));
+		BufferedImage[] tiles = r.getMetaTile(0, 0, 2);
+		Assert.assertEquals(16, tiles.length);
+		Assert.assertSame(tiles[2 * 4 + 3], r.getTile(3, 2, 2));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedMetaTileIsEvicted() throws Exception {
+		MetaTileRenderer r = createRenderer(2);
+		Future<BufferedImage[]> first = r.submitMetaTile(MX, MY, ZOOM);
+		Future<BufferedImage[]> second = r.submitMetaTile(MX + 1, MY, ZOOM);
+		Assert.assertSame(first, r.submitMetaTile(MX, MY, ZOOM));
+		// second is least recently used now
+		Future<BufferedImage[]> third = r.submitMetaTile(MX, MY + 1, ZOOM);
+		Assert.assertSame(first, r.submitMetaTile(MX, MY, ZOOM));
+		Assert.assertSame(third, r.submitMetaTile(MX, MY + 1, ZOOM));
+		Future<BufferedImage[]> again = r.submitMetaTile(MX + 1, MY, ZOOM);
+		Assert.assertNotSame(second, again);
+		// evicted metatile is rendered again with the same content
+		BufferedImage[] tiles = second.get();
+		BufferedImage[] rendered = again.get();
+		Assert.assertEquals(tiles.length, rendered.length);
+		Assert.assertEquals(rgb(tiles[0], 0, 0), rgb(rendered[0], 0, 0));
+		// same tile numbers at other zoom are other metatile
+		Assert.assertNotSame(r.submitMetaTile(MX, MY, ZOOM + 1), r.submitMetaTile(MX, MY, ZOOM));
+	}
+
+	private static int rgb(BufferedImage img, int x, int y) {
+		return img.getRGB(x, y) & 0xffffff;
+	}
+}
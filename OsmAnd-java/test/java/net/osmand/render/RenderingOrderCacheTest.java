@@ -0,0 +1,63 @@
+package net.osmand.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import net.osmand.render.RenderingOrderCache.OrderedPrimitive;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RenderingOrderCacheTest {
+
+	private static class Primitive implements OrderedPrimitive {
+		final double order;
+		final int typeInd;
+
+		Primitive(double order, int typeInd) {
+			this.order = order;
+			this.typeInd = typeInd;
+		}
+
+		@Override
+		public double getOrder() {
+			return order;
+		}
+	}
+
+	private static final Comparator<Primitive> BY_ORDER = new Comparator<Primitive>() {
+		@Override
+		public int compare(Primitive i, Primitive j) {
+			if (i.order == j.order) {
+				return i.typeInd == j.typeInd ? 0 : (i.typeInd < j.typeInd ? -1 : 1);
+			}
+			return i.order < j.order ? -1 : 1;
+		}
+	};
+
+	@Test
+	public void testSortByOrder() {
+		Random r = new Random(7);
+		for (int range : new int[] { 1, 50, 100000 }) {
+			List<Primitive> list = new ArrayList<Primitive>();
+			for (int i = 0; i < 1000; i++) {
+				double order = r.nextInt(range) - range / 2;
+				if (r.nextBoolean()) {
+					// polygons have fraction of order
+					order += 1. / (10 + r.nextInt(1000));
+				}
+				list.add(new Primitive(order, r.nextInt(3)));
+			}
+			List<Primitive> expected = new ArrayList<Primitive>(list);
+			Collections.sort(expected, BY_ORDER);
+			RenderingOrderCache.sortByOrder(list, BY_ORDER);
+			// sort is stable, so equal primitives stay in the same order
+			for (int i = 0; i < list.size(); i++) {
+				Assert.assertSame(expected.get(i), list.get(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package net.osmand.render;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.xmlpull.v1.XmlPullParserException;
+
+/**
+ * Compares interpretation of rendering rules with compiled per zoom rules and search cache:
+ * searches random tag/value pairs registered in style at random zooms and checks that results are equal.
+ * Usage: RenderingRulesBenchmark -style=PATH/default.render.xml [-searches=N] [-rounds=N] [-zooms=MIN-MAX]
+ * [-nightMode] [-prop:NAME=VALUE]...
+ */
+public class RenderingRulesBenchmark {
+
+	private static final int[] STATES = { RenderingRulesStorage.ORDER_RULES, RenderingRulesStorage.POINT_RULES,
+			RenderingRulesStorage.LINE_RULES, RenderingRulesStorage.POLYGON_RULES, RenderingRulesStorage.TEXT_RULES };
+	private static final String[] MODES = { "interpreted", "compiled", "compiled+cache" };
+
+	public static void main(String[] args) throws XmlPullParserException, IOException {
+		String style = null;
+		int searches = 200000;
+		int rounds = 5;
+		int minZoom = 10;
+		int maxZoom = 19;
+		boolean nightMode = false;
+		Map<String, String> props = new LinkedHashMap<String, String>();
+		for (String a : args) {
+			if (a.startsWith("-style=")) {
+				style = a.substring("-style=".length());
+			} else if (a.startsWith("-searches=")) {
+				searches = Integer.parseInt(a.substring("-searches=".length()));
+			} else if (a.startsWith("-rounds=")) {
+				rounds = Integer.parseInt(a.substring("-rounds=".length()));
+			} else if (a.startsWith("-zooms=")) {
+				String[] z = a.substring("-zooms=".length()).split("-");
+				minZoom = Integer.parseInt(z[0]);
+				maxZoom = Integer.parseInt(z[1]);
+			} else if (a.equals("-nightMode")) {
+				nightMode = true;
+			} else if (a.startsWith("-prop:")) {
+				String p = a.substring("-prop:".length());
+				int i = p.indexOf('=');
+				props.put(p.substring(0, i), p.substring(i + 1));
+			}
+		}
+		if (style == null) {
+			System.out.println("Usage: RenderingRulesBenchmark -style=PATH/default.render.xml [-searches=N] "
+					+ "[-rounds=N] [-zooms=MIN-MAX] [-nightMode] [-prop:NAME=VALUE]...");
+			return;
+		}
+		RenderingRulesStorage storage = RenderingRulesStorage.loadFromFile(new File(style));
+		List<int[]> keys = new ArrayList<int[]>();
+		for (int state : STATES) {
+			TIntObjectHashMap<RenderingRule> rules = storage.tagValueGlobalRules[state];
+			if (rules != null) {
+				for (int key : rules.keys()) {
+					keys.add(new int[] { state, key });
+				}
+			}
+		}
+		if (keys.isEmpty()) {
+			System.out.println("No rules found in " + style);
+			return;
+		}
+		Random rnd = new Random(37);
+		int[] states = new int[searches];
+		String[] tags = new String[searches];
+		String[] vals = new String[searches];
+		int[] zooms = new int[searches];
+		for (int i = 0; i < searches; i++) {
+			int[] k = keys.get(rnd.nextInt(keys.size()));
+			states[i] = k[0];
+			tags[i] = storage.getStringValue(k[1] >> 16);
+			vals[i] = storage.getStringValue(k[1] & 0xffff);
+			zooms[i] = minZoom + rnd.nextInt(maxZoom - minZoom + 1);
+		}
+		RenderingRuleSearchRequest[] reqs = new RenderingRuleSearchRequest[MODES.length];
+		for (int m = 0; m < MODES.length; m++) {
+			reqs[m] = RenderingRuleSearchRequest.createWithCustomRules(storage, nightMode, props);
+			reqs[m].setCompiledRulesEnabled(m > 0);
+			reqs[m].setCacheEnabled(m > 1);
+		}
+		int mismatches = 0;
+		for (int i = 0; i < searches; i++) {
+			boolean[] found = new boolean[MODES.length];
+			for (int m = 0; m < MODES.length; m++) {
+				found[m] = search(reqs[m], states[i], tags[i], vals[i], zooms[i]);
+			}
+			for (int m = 1; m < MODES.length; m++) {
+				if (found[m] != found[0] || !equalValues(reqs[0], reqs[m])) {
+					if (mismatches++ < 10) {
+						System.out.println("Mismatch " + MODES[m] + " state " + states[i] + " " + tags[i] + "="
+								+ vals[i] + " zoom " + zooms[i]);
+					}
+				}
+			}
+		}
+		System.out.println(String.format("Rules %d, searches %d, mismatches %d", keys.size(), searches, mismatches));
+		for (int r = 0; r < rounds; r++) {
+			StringBuilder line = new StringBuilder("Round " + (r + 1) + ":");
+			for (int m = 0; m < MODES.length; m++) {
+				RenderingRuleSearchRequest req = RenderingRuleSearchRequest.createWithCustomRules(storage, nightMode, props);
+				req.setCompiledRulesEnabled(m > 0);
+				req.setCacheEnabled(m > 1);
+				long start = System.nanoTime();
+				int found = 0;
+				for (int i = 0; i < searches; i++) {
+					if (search(req, states[i], tags[i], vals[i], zooms[i])) {
+						found++;
+					}
+				}
+				double ns = (System.nanoTime() - start) / (double) searches;
+				line.append(String.format(" %s %.0f ns/search (%d found", MODES[m], ns, found));
+				if (m > 1) {
+					line.append(String.format(", %d cache hits", req.getCacheHits()));
+				}
+				line.append(")");
+			}
+			System.out.println(line);
+		}
+	}
+
+	static boolean search(RenderingRuleSearchRequest req, int state, String tag, String value, int zoom) {
+		req.setInitialTagValueZoom(tag, value, zoom, null);
+		if (state == RenderingRulesStorage.ORDER_RULES) {
+			req.setIntFilter(req.ALL.R_LAYER, 0);
+			req.setBooleanFilter(req.ALL.R_AREA, false);
+		} else if (state == RenderingRulesStorage.TEXT_RULES) {
+			req.setIntFilter(req.ALL.R_TEXT_LENGTH, value.length());
+		}
+		return req.search(state);
+	}
+
+	static boolean equalValues(RenderingRuleSearchRequest r1, RenderingRuleSearchRequest r2) {
+		for (RenderingRuleProperty p : r1.getProperties()) {
+			if (r1.getIntPropertyValue(p) != r2.getIntPropertyValue(p)
+					|| r1.getFloatPropertyValue(p) != r2.getFloatPropertyValue(p)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,371 @@
+package net.osmand.search;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.osmand.ResultMatcher;
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.data.LatLon;
+import net.osmand.osm.MapPoiTypes;
+import net.osmand.search.core.ObjectType;
+import net.osmand.search.core.SearchCoreAPI;
+import net.osmand.search.core.SearchResult;
+import net.osmand.search.core.SearchSettings;
+
+/**
+ * Console utility which replays recorded queries against offline files one keystroke at a time
+ * (as they are typed in search UI) and reports search latencies per query and per api.
+ * Corpus file has one query per line: "query" or "lat;lon;query", lines starting with # are skipped.
+ */
+public class SearchBenchmark {
+
+	public static class Parameters {
+		public File obfDir;
+		public File corpus;
+		public String poiTypes;
+		public LatLon location = new LatLon(0, 0);
+		public String locale = "en";
+		public int keyDelay = 150;
+		public int timeoutBetweenChars = SearchUICore.TIMEOUT_BETWEEN_CHARS;
+		public int timeoutBeforeSearch = SearchUICore.TIMEOUT_BEFORE_SEARCH;
+		public int threads = 0;
+		public boolean prefixRefinement = true;
+		public boolean fuzzySearch = false;
+		public int repeat = 1;
+		public int queryTimeout = 60000;
+
+		public static Parameters init(String[] args) {
+			Parameters p = new Parameters();
+			for (String a : args) {
+				if (a.startsWith("-obfDir=")) {
+					p.obfDir = new File(a.substring("-obfDir=".length()));
+				} else if (a.startsWith("-corpus=")) {
+					p.corpus = new File(a.substring("-corpus=".length()));
+				} else if (a.startsWith("-poiTypes=")) {
+					p.poiTypes = a.substring("-poiTypes=".length());
+				} else if (a.startsWith("-location=")) {
+					String[] pt = a.substring("-location=".length()).split(";");
+					p.location = new LatLon(Double.parseDouble(pt[0]), Double.parseDouble(pt[1]));
+				} else if (a.startsWith("-locale=")) {
+					p.locale = a.substring("-locale=".length());
+				} else if (a.startsWith("-keyDelay=")) {
+					p.keyDelay = Integer.parseInt(a.substring("-keyDelay=".length()));
+				} else if (a.startsWith("-timeoutBetweenChars=")) {
+					p.timeoutBetweenChars = Integer.parseInt(a.substring("-timeoutBetweenChars=".length()));
+				} else if (a.startsWith("-timeoutBeforeSearch=")) {
+					p.timeoutBeforeSearch = Integer.parseInt(a.substring("-timeoutBeforeSearch=".length()));
+				} else if (a.startsWith("-threads=")) {
+					p.threads = Integer.parseInt(a.substring("-threads=".length()));
+				} else if (a.startsWith("-noPrefixRefinement")) {
+					p.prefixRefinement = false;
+				} else if (a.startsWith("-fuzzy")) {
+					p.fuzzySearch = true;
+				} else if (a.startsWith("-repeat=")) {
+					p.repeat = Integer.parseInt(a.substring("-repeat=".length()));
+				} else if (a.startsWith("-queryTimeout=")) {
+					p.queryTimeout = Integer.parseInt(a.substring("-queryTimeout=".length()));
+				}
+			}
+			return p;
+		}
+	}
+
+	private static class KeystrokeStats {
+		final String text;
+		final long start;
+		long filtered = -1;
+		long firstResult = -1;
+		long finished = -1;
+		int results;
+		// time since start when api and its last region search were finished
+		final Map<String, Long> apiFinished = new HashMap<>();
+		final Map<String, Long> apiLastRegion = new HashMap<>();
+		final Map<String, List<Long>> apiRegions = new HashMap<>();
+		final Set<BinaryMapIndexReader> files = new HashSet<>();
+		final CountDownLatch done = new CountDownLatch(1);
+
+		KeystrokeStats(String text) {
+			this.text = text;
+			this.start = System.nanoTime();
+		}
+
+		synchronized void event(SearchResult r) {
+			long time = (System.nanoTime() - start) / 1000000;
+			ObjectType type = r.objectType;
+			if (type == ObjectType.SEARCH_STARTED) {
+				return;
+			} else if (type == ObjectType.FILTER_FINISHED) {
+				filtered = time;
+			} else if (type == ObjectType.SEARCH_FINISHED) {
+				finished = time;
+				done.countDown();
+			} else if (type == ObjectType.SEARCH_API_FINISHED) {
+				apiFinished.put(apiName(r), time);
+			} else if (type == ObjectType.SEARCH_API_REGION_FINISHED) {
+				String api = apiName(r);
+				Long prev = apiLastRegion.get(api);
+				List<Long> l = apiRegions.get(api);
+				if (l == null) {
+					l = new ArrayList<>();
+					apiRegions.put(api, l);
+				}
+				l.add(time - (prev == null ? 0 : prev));
+				apiLastRegion.put(api, time);
+				if (r.file != null) {
+					files.add(r.file);
+				}
+			} else {
+				if (firstResult == -1) {
+					firstResult = time;
+				}
+				results++;
+			}
+		}
+
+		private static String apiName(SearchResult r) {
+			SearchCoreAPI api = (SearchCoreAPI) r.object;
+			return api.getClass().getSimpleName();
+		}
+	}
+
+	private static class ApiStats {
+		final List<Long> finished = new ArrayList<>();
+		final List<Long> regions = new ArrayList<>();
+	}
+
+	private final Parameters params;
+	private final SearchUICore core;
+	private final Map<String, ApiStats> apiStats = new TreeMap<>();
+	private final List<Long> firstResults = new ArrayList<>();
+	private final List<Long> completes = new ArrayList<>();
+	private int keystrokes;
+	private int cancelled;
+	private int timedOut;
+
+	public SearchBenchmark(Parameters params, List<BinaryMapIndexReader> files) {
+		this.params = params;
+		core = new SearchUICore(MapPoiTypes.getDefault(), params.locale, false);
+		core.init();
+		core.setSearchTimeouts(params.timeoutBetweenChars, params.timeoutBeforeSearch);
+		core.setPrefixRefinement(params.prefixRefinement);
+		if (params.threads > 0) {
+			core.setConcurrentSearch(params.threads);
+		}
+		SearchSettings settings = new SearchSettings(files);
+		settings = settings.setLang(params.locale, false);
+		settings = settings.setOriginalLocation(params.location);
+		settings = settings.setFuzzySearch(params.fuzzySearch);
+		core.updateSettings(settings);
+	}
+
+	public void runQuery(LatLon location, String query) throws InterruptedException {
+		if (location != null) {
+			core.updateSettings(core.getSearchSettings().setOriginalLocation(location));
+		}
+		core.resetPhrase();
+		long allocated = getAllocatedBytes();
+		List<KeystrokeStats> typed = new ArrayList<>();
+		for (int i = 1; i <= query.length(); i++) {
+			final KeystrokeStats ks = new KeystrokeStats(query.substring(0, i));
+			typed.add(ks);
+			core.search(ks.text, true, new ResultMatcher<SearchResult>() {
+				@Override
+				public boolean publish(SearchResult object) {
+					ks.event(object);
+					return true;
+				}
+
+				@Override
+				public boolean isCancelled() {
+					return false;
+				}
+			});
+			if (i < query.length()) {
+				Thread.sleep(params.keyDelay);
+			}
+		}
+		KeystrokeStats last = typed.get(typed.size() - 1);
+		boolean completed = last.done.await(params.queryTimeout, TimeUnit.MILLISECONDS);
+		if (!completed) {
+			timedOut++;
+		}
+		allocated = getAllocatedBytes() - allocated;
+		Set<BinaryMapIndexReader> files = new HashSet<>();
+		int completedKeys = 0;
+		for (KeystrokeStats ks : typed) {
+			synchronized (ks) {
+				keystrokes++;
+				files.addAll(ks.files);
+				if (ks.finished == -1) {
+					cancelled++;
+					continue;
+				}
+				completedKeys++;
+				for (Map.Entry<String, Long> e : ks.apiFinished.entrySet()) {
+					getApiStats(e.getKey()).finished.add(e.getValue());
+				}
+				for (Map.Entry<String, List<Long>> e : ks.apiRegions.entrySet()) {
+					getApiStats(e.getKey()).regions.addAll(e.getValue());
+				}
+			}
+		}
+		synchronized (last) {
+			if (last.firstResult != -1) {
+				firstResults.add(last.firstResult);
+			}
+			if (last.finished != -1) {
+				completes.add(last.finished);
+			}
+			System.out.println(String.format("'%s' keys=%d completed=%d results=%d filter=%s first=%s complete=%s files=%d alloc=%s",
+					query, typed.size(), completedKeys, last.results, formatMs(last.filtered),
+					formatMs(last.firstResult), completed ? formatMs(last.finished) : "timeout", files.size(),
+					allocated < 0 ? "n/a" : (allocated >> 10) + "KB"));
+		}
+	}
+
+	private ApiStats getApiStats(String api) {
+		ApiStats s = apiStats.get(api);
+		if (s == null) {
+			s = new ApiStats();
+			apiStats.put(api, s);
+		}
+		return s;
+	}
+
+	public void printSummary() {
+		System.out.println(String.format("Keystrokes %d, searches cancelled by next keystroke %d, timed out queries %d",
+				keystrokes, cancelled, timedOut));
+		System.out.println("Time to first result " + formatPercentiles(firstResults));
+		System.out.println("Time to complete     " + formatPercentiles(completes));
+		for (Map.Entry<String, ApiStats> e : apiStats.entrySet()) {
+			System.out.println(String.format("%-45s finished %s", e.getKey(), formatPercentiles(e.getValue().finished)));
+			System.out.println(String.format("%-45s region   %s", "", formatPercentiles(e.getValue().regions)));
+		}
+	}
+
+	private static String formatMs(long ms) {
+		return ms == -1 ? "-" : ms + "ms";
+	}
+
+	private static String formatPercentiles(List<Long> values) {
+		if (values.isEmpty()) {
+			return "n=0";
+		}
+		List<Long> l = new ArrayList<>(values);
+		Collections.sort(l);
+		long sum = 0;
+		for (long v : l) {
+			sum += v;
+		}
+		return String.format("n=%d avg=%dms p50=%dms p90=%dms max=%dms", l.size(), sum / l.size(),
+				l.get(l.size() / 2), l.get(Math.min(l.size() - 1, l.size() * 9 / 10)), l.get(l.size() - 1));
+	}
+
+	// bytes allocated by all live threads, -1 if not supported by vm
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+			return -1;
+		}
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		if (!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+		long sum = 0;
+		for (long b : sunBean.getThreadAllocatedBytes(sunBean.getAllThreadIds())) {
+			if (b > 0) {
+				sum += b;
+			}
+		}
+		return sum;
+	}
+
+	private static List<BinaryMapIndexReader> openFiles(File dir) throws IOException {
+		List<BinaryMapIndexReader> files = new ArrayList<>();
+		File[] list = dir.listFiles();
+		if (list != null) {
+			for (File f : list) {
+				if (f.getName().endsWith(".obf")) {
+					files.add(new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f));
+				}
+			}
+		}
+		return files;
+	}
+
+	private static List<String> readCorpus(File corpus) throws IOException {
+		List<String> queries = new ArrayList<>();
+		BufferedReader r = new BufferedReader(new InputStreamReader(new FileInputStream(corpus), "UTF-8"));
+		try {
+			String line;
+			while ((line = r.readLine()) != null) {
+				if (line.trim().length() > 0 && !line.startsWith("#")) {
+					queries.add(line);
+				}
+			}
+		} finally {
+			r.close();
+		}
+		return queries;
+	}
+
+	public static void info() {
+		System.out.println("Search benchmark replays queries of corpus file one keystroke at a time and reports search latencies.");
+		System.out.println("\nUsage: -obfDir=PATH -corpus=PATH [-poiTypes=PATH] [-location=lat;lon] [-locale=LANG] [-keyDelay=MS] "
+				+ "[-timeoutBetweenChars=MS] [-timeoutBeforeSearch=MS] [-threads=N] [-noPrefixRefinement] [-fuzzy] "
+				+ "[-repeat=N] [-queryTimeout=MS]");
+		System.out.println("Corpus file has one query per line: 'query' or 'lat;lon;query'");
+	}
+
+	public static void main(String[] args) throws Exception {
+		Parameters params = Parameters.init(args);
+		if (params.obfDir == null || params.corpus == null) {
+			info();
+			return;
+		}
+		if (params.poiTypes != null) {
+			MapPoiTypes.setDefault(new MapPoiTypes(params.poiTypes));
+		}
+		long time = System.currentTimeMillis();
+		List<BinaryMapIndexReader> files = openFiles(params.obfDir);
+		System.out.println("Opened " + files.size() + " files in " + (System.currentTimeMillis() - time) + "ms");
+		List<String> queries = readCorpus(params.corpus);
+		SearchBenchmark benchmark = new SearchBenchmark(params, files);
+		for (int i = 0; i < params.repeat; i++) {
+			for (String q : queries) {
+				String[] s = q.split(";", 3);
+				LatLon l = null;
+				if (s.length == 3) {
+					try {
+						l = new LatLon(Double.parseDouble(s[0]), Double.parseDouble(s[1]));
+					} catch (NumberFormatException e) {
+						// query contains ';'
+					}
+				}
+				if (l != null) {
+					benchmark.runQuery(l, s[2]);
+				} else {
+					benchmark.runQuery(params.location, q);
+				}
+			}
+		}
+		benchmark.printSummary();
+		System.exit(0);
+	}
+}
@@ -1,22 +1,42 @@
 package net.osmand.search;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import net.osmand.OsmAndCollator;
+import net.osmand.ResultMatcher;
+import net.osmand.binary.BinaryMapIndexReader;
+import net.osmand.binary.ObfFixtureBuilder;
+import net.osmand.binary.ObfFixtureBuilder.CityData;
+import net.osmand.data.City.CityType;
 import net.osmand.data.LatLon;
+import net.osmand.osm.MapPoiTypes;
 import net.osmand.search.SearchUICore.SearchResultCollection;
+import net.osmand.search.core.ObjectType;
 import net.osmand.search.core.SearchPhrase;
+import net.osmand.search.core.SearchPhrase.SearchPhraseDataType;
 import net.osmand.search.core.SearchResult;
 import net.osmand.search.core.SearchSettings;
 import net.osmand.util.MapUtils;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class SearchCoreUITest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testDuplicates() throws IOException {
 		SearchSettings ss = new SearchSettings((SearchSettings)null);
@@ -92,6 +112,205 @@ public class SearchCoreUITest {
 		
 	}
 
+	@Test
+	public void testDuplicatesOfIncrementalAdditions() throws IOException {
+		SearchSettings ss = new SearchSettings((SearchSettings)null);
+		ss = ss.setOriginalLocation(new LatLon(0, 0));
+		SearchPhrase phrase = new SearchPhrase(ss, OsmAndCollator.primaryCollator());
+		SearchResultCollection cll = new SearchUICore.SearchResultCollection(phrase);
+		List<SearchResult> rs = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			searchResult(rs, phrase, "r" + i, 1000 + i * 1000);
+		}
+		cll.addSearchResults(rs, false, true);
+		Assert.assertEquals(30, cll.getCurrentSearchResults().size());
+		rs.clear();
+
+		// duplicates are found among all current results, not only among last ones
+		searchResult(rs, phrase, "r0", 1010);
+		searchResult(rs, phrase, "r15", 16020);
+		SearchResult far = searchResult(rs, phrase, "r1", 2500);
+		SearchResult added = searchResult(rs, phrase, "new", 500);
+		cll.addSearchResults(rs, false, true);
+		List<SearchResult> res = cll.getCurrentSearchResults();
+		Assert.assertEquals(32, res.size());
+		// new results are appended in sorted order
+		Assert.assertSame(added, res.get(30));
+		Assert.assertSame(far, res.get(31));
+		rs.clear();
+
+		// results added without check are still used to find duplicates
+		SearchResult unchecked = searchResult(rs, phrase, "unchecked", 100000);
+		cll.addSearchResults(rs, false, false);
+		rs.clear();
+		searchResult(rs, phrase, "unchecked", 100005);
+		searchResult(rs, phrase, "new", 510);
+		cll.addSearchResults(rs, false, true);
+		Assert.assertEquals(33, cll.getCurrentSearchResults().size());
+		Assert.assertSame(unchecked, cll.getCurrentSearchResults().get(32));
+		rs.clear();
+
+		// resorted results are filtered completely
+		searchResult(rs, phrase, "r29", 30000);
+		searchResult(rs, phrase, "r29", 30001);
+		cll.addSearchResults(rs, true, true);
+		Assert.assertEquals(33, cll.getCurrentSearchResults().size());
+	}
+
+	@Test
+	public void testRefineShortWord() throws IOException, InterruptedException {
+		ObfFixtureBuilder.initPoiTypes("shop");
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		CityData city = b.addCity(CityType.CITY, 1, "Springfield", 50.0, 10.0);
+		b.addStreet(city, 11, "Abcde Street", 50.001, 10.001);
+		b.addPoi(101, "shop", "bakery", "Abc Bakery", 50.002, 10.002);
+		File f = b.write(folder.newFile("Region.obf"));
+		BinaryMapIndexReader reader = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+		try {
+			SearchUICore core = new SearchUICore(MapPoiTypes.getDefaultNoInit(), "en", false);
+			core.init();
+			core.setSearchTimeouts(0, 0);
+			core.updateSettings(core.getSearchSettings().setOriginalLocation(new LatLon(50.0, 10.0)));
+			core.setOfflineIndexes(Collections.singletonList(reader), null);
+
+			// streets are not searched for word of 3 characters
+			Assert.assertEquals(Collections.singletonList("Abc Bakery"), search(core, "abc"));
+			List<String> names = search(core, "abcd");
+			Assert.assertTrue(names.toString(), names.contains("Abcde Street"));
+			Assert.assertFalse(names.contains("Abc Bakery"));
+			// refined from cached results
+			Assert.assertEquals(Collections.singletonList("Abcde Street"), search(core, "abcde"));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testConcurrentSearchMergesAsSequential() throws IOException, InterruptedException {
+		ObfFixtureBuilder.initPoiTypes("shop", "sustenance");
+		List<BinaryMapIndexReader> readers = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			double lat = 50.0 + i * 0.1;
+			ObfFixtureBuilder b = new ObfFixtureBuilder("Region" + i);
+			CityData city = b.addCity(CityType.CITY, 1 + i * 10, "Mainburg " + i, lat, 10.0);
+			b.addStreet(city, 11 + i * 10, "Main Street " + i, lat + 0.001, 10.001);
+			b.addStreet(city, 12 + i * 10, "Mainland Road " + i, lat + 0.002, 10.002);
+			b.addCity(CityType.VILLAGE, 2 + i * 10, "Maintal " + i, lat + 0.05, 10.05);
+			b.addPoi(101 + i * 10, "shop", "bakery", "Main Bakery " + i, lat + 0.003, 10.003);
+			b.addPoi(102 + i * 10, "sustenance", "cafe", "Main Cafe " + i, lat + 0.004, 10.004);
+			b.addPoi(103 + i * 10, "shop", "kiosk", "Other Kiosk " + i, lat + 0.005, 10.005);
+			File f = b.write(folder.newFile("Region" + i + ".obf"));
+			readers.add(new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f));
+		}
+		try {
+			SearchUICore core = new SearchUICore(MapPoiTypes.getDefaultNoInit(), "en", false);
+			core.init();
+			core.setSearchTimeouts(0, 0);
+			core.updateSettings(core.getSearchSettings().setOriginalLocation(new LatLon(50.0, 10.0)));
+			core.setOfflineIndexes(readers, null);
+
+			List<String> published = new ArrayList<>();
+			List<String> sequential = search(core, "main", published);
+			Assert.assertTrue(sequential.toString(), sequential.contains("Main Street 1"));
+			Assert.assertTrue(sequential.toString(), sequential.contains("Main Bakery 0"));
+			Assert.assertFalse(sequential.contains("Other Kiosk 0"));
+
+			core.setConcurrentSearch(3);
+			for (int i = 0; i < 5; i++) {
+				core.resetPhrase();
+				List<String> concurrentPublished = new ArrayList<>();
+				Assert.assertEquals(sequential, search(core, "main", concurrentPublished));
+				// results reach matcher in the same order
+				Assert.assertEquals(published, concurrentPublished);
+			}
+			core.setConcurrentSearch(0);
+		} finally {
+			for (BinaryMapIndexReader r : readers) {
+				r.close();
+			}
+		}
+	}
+
+	@Test
+	public void testOfflineIndexesInBoxKeepOrder() throws IOException {
+		ObfFixtureBuilder.initPoiTypes("shop");
+		List<BinaryMapIndexReader> readers = new ArrayList<>();
+		try {
+			// diff is farther from location than its main file
+			BinaryMapIndexReader diff = poiFile(readers, "Region_europe_19_01_00.obf", 50.02, 10.02);
+			BinaryMapIndexReader main = poiFile(readers, "Region_europe_2.obf", 50.0, 10.0);
+			BinaryMapIndexReader far = poiFile(readers, "Far_europe_2.obf", 52.0, 12.0);
+			BinaryMapIndexReader middle = poiFile(readers, "Middle_europe_2.obf", 50.01, 10.01);
+			SearchSettings ss = new SearchSettings(readers).setOriginalLocation(new LatLon(50.0, 10.0));
+			SearchPhrase phrase = new SearchPhrase(ss, OsmAndCollator.primaryCollator());
+			Assert.assertEquals(Arrays.asList(diff, main, middle),
+					toList(phrase.getRadiusOfflineIndexes(5000, SearchPhraseDataType.POI)));
+			Assert.assertEquals(Arrays.asList(main), toList(phrase.getRadiusOfflineIndexes(100,
+					SearchPhraseDataType.POI)));
+
+			// diff goes before its main file after sorting, files without location keep their order
+			phrase.sortFiles();
+			Assert.assertEquals(Arrays.asList(diff, main, far, middle), phrase.getOfflineIndexes());
+			Assert.assertEquals(Arrays.asList(diff, main, middle),
+					toList(phrase.getRadiusOfflineIndexes(5000, SearchPhraseDataType.POI)));
+		} finally {
+			for (BinaryMapIndexReader r : readers) {
+				r.close();
+			}
+		}
+	}
+
+	private BinaryMapIndexReader poiFile(List<BinaryMapIndexReader> readers, String name, double lat, double lon)
+			throws IOException {
+		ObfFixtureBuilder b = new ObfFixtureBuilder("Region");
+		b.addPoi(readers.size() + 1, "shop", "bakery", "Bakery", lat, lon);
+		File f = b.write(folder.newFile(name));
+		BinaryMapIndexReader r = new BinaryMapIndexReader(new RandomAccessFile(f, "r"), f);
+		readers.add(r);
+		return r;
+	}
+
+	private static <T> List<T> toList(Iterator<T> it) {
+		List<T> l = new ArrayList<>();
+		while (it.hasNext()) {
+			l.add(it.next());
+		}
+		return l;
+	}
+
+	private static List<String> search(SearchUICore core, String text) throws InterruptedException {
+		return search(core, text, new ArrayList<String>());
+	}
+
+	private static List<String> search(SearchUICore core, String text, final List<String> published)
+			throws InterruptedException {
+		final CountDownLatch finished = new CountDownLatch(1);
+		core.search(text, false, new ResultMatcher<SearchResult>() {
+			@Override
+			public boolean publish(SearchResult object) {
+				if (object.objectType == ObjectType.SEARCH_FINISHED) {
+					finished.countDown();
+				} else if (object.localeName != null) {
+					synchronized (published) {
+						published.add(object.objectType + " " + object.localeName);
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public boolean isCancelled() {
+				return false;
+			}
+		});
+		Assert.assertTrue(finished.await(10, TimeUnit.SECONDS));
+		List<String> names = new ArrayList<>();
+		for (SearchResult r : core.getCurrentSearchResult().getCurrentSearchResults()) {
+			names.add(r.localeName);
+		}
+		return names;
+	}
+
 	private SearchResult searchResult(List<SearchResult> rs, SearchPhrase phrase, String text, int dist) {
 		SearchResult res = new SearchResult(phrase);
 		res.localeName = text;
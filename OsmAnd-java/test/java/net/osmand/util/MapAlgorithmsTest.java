@@ -0,0 +1,136 @@
+package net.osmand.util;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MapAlgorithmsTest {
+
+	@Test
+	public void testSimplifyDouglasPeucker() {
+		// almost straight line with one corner
+		TIntArrayList line = new TIntArrayList(new int[] { 0, 0, 100, 1, 200, -1, 300, 0, 300, 300 });
+		TIntArrayList result = new TIntArrayList();
+		MapAlgorithms.simplifyDouglasPeucker(line, 2, result);
+		Assert.assertEquals(new TIntArrayList(new int[] { 0, 0, 300, 0, 300, 300 }), result);
+		MapAlgorithms.simplifyDouglasPeucker(line, 0.5, result);
+		Assert.assertEquals(line, result);
+
+		// closed ring keeps its shape
+		TIntArrayList ring = new TIntArrayList(new int[] { 0, 0, 50, 1, 100, 0, 100, 100, 0, 100, 0, 0 });
+		MapAlgorithms.simplifyDouglasPeucker(ring, 2, result);
+		Assert.assertEquals(new TIntArrayList(new int[] { 0, 0, 100, 0, 100, 100, 0, 100, 0, 0 }), result);
+	}
+
+	@Test
+	public void testSimplifyKeepsCollinearHairpin() {
+		// road goes east and returns back along the same line
+		TIntArrayList hairpin = new TIntArrayList(new int[] { 0, 0, 100, 0, 1000, 0, 500, 0 });
+		TIntArrayList result = new TIntArrayList();
+		MapAlgorithms.simplifyDouglasPeucker(hairpin, 2, result);
+		Assert.assertEquals(new TIntArrayList(new int[] { 0, 0, 1000, 0, 500, 0 }), result);
+		// turn point before first point of segment
+		TIntArrayList back = new TIntArrayList(new int[] { 500, 0, -300, 1, 1000, 0 });
+		MapAlgorithms.simplifyDouglasPeucker(back, 2, result);
+		Assert.assertEquals(back, result);
+		// collinear points inside segment are still removed
+		TIntArrayList straight = new TIntArrayList(new int[] { 0, 0, 300, 0, 600, 0, 1000, 0 });
+		MapAlgorithms.simplifyDouglasPeucker(straight, 2, result);
+		Assert.assertEquals(new TIntArrayList(new int[] { 0, 0, 1000, 0 }), result);
+	}
+
+	@Test
+	public void testPolygonArea() {
+		int base = 1 << 30;
+		TIntArrayList square = new TIntArrayList(new int[] { base, base, base + 10, base, base + 10, base + 10, base,
+				base + 10, base, base });
+		Assert.assertEquals(100, MapAlgorithms.polygonArea(square), 0);
+		TIntArrayList triangle = new TIntArrayList(new int[] { 0, 0, 0, 20, 10, 0 });
+		Assert.assertEquals(100, MapAlgorithms.polygonArea(triangle), 0);
+	}
+
+	@Test
+	public void testClipPolygonInsideAndOutside() {
+		TIntArrayList square = new TIntArrayList(new int[] { 10, 10, 20, 10, 20, 20, 10, 20, 10, 10 });
+		// inside polygon is kept as it is
+		Assert.assertSame(square, MapAlgorithms.clipPolygon(square, 0, 100, 100, 0));
+		Assert.assertSame(square, MapAlgorithms.clipPolygon(square, 10, 20, 20, 10));
+		Assert.assertNull(MapAlgorithms.clipPolygon(square, 30, 100, 100, 0));
+		Assert.assertNull(MapAlgorithms.clipPolygon(square, 0, 5, 100, 0));
+		Assert.assertNull(MapAlgorithms.clipPolygon(square, 0, 100, 100, 21));
+		Assert.assertNull(MapAlgorithms.clipPolygon(square, 0, 100, 9, 0));
+		// box of polygon intersects rectangle, but polygon doesn't
+		TIntArrayList triangle = new TIntArrayList(new int[] { 0, 0, 100, 0, 0, 100, 0, 0 });
+		Assert.assertNull(MapAlgorithms.clipPolygon(triangle, 80, 100, 100, 80));
+		Assert.assertNull(MapAlgorithms.clipPolygon(new TIntArrayList(new int[] { 0, 0, 10, 10 }), 0, 5, 5, 0));
+	}
+
+	@Test
+	public void testClipPolygonCrossingCorner() {
+		TIntArrayList square = new TIntArrayList(new int[] { 10, 10, 20, 10, 20, 20, 10, 20, 10, 10 });
+		// top left corner of rectangle is inside polygon
+		TIntList clipped = MapAlgorithms.clipPolygon(square, 15, 100, 100, 15);
+		assertClosedInBox(clipped, 15, 100, 100, 15);
+		Assert.assertEquals(25, MapAlgorithms.polygonArea(clipped), 0);
+		// bottom right corner
+		clipped = MapAlgorithms.clipPolygon(square, 0, 12, 14, 0);
+		assertClosedInBox(clipped, 0, 12, 14, 0);
+		Assert.assertEquals(8, MapAlgorithms.polygonArea(clipped), 0);
+		// not closed ring is closed by clipping
+		TIntArrayList open = new TIntArrayList(new int[] { 10, 10, 20, 10, 20, 20, 10, 20 });
+		clipped = MapAlgorithms.clipPolygon(open, 15, 100, 100, 15);
+		assertClosedInBox(clipped, 15, 100, 100, 15);
+		Assert.assertEquals(25, MapAlgorithms.polygonArea(clipped), 0);
+		// diagonal edge crosses rectangle
+		TIntArrayList triangle = new TIntArrayList(new int[] { 0, 0, 100, 0, 0, 100, 0, 0 });
+		clipped = MapAlgorithms.clipPolygon(triangle, 40, 60, 60, 40);
+		assertClosedInBox(clipped, 40, 60, 60, 40);
+		Assert.assertEquals(200, MapAlgorithms.polygonArea(clipped), 0);
+		// rectangle is inside polygon
+		clipped = MapAlgorithms.clipPolygon(square, 12, 14, 14, 12);
+		assertClosedInBox(clipped, 12, 14, 14, 12);
+		Assert.assertEquals(4, MapAlgorithms.polygonArea(clipped), 0);
+	}
+
+	@Test
+	public void testClipPolygonAtAntimeridian() {
+		int max = Integer.MAX_VALUE;
+		int tile = 1 << 24;
+		int overlap = tile >> 5;
+		// polygon around antimeridian is split into parts at both sides of world
+		TIntArrayList east = new TIntArrayList(new int[] { max - 1000, 100, max, 100, max, 300, max - 1000, 300,
+				max - 1000, 100 });
+		TIntArrayList west = new TIntArrayList(new int[] { 0, 100, 1000, 100, 1000, 300, 0, 300, 0, 100 });
+		// bounds of tiles at world edges with overlap are out of 31 coordinates range
+		long lastLeft = (long) max + 1 - tile - overlap;
+		long lastRight = (long) max + overlap;
+		Assert.assertSame(east, MapAlgorithms.clipPolygon(east, lastLeft, lastRight, tile + overlap, -overlap));
+		Assert.assertNull(MapAlgorithms.clipPolygon(west, lastLeft, lastRight, tile + overlap, -overlap));
+		Assert.assertSame(west, MapAlgorithms.clipPolygon(west, -overlap, tile + overlap, tile + overlap, -overlap));
+		Assert.assertNull(MapAlgorithms.clipPolygon(east, -overlap, tile + overlap, tile + overlap, -overlap));
+		// polygon crossing bottom of tile is clipped only there, other bounds don't overflow
+		TIntArrayList tall = new TIntArrayList(new int[] { max - 1000, 100, max, 100, max, 2 * tile, max - 1000,
+				2 * tile, max - 1000, 100 });
+		TIntList clipped = MapAlgorithms.clipPolygon(tall, lastLeft, lastRight, tile - 1, -overlap);
+		assertClosedInBox(clipped, max - 1000, max, tile - 1, 100);
+		Assert.assertEquals(1000. * (tile - 1 - 100), MapAlgorithms.polygonArea(clipped), 0);
+		// edge going across the whole world is clipped by tile at the western edge
+		TIntArrayList across = new TIntArrayList(new int[] { 0, 0, max, 0, max, 1000, 0, 1000, 0, 0 });
+		clipped = MapAlgorithms.clipPolygon(across, -overlap, tile + overlap, tile + overlap, -overlap);
+		assertClosedInBox(clipped, 0, tile + overlap, 1000, 0);
+		Assert.assertEquals(1000. * (tile + overlap), MapAlgorithms.polygonArea(clipped), 0);
+	}
+
+	private static void assertClosedInBox(TIntList points, long leftX, long rightX, long bottomY, long topY) {
+		Assert.assertNotNull(points);
+		Assert.assertTrue(points.size() >= 8);
+		Assert.assertEquals(points.get(0), points.get(points.size() - 2));
+		Assert.assertEquals(points.get(1), points.get(points.size() - 1));
+		for (int i = 0; i < points.size(); i += 2) {
+			Assert.assertTrue(points.get(i) >= leftX && points.get(i) <= rightX);
+			Assert.assertTrue(points.get(i + 1) >= topY && points.get(i + 1) <= bottomY);
+		}
+	}
+}
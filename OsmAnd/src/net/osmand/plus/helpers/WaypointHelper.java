@@ -4,13 +4,17 @@ import android.content.Context;
 import android.graphics.drawable.Drawable;
 
 import net.osmand.Location;
+import net.osmand.ResultMatcher;
+import net.osmand.binary.BinaryMapIndexReader.SearchPoiTypeFilter;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteTypeRule;
+import net.osmand.binary.RouteCorridor;
 import net.osmand.binary.RouteDataObject;
 import net.osmand.data.Amenity;
 import net.osmand.data.Amenity.AmenityRoutePoint;
 import net.osmand.data.LocationPoint;
 import net.osmand.data.PointDescription;
+import net.osmand.osm.PoiCategory;
 import net.osmand.osm.PoiType;
 import net.osmand.plus.ApplicationMode;
 import net.osmand.plus.OsmAndFormatter;
@@ -597,13 +601,14 @@ public class WaypointHelper {
 	protected void calculatePoi(RouteCalculationResult route, List<LocationPointWrapper> locationPoints, boolean announcePOI) {
 		if (app.getPoiFilters().isShowingAnyPoi()) {
 			final List<Location> locs = route.getImmutableAllLocations();
-			List<Amenity> amenities = new ArrayList<>();
-			for (PoiUIFilter pf : app.getPoiFilters().getSelectedPoiFilters()) {
-                amenities.addAll(pf.searchAmenitiesOnThePath(locs, poiSearchDeviationRadius));
-			}
+			// all selected filters are searched in one pass along the route
+			RouteCorridor corridor = new RouteCorridor(locs, poiSearchDeviationRadius);
+			List<PoiUIFilter> filters = new ArrayList<>(app.getPoiFilters().getSelectedPoiFilters());
+			List<Amenity> amenities = app.getResourceManager().searchAmenitiesOnThePath(corridor,
+					new CombinedPoiTypeFilter(filters), new CombinedPoiResultMatcher(filters));
 			for (Amenity a : amenities) {
 				AmenityRoutePoint rp = a.getRoutePoint();
-				int i = locs.indexOf(rp.pointA);
+				int i = rp.pointAIndex >= 0 ? rp.pointAIndex : locs.indexOf(rp.pointA);
 				if (i >= 0) {
 					LocationPointWrapper lwp = new LocationPointWrapper(route, POI, new AmenityLocationPoint(a),
 							(float) rp.deviateDistance, i);
@@ -616,6 +621,68 @@ public class WaypointHelper {
 	}
 
 
+	private static class CombinedPoiTypeFilter implements SearchPoiTypeFilter {
+		private final List<PoiUIFilter> filters;
+
+		CombinedPoiTypeFilter(List<PoiUIFilter> filters) {
+			this.filters = filters;
+		}
+
+		@Override
+		public boolean accept(PoiCategory type, String subcategory) {
+			for (PoiUIFilter f : filters) {
+				if (f.accept(type, subcategory)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			for (PoiUIFilter f : filters) {
+				if (!f.isEmpty()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	// publishes amenity if it is accepted by any filter which type matches amenity
+	private static class CombinedPoiResultMatcher implements ResultMatcher<Amenity> {
+		private final List<PoiUIFilter> filters;
+		private final List<ResultMatcher<Amenity>> matchers = new ArrayList<>();
+
+		CombinedPoiResultMatcher(List<PoiUIFilter> filters) {
+			this.filters = filters;
+			for (PoiUIFilter f : filters) {
+				matchers.add(f.wrapResultMatcher(null));
+			}
+		}
+
+		@Override
+		public boolean publish(Amenity a) {
+			String[] subtypes = a.getSubType() == null ? new String[] { null } : a.getSubType().split(";");
+			for (int i = 0; i < filters.size(); i++) {
+				for (String subtype : subtypes) {
+					if (filters.get(i).accept(a.getType(), subtype)) {
+						if (matchers.get(i).publish(a)) {
+							return true;
+						}
+						break;
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return false;
+		}
+	}
+
 	private void calculateAlarms(RouteCalculationResult route, List<LocationPointWrapper> array, ApplicationMode mode) {
 		AlarmInfo prevSpeedCam = null;
 		for (AlarmInfo i : route.getAlarmInfo()) {
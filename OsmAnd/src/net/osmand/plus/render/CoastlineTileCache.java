@@ -0,0 +1,161 @@
+package net.osmand.plus.render;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.util.MapAlgorithms;
+
+/**
+ * Land/water polygons resolved from coastlines once per tile of rendering zoom (the same tiles as data box is
+ * aligned to). Coastline rings are unified only for tiles which are not cached yet and resulting polygons are
+ * clipped by tile bounds, so when map is moved already resolved tiles are stitched without processing coastlines
+ * again. Cache is limited by number of polygon points, least recently used tiles are removed first.
+ */
+class CoastlineTileCache {
+
+	interface CoastlineProcessor {
+
+		/**
+		 * Adds land/water polygons of the box to result
+		 * @return true if box contains coastline rings (otherwise box is filled by one type or not filled)
+		 */
+		boolean processCoastlines(int leftX, int rightX, int bottomY, int topY, List<BinaryMapDataObject> result);
+	}
+
+	// about 8 MB of coordinates (2 ints per point)
+	private static final int MAX_POINTS = 1 << 20;
+	// polygons of neighbour tiles overlap by 1/32 of tile to not see seams between them
+	private static final int OVERLAP_SHIFT = 5;
+
+	private final Map<Long, List<BinaryMapDataObject>> tiles = new LinkedHashMap<Long, List<BinaryMapDataObject>>(
+			64, 0.75f, true);
+	private int points;
+
+	private static int getTileShift(int zoom) {
+		return 31 - zoom;
+	}
+
+	// 31 coordinate of the last point of tile containing x (or y)
+	private static int alignToTileEnd(int x, int shift) {
+		return (int) ((((long) (x >> shift) + 1) << shift) - 1);
+	}
+
+	public synchronized void clear() {
+		tiles.clear();
+		points = 0;
+	}
+
+	/**
+	 * Adds polygons of all tiles intersecting the box, missing tiles are processed together.
+	 * Box should contain complete tiles and all coastlines intersecting it should be passed to processor.
+	 */
+	public synchronized void getPolygons(int zoom, int leftX, int rightX, int bottomY, int topY,
+			boolean coastlinesPresent, CoastlineProcessor processor, List<BinaryMapDataObject> result) {
+		int shift = getTileShift(zoom);
+		int tLeft = leftX >> shift;
+		int tRight = rightX >> shift;
+		int tTop = topY >> shift;
+		int tBottom = bottomY >> shift;
+		int mLeft = Integer.MAX_VALUE;
+		int mRight = -1;
+		int mTop = Integer.MAX_VALUE;
+		int mBottom = -1;
+		for (int ty = tTop; ty <= tBottom; ty++) {
+			for (int tx = tLeft; tx <= tRight; tx++) {
+				if (!tiles.containsKey(key(zoom, tx, ty))) {
+					mLeft = Math.min(mLeft, tx);
+					mRight = Math.max(mRight, tx);
+					mTop = Math.min(mTop, ty);
+					mBottom = Math.max(mBottom, ty);
+				}
+			}
+		}
+		if (mRight >= 0) {
+			List<BinaryMapDataObject> polygons = new ArrayList<BinaryMapDataObject>();
+			boolean rings = processor.processCoastlines(mLeft << shift, alignToTileEnd(mRight << shift, shift),
+					alignToTileEnd(mBottom << shift, shift), mTop << shift, polygons);
+			boolean partial = mLeft != tLeft || mRight != tRight || mTop != tTop || mBottom != tBottom;
+			if (!rings && coastlinesPresent && partial) {
+				// missing tiles don't have coastlines, so it is not known whether they are land or water
+				polygons.clear();
+				processor.processCoastlines(leftX, rightX, bottomY, topY, polygons);
+				mLeft = tLeft;
+				mRight = tRight;
+				mTop = tTop;
+				mBottom = tBottom;
+			}
+			int overlap = 1 << Math.max(0, shift - OVERLAP_SHIFT);
+			for (int ty = mTop; ty <= mBottom; ty++) {
+				for (int tx = mLeft; tx <= mRight; tx++) {
+					Long k = key(zoom, tx, ty);
+					if (!tiles.containsKey(k)) {
+						long l = ((long) tx << shift) - overlap;
+						long r = (((long) tx + 1) << shift) - 1 + overlap;
+						long t = ((long) ty << shift) - overlap;
+						long b = (((long) ty + 1) << shift) - 1 + overlap;
+						List<BinaryMapDataObject> tile = clipPolygons(polygons, l, r, b, t);
+						tiles.put(k, tile);
+						points += countPoints(tile);
+					}
+				}
+			}
+		}
+		for (int ty = tTop; ty <= tBottom; ty++) {
+			for (int tx = tLeft; tx <= tRight; tx++) {
+				List<BinaryMapDataObject> tile = tiles.get(key(zoom, tx, ty));
+				if (tile != null) {
+					result.addAll(tile);
+				}
+			}
+		}
+		Iterator<List<BinaryMapDataObject>> it = tiles.values().iterator();
+		while (points > MAX_POINTS && it.hasNext()) {
+			points -= countPoints(it.next());
+			it.remove();
+		}
+	}
+
+	private static int countPoints(List<BinaryMapDataObject> polygons) {
+		int cnt = 0;
+		for (BinaryMapDataObject o : polygons) {
+			cnt += o.getPointsLength();
+		}
+		return cnt;
+	}
+
+	private static Long key(int zoom, int tx, int ty) {
+		return Long.valueOf(((long) zoom << 58) | ((long) tx << 29) | ty);
+	}
+
+	private static List<BinaryMapDataObject> clipPolygons(List<BinaryMapDataObject> polygons, long leftX, long rightX,
+			long bottomY, long topY) {
+		List<BinaryMapDataObject> res = null;
+		for (BinaryMapDataObject o : polygons) {
+			int len = o.getPointsLength();
+			TIntList points = new TIntArrayList(len * 2);
+			for (int i = 0; i < len; i++) {
+				points.add(o.getPoint31XTile(i));
+				points.add(o.getPoint31YTile(i));
+			}
+			TIntList clipped = MapAlgorithms.clipPolygon(points, leftX, rightX, bottomY, topY);
+			if (clipped != null) {
+				BinaryMapDataObject c = new BinaryMapDataObject(o.getId(), clipped.toArray(), new int[0][],
+						o.getObjectType(), true, o.getTypes(), o.getAdditionalTypes());
+				c.setMapIndex(o.getMapIndex());
+				if (res == null) {
+					res = new ArrayList<BinaryMapDataObject>();
+				}
+				res.add(c);
+			}
+		}
+		return res == null ? Collections.<BinaryMapDataObject>emptyList() : res;
+	}
+}
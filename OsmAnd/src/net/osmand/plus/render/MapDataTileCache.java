@@ -0,0 +1,306 @@
+package net.osmand.plus.render;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.osmand.binary.BinaryMapDataObject;
+import net.osmand.binary.BinaryMapIndexReader.MapIndex;
+
+/**
+ * Decoded map objects kept per tile of rendering zoom, so moving map or zooming in and out around one place
+ * doesn't read the same data from files again. Objects intersecting several tiles are shared by them.
+ * Tiles of one zoom are not reused for other zooms, as objects are read from map levels of zoom, filtered
+ * by rules of zoom and simplified for zoom.
+ * Cache is limited by estimated memory of objects, least recently used tiles are removed first.
+ */
+class MapDataTileCache {
+
+	static class TileData {
+		final List<BinaryMapDataObject> mapObjects = new ArrayList<BinaryMapDataObject>();
+		final List<BinaryMapDataObject> routeObjects = new ArrayList<BinaryMapDataObject>();
+		final List<BinaryMapDataObject> basemapObjects = new ArrayList<BinaryMapDataObject>();
+		final List<BinaryMapDataObject> coastLines = new ArrayList<BinaryMapDataObject>();
+		final List<BinaryMapDataObject> basemapCoastLines = new ArrayList<BinaryMapDataObject>();
+		MapIndex mapIndex;
+		boolean ocean;
+		boolean land;
+		// 1 (if basemap) + 2 (if normal map)
+		int renderedState;
+		int count;
+		long bytesRead;
+		long memory;
+
+		private List<BinaryMapDataObject> getList(int kind) {
+			switch (kind) {
+			case 0:
+				return mapObjects;
+			case 1:
+				return coastLines;
+			case 2:
+				return routeObjects;
+			case 3:
+				return basemapObjects;
+			default:
+				return basemapCoastLines;
+			}
+		}
+	}
+
+	private static final int LISTS = 5;
+
+	private final Map<Long, TileData> tiles = new LinkedHashMap<Long, TileData>(64, 0.75f, true);
+	private final long maxMemory;
+	private long memory;
+	private int hits;
+	private int misses;
+	private int prefetched;
+	// changed when cache is cleared, so data read before is not put to the cache
+	private int generation;
+
+	public MapDataTileCache(long maxMemory) {
+		this.maxMemory = maxMemory;
+	}
+
+	private static int getTileShift(int zoom) {
+		return 31 - zoom;
+	}
+
+	/**
+	 * @return 31 coordinate of the first point of tile containing x (or y)
+	 */
+	public static int alignToTileStart(int x, int zoom) {
+		int shift = getTileShift(zoom);
+		return (x >> shift) << shift;
+	}
+
+	/**
+	 * @return 31 coordinate of the last point of tile containing x (or y)
+	 */
+	public static int alignToTileEnd(int x, int zoom) {
+		int shift = getTileShift(zoom);
+		return (int) ((((long) (x >> shift) + 1) << shift) - 1);
+	}
+
+	private static Long key(int zoom, int tx, int ty) {
+		return Long.valueOf(((long) zoom << 58) | ((long) tx << 29) | ty);
+	}
+
+	public synchronized void clear() {
+		tiles.clear();
+		memory = 0;
+		generation++;
+	}
+
+	public synchronized int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * @return 31 bounds (left, right, bottom, top) of tiles which are not cached yet or null if box is cached
+	 */
+	public synchronized int[] getMissingBox(int zoom, int leftX, int rightX, int bottomY, int topY, boolean count) {
+		int shift = getTileShift(zoom);
+		int mLeft = Integer.MAX_VALUE;
+		int mRight = -1;
+		int mTop = Integer.MAX_VALUE;
+		int mBottom = -1;
+		for (int ty = topY >> shift; ty <= bottomY >> shift; ty++) {
+			for (int tx = leftX >> shift; tx <= rightX >> shift; tx++) {
+				if (tiles.get(key(zoom, tx, ty)) == null) {
+					mLeft = Math.min(mLeft, tx);
+					mRight = Math.max(mRight, tx);
+					mTop = Math.min(mTop, ty);
+					mBottom = Math.max(mBottom, ty);
+					if (count) {
+						misses++;
+					}
+				} else if (count) {
+					hits++;
+				}
+			}
+		}
+		if (mRight < 0) {
+			return null;
+		}
+		return new int[] { mLeft << shift, alignToTileEnd(mRight << shift, zoom), alignToTileEnd(mBottom << shift, zoom),
+				mTop << shift };
+	}
+
+	/**
+	 * Splits data read for the box by tiles which are not cached yet
+	 * @param generation generation of cache when reading started, data is dropped if cache was cleared since
+	 */
+	public synchronized void putData(int zoom, int leftX, int rightX, int bottomY, int topY, TileData data,
+			boolean prefetch, int generation) {
+		if (generation != this.generation) {
+			return;
+		}
+		int shift = getTileShift(zoom);
+		int tLeft = leftX >> shift;
+		int tRight = rightX >> shift;
+		int tTop = topY >> shift;
+		int tBottom = bottomY >> shift;
+		TileData[][] split = new TileData[tBottom - tTop + 1][tRight - tLeft + 1];
+		for (int ty = tTop; ty <= tBottom; ty++) {
+			for (int tx = tLeft; tx <= tRight; tx++) {
+				if (tiles.get(key(zoom, tx, ty)) == null) {
+					TileData t = new TileData();
+					t.mapIndex = data.mapIndex;
+					t.ocean = data.ocean;
+					t.land = data.land;
+					t.renderedState = data.renderedState;
+					split[ty - tTop][tx - tLeft] = t;
+				}
+			}
+		}
+		for (int kind = 0; kind < LISTS; kind++) {
+			for (BinaryMapDataObject o : data.getList(kind)) {
+				int len = o.getPointsLength();
+				if (len == 0) {
+					continue;
+				}
+				int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+				for (int i = 0; i < len; i++) {
+					int x = o.getPoint31XTile(i);
+					int y = o.getPoint31YTile(i);
+					minX = Math.min(minX, x);
+					maxX = Math.max(maxX, x);
+					minY = Math.min(minY, y);
+					maxY = Math.max(maxY, y);
+				}
+				long mem = estimateMemory(o);
+				for (int ty = Math.max(tTop, minY >> shift); ty <= Math.min(tBottom, maxY >> shift); ty++) {
+					for (int tx = Math.max(tLeft, minX >> shift); tx <= Math.min(tRight, maxX >> shift); tx++) {
+						TileData t = split[ty - tTop][tx - tLeft];
+						if (t != null) {
+							t.getList(kind).add(o);
+							t.memory += mem;
+						}
+					}
+				}
+			}
+		}
+		for (int ty = tTop; ty <= tBottom; ty++) {
+			for (int tx = tLeft; tx <= tRight; tx++) {
+				TileData t = split[ty - tTop][tx - tLeft];
+				if (t != null) {
+					tiles.put(key(zoom, tx, ty), t);
+					memory += t.memory;
+					if (prefetch) {
+						prefetched++;
+					}
+				}
+			}
+		}
+		if (prefetch) {
+			evict();
+		}
+	}
+
+	/**
+	 * @return data of all cached tiles intersecting the box, objects shared by tiles are returned once
+	 */
+	public synchronized TileData getData(int zoom, int leftX, int rightX, int bottomY, int topY,
+			boolean checkForDuplicateObjectIds) {
+		int shift = getTileShift(zoom);
+		TileData res = new TileData();
+		Set<BinaryMapDataObject> added = Collections.newSetFromMap(new IdentityHashMap<BinaryMapDataObject, Boolean>());
+		TLongSet ids = new TLongHashSet();
+		TLongObjectHashMap<List<BinaryMapDataObject>> sameIds = new TLongObjectHashMap<List<BinaryMapDataObject>>();
+		List<TileData> boxTiles = new ArrayList<TileData>();
+		for (int ty = topY >> shift; ty <= bottomY >> shift; ty++) {
+			for (int tx = leftX >> shift; tx <= rightX >> shift; tx++) {
+				TileData t = tiles.get(key(zoom, tx, ty));
+				if (t != null) {
+					boxTiles.add(t);
+					if (t.mapIndex != null) {
+						res.mapIndex = t.mapIndex;
+					}
+					res.ocean |= t.ocean;
+					res.land |= t.land;
+					res.renderedState |= t.renderedState;
+				}
+			}
+		}
+		// map objects go first as they do when read from files
+		for (int kind = 0; kind < LISTS; kind++) {
+			boolean basemap = kind >= 3;
+			for (TileData t : boxTiles) {
+				for (BinaryMapDataObject o : t.getList(kind)) {
+					if (!added.add(o)) {
+						continue;
+					}
+					// same object could be read again for neighbour tile
+					if (!basemap && checkForDuplicateObjectIds && o.getId() > 0) {
+						if (!ids.add(o.getId())) {
+							continue;
+						}
+					} else if (isSameGeometryAdded(sameIds, o)) {
+						continue;
+					}
+					res.getList(kind).add(o);
+				}
+			}
+		}
+		evict();
+		return res;
+	}
+
+	private static boolean isSameGeometryAdded(TLongObjectHashMap<List<BinaryMapDataObject>> byId,
+			BinaryMapDataObject o) {
+		List<BinaryMapDataObject> list = byId.get(o.getId());
+		if (list == null) {
+			list = new ArrayList<BinaryMapDataObject>(1);
+			byId.put(o.getId(), list);
+		}
+		int last = o.getPointsLength() - 1;
+		for (BinaryMapDataObject s : list) {
+			if (s.getPointsLength() == o.getPointsLength() && s.getPoint31XTile(0) == o.getPoint31XTile(0)
+					&& s.getPoint31YTile(0) == o.getPoint31YTile(0)
+					&& s.getPoint31XTile(last) == o.getPoint31XTile(last)
+					&& s.getPoint31YTile(last) == o.getPoint31YTile(last)) {
+				return true;
+			}
+		}
+		list.add(o);
+		return false;
+	}
+
+	private static long estimateMemory(BinaryMapDataObject o) {
+		int ints = o.getPointsLength() * 2 + o.getTypes().length
+				+ (o.getAdditionalTypes() == null ? 0 : o.getAdditionalTypes().length);
+		int names = o.getObjectNames() == null ? 0 : o.getObjectNames().size();
+		return 64 + ints * 4 + names * 64;
+	}
+
+	private void evict() {
+		Iterator<TileData> it = tiles.values().iterator();
+		while (memory > maxMemory && it.hasNext()) {
+			memory -= it.next().memory;
+			it.remove();
+		}
+	}
+
+	public synchronized String getStatistics() {
+		return String.format("tiles %d (%d KB), hits %d, misses %d, prefetched %d", tiles.size(), memory >> 10,
+				hits, misses, prefetched);
+	}
+
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	public synchronized int getMisses() {
+		return misses;
+	}
+}
@@ -13,26 +13,35 @@ import java.io.File;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import net.osmand.IProgress;
 import net.osmand.NativeLibrary.NativeSearchResult;
 import net.osmand.PlatformUtil;
+import net.osmand.RenderingStats;
+import net.osmand.RenderingStats.Phase;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapDataObject;
 import net.osmand.binary.BinaryMapIndexReader;
 import net.osmand.binary.BinaryMapIndexReader.MapIndex;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
 import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+import net.osmand.binary.BinaryMapSearchIterator;
+import net.osmand.binary.BinaryMapSearchIterator.SearchIOException;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteRegion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteSubregion;
 import net.osmand.binary.BinaryMapRouteReaderAdapter.RouteTypeRule;
+import net.osmand.binary.MergedBinaryMapIndexReader;
 import net.osmand.binary.RouteDataObject;
 import net.osmand.data.QuadPointDouble;
 import net.osmand.data.QuadRect;
@@ -44,6 +53,7 @@ import net.osmand.plus.OsmandSettings;
 import net.osmand.plus.OsmandSettings.CommonPreference;
 import net.osmand.plus.R;
 import net.osmand.plus.development.OsmandDevelopmentPlugin;
+import net.osmand.plus.render.MapDataTileCache.TileData;
 import net.osmand.plus.render.OsmandRenderer.RenderingContext;
 import net.osmand.plus.views.OsmandMapLayer.DrawSettings;
 import net.osmand.render.RenderingRuleProperty;
@@ -71,11 +81,16 @@ public class MapRenderRepositories {
 	private final static Log log = PlatformUtil.getLog(MapRenderRepositories.class);
 	private final OsmandApplication context;
 	private final static int zoomOnlyForBasemaps = 11;
+	// geometry is simplified while reading (quarter of pixel) and polygons smaller than pixel are skipped
+	private final static int zoomForGeometrySimplification = 12;
 
 	static int zoomForBaseRouteRendering  = 14;
 	private Handler handler;
 	private Map<String, BinaryMapIndexReader> files = new LinkedHashMap<String, BinaryMapIndexReader>();
 	private Set<String> nativeFiles = new HashSet<String>();
+	// main files read together with their live updates, update files are not read on their own
+	private Map<String, MergedBinaryMapIndexReader> mergedFiles = new HashMap<String, MergedBinaryMapIndexReader>();
+	private Set<String> mergedUpdates = new HashSet<String>();
 	private OsmandRenderer renderer;
 	
 
@@ -110,6 +125,17 @@ public class MapRenderRepositories {
 	private RenderingContext visibleRenderingContext;
 	private SearchRequest<BinaryMapDataObject> searchRequest;
 	private OsmandSettings prefs;
+	// land/water polygons resolved from coastlines per tile
+	private final CoastlineTileCache coastlineTiles = new CoastlineTileCache();
+	// decoded map objects per tile
+	private final MapDataTileCache dataTiles = new MapDataTileCache(Runtime.getRuntime().maxMemory() / 8);
+	// files are read by rendering and prefetch threads
+	private final Object readLock = new Object();
+	private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+	private volatile int prefetchId = 0;
+	private volatile SearchRequest<BinaryMapDataObject> prefetchRequest;
+	// request of cached data, data depends on style and its filters
+	private RenderingRuleSearchRequest dataTilesRequest;
 
 	public MapRenderRepositories(OsmandApplication context) {
 		this.context = context;
@@ -138,6 +164,34 @@ public class MapRenderRepositories {
 		LinkedHashMap<String, BinaryMapIndexReader> cpfiles = new LinkedHashMap<String, BinaryMapIndexReader>(files);
 		cpfiles.put(file.getName(), reader);
 		files = cpfiles;
+		coastlineTiles.clear();
+		dataTiles.clear();
+	}
+
+	public synchronized void setUpdates(String file, List<String> updateFiles) {
+		Map<String, MergedBinaryMapIndexReader> cpmerged = new HashMap<String, MergedBinaryMapIndexReader>(mergedFiles);
+		Set<String> cpupdates = new HashSet<String>(mergedUpdates);
+		MergedBinaryMapIndexReader old = cpmerged.remove(file);
+		if (old != null) {
+			for (BinaryMapIndexReader r : old.getUpdates()) {
+				cpupdates.remove(r.getFile().getName());
+			}
+		}
+		List<BinaryMapIndexReader> updates = new ArrayList<BinaryMapIndexReader>();
+		for (String u : updateFiles) {
+			BinaryMapIndexReader r = files.get(u);
+			if (r != null) {
+				updates.add(r);
+				cpupdates.add(u);
+			}
+		}
+		BinaryMapIndexReader base = files.get(file);
+		if (base != null && !updates.isEmpty()) {
+			cpmerged.put(file, new MergedBinaryMapIndexReader(base, updates));
+		}
+		mergedFiles = cpmerged;
+		mergedUpdates = cpupdates;
+		dataTiles.clear();
 	}
 
 	public RotatedTileBox getBitmapLocation() {
@@ -152,6 +206,27 @@ public class MapRenderRepositories {
 		LinkedHashMap<String, BinaryMapIndexReader> cpfiles = new LinkedHashMap<String, BinaryMapIndexReader>(files);
 		BinaryMapIndexReader bmir = cpfiles.remove(file);
 		files = cpfiles;
+		if (mergedFiles.containsKey(file) || mergedUpdates.contains(file)) {
+			Map<String, MergedBinaryMapIndexReader> cpmerged = new HashMap<String, MergedBinaryMapIndexReader>();
+			Set<String> cpupdates = new HashSet<String>();
+			for (Map.Entry<String, MergedBinaryMapIndexReader> e : mergedFiles.entrySet()) {
+				List<BinaryMapIndexReader> updates = new ArrayList<BinaryMapIndexReader>();
+				for (BinaryMapIndexReader r : e.getValue().getUpdates()) {
+					if (!r.getFile().getName().equals(file)) {
+						updates.add(r);
+						cpupdates.add(r.getFile().getName());
+					}
+				}
+				if (!e.getKey().equals(file) && !updates.isEmpty()) {
+					cpmerged.put(e.getKey(), new MergedBinaryMapIndexReader(e.getValue().getBaseReader(), updates));
+				}
+			}
+			mergedFiles = cpmerged;
+			mergedUpdates = cpupdates;
+		}
+		coastlineTiles.clear();
+		dataTiles.clear();
+		cancelPrefetch();
 		if (nativeFiles.contains(file)) {
 			NativeOsmandLibrary lib = NativeOsmandLibrary.getLoadedLibrary();
 			if (lib != null) {
@@ -161,10 +236,12 @@ public class MapRenderRepositories {
 			}
 		}
 		if (bmir != null) {
-			try {
-				bmir.close();
-			} catch (IOException e) {
-				e.printStackTrace();
+			synchronized (readLock) {
+				try {
+					bmir.close();
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
 			}
 		}
 	}
@@ -312,7 +389,7 @@ public class MapRenderRepositories {
 	}
 	
 	private void readRouteDataAsMapObjects(SearchRequest<BinaryMapDataObject> sr, BinaryMapIndexReader c, 
-			final ArrayList<BinaryMapDataObject> tempResult, final TLongSet ids) {
+			final TileData data, final TLongSet ids) {
 		final boolean basemap = c.isBasemap();
 		try {
 			for (RouteRegion reg : c.getRoutingIndexes()) {
@@ -324,9 +401,9 @@ public class MapRenderRepositories {
 					@Override
 					public boolean publish(RouteDataObject r) {
 						if (basemap) {
-							renderedState |= 1;
+							data.renderedState |= 1;
 						} else {
-							renderedState |= 2;
+							data.renderedState |= 2;
 						}
 						if (checkForDuplicateObjectIds && !basemap) {
 							if (ids.contains(r.getId()) && r.getId() > 0) {
@@ -357,7 +434,7 @@ public class MapRenderRepositories {
 							}
 						}
 						mo.setMapIndex(nmi);
-						tempResult.add(mo);
+						data.routeObjects.add(mo);
 						return false;
 					}
 
@@ -383,7 +460,8 @@ public class MapRenderRepositories {
 	}
 
 
-	private boolean loadVectorData(QuadRect dataBox, final int zoom, final RenderingRuleSearchRequest renderingReq) {
+	private boolean loadVectorData(QuadRect dataBox, final int zoom, final RenderingRuleSearchRequest renderingReq,
+			RenderingStats stats) {
 		double cBottomLatitude = dataBox.bottom;
 		double cTopLatitude = dataBox.top;
 		double cLeftLongitude = dataBox.left;
@@ -392,70 +470,59 @@ public class MapRenderRepositories {
 		long now = System.currentTimeMillis();
 
 		System.gc(); // to clear previous objects
-		ArrayList<BinaryMapDataObject> tempResult = new ArrayList<BinaryMapDataObject>();
-		ArrayList<BinaryMapDataObject> basemapResult = new ArrayList<BinaryMapDataObject>();
-		
-		int[] count = new int[]{0};
-		boolean[] ocean = new boolean[]{false};
-		boolean[] land = new boolean[]{false};
-		List<BinaryMapDataObject> coastLines = new ArrayList<BinaryMapDataObject>();
-		List<BinaryMapDataObject> basemapCoastLines = new ArrayList<BinaryMapDataObject>();
-		int leftX = MapUtils.get31TileNumberX(cLeftLongitude);
-		int rightX = MapUtils.get31TileNumberX(cRightLongitude);
-		int bottomY = MapUtils.get31TileNumberY(cBottomLatitude);
-		int topY = MapUtils.get31TileNumberY(cTopLatitude);
-		TLongSet ids = new TLongHashSet();
-		MapIndex mi = readMapObjectsForRendering(zoom, renderingReq, tempResult, basemapResult, ids, count, ocean,
-				land, coastLines, basemapCoastLines, leftX, rightX, bottomY, topY);
-		int renderRouteDataFile = 0;
-		if (renderingReq.searchRenderingAttribute("showRoadMapsAttribute")) {
-			renderRouteDataFile = renderingReq.getIntPropertyValue(renderingReq.ALL.R_ATTR_INT_VALUE);
-		}
-		if (checkWhetherInterrupted()) {
-			return false;
-		}
-		boolean objectsFromMapSectionRead = tempResult.size() > 0;
-		if (renderRouteDataFile >= 0 && zoom >= zoomOnlyForBasemaps ) {
-			searchRequest = BinaryMapIndexReader.buildSearchRequest(leftX, rightX, topY, bottomY, zoom, null);
-			for (BinaryMapIndexReader c : files.values()) {
-				// false positive case when we have 2 sep maps Country-roads & Country
-				if(c.getMapIndexes().size() == 0 || renderRouteDataFile == 1) {
-					readRouteDataAsMapObjects(searchRequest, c, tempResult, ids);
-				}
+		// data is read for complete tiles of data and coastline caches
+		int leftX = MapDataTileCache.alignToTileStart(MapUtils.get31TileNumberX(cLeftLongitude), zoom);
+		int rightX = MapDataTileCache.alignToTileEnd(MapUtils.get31TileNumberX(cRightLongitude), zoom);
+		int bottomY = MapDataTileCache.alignToTileEnd(MapUtils.get31TileNumberY(cBottomLatitude), zoom);
+		int topY = MapDataTileCache.alignToTileStart(MapUtils.get31TileNumberY(cTopLatitude), zoom);
+		int count = 0;
+		stats.start(Phase.READ);
+		int[] missing = dataTiles.getMissingBox(zoom, leftX, rightX, bottomY, topY, true);
+		if (missing != null) {
+			cancelPrefetch();
+			int generation = dataTiles.getGeneration();
+			TileData read;
+			synchronized (readLock) {
+				read = readTileData(zoom, renderingReq, missing[0], missing[1], missing[2], missing[3], -1);
 			}
-			log.info(String.format("Route objects %s", tempResult.size() +""));
+			if (read == null || checkWhetherInterrupted()) {
+				return false;
+			}
+			count = read.count;
+			stats.objectsRead += read.count;
+			stats.bytesRead += read.bytesRead;
+			dataTiles.putData(zoom, missing[0], missing[1], missing[2], missing[3], read, false, generation);
 		}
+		TileData data = dataTiles.getData(zoom, leftX, rightX, bottomY, topY, checkForDuplicateObjectIds);
+		stats.end(Phase.READ);
+		renderedState |= data.renderedState;
+		ArrayList<BinaryMapDataObject> tempResult = new ArrayList<BinaryMapDataObject>(data.mapObjects.size()
+				+ data.routeObjects.size());
+		tempResult.addAll(data.mapObjects);
+		tempResult.addAll(data.routeObjects);
+		final List<BinaryMapDataObject> coastLines = data.coastLines;
+		final List<BinaryMapDataObject> basemapCoastLines = data.basemapCoastLines;
+		final MapIndex mi = data.mapIndex;
+		final boolean ocean = data.ocean;
+		final boolean land = data.land;
+		boolean objectsFromMapSectionRead = data.mapObjects.size() > 0;
 
-		String coastlineTime = "";
-		boolean addBasemapCoastlines = true;
 		boolean emptyData = zoom > zoomOnlyForBasemaps && tempResult.isEmpty() && coastLines.isEmpty();
 		boolean basemapMissing = zoom <= zoomOnlyForBasemaps && basemapCoastLines.isEmpty() && mi == null;
-		boolean detailedLandData = zoom >= zoomForBaseRouteRendering && tempResult.size() > 0  && objectsFromMapSectionRead;
-		if (!coastLines.isEmpty()) {
-			long ms = System.currentTimeMillis();
-			boolean coastlinesWereAdded = processCoastlines(coastLines, leftX, rightX, bottomY, topY, zoom,
-					basemapCoastLines.isEmpty(), true, tempResult);
-			addBasemapCoastlines = (!coastlinesWereAdded && !detailedLandData) || zoom <= zoomOnlyForBasemaps;
-			coastlineTime = "(coastline " + (System.currentTimeMillis() - ms) + " ms )";
-		} else {
-			addBasemapCoastlines = !detailedLandData;
-		}
-		if (addBasemapCoastlines) {
-			long ms = System.currentTimeMillis();
-			boolean coastlinesWereAdded = processCoastlines(basemapCoastLines, leftX, rightX, bottomY, topY, zoom,
-					true, true, tempResult);
-			addBasemapCoastlines = !coastlinesWereAdded;
-			coastlineTime = "(coastline " + (System.currentTimeMillis() - ms) + " ms )";
-		}
-		if (addBasemapCoastlines && mi != null) {
-			int[] coordinates = new int[]{leftX, topY, rightX, topY, rightX, bottomY, leftX, bottomY, leftX,
-					topY};
-			BinaryMapDataObject o = new BinaryMapDataObject(-1, coordinates, new int[0][],  
-					RenderingRulesStorage.POLYGON_RULES, true,
-					new int[]{ocean[0] && !land[0] ? mi.coastlineEncodingType : (mi.landEncodingType)}, null);
-			o.setMapIndex(mi);
-			tempResult.add(o);
-		}
+		final boolean detailedLandData = zoom >= zoomForBaseRouteRendering && tempResult.size() > 0  && objectsFromMapSectionRead;
+		long ms = System.currentTimeMillis();
+		stats.start(Phase.COASTLINES);
+		coastlineTiles.getPolygons(zoom, leftX, rightX, bottomY, topY,
+				!coastLines.isEmpty() || !basemapCoastLines.isEmpty(), new CoastlineTileCache.CoastlineProcessor() {
+					@Override
+					public boolean processCoastlines(int leftX, int rightX, int bottomY, int topY,
+							List<BinaryMapDataObject> result) {
+						return processCoastlinesBox(coastLines, basemapCoastLines, detailedLandData, mi, ocean,
+								land, leftX, rightX, bottomY, topY, zoom, result);
+					}
+				}, tempResult);
+		stats.end(Phase.COASTLINES);
+		String coastlineTime = "(coastline " + (System.currentTimeMillis() - ms) + " ms )";
 		if (emptyData || basemapMissing) {
 			// message
 			MapIndex mapIndex;
@@ -468,15 +535,14 @@ public class MapRenderRepositories {
 			}
 		}
 		if (zoom <= zoomOnlyForBasemaps || emptyData) {
-			tempResult.addAll(basemapResult);
+			tempResult.addAll(data.basemapObjects);
 		}
 
 
-		if (count[0] > 0) {
-			log.info(String.format("BLat=%s, TLat=%s, LLong=%s, RLong=%s, zoom=%s", //$NON-NLS-1$
-					cBottomLatitude, cTopLatitude, cLeftLongitude, cRightLongitude, zoom));
-			log.info(String.format("Searching: %s ms  %s (%s results found)", System.currentTimeMillis() - now, coastlineTime, count[0])); //$NON-NLS-1$
-		}
+		log.info(String.format("BLat=%s, TLat=%s, LLong=%s, RLong=%s, zoom=%s", //$NON-NLS-1$
+				cBottomLatitude, cTopLatitude, cLeftLongitude, cRightLongitude, zoom));
+		log.info(String.format("Searching: %s ms  %s (%s results found, tile cache: %s)", //$NON-NLS-1$
+				System.currentTimeMillis() - now, coastlineTime, count, dataTiles.getStatistics()));
 
 
 		cObjects = tempResult;
@@ -486,12 +552,117 @@ public class MapRenderRepositories {
 		return true;
 	}
 
-	
+	/**
+	 * Reads tiles around the box in background, so small moves of the map don't need to read files
+	 */
+	private void prefetchDataTiles(QuadRect dataBox, final int zoom, final RenderingRulesStorage storage,
+			final boolean nightMode) {
+		final int leftX = MapDataTileCache.alignToTileStart(MapUtils.get31TileNumberX(dataBox.left), zoom);
+		final int rightX = MapDataTileCache.alignToTileEnd(MapUtils.get31TileNumberX(dataBox.right), zoom);
+		final int bottomY = MapDataTileCache.alignToTileEnd(MapUtils.get31TileNumberY(dataBox.bottom), zoom);
+		final int topY = MapDataTileCache.alignToTileStart(MapUtils.get31TileNumberY(dataBox.top), zoom);
+		final int id = ++prefetchId;
+		// data of other style or files is dropped when cache is cleared
+		final int generation = dataTiles.getGeneration();
+		prefetchExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (id != prefetchId) {
+					return;
+				}
+				RenderingRuleSearchRequest req = createRenderingRequest(storage, nightMode);
+				int tile = 1 << (31 - zoom);
+				int l = Math.max(0, leftX - tile);
+				int r = (int) Math.min(Integer.MAX_VALUE, (long) rightX + tile);
+				int t = Math.max(0, topY - tile);
+				int b = (int) Math.min(Integer.MAX_VALUE, (long) bottomY + tile);
+				// top, bottom, left and right strips of tiles
+				int[][] strips = new int[][] { { l, r, topY - 1, t }, { l, r, b, bottomY + 1 },
+						{ l, leftX - 1, bottomY, topY }, { rightX + 1, r, bottomY, topY } };
+				for (int[] s : strips) {
+					if (s[0] < 0 || s[3] < 0 || s[0] > s[1] || s[3] > s[2]) {
+						continue;
+					}
+					int[] missing = dataTiles.getMissingBox(zoom, s[0], s[1], s[2], s[3], false);
+					if (missing == null) {
+						continue;
+					}
+					TileData read;
+					synchronized (readLock) {
+						if (id != prefetchId) {
+							return;
+						}
+						read = readTileData(zoom, req, missing[0], missing[1], missing[2], missing[3], id);
+					}
+					if (read == null || id != prefetchId) {
+						return;
+					}
+					dataTiles.putData(zoom, missing[0], missing[1], missing[2], missing[3], read, true, generation);
+				}
+			}
+		});
+	}
+
+	private void cancelPrefetch() {
+		prefetchId++;
+		SearchRequest<BinaryMapDataObject> sr = prefetchRequest;
+		if (sr != null) {
+			sr.setInterrupted(true);
+		}
+	}
+
+	// prefetch is -1 for rendering or id of prefetch task
+	private boolean isReadInterrupted(int prefetch) {
+		return prefetch == -1 ? checkWhetherInterrupted() : prefetch != prefetchId;
+	}
+
+	private TileData readTileData(int zoom, RenderingRuleSearchRequest renderingReq, int leftX, int rightX,
+			int bottomY, int topY, int prefetch) {
+		TileData data = new TileData();
+		TLongSet ids = new TLongHashSet();
+		if (!readMapObjectsForRendering(zoom, renderingReq, data, ids, leftX, rightX, bottomY, topY, prefetch)) {
+			return null;
+		}
+		int renderRouteDataFile = 0;
+		if (renderingReq.searchRenderingAttribute("showRoadMapsAttribute")) {
+			renderRouteDataFile = renderingReq.getIntPropertyValue(renderingReq.ALL.R_ATTR_INT_VALUE);
+		}
+		if (isReadInterrupted(prefetch)) {
+			return null;
+		}
+		if (renderRouteDataFile >= 0 && zoom >= zoomOnlyForBasemaps ) {
+			SearchRequest<BinaryMapDataObject> sr = BinaryMapIndexReader.buildSearchRequest(leftX, rightX, topY,
+					bottomY, zoom, null);
+			setReadRequest(sr, prefetch);
+			for (BinaryMapIndexReader c : files.values()) {
+				// false positive case when we have 2 sep maps Country-roads & Country
+				if(c.getMapIndexes().size() == 0 || renderRouteDataFile == 1) {
+					readRouteDataAsMapObjects(sr, c, data, ids);
+				}
+			}
+			data.bytesRead += sr.getStats().bytesRead;
+		}
+		if (isReadInterrupted(prefetch)) {
+			return null;
+		}
+		return data;
+	}
+
+	private void setReadRequest(SearchRequest<BinaryMapDataObject> sr, int prefetch) {
+		if (prefetch == -1) {
+			searchRequest = sr;
+		} else {
+			prefetchRequest = sr;
+		}
+	}
 
-	private MapIndex readMapObjectsForRendering(final int zoom, final RenderingRuleSearchRequest renderingReq,
-			ArrayList<BinaryMapDataObject> tempResult, ArrayList<BinaryMapDataObject> basemapResult, 
-			TLongSet ids, int[] count, boolean[] ocean, boolean[] land, List<BinaryMapDataObject> coastLines,
-			List<BinaryMapDataObject> basemapCoastLines, int leftX, int rightX, int bottomY, int topY) {
+	public String getTileCacheStatistics() {
+		return dataTiles.getStatistics();
+	}
+
+	// returns false if reading was interrupted
+	private boolean readMapObjectsForRendering(final int zoom, final RenderingRuleSearchRequest renderingReq,
+			TileData data, TLongSet ids, int leftX, int rightX, int bottomY, int topY, int prefetch) {
 		BinaryMapIndexReader.SearchFilter searchFilter = new BinaryMapIndexReader.SearchFilter() {
 			@Override
 			public boolean accept(TIntArrayList types, BinaryMapIndexReader.MapIndex root) {
@@ -522,64 +693,88 @@ public class MapRenderRepositories {
 		if (zoom > 16) {
 			searchFilter = null;
 		}
-		MapIndex mi = null;
-		searchRequest = BinaryMapIndexReader.buildSearchRequest(leftX, rightX, topY, bottomY, zoom, searchFilter);
-		for (BinaryMapIndexReader c : files.values()) {
+		SearchRequest<BinaryMapDataObject> searchRequest = BinaryMapIndexReader.buildSearchRequest(leftX, rightX,
+				topY, bottomY, zoom, searchFilter);
+		if (zoom <= zoomForGeometrySimplification) {
+			searchRequest.setGeometrySimplification(0.25, 1);
+		}
+		setReadRequest(searchRequest, prefetch);
+		Map<String, MergedBinaryMapIndexReader> mergedFiles = this.mergedFiles;
+		Set<String> mergedUpdates = this.mergedUpdates;
+		for (Map.Entry<String, BinaryMapIndexReader> file : files.entrySet()) {
+			if (mergedUpdates.contains(file.getKey())) {
+				continue;
+			}
+			BinaryMapIndexReader c = file.getValue();
 			boolean basemap = c.isBasemap();
 			searchRequest.clearSearchResults();
-			List<BinaryMapDataObject> res;
-			try {
-				res = c.searchMapIndex(searchRequest);
-			} catch (IOException e) {
-				res = new ArrayList<BinaryMapDataObject>();
-				log.debug("Search failed " + c.getRegionNames(), e); //$NON-NLS-1$
-			}
-			if(res.size() > 0) {
-				if(basemap) {
-					renderedState |= 1;
-				} else {
-					renderedState |= 2;
+			MergedBinaryMapIndexReader merged = mergedFiles.get(file.getKey());
+			Iterator<BinaryMapDataObject> it;
+			if (merged != null) {
+				// updates are small, so merged objects are read at once
+				try {
+					it = new ArrayList<BinaryMapDataObject>(merged.searchMapIndex(searchRequest)).iterator();
+				} catch (IOException e) {
+					log.debug("Search failed " + c.getRegionNames(), e); //$NON-NLS-1$
+					continue;
 				}
+			} else {
+				// objects are taken block by block, so interrupted tile stops decoding of remaining blocks
+				it = c.iterateMapIndex(searchRequest);
 			}
-			for (BinaryMapDataObject r : res) {
-				if (checkForDuplicateObjectIds && !basemap) {
-					if (ids.contains(r.getId()) && r.getId() > 0) {
-						// do not add object twice
-						continue;
-					}
-					ids.add(r.getId());
-				}
-				count[0]++;
-
-				if (r.containsType(r.getMapIndex().coastlineEncodingType)) {
+			try {
+				while (it.hasNext()) {
+					BinaryMapDataObject r = it.next();
 					if (basemap) {
-						basemapCoastLines.add(r);
+						data.renderedState |= 1;
 					} else {
-						coastLines.add(r);
+						data.renderedState |= 2;
 					}
-				} else {
-					// do not mess coastline and other types
-					if (basemap) {
-						basemapResult.add(r);
+					if (checkForDuplicateObjectIds && !basemap) {
+						if (ids.contains(r.getId()) && r.getId() > 0) {
+							// do not add object twice
+							continue;
+						}
+						ids.add(r.getId());
+					}
+					data.count++;
+
+					if (r.containsType(r.getMapIndex().coastlineEncodingType)) {
+						if (basemap) {
+							data.basemapCoastLines.add(r);
+						} else {
+							data.coastLines.add(r);
+						}
 					} else {
-						tempResult.add(r);
+						// do not mess coastline and other types
+						if (basemap) {
+							data.basemapObjects.add(r);
+						} else {
+							data.mapObjects.add(r);
+						}
+					}
+					if (isReadInterrupted(prefetch)) {
+						if (it instanceof BinaryMapSearchIterator) {
+							((BinaryMapSearchIterator<?>) it).close();
+						}
+						return false;
 					}
 				}
-				if (checkWhetherInterrupted()) {
-					return null;
-				}
+			} catch (SearchIOException e) {
+				log.debug("Search failed " + c.getRegionNames(), e.getCause()); //$NON-NLS-1$
 			}
 
 			if (searchRequest.isOcean()) {
-				mi = c.getMapIndexes().get(0);
-				ocean[0] = true;
+				data.mapIndex = c.getMapIndexes().get(0);
+				data.ocean = true;
 			}
 			if (searchRequest.isLand()) {
-				mi = c.getMapIndexes().get(0);
-				land[0] = true;
+				data.mapIndex = c.getMapIndexes().get(0);
+				data.land = true;
 			}
 		}
-		return mi;
+		data.bytesRead += searchRequest.getStats().bytesRead;
+		return true;
 	}
 
 	private void validateLatLonBox(QuadRect box) {
@@ -608,6 +803,49 @@ public class MapRenderRepositories {
 
 	
 
+	private RenderingRuleSearchRequest createRenderingRequest(RenderingRulesStorage storage, boolean nightMode) {
+		RenderingRuleSearchRequest renderingReq = new RenderingRuleSearchRequest(storage);
+		renderingReq.setBooleanFilter(renderingReq.ALL.R_NIGHT_MODE, nightMode);
+		for (RenderingRuleProperty customProp : storage.PROPS.getCustomRules()) {
+			if (customProp.isBoolean()) {
+				if(customProp.getAttrName().equals(RenderingRuleStorageProperties.A_ENGINE_V1)) {
+					renderingReq.setBooleanFilter(customProp, true);
+				} else if (RenderingRuleStorageProperties.UI_CATEGORY_HIDDEN.equals(customProp.getCategory())) {
+					renderingReq.setBooleanFilter(customProp, false);
+				} else {
+					CommonPreference<Boolean> pref = prefs.getCustomRenderBooleanProperty(customProp.getAttrName());
+					renderingReq.setBooleanFilter(customProp, pref.get());
+				}
+			} else if (RenderingRuleStorageProperties.UI_CATEGORY_HIDDEN.equals(customProp.getCategory())) {
+				if (customProp.isString()) {
+					renderingReq.setStringFilter(customProp, "");
+				} else {
+					renderingReq.setIntFilter(customProp, 0);
+				}
+			} else {
+				CommonPreference<String> settings = prefs.getCustomRenderProperty(customProp.getAttrName());
+				String res = settings.get();
+				if (!Algorithms.isEmpty(res)) {
+					if (customProp.isString()) {
+						renderingReq.setStringFilter(customProp, res);
+					} else {
+						try {
+							renderingReq.setIntFilter(customProp, Integer.parseInt(res));
+						} catch (NumberFormatException e) {
+							e.printStackTrace();
+						}
+					}
+				} else {
+					if (customProp.isString()) {
+						renderingReq.setStringFilter(customProp, "");
+					}
+				}
+			}
+		}
+		renderingReq.saveState();
+		return renderingReq;
+	}
+
 	public synchronized void loadMap(RotatedTileBox tileRect, MapTileDownloader mapTileDownloader) {
 		boolean prevInterrupted = interrupted;
 		interrupted = false;
@@ -625,45 +863,13 @@ public class MapRenderRepositories {
 			boolean nightMode = app.getDaynightHelper().isNightMode();
 			// boolean moreDetail = prefs.SHOW_MORE_MAP_DETAIL.get();
 			RenderingRulesStorage storage = app.getRendererRegistry().getCurrentSelectedRenderer();
-			RenderingRuleSearchRequest renderingReq = new RenderingRuleSearchRequest(storage);
-			renderingReq.setBooleanFilter(renderingReq.ALL.R_NIGHT_MODE, nightMode);
-			for (RenderingRuleProperty customProp : storage.PROPS.getCustomRules()) {
-				if (customProp.isBoolean()) {
-					if(customProp.getAttrName().equals(RenderingRuleStorageProperties.A_ENGINE_V1)) {
-						renderingReq.setBooleanFilter(customProp, true);
-					} else if (RenderingRuleStorageProperties.UI_CATEGORY_HIDDEN.equals(customProp.getCategory())) {
-						renderingReq.setBooleanFilter(customProp, false);
-					} else {
-						CommonPreference<Boolean> pref = prefs.getCustomRenderBooleanProperty(customProp.getAttrName());
-						renderingReq.setBooleanFilter(customProp, pref.get());
-					}
-				} else if (RenderingRuleStorageProperties.UI_CATEGORY_HIDDEN.equals(customProp.getCategory())) {
-					if (customProp.isString()) {
-						renderingReq.setStringFilter(customProp, "");
-					} else {
-						renderingReq.setIntFilter(customProp, 0);
-					}
-				} else {
-					CommonPreference<String> settings = prefs.getCustomRenderProperty(customProp.getAttrName());
-					String res = settings.get();
-					if (!Algorithms.isEmpty(res)) {
-						if (customProp.isString()) {
-							renderingReq.setStringFilter(customProp, res);
-						} else {
-							try {
-								renderingReq.setIntFilter(customProp, Integer.parseInt(res));
-							} catch (NumberFormatException e) {
-								e.printStackTrace();
-							}
-						}
-					} else {
-						if (customProp.isString()) {
-							renderingReq.setStringFilter(customProp, "");
-						}
-					}
-				}
+			RenderingRuleSearchRequest renderingReq = createRenderingRequest(storage, nightMode);
+			if (!renderingReq.hasSameSavedState(dataTilesRequest)) {
+				dataTilesRequest = renderingReq;
+				cancelPrefetch();
+				dataTiles.clear();
+				coastlineTiles.clear();
 			}
-			renderingReq.saveState();
 			NativeOsmandLibrary nativeLib = !prefs.SAFE_MODE.get() ? NativeOsmandLibrary.getLibrary(storage, context) : null;
 
 
@@ -671,6 +877,7 @@ public class MapRenderRepositories {
 			QuadRect dataBox = requestedBox.getLatLonBounds();
 			int dataBoxZoom = requestedBox.getZoom();
 			long now = System.currentTimeMillis();
+			RenderingStats readStats = new RenderingStats();
 			if (cObjectsBox.left > dataBox.left || cObjectsBox.top < dataBox.top || cObjectsBox.right < dataBox.right
 					|| cObjectsBox.bottom > dataBox.bottom || (nativeLib != null) == (cNativeObjects == null)
 					|| dataBoxZoom != cObjectsZoom || prevInterrupted) {
@@ -689,11 +896,15 @@ public class MapRenderRepositories {
 				boolean loaded;
 				if(nativeLib != null) {
 					cObjects = new LinkedList<BinaryMapDataObject>();
+					readStats.start(Phase.READ);
 					loaded = loadVectorDataNative(dataBox, requestedBox.getZoom(), renderingReq, nativeLib);
+					readStats.end(Phase.READ);
 				} else {
 					cNativeObjects = null;
-					loaded = loadVectorData(dataBox, requestedBox.getZoom(), renderingReq);
-					
+					loaded = loadVectorData(dataBox, requestedBox.getZoom(), renderingReq, readStats);
+					if (loaded) {
+						prefetchDataTiles(dataBox, requestedBox.getZoom(), storage, nightMode);
+					}
 				}
 				if (!loaded || checkWhetherInterrupted()) {
 					return;
@@ -702,6 +913,7 @@ public class MapRenderRepositories {
 			final long searchTime = System.currentTimeMillis() - now;
 
 			currentRenderingContext = new OsmandRenderer.RenderingContext(context);
+			currentRenderingContext.stats.add(readStats);
 			renderingReq.clearState();
 			renderingReq.setIntFilter(renderingReq.ALL.R_MINZOOM, requestedBox.getZoom());
 			if(renderingReq.searchRenderingAttribute(RenderingRuleStorageProperties.A_DEFAULT_COLOR)) {
@@ -813,6 +1025,8 @@ public class MapRenderRepositories {
 				visibleRenderingContext = currentRenderingContext;
 				this.checkedRenderedState = renderedState;
 				this.checkedBox = this.bmpLocation;
+				log.info("Rendering phases: " + currentRenderingContext.stats);
+				currentRenderingContext.stats.finish(currentRenderingContext);
 			}
 			currentRenderingContext = null;
 
@@ -846,6 +1060,7 @@ public class MapRenderRepositories {
 			log.error("Out of memory error", e); //$NON-NLS-1$
 			cObjects = new ArrayList<BinaryMapDataObject>();
 			cObjectsBox = new QuadRect();
+			dataTiles.clear();
 			handler.post(new Runnable() {
 				@Override
 				public void run() {
@@ -878,6 +1093,9 @@ public class MapRenderRepositories {
 	public synchronized void clearCache() {
 		cObjects = new ArrayList<BinaryMapDataObject>();
 		cObjectsBox = new QuadRect();
+		coastlineTiles.clear();
+		dataTiles.clear();
+		cancelPrefetch();
 
 		requestedBox = prevBmpLocation = null;
 		// Do not clear main bitmap to not cause a screen refresh
@@ -891,6 +1109,37 @@ public class MapRenderRepositories {
 	}
 
 	/// MULTI POLYGONS (coastline)
+	// returns true if coastline rings were added (otherwise box could be filled with land or water)
+	private boolean processCoastlinesBox(List<BinaryMapDataObject> coastLines,
+			List<BinaryMapDataObject> basemapCoastLines, boolean detailedLandData, MapIndex mi, boolean ocean,
+			boolean land, int leftX, int rightX, int bottomY, int topY, int zoom, List<BinaryMapDataObject> result) {
+		boolean coastlinesWereAdded = false;
+		boolean addBasemapCoastlines = true;
+		if (!coastLines.isEmpty()) {
+			coastlinesWereAdded = processCoastlines(coastLines, leftX, rightX, bottomY, topY, zoom,
+					basemapCoastLines.isEmpty(), true, result);
+			addBasemapCoastlines = (!coastlinesWereAdded && !detailedLandData) || zoom <= zoomOnlyForBasemaps;
+		} else {
+			addBasemapCoastlines = !detailedLandData;
+		}
+		if (addBasemapCoastlines) {
+			boolean basemapCoastlinesWereAdded = processCoastlines(basemapCoastLines, leftX, rightX, bottomY, topY,
+					zoom, true, true, result);
+			coastlinesWereAdded |= basemapCoastlinesWereAdded;
+			addBasemapCoastlines = !basemapCoastlinesWereAdded;
+		}
+		if (addBasemapCoastlines && mi != null) {
+			int[] coordinates = new int[]{leftX, topY, rightX, topY, rightX, bottomY, leftX, bottomY, leftX,
+					topY};
+			BinaryMapDataObject o = new BinaryMapDataObject(-1, coordinates, new int[0][],  
+					RenderingRulesStorage.POLYGON_RULES, true,
+					new int[]{ocean && !land ? mi.coastlineEncodingType : (mi.landEncodingType)}, null);
+			o.setMapIndex(mi);
+			result.add(o);
+		}
+		return coastlinesWereAdded;
+	}
+
 	// returns true if coastlines were added!
 	private boolean processCoastlines(List<BinaryMapDataObject> coastLines, int leftX, int rightX, 
 			int bottomY, int topY, int zoom, boolean doNotAddIfIncompleted, boolean addDebugIncompleted, List<BinaryMapDataObject> result) {
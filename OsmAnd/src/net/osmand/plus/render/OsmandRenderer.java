@@ -13,6 +13,7 @@ import java.util.Map;
 import net.osmand.NativeLibrary;
 import net.osmand.NativeLibrary.NativeSearchResult;
 import net.osmand.RenderingContext.ShadowRenderingMode;
+import net.osmand.RenderingStats.Phase;
 import net.osmand.PlatformUtil;
 import net.osmand.binary.BinaryMapDataObject;
 import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
@@ -21,6 +22,9 @@ import net.osmand.data.QuadTree;
 import net.osmand.map.MapTileDownloader;
 import net.osmand.map.MapTileDownloader.IMapDownloaderCallback;
 import net.osmand.plus.render.TextRenderer.TextDrawInfo;
+import net.osmand.render.RenderingOrderCache;
+import net.osmand.render.RenderingOrderCache.OrderInfo;
+import net.osmand.render.RenderingOrderCache.OrderedPrimitive;
 import net.osmand.render.RenderingRuleProperty;
 import net.osmand.render.RenderingRuleSearchRequest;
 import net.osmand.render.RenderingRulesStorage;
@@ -79,12 +83,19 @@ public class OsmandRenderer {
 
 	private TextRenderer textRenderer;
 
-	public class MapDataObjectPrimitive {
+	private final RenderingOrderCache orderCache = new RenderingOrderCache();
+
+	public class MapDataObjectPrimitive implements OrderedPrimitive {
 		BinaryMapDataObject obj;
 		int typeInd;
 		double order;
 		double area;
 		int objectType;
+
+		@Override
+		public double getOrder() {
+			return order;
+		}
 	};
 
 	private static class IconDrawInfo {
@@ -229,6 +240,7 @@ public class OsmandRenderer {
 				rc.allObjects++;
 				BinaryMapDataObject mObj = array.get(i).obj;
 				TagValuePair pair = mObj.getMapIndex().decodeType(mObj.getTypes()[array.get(i).typeInd]);
+				int visible = rc.visible;
 				if (array.get(i).objectType == 3) {
 					if (array.get(i).order > minPolygonSize + ((int) array.get(i).order)) {
 						continue;
@@ -236,10 +248,13 @@ public class OsmandRenderer {
 					// polygon
 					
 					drawPolygon(mObj, req, cv, rc, pair, array.get(i).area);
+					rc.stats.polygonsDrawn += rc.visible - visible;
 				} else if (array.get(i).objectType == 2) {
 					drawPolyline(mObj, req, cv, rc, pair, mObj.getSimpleLayer(), objOrder == 1);
+					rc.stats.linesDrawn += rc.visible - visible;
 				} else if (array.get(i).objectType == 1) {
 					drawPoint(mObj, req, cv, rc, pair, array.get(i).typeInd == 0);
+					rc.stats.pointsDrawn += rc.visible - visible;
 				}
 				if (i % 25 == 0 && rc.interrupted) {
 					return;
@@ -263,29 +278,43 @@ public class OsmandRenderer {
 			List<MapDataObjectPrimitive>  pointsArray = new ArrayList<OsmandRenderer.MapDataObjectPrimitive>();
 			List<MapDataObjectPrimitive> polygonsArray = new ArrayList<OsmandRenderer.MapDataObjectPrimitive>();
 			List<MapDataObjectPrimitive>  linesArray = new ArrayList<OsmandRenderer.MapDataObjectPrimitive>();
+			int searches = render.getSearchCount();
+			rc.stats.start(Phase.SORT);
 			sortObjectsByProperOrder(rc, objects, render, pointsArray, polygonsArray, linesArray);
+			rc.stats.end(Phase.SORT);
 
 			rc.lastRenderedKey = 0;
 
+			rc.stats.start(Phase.POLYGONS);
 			drawObject(rc, cv, render, polygonsArray, 0);
+			rc.stats.end(Phase.POLYGONS);
 			rc.lastRenderedKey = DEFAULT_POLYGON_MAX;
+			rc.stats.start(Phase.LINES);
 			if (rc.shadowRenderingMode > 1) {
 				drawObject(rc, cv, render, linesArray, 1);
 			}
 			rc.lastRenderedKey = (DEFAULT_LINE_MAX + DEFAULT_POLYGON_MAX) / 2;
 			drawObject(rc, cv, render, linesArray, 2);
+			rc.stats.end(Phase.LINES);
 			rc.lastRenderedKey = DEFAULT_LINE_MAX;
 
+			rc.stats.start(Phase.POINTS);
 			drawObject(rc, cv, render, pointsArray, 3);
+			rc.stats.end(Phase.POINTS);
 			rc.lastRenderedKey = DEFAULT_POINTS_MAX;
+			rc.stats.ruleSearches += render.getSearchCount() - searches;
 
 
 			long beforeIconTextTime = System.currentTimeMillis() - now;
 			notifyListeners(mapTileDownloader);
+			rc.stats.start(Phase.ICONS);
 			drawIconsOverCanvas(rc, cv);
+			rc.stats.end(Phase.ICONS);
 
 			notifyListeners(mapTileDownloader);
+			rc.stats.start(Phase.TEXT);
 			textRenderer.drawTextOverCanvas(rc, cv, rc.preferredLocale);
+			rc.stats.end(Phase.TEXT);
 
 			long time = System.currentTimeMillis() - now;
 			rc.renderingDebugInfo = String.format("Rendering: %s ms  (%s text)\n"
@@ -347,7 +376,10 @@ public class OsmandRenderer {
 							}
 						}
 						
-						if (!intersects) {
+						if (intersects) {
+							rc.stats.iconsRejected++;
+						} else {
+							rc.stats.iconsPlaced++;
 							Bitmap shield = icon.shieldId == null ? null : RenderingIcons.getIcon(context, icon.shieldId, true);
 							if(shield != null) {
 								RectF shieldRf = calculateRect(rc, icon, shield.getWidth(), shield.getHeight());
@@ -458,57 +490,45 @@ public class OsmandRenderer {
 			float mult = (float) (1. / MapUtils.getPowZoom(Math.max(31 - (rc.zoom + 8), 0)));
 			for (int i = 0; i < sz; i++) {
 				BinaryMapDataObject o = objects.get(i);
+				double area = -1;
 				for (int j = 0; j < o.getTypes().length; j++) {
-					int wholeType = o.getTypes()[j];
-					int layer = 0;
-					if (o.getPointsLength() > 1) {
-						layer = o.getSimpleLayer();
-					}
-
-					TagValuePair pair = o.getMapIndex().decodeType(wholeType);
-					if (pair != null) {
-						render.setTagValueZoomLayer(pair.tag, pair.value, rc.zoom, layer, o);
-						render.setBooleanFilter(render.ALL.R_AREA, o.isArea());
-						render.setBooleanFilter(render.ALL.R_POINT, o.getPointsLength() == 1);
-						render.setBooleanFilter(render.ALL.R_CYCLE, o.isCycle());
-						if (render.search(RenderingRulesStorage.ORDER_RULES)) {
-							int objectType = render.getIntPropertyValue(render.ALL.R_OBJECT_TYPE);
-							boolean ignorePointArea = render.getIntPropertyValue(render.ALL.R_IGNORE_POLYGON_AS_POINT_AREA) != 0;
-							int order = render.getIntPropertyValue(render.ALL.R_ORDER);
-							MapDataObjectPrimitive mapObj = new MapDataObjectPrimitive();
-							mapObj.objectType = objectType;
-							mapObj.order = order;
-							mapObj.typeInd = j;
-							mapObj.obj = o;
-							if(objectType == 3) {
-								MapDataObjectPrimitive pointObj = mapObj;
-								pointObj.objectType = 1;
-								double area = polygonArea(mapObj, mult);
-								mapObj.area = area;
-								if(area > MAX_V) { 
-									mapObj.order = mapObj.order + (1. / area);
-									if(order < DEFAULT_POLYGON_MAX) {
-										polygonsArray.add(mapObj);	
-									} else {
-										linesArray.add(mapObj);
-									}
-									
-									if(area > MAX_V_AREA || ignorePointArea) {
-										pointsArray.add(pointObj);
-									}
-								}
-							} else if(objectType == 1) {
-								pointsArray.add(mapObj);
-							} else {
-								linesArray.add(mapObj);
+					OrderInfo info = orderCache.getOrder(render, o, j, rc.zoom);
+					if (info != null) {
+						int objectType = info.objectType;
+						int order = info.order;
+						MapDataObjectPrimitive mapObj = new MapDataObjectPrimitive();
+						mapObj.objectType = objectType;
+						mapObj.order = order;
+						mapObj.typeInd = j;
+						mapObj.obj = o;
+						if(objectType == 3) {
+							MapDataObjectPrimitive pointObj = mapObj;
+							pointObj.objectType = 1;
+							if (area < 0) {
+								area = polygonArea(mapObj, mult);
 							}
-							if (render.isSpecified(render.ALL.R_SHADOW_LEVEL)) {
-								rc.shadowLevelMin = Math.min(rc.shadowLevelMin, order);
-								rc.shadowLevelMax = Math.max(rc.shadowLevelMax, order);
-								render.clearValue(render.ALL.R_SHADOW_LEVEL);
+							mapObj.area = area;
+							if(area > MAX_V) { 
+								mapObj.order = mapObj.order + (1. / area);
+								if(order < DEFAULT_POLYGON_MAX) {
+									polygonsArray.add(mapObj);	
+								} else {
+									linesArray.add(mapObj);
+								}
+								
+								if(area > MAX_V_AREA || info.ignorePointArea) {
+									pointsArray.add(pointObj);
+								}
 							}
+						} else if(objectType == 1) {
+							pointsArray.add(mapObj);
+						} else {
+							linesArray.add(mapObj);
+						}
+						if (info.shadowLevel) {
+							rc.shadowLevelMin = Math.min(rc.shadowLevelMin, order);
+							rc.shadowLevelMax = Math.max(rc.shadowLevelMax, order);
 						}
-
 					}
 				}
 
@@ -517,9 +537,10 @@ public class OsmandRenderer {
 				}
 			}
 		}
-		Collections.sort(polygonsArray, sortByOrder());
-		Collections.sort(pointsArray, sortByOrder());
-		Collections.sort(linesArray, sortByOrder());
+		Comparator<MapDataObjectPrimitive> sortByOrder = sortByOrder();
+		RenderingOrderCache.sortByOrder(polygonsArray, sortByOrder);
+		RenderingOrderCache.sortByOrder(pointsArray, sortByOrder);
+		RenderingOrderCache.sortByOrder(linesArray, sortByOrder);
 		filterLinesByDensity(rc, linesResArray, linesArray);
 	}
 	
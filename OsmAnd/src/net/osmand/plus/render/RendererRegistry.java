@@ -8,6 +8,8 @@ import net.osmand.IndexConstants;
 import net.osmand.PlatformUtil;
 import net.osmand.plus.OsmandApplication;
 import net.osmand.plus.R;
+import net.osmand.render.CachedRenderingRulesStorage;
+import net.osmand.render.CachedRenderingRulesStorage.SourceHashProvider;
 import net.osmand.render.RenderingRuleProperty;
 import net.osmand.render.RenderingRulesStorage;
 import net.osmand.render.RenderingRulesStorage.RenderingRulesStorageResolver;
@@ -45,6 +47,7 @@ public class RendererRegistry {
 	public final static String OFFROAD_RENDER = "Offroad";  //$NON-NLS-1$
 	public final static String LIGHTRS_RENDER = "LightRS";  //$NON-NLS-1$
 	public final static String UNIRS_RENDER = "UniRS";  //$NON-NLS-1$
+	private final static String RENDERERS_CACHE_DIR = "rendering_styles";
 
 	private RenderingRulesStorage defaultRender = null;
 	private RenderingRulesStorage currentSelectedRender = null;
@@ -90,7 +93,15 @@ public class RendererRegistry {
 			return null;
 		}
 		try {
-			RenderingRulesStorage r = loadRenderer(name, new LinkedHashMap<String, RenderingRulesStorage>(), new LinkedHashMap<String, String>());
+			RenderingRulesStorage r = loadCachedRenderer(name);
+			if (r == null) {
+				Map<String, String> sourceHashes = new LinkedHashMap<String, String>();
+				r = loadRenderer(name, new LinkedHashMap<String, RenderingRulesStorage>(),
+						new LinkedHashMap<String, String>(), sourceHashes);
+				if (r != null) {
+					saveCachedRenderer(name, r, sourceHashes);
+				}
+			}
 			renderers.put(name, r);
 			return r;
 		} catch (IOException e) {
@@ -101,6 +112,42 @@ public class RendererRegistry {
 		return null;
 	}
 
+	private File getCacheFile(String name) {
+		File dir = new File(app.getCacheDir(), RENDERERS_CACHE_DIR);
+		return new File(dir, name.replaceAll("[^\\w\\-]", "_") + ".cache");
+	}
+
+	private RenderingRulesStorage loadCachedRenderer(String name) {
+		long tm = System.currentTimeMillis();
+		File cacheFile = getCacheFile(name);
+		RenderingRulesStorage r = CachedRenderingRulesStorage.readCache(cacheFile, new SourceHashProvider() {
+			@Override
+			public String getSourceHash(String source) throws IOException {
+				InputStream is = getInputStream(source);
+				return is == null ? null : CachedRenderingRulesStorage.getSourceHash(is);
+			}
+		});
+		if (r != null) {
+			log.info("Rendering style " + name + " is loaded from cache in " + (System.currentTimeMillis() - tm) + " ms");
+			if (rendererLoadedEventListener != null) {
+				for (String source : CachedRenderingRulesStorage.readCacheSources(cacheFile)) {
+					rendererLoadedEventListener.onRendererLoaded(source, r, getInputStream(source));
+				}
+			}
+		}
+		return r;
+	}
+
+	private void saveCachedRenderer(String name, RenderingRulesStorage r, Map<String, String> sourceHashes) {
+		File cacheFile = getCacheFile(name);
+		cacheFile.getParentFile().mkdirs();
+		try {
+			CachedRenderingRulesStorage.writeCache(r, sourceHashes, cacheFile);
+		} catch (IOException e) {
+			log.warn("Rendering style cache is not saved " + name, e);
+		}
+	}
+
 	private boolean hasRender(String name) {
 		return externalRenderers.containsKey(name) || getInternalRender(name) != null;
 	}
@@ -123,7 +170,7 @@ public class RendererRegistry {
 	
 //	private static boolean USE_PRECOMPILED_STYLE = false;
 	private RenderingRulesStorage loadRenderer(String name, final Map<String, RenderingRulesStorage> loadedRenderers, 
-			final Map<String, String> renderingConstants) throws IOException,  XmlPullParserException {
+			final Map<String, String> renderingConstants, final Map<String, String> sourceHashes) throws IOException,  XmlPullParserException {
 //		if ((name.equals(DEFAULT_RENDER) || name.equalsIgnoreCase("default")) && USE_PRECOMPILED_STYLE) {
 //			RenderingRulesStorage rrs = new RenderingRulesStorage("", null);
 //			new DefaultRenderingRulesStorage().createStyle(rrs);
@@ -169,7 +216,7 @@ public class RendererRegistry {
 					}
 					RenderingRulesStorage dep = null;
 					try {
-						dep = loadRenderer(name, loadedRenderers, renderingConstants);
+						dep = loadRenderer(name, loadedRenderers, renderingConstants, sourceHashes);
 					} catch (IOException e) {
 						log.warn("Dependent renderer not found : " + e.getMessage(), e); //$NON-NLS-1$
 					}
@@ -185,6 +232,8 @@ public class RendererRegistry {
 
         if (rendererLoadedEventListener != null)
             rendererLoadedEventListener.onRendererLoaded(name, main, getInputStream(name));
+		// depends are put before main style
+		sourceHashes.put(name, CachedRenderingRulesStorage.getSourceHash(getInputStream(name)));
 
 		return main;
 	}
@@ -10,8 +10,8 @@ import java.util.List;
 
 import net.osmand.binary.BinaryMapDataObject;
 import net.osmand.binary.BinaryMapIndexReader.TagValuePair;
+import net.osmand.data.CollisionGrid;
 import net.osmand.data.QuadRect;
-import net.osmand.data.QuadTree;
 import net.osmand.plus.render.OsmandRenderer.RenderingContext;
 import net.osmand.render.RenderingRuleSearchRequest;
 import net.osmand.render.RenderingRulesStorage;
@@ -117,48 +117,10 @@ public class TextRenderer {
 		return paintText;
 	}
 
-	private double sqr(double a) {
-		return a * a;
-	}
-	
 	private float fsqr(float a) {
 		return a * a;
 	}
 
-	boolean intersects(QuadRect tRect, float tRot, QuadRect sRect, float sRot) {
-		if (Math.abs(tRot) < Math.PI / 15 && Math.abs(sRot) < Math.PI / 15) {
-			return QuadRect.intersects(tRect, sRect);
-		}
-		double dist = Math.sqrt(sqr(tRect.centerX() - sRect.centerX()) + sqr(tRect.centerY() - sRect.centerY()));
-		if (dist < 3) {
-			return true;
-		}
-
-		// difference close to 90/270 degrees
-		if (Math.abs(Math.cos(tRot - sRot)) < 0.3) {
-			// rotate one rectangle to 90 degrees
-			tRot += Math.PI / 2;
-			double l = tRect.centerX() - tRect.height() / 2;
-			double t = tRect.centerY() - tRect.width() / 2;
-			tRect = new QuadRect(l, t, l + tRect.height(), t + tRect.width());
-		}
-
-		// determine difference close to 180/0 degrees
-		if (Math.abs(Math.sin(tRot - sRot)) < 0.3) {
-			// rotate t box
-			// (calculate offset for t center suppose we rotate around s center)
-			float diff = (float) (-Math.atan2(tRect.centerX() - sRect.centerX(), tRect.centerY() - sRect.centerY()) + Math.PI / 2);
-			diff -= sRot;
-			double left = sRect.centerX() + dist * Math.cos(diff) - tRect.width() / 2;
-			double top = sRect.centerY() - dist * Math.sin(diff) - tRect.height() / 2;
-			QuadRect nRect = new QuadRect(left, top, left + tRect.width(), top + tRect.height());
-			return QuadRect.intersects(nRect, sRect);
-		}
-
-		// TODO other cases not covered
-		return QuadRect.intersects(tRect, sRect);
-	}
-
 	void drawTestBox(Canvas cv, RectF r, float rot, String text) {
 		cv.save();
 		cv.translate(r.centerX(), r.centerY());
@@ -173,27 +135,40 @@ public class TextRenderer {
 		cv.restore();
 	}
 
-	List<TextDrawInfo> tempSearch = new ArrayList<TextDrawInfo>();
+	private static final Comparator<TextDrawInfo> TEXT_ORDER = new Comparator<TextDrawInfo>() {
+		@Override
+		public int compare(TextDrawInfo object1, TextDrawInfo object2) {
+			return object1.textOrder - object2.textOrder;
+		}
+	};
+
+	// label collision index and search buffers are reused by frames
+	private final CollisionGrid<TextDrawInfo> boundIntersections = new CollisionGrid<TextDrawInfo>(64);
+	private final List<TextDrawInfo> tempSearch = new ArrayList<TextDrawInfo>();
+	private final QuadRect boundsSearch = new QuadRect();
 
-	private boolean findTextIntersection(Canvas cv, RenderingContext rc, QuadTree<TextDrawInfo> boundIntersections, TextDrawInfo text) {
+	private boolean findTextIntersection(Canvas cv, RenderingContext rc, TextDrawInfo text) {
 		// for test purposes
 //		drawTestBox(cv, text.bounds, text.pathRotate, text.text);
 		boundIntersections.queryInBox(text.bounds, tempSearch);
 		for (int i = 0; i < tempSearch.size(); i++) {
 			TextDrawInfo t = tempSearch.get(i);
-			if (intersects(text.bounds, text.pathRotate, t.bounds, t.pathRotate)) {
+			if (CollisionGrid.intersects(text.bounds, text.pathRotate, t.bounds, t.pathRotate)) {
 				return true;
 			}
 		}
 		if (text.minDistance > 0) {
-			QuadRect boundsSearch = new QuadRect(text.bounds);
+			boundsSearch.left = text.bounds.left;
+			boundsSearch.top = text.bounds.top;
+			boundsSearch.right = text.bounds.right;
+			boundsSearch.bottom = text.bounds.bottom;
 			boundsSearch.inset(-Math.max(rc.getDensityValue(5.0f), text.minDistance), -rc.getDensityValue(15));
 			boundIntersections.queryInBox(boundsSearch, tempSearch);
 			// drawTestBox(cv, &boundsSearch, text.pathRotate, paintIcon, text.text, NULL/*paintText*/);
 			for (int i = 0; i < tempSearch.size(); i++) {
 				TextDrawInfo t = tempSearch.get(i);
 				if (t.minDistance > 0 && t.text.equals(text.text) &&
-						intersects(boundsSearch, text.pathRotate, t.bounds, t.pathRotate)) {
+						CollisionGrid.intersects(boundsSearch, text.pathRotate, t.bounds, t.pathRotate)) {
 					return true;
 				}
 			}
@@ -222,15 +197,8 @@ public class TextRenderer {
 		int size = rc.textToDraw.size();
 
 		// 1. Sort text using text order
-		Collections.sort(rc.textToDraw, new Comparator<TextDrawInfo>() {
-			@Override
-			public int compare(TextDrawInfo object1, TextDrawInfo object2) {
-				return object1.textOrder - object2.textOrder;
-			}
-		});
-		QuadRect r = new QuadRect(0, 0, rc.width, rc.height);
-		r.inset(-100, -100);
-		QuadTree<TextDrawInfo> nonIntersectedBounds = new QuadTree<TextDrawInfo>(r, 4, 0.6f);
+		Collections.sort(rc.textToDraw, TEXT_ORDER);
+		boundIntersections.reset(new QuadRect(-100, -100, rc.width + 100, rc.height + 100));
 
 		for (int i = 0; i < size; i++) {
 			TextDrawInfo text = rc.textToDraw.get(i);
@@ -258,8 +226,11 @@ public class TextRenderer {
 				text.centerY += (-paintText.ascent());
 
 				// calculate if there is intersection
-				boolean intersects = findTextIntersection(cv, rc, nonIntersectedBounds, text);
-				if (!intersects) {
+				boolean intersects = findTextIntersection(cv, rc, text);
+				if (intersects) {
+					rc.stats.textRejected++;
+				} else {
+					rc.stats.textPlaced++;
 					if (text.drawOnPath != null) {
 						if (text.textShadow > 0) {
 							paintText.setColor(text.textShadowColor);
@@ -2,9 +2,9 @@ package net.osmand.plus.resources;
 
 import java.util.List;
 
-import net.osmand.Location;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapIndexReader.SearchPoiTypeFilter;
+import net.osmand.binary.RouteCorridor;
 import net.osmand.data.Amenity;
 
 public interface AmenityIndexRepository {
@@ -21,7 +21,7 @@ public interface AmenityIndexRepository {
 	List<Amenity> searchAmenities(int stop, int sleft, int sbottom, int sright, int zoom, SearchPoiTypeFilter filter,
 			 ResultMatcher<Amenity> matcher);
 
-	List<Amenity> searchAmenitiesOnThePath(List<Location> locations, double radius, SearchPoiTypeFilter filter, 
+	List<Amenity> searchAmenitiesOnThePath(RouteCorridor corridor, SearchPoiTypeFilter filter,
 			ResultMatcher<Amenity> matcher);
 
 	
@@ -2,17 +2,20 @@ package net.osmand.plus.resources;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import net.osmand.Location;
 import net.osmand.PlatformUtil;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapIndexReader;
 import net.osmand.binary.BinaryMapIndexReader.MapIndex;
 import net.osmand.binary.BinaryMapIndexReader.SearchPoiTypeFilter;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
+import net.osmand.binary.MergedBinaryMapIndexReader;
+import net.osmand.binary.RouteCorridor;
 import net.osmand.data.Amenity;
 import net.osmand.osm.PoiCategory;
 import net.osmand.util.MapUtils;
@@ -23,15 +26,50 @@ public class AmenityIndexRepositoryBinary implements AmenityIndexRepository {
 
 	private final static Log log = PlatformUtil.getLog(AmenityIndexRepositoryBinary.class);
 	private final BinaryMapIndexReader index;
+	// live updates of file, objects of updates replace objects of file
+	private List<BinaryMapIndexReader> updates = new ArrayList<BinaryMapIndexReader>();
+	private volatile MergedBinaryMapIndexReader merged;
 
 	public AmenityIndexRepositoryBinary(BinaryMapIndexReader index) {
 		this.index = index;
 	}
 
+	public BinaryMapIndexReader getReader() {
+		return index;
+	}
+
+	public synchronized void setUpdates(List<BinaryMapIndexReader> updates) {
+		this.updates = new ArrayList<BinaryMapIndexReader>(updates);
+		this.merged = updates.isEmpty() ? null : new MergedBinaryMapIndexReader(index, updates);
+	}
+
+	public synchronized void removeUpdate(String fileName) {
+		boolean removed = false;
+		Iterator<BinaryMapIndexReader> it = updates.iterator();
+		while (it.hasNext()) {
+			BinaryMapIndexReader r = it.next();
+			if (r.getFile().getName().equals(fileName)) {
+				it.remove();
+				closeReader(r);
+				removed = true;
+			}
+		}
+		if (removed) {
+			setUpdates(updates);
+		}
+	}
+
 	@Override
-	public void close() {
+	public synchronized void close() {
+		closeReader(index);
+		for (BinaryMapIndexReader r : updates) {
+			closeReader(r);
+		}
+	}
+
+	private static void closeReader(BinaryMapIndexReader r) {
 		try {
-			index.close();
+			r.close();
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -65,7 +103,8 @@ public class AmenityIndexRepositoryBinary implements AmenityIndexRepository {
 		List<Amenity> amenities = Collections.emptyList();
 		SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(x, y, query, l, r, t, b,resulMatcher);
 		try {
-			amenities = index.searchPoiByName(req);
+			MergedBinaryMapIndexReader merged = this.merged;
+			amenities = merged != null ? merged.searchPoiByName(req) : index.searchPoiByName(req);
 			if (log.isDebugEnabled()) {
 				String nm = "";
 				List<MapIndex> mi = index.getMapIndexes();
@@ -90,7 +129,8 @@ public class AmenityIndexRepositoryBinary implements AmenityIndexRepository {
 				filter, matcher);
 		List<Amenity> result = null;
 		try {
-			result = index.searchPoi(req);
+			MergedBinaryMapIndexReader merged = this.merged;
+			result = merged != null ? merged.searchPoi(req) : index.searchPoi(req);
 		} catch (IOException e) {
 			log.error("Error searching amenities", e); //$NON-NLS-1$
 		}
@@ -102,13 +142,13 @@ public class AmenityIndexRepositoryBinary implements AmenityIndexRepository {
 	}
 
 	@Override
-	public synchronized List<Amenity> searchAmenitiesOnThePath(List<Location> locations, double radius, final SearchPoiTypeFilter filter, ResultMatcher<Amenity> matcher) {
+	public synchronized List<Amenity> searchAmenitiesOnThePath(RouteCorridor corridor, final SearchPoiTypeFilter filter, ResultMatcher<Amenity> matcher) {
 		long now = System.currentTimeMillis();
 		List<Amenity> result = null;
-		SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(locations, radius,
-				filter, matcher );
+		SearchRequest<Amenity> req = BinaryMapIndexReader.buildSearchPoiRequest(corridor, filter, matcher);
 		try {
-			result = index.searchPoi(req);
+			MergedBinaryMapIndexReader merged = this.merged;
+			result = merged != null ? merged.searchPoi(req) : index.searchPoi(req);
 		} catch (IOException e) {
 			log.error("Error searching amenities", e); //$NON-NLS-1$
 			return result;
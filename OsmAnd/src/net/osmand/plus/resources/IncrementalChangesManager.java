@@ -126,6 +126,30 @@ public class IncrementalChangesManager {
 		return regionUpdateFiles.addUpdate(date, f, dateCreated);
 	}
 	
+	/**
+	 * @return month and day updates of main map file
+	 */
+	public List<File> getUpdateFiles(String mainFileName) {
+		List<File> files = new ArrayList<File>();
+		String nm = Algorithms.getFileNameWithoutExtension(new File(mainFileName)).toLowerCase();
+		RegionUpdateFiles regionUpdateFiles = regions.get(nm);
+		if (regionUpdateFiles == null || regionUpdateFiles.mainFile == null
+				|| !regionUpdateFiles.mainFile.getName().equals(mainFileName)) {
+			return files;
+		}
+		for (RegionUpdate ru : regionUpdateFiles.monthUpdates.values()) {
+			files.add(ru.file);
+		}
+		for (List<RegionUpdate> list : regionUpdateFiles.dayUpdates.values()) {
+			for (RegionUpdate ru : list) {
+				if (ru != null) {
+					files.add(ru.file);
+				}
+			}
+		}
+		return files;
+	}
+
 	protected static String formatSize(long vl) {
 		return (vl * 1000 / (1 << 20l)) / 1000.0f + "";
 	}
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import net.osmand.binary.BinaryMapIndexReader;
 import net.osmand.binary.BinaryMapIndexReader.SearchRequest;
 import net.osmand.binary.GeocodingUtilities;
 import net.osmand.binary.GeocodingUtilities.GeocodingResult;
+import net.osmand.binary.MergedBinaryMapIndexReader;
 import net.osmand.data.Building;
 import net.osmand.data.City;
 import net.osmand.data.LatLon;
@@ -48,6 +50,9 @@ public class RegionAddressRepositoryBinary implements RegionAddressRepository {
 	private OsmandPreference<String> langSetting;
 	private OsmandPreference<Boolean> transliterateSetting;
 	private BinaryMapReaderResource resource;
+	// live updates of file, cities and streets of updates replace ones of file in search by name
+	private List<BinaryMapReaderResource> updates = new ArrayList<BinaryMapReaderResource>();
+	private MergedBinaryMapIndexReader merged;
 
 
 	public RegionAddressRepositoryBinary(ResourceManager mgr, BinaryMapReaderResource resource ) {
@@ -91,6 +96,32 @@ public class RegionAddressRepositoryBinary implements RegionAddressRepository {
 		return resource.getReader(BinaryMapReaderResourceType.ADDRESS);
 	}
 
+	public synchronized void setUpdates(List<BinaryMapReaderResource> updates) {
+		this.updates = new ArrayList<BinaryMapReaderResource>(updates);
+		this.merged = null;
+	}
+
+	public synchronized void removeUpdate(String fileName) {
+		Iterator<BinaryMapReaderResource> it = updates.iterator();
+		while (it.hasNext()) {
+			if (it.next().getFileName().equals(fileName)) {
+				it.remove();
+				merged = null;
+			}
+		}
+	}
+
+	private MergedBinaryMapIndexReader getMergedFile() {
+		if (merged == null && !updates.isEmpty()) {
+			List<BinaryMapIndexReader> readers = new ArrayList<BinaryMapIndexReader>();
+			for (BinaryMapReaderResource u : updates) {
+				readers.add(u.getReader(BinaryMapReaderResourceType.ADDRESS));
+			}
+			merged = new MergedBinaryMapIndexReader(getOpenFile(), readers);
+		}
+		return merged;
+	}
+
 	public City getClosestCity(LatLon l, List<City> cache) {
 		City closest = null;
 		if (l != null) {
@@ -164,7 +195,12 @@ public class RegionAddressRepositoryBinary implements RegionAddressRepository {
 		SearchRequest<MapObject> req = BinaryMapIndexReader.buildAddressByNameRequest(resultMatcher, name,
 				StringMatcherMode.CHECK_STARTS_FROM_SPACE);
 		try {
-			getOpenFile().searchAddressDataByName(req, typeFilter);
+			MergedBinaryMapIndexReader merged = getMergedFile();
+			if (merged != null) {
+				merged.searchAddressDataByName(req, typeFilter);
+			} else {
+				getOpenFile().searchAddressDataByName(req, typeFilter);
+			}
 		} catch (IOException e) {
 			log.error("Disk operation failed", e); //$NON-NLS-1$
 		}
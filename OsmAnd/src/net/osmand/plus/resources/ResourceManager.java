@@ -15,12 +15,13 @@ import net.osmand.AndroidUtils;
 import net.osmand.GeoidAltitudeCorrection;
 import net.osmand.IProgress;
 import net.osmand.IndexConstants;
-import net.osmand.Location;
 import net.osmand.PlatformUtil;
 import net.osmand.ResultMatcher;
 import net.osmand.binary.BinaryMapIndexReader;
 import net.osmand.binary.BinaryMapIndexReader.SearchPoiTypeFilter;
 import net.osmand.binary.CachedOsmandIndexes;
+import net.osmand.binary.GlobalNameIndex;
+import net.osmand.binary.RouteCorridor;
 import net.osmand.data.Amenity;
 import net.osmand.data.RotatedTileBox;
 import net.osmand.data.TransportStop;
@@ -60,6 +61,7 @@ import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -79,6 +81,7 @@ public class ResourceManager {
 
 	public static final String VECTOR_MAP = "#vector_map"; //$NON-NLS-1$
 	private static final String INDEXES_CACHE = "ind.cache";
+	private static final String NAME_INDEX_CACHE = "names.cache";
 
 	private static final Log log = PlatformUtil.getLog(ResourceManager.class);
 	
@@ -91,6 +94,7 @@ public class ResourceManager {
 	private GeometryTilesCache geometryTilesCache;
 
 	private final OsmandApplication context;
+	private GlobalNameIndex nameIndex;
 	private List<ResourceListener> resourceListeners = new ArrayList<>();
 
 	public interface ResourceListener {
@@ -680,6 +684,7 @@ public class ResourceManager {
 				warnings.add(MessageFormat.format(context.getString(R.string.version_index_is_big_for_memory), f.getName()));
 			}
 		}
+		mergeUpdates();
 		log.debug("All map files initialized " + (System.currentTimeMillis() - val) + " ms");
 		if (files.size() > 0 && (!indCache.exists() || indCache.canWrite())) {
 			try {
@@ -688,14 +693,65 @@ public class ResourceManager {
 				log.error("Index file could not be written", e);
 			}
 		}
+		try {
+			// name index is updated here in background, so search doesn't need to update it
+			getNameIndex().updateIndex(Arrays.asList(getQuickSearchFiles()));
+		} catch (IOException e) {
+			log.error("Name index could not be updated", e);
+		}
 		for (ResourceListener l : resourceListeners) {
 			l.onMapsIndexed();
 		}
 		return warnings;
 	}
 
+	public synchronized GlobalNameIndex getNameIndex() {
+		if (nameIndex == null) {
+			nameIndex = new GlobalNameIndex(context.getAppPath(NAME_INDEX_CACHE));
+		}
+		return nameIndex;
+	}
+
 	
 
+	// live updates are searched together with main file, so changed and deleted objects replace old ones
+	private void mergeUpdates() {
+		for (String fileName : new ArrayList<>(fileReaders.keySet())) {
+			List<File> updateFiles = changesManager.getUpdateFiles(fileName);
+			if (updateFiles.isEmpty()) {
+				continue;
+			}
+			AmenityIndexRepository index = amenityRepositories.get(fileName);
+			if (index instanceof AmenityIndexRepositoryBinary) {
+				List<BinaryMapIndexReader> updates = new ArrayList<>();
+				for (File f : updateFiles) {
+					AmenityIndexRepository update = amenityRepositories.get(f.getName());
+					if (update instanceof AmenityIndexRepositoryBinary) {
+						amenityRepositories.remove(f.getName());
+						updates.add(((AmenityIndexRepositoryBinary) update).getReader());
+					}
+				}
+				((AmenityIndexRepositoryBinary) index).setUpdates(updates);
+			}
+			RegionAddressRepository address = addressMap.get(fileName);
+			if (address instanceof RegionAddressRepositoryBinary) {
+				List<BinaryMapReaderResource> updates = new ArrayList<>();
+				for (File f : updateFiles) {
+					BinaryMapReaderResource update = fileReaders.get(f.getName());
+					if (update != null && addressMap.remove(f.getName()) != null) {
+						updates.add(update);
+					}
+				}
+				((RegionAddressRepositoryBinary) address).setUpdates(updates);
+			}
+			List<String> mapUpdates = new ArrayList<>();
+			for (File f : updateFiles) {
+				mapUpdates.add(f.getName());
+			}
+			renderer.setUpdates(fileName, mapUpdates);
+		}
+	}
+
 	public void initMapBoundariesCacheNative() {
 		File indCache = context.getAppPath(INDEXES_CACHE);
 		if (indCache.exists()) {
@@ -740,36 +796,26 @@ public class ResourceManager {
 		return amenities;
 	}
 
-    public List<Amenity> searchAmenitiesOnThePath(List<Location> locations, double radius, SearchPoiTypeFilter filter,
+	/**
+	 * Searches amenities along the route, corridor could be reused by searches with different filters
+	 */
+	public List<Amenity> searchAmenitiesOnThePath(RouteCorridor corridor, SearchPoiTypeFilter filter,
 			ResultMatcher<Amenity> matcher) {
 		searchAmenitiesInProgress = true;
 		final List<Amenity> amenities = new ArrayList<Amenity>();
 		try {
-			if (locations != null && locations.size() > 0) {
+			if (!corridor.isEmpty()) {
 				List<AmenityIndexRepository> repos = new ArrayList<AmenityIndexRepository>();
-				double topLatitude = locations.get(0).getLatitude();
-				double bottomLatitude = locations.get(0).getLatitude();
-				double leftLongitude = locations.get(0).getLongitude();
-				double rightLongitude = locations.get(0).getLongitude();
-				for (Location l : locations) {
-					topLatitude = Math.max(topLatitude, l.getLatitude());
-					bottomLatitude = Math.min(bottomLatitude, l.getLatitude());
-					leftLongitude = Math.min(leftLongitude, l.getLongitude());
-					rightLongitude = Math.max(rightLongitude, l.getLongitude());
-				}
 				if (!filter.isEmpty()) {
 					for (AmenityIndexRepository index : amenityRepositories.values()) {
-						if (index.checkContainsInt(
-								MapUtils.get31TileNumberY(topLatitude), 
-								MapUtils.get31TileNumberX(leftLongitude), 
-								MapUtils.get31TileNumberY(bottomLatitude), 
-								MapUtils.get31TileNumberX(rightLongitude))) {
+						if (index.checkContainsInt(corridor.getTop31(), corridor.getLeft31(),
+								corridor.getBottom31(), corridor.getRight31())) {
 							repos.add(index);
 						}
 					}
 					if (!repos.isEmpty()) {
 						for (AmenityIndexRepository r : repos) {
-							List<Amenity> res = r.searchAmenitiesOnThePath(locations, radius, filter, matcher);
+							List<Amenity> res = r.searchAmenitiesOnThePath(corridor, filter, matcher);
 							if(res != null) {
 								amenities.addAll(res);
 							}
@@ -926,7 +972,17 @@ public class ResourceManager {
 	
 	public void closeFile(String fileName) {
 		amenityRepositories.remove(fileName);
+		for (AmenityIndexRepository index : amenityRepositories.values()) {
+			if (index instanceof AmenityIndexRepositoryBinary) {
+				((AmenityIndexRepositoryBinary) index).removeUpdate(fileName);
+			}
+		}
 		addressMap.remove(fileName);
+		for (RegionAddressRepository address : addressMap.values()) {
+			if (address instanceof RegionAddressRepositoryBinary) {
+				((RegionAddressRepositoryBinary) address).removeUpdate(fileName);
+			}
+		}
 		transportRepositories.remove(fileName);
 		indexFileNames.remove(fileName);
 		renderer.closeConnection(fileName);
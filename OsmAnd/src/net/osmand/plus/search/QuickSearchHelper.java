@@ -112,7 +112,7 @@ public class QuickSearchHelper implements ResourceListener {
 
 	public void setRepositoriesForSearchUICore(final OsmandApplication app) {
 		BinaryMapIndexReader[] binaryMapIndexReaderArray = app.getResourceManager().getQuickSearchFiles();
-		core.getSearchSettings().setOfflineIndexes(Arrays.asList(binaryMapIndexReaderArray));
+		core.setOfflineIndexes(Arrays.asList(binaryMapIndexReaderArray), app.getResourceManager().getNameIndex());
 	}
 
 	public Amenity findAmenity(String name, double lat, double lon, String lang, boolean transliterate) {